@@ -2,6 +2,7 @@ import com.jetbrains.plugin.structure.base.utils.isFile
 import groovy.ant.FileNameFinder
 import org.apache.tools.ant.taskdefs.condition.Os
 import org.jetbrains.intellij.platform.gradle.Constants
+import org.jetbrains.intellij.platform.gradle.TestFrameworkType
 import java.io.ByteArrayOutputStream
 
 plugins {
@@ -10,6 +11,7 @@ plugins {
     id("org.jetbrains.intellij.platform") version "2.7.0"     // See https://github.com/JetBrains/intellij-platform-gradle-plugin/releases
     id("me.filippov.gradle.jvm.wrapper") version "0.14.0"
     id("org.jetbrains.grammarkit") version "2022.3.2.2"
+    alias(libs.plugins.jmh)
 }
 
 val isWindows = Os.isFamily(Os.FAMILY_WINDOWS)
@@ -54,6 +56,25 @@ sourceSets {
         kotlin.srcDir("src/rider/main/kotlin")
         resources.srcDir("src/rider/main/resources")
     }
+    named("jmh") {
+        kotlin.srcDir("src/rider/jmh/kotlin")
+    }
+}
+
+// Benchmarks run outside the IDE, so they need the platform and its test framework on the runtime classpath
+configurations {
+    named("jmhImplementation") { extendsFrom(configurations.testImplementation.get()) }
+    named("jmhCompileOnly") { extendsFrom(configurations.compileOnly.get()) }
+    named("jmhRuntimeOnly") { extendsFrom(configurations.compileOnly.get(), configurations.testRuntimeOnly.get()) }
+}
+
+jmh {
+    jmhVersion.set(libs.versions.jmh)
+    profilers.add("gc")
+    fork.set(1)
+    warmupIterations.set(3)
+    iterations.set(5)
+    resultFormat.set("JSON")
 }
 
 grammarKit {
@@ -170,6 +191,7 @@ dependencies {
     intellijPlatform {
         rider(ProductVersion, useInstaller = false)
         jetbrainsRuntime()
+        testFramework(TestFrameworkType.Platform)
 
         // TODO: add plugins
         // bundledPlugin("uml")
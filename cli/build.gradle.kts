@@ -0,0 +1,46 @@
+plugins {
+    id("org.jetbrains.kotlin.jvm")
+    id("org.jetbrains.intellij.platform.module")
+    application
+}
+
+val ProductVersion: String by rootProject
+
+repositories {
+    intellijPlatform {
+        defaultRepositories()
+    }
+}
+
+dependencies {
+    implementation(libs.kotlinStdLib)
+    implementation(project(":"))
+    testImplementation(libs.junit)
+
+    intellijPlatform {
+        rider(ProductVersion, useInstaller = false)
+    }
+}
+
+// The generator runs outside the IDE, so the platform core it parses with has to be on the runtime classpath
+configurations {
+    runtimeOnly { extendsFrom(configurations.compileOnly.get()) }
+}
+
+tasks.compileKotlin {
+    kotlinOptions { jvmTarget = "17" }
+}
+
+tasks.compileTestKotlin {
+    kotlinOptions { jvmTarget = "17" }
+}
+
+// Golden files shared with the backend's CodeGeneratorGoldenTests
+tasks.test {
+    systemProperty("atomic.goldenDir", rootProject.file("src/dotnet/ReSharperPlugin.AtomicPlugin.Tests/test/data/golden").absolutePath)
+}
+
+application {
+    mainClass.set("com.jetbrains.rider.plugins.atomic.cli.AtomicCliKt")
+    applicationName = "atomic-gen"
+}
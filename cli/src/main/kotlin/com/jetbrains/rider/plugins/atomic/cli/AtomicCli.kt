@@ -0,0 +1,187 @@
+package com.jetbrains.rider.plugins.atomic.cli
+
+import com.jetbrains.rider.plugins.atomic.psi.AtomicFileModel
+import com.jetbrains.rider.plugins.atomic.services.AtomicGenerationService
+import com.jetbrains.rider.plugins.atomic.services.AtomicIdLockFile
+import java.io.File
+import java.util.concurrent.Callable
+import java.util.concurrent.Executors
+import kotlin.system.exitProcess
+
+private const val EXIT_OK = 0
+private const val EXIT_DRIFT = 1
+private const val EXIT_ERROR = 2
+
+private const val USAGE = """Usage: atomic-gen (--check | --write) [--eol lf|crlf] [--threads N] [--ids FILE] <path>...
+
+Generates C# entity API files from every .atomic file found under the given paths.
+  --check      report generated files that are missing or out of date, exit with 1 if any
+  --write      write every missing or out-of-date generated file
+  --eol        line separator of the generated code, defaults to the platform separator
+  --threads    number of files processed in parallel, defaults to the number of cores
+  --ids        atomic-ids.lock of the solution; names without an ID are allocated like the IDE does,
+               and the lock file is written with --write or reported as out of date with --check
+
+Type references are not validated; the IDE remains responsible for that."""
+
+private enum class Mode { CHECK, WRITE }
+
+private enum class Status { UP_TO_DATE, OUT_OF_DATE, WRITTEN, INVALID, FAILED }
+
+private class Result(val atomicFile: File, val status: Status, val outputPath: String? = null, val message: String? = null)
+
+private class Parsed(val atomicFile: File, val model: AtomicFileModel? = null, val invalid: Result? = null)
+
+fun main(args: Array<String>) {
+    var requestedMode: Mode? = null
+    var lineSeparator = System.lineSeparator()
+    var threads = Runtime.getRuntime().availableProcessors()
+    var idsFile: File? = null
+    val roots = mutableListOf<File>()
+    
+    var i = 0
+    while (i < args.size) {
+        when (val arg = args[i]) {
+            "--check" -> requestedMode = Mode.CHECK
+            "--write" -> requestedMode = Mode.WRITE
+            "--eol" -> lineSeparator = when (args.getOrNull(++i)) {
+                "lf" -> "\n"
+                "crlf" -> "\r\n"
+                else -> usageError("--eol expects lf or crlf")
+            }
+            "--ids" -> idsFile = args.getOrNull(++i)?.let { File(it) } ?: usageError("--ids expects a file")
+            "--threads" -> threads = args.getOrNull(++i)?.toIntOrNull()?.takeIf { it > 0 } ?: usageError("--threads expects a positive number")
+            "-h", "--help" -> {
+                println(USAGE)
+                exitProcess(EXIT_OK)
+            }
+            else -> if (arg.startsWith("-")) usageError("Unknown option $arg") else roots.add(File(arg))
+        }
+        i++
+    }
+    
+    val mode = requestedMode
+    if (mode == null || roots.isEmpty()) {
+        usageError("Specify --check or --write and at least one path")
+    }
+    
+    val atomicFiles = roots.flatMap { root ->
+        root.walkTopDown()
+            .onEnter { it.name != "Library" && !it.name.startsWith(".") }
+            .filter { it.isFile && it.extension == "atomic" }
+            .toList()
+    }.distinct().sorted()
+    
+    val lockFile = idsFile?.let { file ->
+        try {
+            if (file.isFile) AtomicIdLockFile.read(file) else AtomicIdLockFile.EMPTY
+        } catch (e: IllegalStateException) {
+            System.err.println("Failed: ${e.message}")
+            exitProcess(EXIT_ERROR)
+        }
+    }
+    
+    var lockFileOutOfDate = false
+    val environment = AtomicCliEnvironment()
+    val executor = Executors.newFixedThreadPool(threads)
+    val results = try {
+        val parsed = executor.invokeAll(atomicFiles.map { file ->
+            Callable { parse(environment, file) }
+        }).map { it.get() }
+        
+        // IDs are allocated in file order before generation so parallel runs stay deterministic
+        val allocatedIds = lockFile?.allocate(parsed.mapNotNull { it.model }.flatMap { AtomicGenerationService.declaredNames(it) })
+        val newNames = (allocatedIds?.names?.size ?: 0) - (lockFile?.names?.size ?: 0)
+        if (allocatedIds != null && newNames > 0) {
+            val lockPath = idsFile!!
+            when (mode) {
+                Mode.CHECK -> {
+                    println("Out of date: ${lockPath.path} ($newNames names without an ID)")
+                    lockFileOutOfDate = true
+                }
+                Mode.WRITE -> {
+                    allocatedIds.write(lockPath)
+                    println("Written: ${lockPath.path} ($newNames new IDs)")
+                }
+            }
+        }
+        
+        val generator = AtomicCodeGenerator(lineSeparator)
+        executor.invokeAll(parsed.map { file ->
+            Callable { file.invalid ?: generate(generator, file.atomicFile, file.model!!, allocatedIds, mode) }
+        }).map { it.get() }
+    } finally {
+        executor.shutdown()
+        environment.close()
+    }
+    
+    for (result in results) {
+        when (result.status) {
+            Status.UP_TO_DATE -> {}
+            Status.OUT_OF_DATE -> println("Out of date: ${result.outputPath} (from ${result.atomicFile.path})")
+            Status.WRITTEN -> println("Written: ${result.outputPath}")
+            Status.INVALID -> System.err.println("Skipped: ${result.atomicFile.path}: ${result.message}")
+            Status.FAILED -> System.err.println("Failed: ${result.atomicFile.path}: ${result.message}")
+        }
+    }
+    
+    val counts = results.groupingBy { it.status }.eachCount()
+    println("${atomicFiles.size} .atomic files: ${counts[Status.UP_TO_DATE] ?: 0} up to date, " +
+            "${counts[Status.OUT_OF_DATE] ?: 0} out of date, ${counts[Status.WRITTEN] ?: 0} written, " +
+            "${(counts[Status.INVALID] ?: 0) + (counts[Status.FAILED] ?: 0)} with errors")
+    
+    exitProcess(when {
+        counts.containsKey(Status.FAILED) || counts.containsKey(Status.INVALID) -> EXIT_ERROR
+        counts.containsKey(Status.OUT_OF_DATE) || lockFileOutOfDate -> EXIT_DRIFT
+        else -> EXIT_OK
+    })
+}
+
+private fun parse(environment: AtomicCliEnvironment, atomicFile: File): Parsed {
+    return try {
+        val model = environment.parse(atomicFile.name, atomicFile.readText())
+            ?: return Parsed(atomicFile, invalid = Result(atomicFile, Status.INVALID, message = "syntax errors"))
+        
+        val missingFields = model.missingRequiredFields()
+        if (missingFields.isNotEmpty() || !model.hasTagsOrValues) {
+            val missing = if (model.hasTagsOrValues) missingFields else missingFields + "tags or values"
+            return Parsed(atomicFile, invalid = Result(atomicFile, Status.INVALID, message = "missing ${missing.joinToString(", ")}"))
+        }
+        
+        Parsed(atomicFile, model)
+    } catch (e: Exception) {
+        Parsed(atomicFile, invalid = Result(atomicFile, Status.FAILED, message = e.message ?: e.javaClass.simpleName))
+    }
+}
+
+private fun generate(generator: AtomicCodeGenerator, atomicFile: File, model: AtomicFileModel, lockFile: AtomicIdLockFile?, mode: Mode): Result {
+    return try {
+        val ids = lockFile?.let { ids -> AtomicGenerationService.declaredNames(model).associateWith { ids[it]!! } } ?: emptyMap()
+        val config = AtomicGenerationConfig.from(model, ids)
+        val generatedCode = generator.generateCode(config).toByteArray(Charsets.UTF_8)
+        val outputPath = AtomicGenerationService.resolveGeneratedFilePath(atomicFile.absolutePath, config.directory, config.className)
+        val outputFile = File(outputPath)
+        
+        if (outputFile.isFile && outputFile.length() == generatedCode.size.toLong() && outputFile.readBytes().contentEquals(generatedCode)) {
+            return Result(atomicFile, Status.UP_TO_DATE, outputPath)
+        }
+        
+        when (mode) {
+            Mode.CHECK -> Result(atomicFile, Status.OUT_OF_DATE, outputPath)
+            Mode.WRITE -> {
+                outputFile.parentFile?.mkdirs()
+                outputFile.writeBytes(generatedCode)
+                Result(atomicFile, Status.WRITTEN, outputPath)
+            }
+        }
+    } catch (e: Exception) {
+        Result(atomicFile, Status.FAILED, message = e.message ?: e.javaClass.simpleName)
+    }
+}
+
+private fun usageError(message: String): Nothing {
+    System.err.println(message)
+    System.err.println()
+    System.err.println(USAGE)
+    exitProcess(EXIT_ERROR)
+}
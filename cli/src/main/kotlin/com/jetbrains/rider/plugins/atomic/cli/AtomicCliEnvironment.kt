@@ -0,0 +1,46 @@
+package com.jetbrains.rider.plugins.atomic.cli
+
+import com.intellij.core.CoreApplicationEnvironment
+import com.intellij.core.CoreProjectEnvironment
+import com.intellij.openapi.util.Disposer
+import com.intellij.psi.PsiFileFactory
+import com.intellij.psi.util.PsiTreeUtil
+import com.jetbrains.rider.plugins.atomic.language.AtomicFileType
+import com.jetbrains.rider.plugins.atomic.language.AtomicLanguage
+import com.jetbrains.rider.plugins.atomic.language.AtomicParserDefinition
+import com.jetbrains.rider.plugins.atomic.psi.AtomicFile
+import com.jetbrains.rider.plugins.atomic.psi.AtomicFileModel
+
+/**
+ * Headless core application and project with the Atomic file type and parser definition registered,
+ * so .atomic files are parsed by the same lexer and parser as in the IDE.
+ */
+class AtomicCliEnvironment {
+    
+    private val disposable = Disposer.newDisposable("AtomicCliEnvironment")
+    private val psiFileFactory: PsiFileFactory
+    
+    init {
+        val applicationEnvironment = CoreApplicationEnvironment(disposable)
+        applicationEnvironment.registerFileType(AtomicFileType, AtomicFileType.defaultExtension)
+        applicationEnvironment.registerParserDefinition(AtomicParserDefinition())
+        
+        val projectEnvironment = CoreProjectEnvironment(disposable, applicationEnvironment)
+        psiFileFactory = PsiFileFactory.getInstance(projectEnvironment.project)
+    }
+    
+    /**
+     * Parses [text] and returns its model, or null when the file has syntax errors.
+     */
+    fun parse(fileName: String, text: String): AtomicFileModel? {
+        val atomicFile = psiFileFactory.createFileFromText(fileName, AtomicLanguage, text) as AtomicFile
+        if (PsiTreeUtil.hasErrorElements(atomicFile)) {
+            return null
+        }
+        return AtomicFileModel.build(atomicFile)
+    }
+    
+    fun close() {
+        Disposer.dispose(disposable)
+    }
+}
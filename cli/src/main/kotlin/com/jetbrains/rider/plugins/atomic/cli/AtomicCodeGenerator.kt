@@ -0,0 +1,241 @@
+package com.jetbrains.rider.plugins.atomic.cli
+
+import com.jetbrains.rider.plugins.atomic.services.AtomicIdLockFile
+
+/**
+ * Port of the backend's `CodeGenerator.GenerateCode`. The output must stay byte-for-byte identical,
+ * so any change to the C# generator has to be made here as well.
+ */
+class AtomicCodeGenerator(
+    private val lineSeparator: String,
+    private val idOf: (String) -> Int = AtomicIdLockFile::hashId
+) {
+    
+    companion object {
+        private const val AGGRESSIVE_INLINING = "\t\t[MethodImpl(MethodImplOptions.AggressiveInlining)]"
+        private const val UNSAFE_SUFFIX = "Unsafe"
+        private const val REF_MODIFIER = "ref"
+        private const val PARAM_NAME = "entity"
+    }
+    
+    fun generateCode(config: AtomicGenerationConfig): String {
+        val sb = StringBuilder()
+        
+        sb.line("/**")
+        sb.line("* Code generation. Don't modify! ")
+        sb.line("**/")
+        sb.line()
+        
+        generateUsingStatements(sb, config)
+        sb.line()
+        
+        sb.line("namespace ${config.namespace}")
+        sb.line("{")
+        
+        generateStaticClass(sb, config)
+        
+        sb.line("}")
+        
+        return sb.toString()
+    }
+    
+    private fun generateUsingStatements(sb: StringBuilder, config: AtomicGenerationConfig) {
+        sb.line("using Atomic.Entities;")
+        sb.line("using static Atomic.Entities.EntityNames;")
+        
+        if (config.aggressiveInlining) {
+            sb.line("using System.Runtime.CompilerServices;")
+        }
+        
+        if (!config.constIds) {
+            sb.line("#if UNITY_EDITOR")
+            sb.line("using UnityEditor;")
+            sb.line("#endif")
+        }
+        
+        val existingUsings = hashSetOf(
+            "Atomic.Entities",
+            "Atomic.Entities.EntityNames",
+            "System.Runtime.CompilerServices",
+            "UnityEditor"
+        )
+        
+        for (import in config.imports) {
+            if (existingUsings.add(import)) {
+                sb.line("using $import;")
+            }
+        }
+    }
+    
+    private fun generateStaticClass(sb: StringBuilder, config: AtomicGenerationConfig) {
+        if (!config.constIds) {
+            sb.line("#if UNITY_EDITOR")
+            sb.line("\t[InitializeOnLoad]")
+            sb.line("#endif")
+        }
+        
+        sb.line("\tpublic static class ${config.className}")
+        sb.line("\t{")
+        
+        val hasTags = config.tags.isNotEmpty()
+        val hasValues = config.values.isNotEmpty()
+        
+        if (hasTags) {
+            sb.line()
+            sb.line("\t\t///Tags")
+            for (tag in config.tags) {
+                sb.line(
+                    if (config.constIds) "\t\tpublic const int $tag = ${idOf(config, tag)};"
+                    else "\t\tpublic static readonly int $tag;"
+                )
+            }
+        }
+        
+        if (hasValues) {
+            if (hasTags) sb.line()
+            
+            sb.line("\t\t///Values")
+            for (value in config.values) {
+                val typeComment = if (isBaseType(value.type)) "" else "// ${value.type}"
+                sb.line(
+                    if (config.constIds) "\t\tpublic const int ${value.name} = ${idOf(config, value.name)}; $typeComment"
+                    else "\t\tpublic static readonly int ${value.name}; $typeComment"
+                )
+            }
+        }
+        
+        if (!config.constIds) {
+            generateStaticConstructor(sb, config, hasTags, hasValues)
+        }
+        
+        if (hasTags) {
+            sb.line()
+            sb.line()
+            sb.line("\t\t///Tag Extensions")
+            for (tag in config.tags) {
+                generateTagExtensions(sb, tag, config.entityType, config.aggressiveInlining)
+            }
+        }
+        
+        if (hasValues) {
+            sb.line()
+            sb.line()
+            sb.line("\t\t///Value Extensions")
+            for (value in config.values) {
+                generateValueExtensions(sb, value.name, value.type, config.entityType, config.aggressiveInlining, config.unsafeAccess)
+            }
+        }
+        
+        sb.line("    }")
+    }
+    
+    private fun generateStaticConstructor(sb: StringBuilder, config: AtomicGenerationConfig, hasTags: Boolean, hasValues: Boolean) {
+        sb.line()
+        sb.line("\t\tstatic ${config.className}()")
+        sb.line("\t\t{")
+        
+        if (hasTags) {
+            sb.line("\t\t\t//Tags")
+            for (tag in config.tags) {
+                sb.line("\t\t\t$tag = NameToId(nameof($tag));")
+            }
+        }
+        
+        if (hasValues) {
+            if (hasTags) sb.line()
+            
+            sb.line("\t\t\t//Values")
+            for (value in config.values) {
+                sb.line("\t\t\t${value.name} = NameToId(nameof(${value.name}));")
+            }
+        }
+        
+        sb.line("\t\t}")
+    }
+    
+    private fun generateTagExtensions(sb: StringBuilder, tag: String, entity: String, useInlining: Boolean) {
+        sb.line()
+        
+        sb.line("\t\t#region $tag")
+        sb.line()
+        
+        if (useInlining) sb.line(AGGRESSIVE_INLINING)
+        sb.line("\t\tpublic static bool Has${tag}Tag(this $entity $PARAM_NAME) => $PARAM_NAME.HasTag($tag);")
+        
+        sb.line()
+        if (useInlining) sb.line(AGGRESSIVE_INLINING)
+        sb.line("\t\tpublic static bool Add${tag}Tag(this $entity $PARAM_NAME) => $PARAM_NAME.AddTag($tag);")
+        
+        sb.line()
+        if (useInlining) sb.line(AGGRESSIVE_INLINING)
+        sb.line("\t\tpublic static bool Del${tag}Tag(this $entity $PARAM_NAME) => $PARAM_NAME.DelTag($tag);")
+        
+        sb.line()
+        sb.line("\t\t#endregion")
+    }
+    
+    private fun generateValueExtensions(
+        sb: StringBuilder,
+        name: String,
+        typeName: String,
+        entity: String,
+        useInlining: Boolean,
+        unsafeAccess: Boolean
+    ) {
+        sb.line()
+        
+        sb.line("\t\t#region $name")
+        sb.line()
+        
+        val unsafeSuffix = if (unsafeAccess) UNSAFE_SUFFIX else ""
+        val refModifier = if (unsafeAccess) REF_MODIFIER else ""
+        
+        if (useInlining) sb.line(AGGRESSIVE_INLINING)
+        sb.line("\t\tpublic static $typeName Get$name(this $entity $PARAM_NAME) => " +
+                "$PARAM_NAME.GetValue$unsafeSuffix<$typeName>($name);")
+        
+        if (unsafeAccess) {
+            sb.line()
+            sb.line("\t\tpublic static $refModifier $typeName Ref$name(this $entity $PARAM_NAME) => " +
+                    "$refModifier $PARAM_NAME.GetValue$unsafeSuffix<$typeName>($name);")
+        }
+        
+        sb.line()
+        if (useInlining) sb.line(AGGRESSIVE_INLINING)
+        sb.line("\t\tpublic static bool TryGet$name(this $entity $PARAM_NAME, out $typeName value) =>" +
+                " $PARAM_NAME.TryGetValue$unsafeSuffix($name, out value);")
+        
+        sb.line()
+        if (useInlining) sb.line(AGGRESSIVE_INLINING)
+        sb.line("\t\tpublic static void Add$name(this $entity $PARAM_NAME, $typeName value) => " +
+                "$PARAM_NAME.AddValue($name, value);")
+        
+        sb.line()
+        if (useInlining) sb.line(AGGRESSIVE_INLINING)
+        sb.line("\t\tpublic static bool Has$name(this $entity $PARAM_NAME) => " +
+                "$PARAM_NAME.HasValue($name);")
+        
+        sb.line()
+        if (useInlining) sb.line(AGGRESSIVE_INLINING)
+        sb.line("\t\tpublic static bool Del$name(this $entity $PARAM_NAME) => " +
+                "$PARAM_NAME.DelValue($name);")
+        
+        sb.line()
+        if (useInlining) sb.line(AGGRESSIVE_INLINING)
+        sb.line("\t\tpublic static void Set$name(this $entity $PARAM_NAME, $typeName value) => " +
+                "$PARAM_NAME.SetValue($name, value);")
+        
+        sb.line()
+        sb.line("\t\t#endregion")
+    }
+    
+    private fun idOf(config: AtomicGenerationConfig, name: String): Int = config.ids[name] ?: idOf(name)
+    
+    private fun isBaseType(type: String?): Boolean {
+        return type.isNullOrEmpty() || type == "object" || type == "Object"
+    }
+    
+    private fun StringBuilder.line(text: String = "") {
+        append(text).append(lineSeparator)
+    }
+}
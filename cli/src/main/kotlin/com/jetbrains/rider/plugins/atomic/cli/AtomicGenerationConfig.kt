@@ -0,0 +1,71 @@
+package com.jetbrains.rider.plugins.atomic.cli
+
+import com.jetbrains.rider.plugins.atomic.psi.AtomicFileModel
+
+/**
+ * Mirror of the backend's `AtomicEntityApiConfig` as filled in by `ConfigurationMapper.MapToConfig`.
+ */
+class AtomicGenerationConfig(
+    val entityType: String,
+    val namespace: String,
+    val className: String,
+    val directory: String?,
+    val aggressiveInlining: Boolean,
+    val unsafeAccess: Boolean,
+    val constIds: Boolean,
+    val imports: List<String>,
+    val tags: List<String>,
+    val values: List<AtomicFileModel.Value>,
+    val ids: Map<String, Int>
+) {
+    companion object {
+        private const val DEFAULT_ENTITY_TYPE = "IEntity"
+        private const val DEFAULT_CLASS_NAME = "AtomicExtensions"
+        private const val DEFAULT_NAMESPACE = "Generated"
+        
+        fun from(model: AtomicFileModel, ids: Map<String, Int> = emptyMap()): AtomicGenerationConfig {
+            var entityType = DEFAULT_ENTITY_TYPE
+            var namespace: String? = null
+            var className: String? = null
+            var directory: String? = null
+            var aggressiveInlining = false
+            var unsafeAccess = false
+            var constIds: Boolean? = null
+            
+            for ((key, value) in model.headerProperties) {
+                when (key.lowercase()) {
+                    "entitytype" -> entityType = value
+                    "aggressiveinlining" -> aggressiveInlining = parseBoolean(key, value)
+                    "unsafe" -> unsafeAccess = parseBoolean(key, value)
+                    "constids" -> constIds = parseBoolean(key, value)
+                    "namespace" -> namespace = value
+                    "classname" -> className = value
+                    "directory" -> directory = value
+                }
+            }
+            
+            return AtomicGenerationConfig(
+                entityType = entityType,
+                namespace = if (namespace.isNullOrEmpty()) DEFAULT_NAMESPACE else namespace,
+                className = if (className.isNullOrEmpty()) DEFAULT_CLASS_NAME else className,
+                directory = directory,
+                aggressiveInlining = aggressiveInlining,
+                unsafeAccess = unsafeAccess,
+                // Lock file IDs make constant IDs the default, an explicit constIds: false still wins
+                constIds = constIds ?: ids.isNotEmpty(),
+                imports = model.imports,
+                tags = model.tags,
+                values = model.values,
+                ids = ids
+            )
+        }
+        
+        private fun parseBoolean(key: String, value: String): Boolean {
+            return when (value.trim().lowercase()) {
+                "true" -> true
+                "false" -> false
+                else -> throw IllegalArgumentException("Invalid boolean value '$value' for $key")
+            }
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.jetbrains.rider.plugins.atomic.cli
+
+import org.junit.AfterClass
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertNotNull
+import org.junit.Assert.assertTrue
+import org.junit.BeforeClass
+import org.junit.Test
+import java.io.File
+
+/**
+ * Runs [AtomicCodeGenerator] over the .atomic fixtures shared with the backend's `CodeGeneratorGoldenTests`
+ * and compares with the same expected .cs files, so a change to only one of the generators fails a build.
+ */
+class AtomicCodeGeneratorGoldenTest {
+    
+    companion object {
+        private lateinit var environment: AtomicCliEnvironment
+        
+        private val goldenDir = File(System.getProperty("atomic.goldenDir") ?: error("atomic.goldenDir is not set"))
+        
+        @BeforeClass
+        @JvmStatic
+        fun createEnvironment() {
+            environment = AtomicCliEnvironment()
+        }
+        
+        @AfterClass
+        @JvmStatic
+        fun closeEnvironment() {
+            environment.close()
+        }
+    }
+    
+    @Test
+    fun generatesGoldenOutput() {
+        val fixtures = goldenDir.listFiles { file -> file.extension == "atomic" }.orEmpty().sortedBy { it.name }
+        assertTrue("No .atomic fixtures in $goldenDir", fixtures.isNotEmpty())
+        
+        val generator = AtomicCodeGenerator("\n")
+        for (fixture in fixtures) {
+            val model = environment.parse(fixture.name, fixture.readText())
+            assertNotNull("${fixture.name} has syntax errors", model)
+            
+            val generated = generator.generateCode(AtomicGenerationConfig.from(model!!))
+            val expected = File(goldenDir, "${fixture.nameWithoutExtension}.cs").readText().replace("\r\n", "\n")
+            assertEquals(fixture.name, expected, generated)
+        }
+    }
+}
@@ -27,6 +27,12 @@ object AtomicGenerationModel : Ext(SolutionModel.Solution) {
             field("value", string)
         }
         
+        // Плотный идентификатор имени тега или значения из файла atomic-ids.lock
+        val AtomicIdData = structdef("AtomicIdData") {
+            field("name", string)
+            field("id", int)
+        }
+        
         // Полные данные атомарного файла
         val AtomicFileData = structdef("AtomicFileData") {
             field("headerProperties", array(HeaderProperty))
@@ -34,6 +40,17 @@ object AtomicGenerationModel : Ext(SolutionModel.Solution) {
             field("tags", array(string))
             field("values", array(AtomicValueData))
             field("filePath", string)
+            // Пустой массив означает идентификаторы по хешу имени
+            field("ids", array(AtomicIdData))
+        }
+        
+        // Результат генерации одного файла в пакетном запросе
+        val GenerationResult = structdef("GenerationResult") {
+            field("filePath", string)
+            field("generatedCode", string.nullable)
+            field("errorMessage", string.nullable)
+            // Бэкенд сам записал код в документ выходного файла или создал файл, фронтенду писать не нужно
+            field("outputUpdated", bool)
         }
         
         // Структуры для автодополнения типов
@@ -63,6 +80,8 @@ object AtomicGenerationModel : Ext(SolutionModel.Solution) {
         
         val TypeCompletionResponse = structdef("TypeCompletionResponse") {
             field("items", array(TypeCompletionItem))
+            // Все совпадения с префиксом вошли в ответ, поэтому его можно сужать для более длинных префиксов
+            field("isComplete", bool)
         }
         
         // Структуры для проверки типа
@@ -102,6 +121,19 @@ object AtomicGenerationModel : Ext(SolutionModel.Solution) {
             field("hasTypes", bool)
         }
         
+        // Структуры для пакетной проверки всех типов и пространств имен файла
+        val TypeValidationBatchRequest = structdef("TypeValidationBatchRequest") {
+            field("typeNames", array(string))
+            field("namespaces", array(string))
+            field("imports", array(string))
+            field("projectPath", string)
+        }
+        
+        val TypeValidationBatchResponse = structdef("TypeValidationBatchResponse") {
+            field("types", array(TypeValidationResponse))
+            field("namespaces", array(NamespaceValidationResponse))
+        }
+        
         // Структуры для поиска использований
         val MethodUsageLocation = structdef("MethodUsageLocation") {
             field("filePath", string)
@@ -133,6 +165,28 @@ object AtomicGenerationModel : Ext(SolutionModel.Solution) {
             field("usages", array(MethodUsageLocation))
         }
         
+        // Потоковый поиск использований значения или тега
+        val UsageSearchRequest = structdef("UsageSearchRequest") {
+            // Идентификатор поиска, которым помечаются пачки результатов
+            field("searchId", int)
+            field("entityName", string)
+            field("isTag", bool)
+            field("methodNames", array(string))
+            field("projectPath", string)
+            field("generatedFilePath", string)
+        }
+        
+        val UsageSearchBatch = structdef("UsageSearchBatch") {
+            field("searchId", int)
+            field("usages", array(MethodUsageLocation))
+        }
+        
+        // Число ссылок на сгенерированный метод по данным индекса использований
+        val UsageCount = structdef("UsageCount") {
+            field("methodName", string)
+            field("count", int)
+        }
+        
         val RenameValueRequest = structdef("RenameValueRequest") {
             field("atomicFilePath", string)
             field("oldName", string)
@@ -157,7 +211,10 @@ object AtomicGenerationModel : Ext(SolutionModel.Solution) {
         // Вызовы RPC
         
         // Сгенерировать API из данных атомарного файла
-        call("generateApi", AtomicFileData, string).async
+        call("generateApi", AtomicFileData, GenerationResult).async
+        
+        // Сгенерировать API для нескольких атомарных файлов одним запросом
+        call("generateApis", array(AtomicFileData), array(GenerationResult)).async
         
         // Получить автодополнения типов
         call("getTypeCompletions", TypeCompletionRequest, TypeCompletionResponse).async
@@ -174,12 +231,22 @@ object AtomicGenerationModel : Ext(SolutionModel.Solution) {
         // Проверить пространство имен
         call("validateNamespace", NamespaceValidationRequest, NamespaceValidationResponse).async
         
+        // Проверить все типы и пространства имен файла одним запросом
+        call("validateTypes", TypeValidationBatchRequest, TypeValidationBatchResponse).async
+        
         // Найти использования метода
         call("findMethodUsages", FindMethodUsagesRequest, FindMethodUsagesResponse).async
         
         // Найти использования тега
         call("findTagUsages", FindTagUsagesRequest, FindTagUsagesResponse).async
         
+        // Найти использования потоком: пачки приходят через usagesFound, ответ - общее число найденных,
+        // отмена вызова останавливает поиск на бэкенде
+        call("searchUsages", UsageSearchRequest, int).async
+        
+        // Получить число использований сгенерированных методов из индекса без поиска по решению
+        call("getUsageCounts", array(string), array(UsageCount)).async
+        
         // Переименовать значение
         call("renameValue", RenameValueRequest, RenameResponse).async
         
@@ -191,5 +258,17 @@ object AtomicGenerationModel : Ext(SolutionModel.Solution) {
         
         // События для обновления статуса
         sink("generationStatus", string).async
+        
+        // Очередная пачка найденных использований потокового поиска
+        sink("usagesFound", UsageSearchBatch).async
+        
+        // Версия индекса типов решения, меняется при изменении исходников или сборок
+        sink("typeIndexChanged", long).async
+        
+        // Версия индекса использований сгенерированных методов, меняется при изменении числа ссылок
+        sink("usageIndexChanged", long).async
+        
+        // Бэкенд инициализировал сервисы и кэши символов и готов отвечать на запросы
+        property("backendReady", bool).async
     }
 }
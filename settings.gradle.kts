@@ -20,3 +20,4 @@ pluginManagement {
 rootProject.name = "ReSharperPlugin.AtomicPlugin"
 
 include(":protocol")
+include(":cli")
@@ -0,0 +1,108 @@
+﻿using System.Collections.Generic;
+using System.IO;
+using System.Linq;
+using NUnit.Framework;
+using ReSharperPlugin.AtomicPlugin.Model;
+using ReSharperPlugin.AtomicPlugin.Services;
+
+namespace ReSharperPlugin.AtomicPlugin.Tests
+{
+    /// <summary>
+    /// Runs the backend generator over the .atomic fixtures in test/data/golden and compares with the expected .cs files.
+    /// The CLI's AtomicCodeGeneratorGoldenTest checks its Kotlin port against the same files, so the two cannot drift apart.
+    /// </summary>
+    [TestFixture]
+    public class CodeGeneratorGoldenTests
+    {
+        private static readonly string GoldenDirectory = FindGoldenDirectory();
+
+        private static IEnumerable<string> Fixtures()
+        {
+            return Directory.GetFiles(GoldenDirectory, "*.atomic").Select(Path.GetFileNameWithoutExtension).OrderBy(name => name);
+        }
+
+        [TestCaseSource(nameof(Fixtures))]
+        public void GeneratesGoldenOutput(string fixture)
+        {
+            var fileData = ReadFixture(Path.Combine(GoldenDirectory, fixture + ".atomic"));
+            var config = new ConfigurationMapper().MapToConfig(fileData);
+            var generated = new CodeGenerator(new HashCodeGenerator()).GenerateCode(config);
+            
+            var expected = File.ReadAllText(Path.Combine(GoldenDirectory, fixture + ".cs"));
+            Assert.AreEqual(NormalizeLineEndings(expected), NormalizeLineEndings(generated));
+        }
+
+        // Builds the AtomicFileData the frontend sends for the simple fixture syntax: "key: value" headers and "- item" sections
+        private static AtomicFileData ReadFixture(string path)
+        {
+            var headerProperties = new List<HeaderProperty>();
+            var imports = new List<string>();
+            var tags = new List<string>();
+            var values = new List<AtomicValueData>();
+            string section = null;
+            
+            foreach (var rawLine in File.ReadAllLines(path))
+            {
+                var line = rawLine.Trim();
+                if (line.Length == 0 || line.StartsWith("#"))
+                    continue;
+                
+                if (line == "imports:" || line == "tags:" || line == "values:")
+                {
+                    section = line.TrimEnd(':');
+                    continue;
+                }
+                
+                if (line.StartsWith("- "))
+                {
+                    var item = line.Substring(2).Trim();
+                    switch (section)
+                    {
+                        case "imports":
+                            imports.Add(item);
+                            break;
+                        case "tags":
+                            tags.Add(item);
+                            break;
+                        default:
+                            var separator = item.IndexOf(':');
+                            values.Add(new AtomicValueData(item.Substring(0, separator).Trim(), item.Substring(separator + 1).Trim()));
+                            break;
+                    }
+                    continue;
+                }
+                
+                var colon = line.IndexOf(':');
+                headerProperties.Add(new HeaderProperty(line.Substring(0, colon).Trim(), line.Substring(colon + 1).Trim()));
+            }
+            
+            return new AtomicFileData(
+                headerProperties.ToArray(),
+                imports.ToArray(),
+                tags.ToArray(),
+                values.ToArray(),
+                path,
+                new AtomicIdData[0]);
+        }
+
+        private static string NormalizeLineEndings(string text)
+        {
+            return text.Replace("\r\n", "\n");
+        }
+
+        private static string FindGoldenDirectory()
+        {
+            var directory = new DirectoryInfo(TestContext.CurrentContext.TestDirectory);
+            while (directory != null)
+            {
+                var golden = Path.Combine(directory.FullName, "test", "data", "golden");
+                if (Directory.Exists(golden))
+                    return golden;
+                
+                directory = directory.Parent;
+            }
+            
+            throw new DirectoryNotFoundException("test/data/golden not found above " + TestContext.CurrentContext.TestDirectory);
+        }
+    }
+}
@@ -0,0 +1,171 @@
+﻿using System.Collections.Generic;
+using System.Linq;
+using System.Text;
+using NUnit.Framework;
+using ReSharperPlugin.AtomicPlugin.Services;
+
+namespace ReSharperPlugin.AtomicPlugin.Tests
+{
+    [TestFixture]
+    public class GeneratedCodeDiffTests
+    {
+        [Test]
+        public void UnchangedTextHasNoEdits()
+        {
+            var text = GeneratedFile("Health", "Speed");
+            
+            Assert.IsEmpty(GeneratedCodeDiff.Compute(text, text));
+        }
+
+        [Test]
+        public void InsertedRegionIsASingleInsertion()
+        {
+            var oldText = GeneratedFile("Health", "Speed");
+            var newText = GeneratedFile("Health", "Mana", "Speed");
+            
+            var edits = GeneratedCodeDiff.Compute(oldText, newText);
+            
+            Assert.AreEqual(newText, Apply(oldText, edits));
+            Assert.AreEqual(1, edits.Count);
+            Assert.AreEqual(oldText.IndexOf(RegionStartOf("Speed")), edits[0].StartOffset);
+            Assert.AreEqual(edits[0].StartOffset, edits[0].EndOffset);
+            Assert.AreEqual(Region("Mana") + "\n", edits[0].NewText);
+        }
+
+        [Test]
+        public void RemovedRegionIsASingleDeletion()
+        {
+            var oldText = GeneratedFile("Health", "Mana", "Speed");
+            var newText = GeneratedFile("Health", "Speed");
+            
+            var edits = GeneratedCodeDiff.Compute(oldText, newText);
+            
+            Assert.AreEqual(newText, Apply(oldText, edits));
+            Assert.AreEqual(1, edits.Count);
+            Assert.AreEqual(oldText.IndexOf(RegionStartOf("Mana")), edits[0].StartOffset);
+            Assert.AreEqual(oldText.IndexOf(RegionStartOf("Speed")), edits[0].EndOffset);
+            Assert.AreEqual(string.Empty, edits[0].NewText);
+        }
+
+        [Test]
+        public void ReorderedRegionsMoveOneRegion()
+        {
+            var oldText = GeneratedFile("Health", "Mana", "Speed");
+            var newText = GeneratedFile("Speed", "Health", "Mana");
+            
+            var edits = GeneratedCodeDiff.Compute(oldText, newText);
+            
+            Assert.AreEqual(newText, Apply(oldText, edits));
+            Assert.AreEqual(2, edits.Count);
+            Assert.IsFalse(edits.Any(edit => edit.NewText.Contains(RegionStartOf("Health")) || edit.NewText.Contains(RegionStartOf("Mana"))));
+        }
+
+        [Test]
+        public void ChangedLineInsideRegionReplacesOnlyThatLine()
+        {
+            var oldText = GeneratedFile("Health", "Speed");
+            var newText = oldText.Replace("\t\t\treturn entity.Speed;", "\t\t\treturn entity.GetSpeed();");
+            
+            var edits = GeneratedCodeDiff.Compute(oldText, newText);
+            
+            Assert.AreEqual(newText, Apply(oldText, edits));
+            Assert.AreEqual(1, edits.Count);
+            Assert.AreEqual("\t\t\treturn entity.GetSpeed();\n", edits[0].NewText);
+        }
+
+        [Test]
+        public void LargeChangeFallsBackToOneReplacement()
+        {
+            // 2001 x 2001 differing lines exceed MaxLcsCells, so the alternating changes are not diffed line by line
+            var oldText = AlternatingLines(2003, "old");
+            var newText = AlternatingLines(2003, "new");
+            
+            var edits = GeneratedCodeDiff.Compute(oldText, newText);
+            
+            Assert.AreEqual(newText, Apply(oldText, edits));
+            Assert.AreEqual(1, edits.Count);
+        }
+
+        [Test]
+        public void SmallChangeIsDiffedLineByLine()
+        {
+            var oldText = AlternatingLines(11, "old");
+            var newText = AlternatingLines(11, "new");
+            
+            var edits = GeneratedCodeDiff.Compute(oldText, newText);
+            
+            Assert.AreEqual(newText, Apply(oldText, edits));
+            Assert.AreEqual(5, edits.Count);
+        }
+
+        [Test]
+        public void CrlfTextKeepsItsLineEndings()
+        {
+            var oldText = GeneratedFile("Health", "Speed").Replace("\n", "\r\n");
+            var newText = GeneratedFile("Health", "Mana", "Speed").Replace("\n", "\r\n");
+            
+            var edits = GeneratedCodeDiff.Compute(oldText, newText);
+            
+            Assert.AreEqual(newText, Apply(oldText, edits));
+            Assert.AreEqual(1, edits.Count);
+            Assert.AreEqual(oldText.IndexOf(RegionStartOf("Speed")), edits[0].StartOffset);
+            Assert.AreEqual((Region("Mana") + "\n").Replace("\n", "\r\n"), edits[0].NewText);
+        }
+
+        private static string Apply(string text, IReadOnlyList<GeneratedCodeEdit> edits)
+        {
+            var sb = new StringBuilder(text);
+            for (var i = edits.Count - 1; i >= 0; i--)
+            {
+                var edit = edits[i];
+                sb.Remove(edit.StartOffset, edit.EndOffset - edit.StartOffset);
+                sb.Insert(edit.StartOffset, edit.NewText);
+            }
+            return sb.ToString();
+        }
+
+        // Same shape as CodeGenerator output: one #region per extension method, separated by blank lines
+        private static string GeneratedFile(params string[] values)
+        {
+            var sb = new StringBuilder();
+            sb.Append("namespace Generated\n");
+            sb.Append("{\n");
+            sb.Append("\tpublic static class AtomicExtensions\n");
+            sb.Append("\t{\n");
+            foreach (var value in values)
+            {
+                sb.Append(Region(value));
+                sb.Append("\n");
+            }
+            sb.Append("\t}\n");
+            sb.Append("}\n");
+            return sb.ToString();
+        }
+
+        private static string Region(string value)
+        {
+            return RegionStartOf(value) + "\n"
+                   + $"\t\tpublic static int Get{value}(this IEntity entity)\n"
+                   + "\t\t{\n"
+                   + $"\t\t\treturn entity.{value};\n"
+                   + "\t\t}\n"
+                   + "\t\t#endregion\n";
+        }
+
+        private static string RegionStartOf(string value)
+        {
+            return $"\t\t#region {value}";
+        }
+
+        // Even lines are shared, odd lines carry the prefix, so a line-level diff finds one hunk per odd line
+        private static string AlternatingLines(int count, string prefix)
+        {
+            var sb = new StringBuilder();
+            for (var i = 0; i < count; i++)
+            {
+                sb.Append(i % 2 == 0 ? $"shared {i}\n" : $"{prefix} {i}\n");
+            }
+            return sb.ToString();
+        }
+    }
+}
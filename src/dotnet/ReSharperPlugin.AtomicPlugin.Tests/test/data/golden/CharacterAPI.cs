@@ -0,0 +1,116 @@
+/**
+* Code generation. Don't modify! 
+**/
+
+using Atomic.Entities;
+using static Atomic.Entities.EntityNames;
+#if UNITY_EDITOR
+using UnityEditor;
+#endif
+using UnityEngine;
+using System.Collections.Generic;
+
+namespace Game.Components
+{
+#if UNITY_EDITOR
+	[InitializeOnLoad]
+#endif
+	public static class CharacterAPI
+	{
+
+		///Tags
+		public static readonly int Player;
+		public static readonly int Enemy;
+
+		///Values
+		public static readonly int Health; // int
+		public static readonly int Target; 
+		public static readonly int Allies; // List<IEntity>
+
+		static CharacterAPI()
+		{
+			//Tags
+			Player = NameToId(nameof(Player));
+			Enemy = NameToId(nameof(Enemy));
+
+			//Values
+			Health = NameToId(nameof(Health));
+			Target = NameToId(nameof(Target));
+			Allies = NameToId(nameof(Allies));
+		}
+
+
+		///Tag Extensions
+
+		#region Player
+
+		public static bool HasPlayerTag(this IEntity entity) => entity.HasTag(Player);
+
+		public static bool AddPlayerTag(this IEntity entity) => entity.AddTag(Player);
+
+		public static bool DelPlayerTag(this IEntity entity) => entity.DelTag(Player);
+
+		#endregion
+
+		#region Enemy
+
+		public static bool HasEnemyTag(this IEntity entity) => entity.HasTag(Enemy);
+
+		public static bool AddEnemyTag(this IEntity entity) => entity.AddTag(Enemy);
+
+		public static bool DelEnemyTag(this IEntity entity) => entity.DelTag(Enemy);
+
+		#endregion
+
+
+		///Value Extensions
+
+		#region Health
+
+		public static int GetHealth(this IEntity entity) => entity.GetValue<int>(Health);
+
+		public static bool TryGetHealth(this IEntity entity, out int value) => entity.TryGetValue(Health, out value);
+
+		public static void AddHealth(this IEntity entity, int value) => entity.AddValue(Health, value);
+
+		public static bool HasHealth(this IEntity entity) => entity.HasValue(Health);
+
+		public static bool DelHealth(this IEntity entity) => entity.DelValue(Health);
+
+		public static void SetHealth(this IEntity entity, int value) => entity.SetValue(Health, value);
+
+		#endregion
+
+		#region Target
+
+		public static object GetTarget(this IEntity entity) => entity.GetValue<object>(Target);
+
+		public static bool TryGetTarget(this IEntity entity, out object value) => entity.TryGetValue(Target, out value);
+
+		public static void AddTarget(this IEntity entity, object value) => entity.AddValue(Target, value);
+
+		public static bool HasTarget(this IEntity entity) => entity.HasValue(Target);
+
+		public static bool DelTarget(this IEntity entity) => entity.DelValue(Target);
+
+		public static void SetTarget(this IEntity entity, object value) => entity.SetValue(Target, value);
+
+		#endregion
+
+		#region Allies
+
+		public static List<IEntity> GetAllies(this IEntity entity) => entity.GetValue<List<IEntity>>(Allies);
+
+		public static bool TryGetAllies(this IEntity entity, out List<IEntity> value) => entity.TryGetValue(Allies, out value);
+
+		public static void AddAllies(this IEntity entity, List<IEntity> value) => entity.AddValue(Allies, value);
+
+		public static bool HasAllies(this IEntity entity) => entity.HasValue(Allies);
+
+		public static bool DelAllies(this IEntity entity) => entity.DelValue(Allies);
+
+		public static void SetAllies(this IEntity entity, List<IEntity> value) => entity.SetValue(Allies, value);
+
+		#endregion
+    }
+}
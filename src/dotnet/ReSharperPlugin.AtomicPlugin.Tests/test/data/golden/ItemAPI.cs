@@ -0,0 +1,46 @@
+/**
+* Code generation. Don't modify! 
+**/
+
+using Atomic.Entities;
+using static Atomic.Entities.EntityNames;
+#if UNITY_EDITOR
+using UnityEditor;
+#endif
+
+namespace Game.Items
+{
+#if UNITY_EDITOR
+	[InitializeOnLoad]
+#endif
+	public static class ItemAPI
+	{
+		///Values
+		public static readonly int Price; // decimal
+
+		static ItemAPI()
+		{
+			//Values
+			Price = NameToId(nameof(Price));
+		}
+
+
+		///Value Extensions
+
+		#region Price
+
+		public static decimal GetPrice(this IEntity entity) => entity.GetValue<decimal>(Price);
+
+		public static bool TryGetPrice(this IEntity entity, out decimal value) => entity.TryGetValue(Price, out value);
+
+		public static void AddPrice(this IEntity entity, decimal value) => entity.AddValue(Price, value);
+
+		public static bool HasPrice(this IEntity entity) => entity.HasValue(Price);
+
+		public static bool DelPrice(this IEntity entity) => entity.DelValue(Price);
+
+		public static void SetPrice(this IEntity entity, decimal value) => entity.SetValue(Price, value);
+
+		#endregion
+    }
+}
@@ -0,0 +1,88 @@
+/**
+* Code generation. Don't modify! 
+**/
+
+using Atomic.Entities;
+using static Atomic.Entities.EntityNames;
+using System.Runtime.CompilerServices;
+
+namespace Game.Stats
+{
+	public static class StatsAPI
+	{
+
+		///Tags
+		public const int Dead = 17825813;
+
+		///Values
+		public const int Speed = 566784694; // float
+		public const int Cooldowns = -1086289577; // List<float>
+
+
+		///Tag Extensions
+
+		#region Dead
+
+		[MethodImpl(MethodImplOptions.AggressiveInlining)]
+		public static bool HasDeadTag(this GameEntity entity) => entity.HasTag(Dead);
+
+		[MethodImpl(MethodImplOptions.AggressiveInlining)]
+		public static bool AddDeadTag(this GameEntity entity) => entity.AddTag(Dead);
+
+		[MethodImpl(MethodImplOptions.AggressiveInlining)]
+		public static bool DelDeadTag(this GameEntity entity) => entity.DelTag(Dead);
+
+		#endregion
+
+
+		///Value Extensions
+
+		#region Speed
+
+		[MethodImpl(MethodImplOptions.AggressiveInlining)]
+		public static float GetSpeed(this GameEntity entity) => entity.GetValueUnsafe<float>(Speed);
+
+		public static ref float RefSpeed(this GameEntity entity) => ref entity.GetValueUnsafe<float>(Speed);
+
+		[MethodImpl(MethodImplOptions.AggressiveInlining)]
+		public static bool TryGetSpeed(this GameEntity entity, out float value) => entity.TryGetValueUnsafe(Speed, out value);
+
+		[MethodImpl(MethodImplOptions.AggressiveInlining)]
+		public static void AddSpeed(this GameEntity entity, float value) => entity.AddValue(Speed, value);
+
+		[MethodImpl(MethodImplOptions.AggressiveInlining)]
+		public static bool HasSpeed(this GameEntity entity) => entity.HasValue(Speed);
+
+		[MethodImpl(MethodImplOptions.AggressiveInlining)]
+		public static bool DelSpeed(this GameEntity entity) => entity.DelValue(Speed);
+
+		[MethodImpl(MethodImplOptions.AggressiveInlining)]
+		public static void SetSpeed(this GameEntity entity, float value) => entity.SetValue(Speed, value);
+
+		#endregion
+
+		#region Cooldowns
+
+		[MethodImpl(MethodImplOptions.AggressiveInlining)]
+		public static List<float> GetCooldowns(this GameEntity entity) => entity.GetValueUnsafe<List<float>>(Cooldowns);
+
+		public static ref List<float> RefCooldowns(this GameEntity entity) => ref entity.GetValueUnsafe<List<float>>(Cooldowns);
+
+		[MethodImpl(MethodImplOptions.AggressiveInlining)]
+		public static bool TryGetCooldowns(this GameEntity entity, out List<float> value) => entity.TryGetValueUnsafe(Cooldowns, out value);
+
+		[MethodImpl(MethodImplOptions.AggressiveInlining)]
+		public static void AddCooldowns(this GameEntity entity, List<float> value) => entity.AddValue(Cooldowns, value);
+
+		[MethodImpl(MethodImplOptions.AggressiveInlining)]
+		public static bool HasCooldowns(this GameEntity entity) => entity.HasValue(Cooldowns);
+
+		[MethodImpl(MethodImplOptions.AggressiveInlining)]
+		public static bool DelCooldowns(this GameEntity entity) => entity.DelValue(Cooldowns);
+
+		[MethodImpl(MethodImplOptions.AggressiveInlining)]
+		public static void SetCooldowns(this GameEntity entity, List<float> value) => entity.SetValue(Cooldowns, value);
+
+		#endregion
+    }
+}
@@ -7,6 +7,7 @@ namespace ReSharperPlugin.AtomicPlugin
         public List<string> Imports { get; set; } = new List<string>();
         public List<string> Tags { get; set; } = new List<string>();
         public List<EntityApiValue> Values { get; set; } = new List<EntityApiValue>();
+        public Dictionary<string, int> Ids { get; set; } = new Dictionary<string, int>();
     }
     
     public class EntityApiValue
@@ -10,5 +10,6 @@ namespace ReSharperPlugin.AtomicPlugin
         public string EntityType { get; set; } = "IEntity";
         public bool AggressiveInlining { get; set; }
         public bool UnsafeAccess { get; set; }
+        public bool ConstantIds { get; set; }
     }
 }
\ No newline at end of file
@@ -42,123 +42,194 @@ namespace ReSharperPlugin.AtomicPlugin.Model
   {
     //fields
     //public fields
-    [NotNull] public IRdEndpoint<AtomicFileData, string> GenerateApi => _GenerateApi;
+    [NotNull] public IRdEndpoint<AtomicFileData, GenerationResult> GenerateApi => _GenerateApi;
+    [NotNull] public IRdEndpoint<AtomicFileData[], GenerationResult[]> GenerateApis => _GenerateApis;
     [NotNull] public IRdEndpoint<TypeCompletionRequest, TypeCompletionResponse> GetTypeCompletions => _GetTypeCompletions;
     [NotNull] public IRdEndpoint<TypeValidationRequest, TypeValidationResponse> ValidateType => _ValidateType;
     [NotNull] public IRdEndpoint<Unit, string[]> GetAvailableProjects => _GetAvailableProjects;
     [NotNull] public IRdEndpoint<NamespaceCompletionRequest, NamespaceCompletionResponse> GetNamespaceCompletions => _GetNamespaceCompletions;
     [NotNull] public IRdEndpoint<NamespaceValidationRequest, NamespaceValidationResponse> ValidateNamespace => _ValidateNamespace;
+    [NotNull] public IRdEndpoint<TypeValidationBatchRequest, TypeValidationBatchResponse> ValidateTypes => _ValidateTypes;
     [NotNull] public IRdEndpoint<FindMethodUsagesRequest, FindMethodUsagesResponse> FindMethodUsages => _FindMethodUsages;
     [NotNull] public IRdEndpoint<FindTagUsagesRequest, FindTagUsagesResponse> FindTagUsages => _FindTagUsages;
+    [NotNull] public IRdEndpoint<UsageSearchRequest, int> SearchUsages => _SearchUsages;
+    [NotNull] public IRdEndpoint<string[], UsageCount[]> GetUsageCounts => _GetUsageCounts;
     [NotNull] public IRdEndpoint<RenameValueRequest, RenameResponse> RenameValue => _RenameValue;
     [NotNull] public IRdEndpoint<RenameTagRequest, RenameResponse> RenameTag => _RenameTag;
     [NotNull] public IRdEndpoint<string, bool> AddAtomicFileToProject => _AddAtomicFileToProject;
     [NotNull] public void GenerationStatus(string value) => _GenerationStatus.Fire(value);
+    [NotNull] public void UsagesFound(UsageSearchBatch value) => _UsagesFound.Fire(value);
+    [NotNull] public void TypeIndexChanged(long value) => _TypeIndexChanged.Fire(value);
+    [NotNull] public void UsageIndexChanged(long value) => _UsageIndexChanged.Fire(value);
+    [NotNull] public IViewableProperty<bool> BackendReady => _BackendReady;
     
     //private fields
-    [NotNull] private readonly RdCall<AtomicFileData, string> _GenerateApi;
+    [NotNull] private readonly RdCall<AtomicFileData, GenerationResult> _GenerateApi;
+    [NotNull] private readonly RdCall<AtomicFileData[], GenerationResult[]> _GenerateApis;
     [NotNull] private readonly RdCall<TypeCompletionRequest, TypeCompletionResponse> _GetTypeCompletions;
     [NotNull] private readonly RdCall<TypeValidationRequest, TypeValidationResponse> _ValidateType;
     [NotNull] private readonly RdCall<Unit, string[]> _GetAvailableProjects;
     [NotNull] private readonly RdCall<NamespaceCompletionRequest, NamespaceCompletionResponse> _GetNamespaceCompletions;
     [NotNull] private readonly RdCall<NamespaceValidationRequest, NamespaceValidationResponse> _ValidateNamespace;
+    [NotNull] private readonly RdCall<TypeValidationBatchRequest, TypeValidationBatchResponse> _ValidateTypes;
     [NotNull] private readonly RdCall<FindMethodUsagesRequest, FindMethodUsagesResponse> _FindMethodUsages;
     [NotNull] private readonly RdCall<FindTagUsagesRequest, FindTagUsagesResponse> _FindTagUsages;
+    [NotNull] private readonly RdCall<UsageSearchRequest, int> _SearchUsages;
+    [NotNull] private readonly RdCall<string[], UsageCount[]> _GetUsageCounts;
     [NotNull] private readonly RdCall<RenameValueRequest, RenameResponse> _RenameValue;
     [NotNull] private readonly RdCall<RenameTagRequest, RenameResponse> _RenameTag;
     [NotNull] private readonly RdCall<string, bool> _AddAtomicFileToProject;
     [NotNull] private readonly RdSignal<string> _GenerationStatus;
+    [NotNull] private readonly RdSignal<UsageSearchBatch> _UsagesFound;
+    [NotNull] private readonly RdSignal<long> _TypeIndexChanged;
+    [NotNull] private readonly RdSignal<long> _UsageIndexChanged;
+    [NotNull] private readonly RdProperty<bool> _BackendReady;
     
     //primary constructor
     private AtomicGenerationModel(
-      [NotNull] RdCall<AtomicFileData, string> generateApi,
+      [NotNull] RdCall<AtomicFileData, GenerationResult> generateApi,
+      [NotNull] RdCall<AtomicFileData[], GenerationResult[]> generateApis,
       [NotNull] RdCall<TypeCompletionRequest, TypeCompletionResponse> getTypeCompletions,
       [NotNull] RdCall<TypeValidationRequest, TypeValidationResponse> validateType,
       [NotNull] RdCall<Unit, string[]> getAvailableProjects,
       [NotNull] RdCall<NamespaceCompletionRequest, NamespaceCompletionResponse> getNamespaceCompletions,
       [NotNull] RdCall<NamespaceValidationRequest, NamespaceValidationResponse> validateNamespace,
+      [NotNull] RdCall<TypeValidationBatchRequest, TypeValidationBatchResponse> validateTypes,
       [NotNull] RdCall<FindMethodUsagesRequest, FindMethodUsagesResponse> findMethodUsages,
       [NotNull] RdCall<FindTagUsagesRequest, FindTagUsagesResponse> findTagUsages,
+      [NotNull] RdCall<UsageSearchRequest, int> searchUsages,
+      [NotNull] RdCall<string[], UsageCount[]> getUsageCounts,
       [NotNull] RdCall<RenameValueRequest, RenameResponse> renameValue,
       [NotNull] RdCall<RenameTagRequest, RenameResponse> renameTag,
       [NotNull] RdCall<string, bool> addAtomicFileToProject,
-      [NotNull] RdSignal<string> generationStatus
+      [NotNull] RdSignal<string> generationStatus,
+      [NotNull] RdSignal<UsageSearchBatch> usagesFound,
+      [NotNull] RdSignal<long> typeIndexChanged,
+      [NotNull] RdSignal<long> usageIndexChanged,
+      [NotNull] RdProperty<bool> backendReady
     )
     {
       if (generateApi == null) throw new ArgumentNullException("generateApi");
+      if (generateApis == null) throw new ArgumentNullException("generateApis");
       if (getTypeCompletions == null) throw new ArgumentNullException("getTypeCompletions");
       if (validateType == null) throw new ArgumentNullException("validateType");
       if (getAvailableProjects == null) throw new ArgumentNullException("getAvailableProjects");
       if (getNamespaceCompletions == null) throw new ArgumentNullException("getNamespaceCompletions");
       if (validateNamespace == null) throw new ArgumentNullException("validateNamespace");
+      if (validateTypes == null) throw new ArgumentNullException("validateTypes");
       if (findMethodUsages == null) throw new ArgumentNullException("findMethodUsages");
       if (findTagUsages == null) throw new ArgumentNullException("findTagUsages");
+      if (searchUsages == null) throw new ArgumentNullException("searchUsages");
+      if (getUsageCounts == null) throw new ArgumentNullException("getUsageCounts");
       if (renameValue == null) throw new ArgumentNullException("renameValue");
       if (renameTag == null) throw new ArgumentNullException("renameTag");
       if (addAtomicFileToProject == null) throw new ArgumentNullException("addAtomicFileToProject");
       if (generationStatus == null) throw new ArgumentNullException("generationStatus");
+      if (usagesFound == null) throw new ArgumentNullException("usagesFound");
+      if (typeIndexChanged == null) throw new ArgumentNullException("typeIndexChanged");
+      if (usageIndexChanged == null) throw new ArgumentNullException("usageIndexChanged");
+      if (backendReady == null) throw new ArgumentNullException("backendReady");
       
       _GenerateApi = generateApi;
+      _GenerateApis = generateApis;
       _GetTypeCompletions = getTypeCompletions;
       _ValidateType = validateType;
       _GetAvailableProjects = getAvailableProjects;
       _GetNamespaceCompletions = getNamespaceCompletions;
       _ValidateNamespace = validateNamespace;
+      _ValidateTypes = validateTypes;
       _FindMethodUsages = findMethodUsages;
       _FindTagUsages = findTagUsages;
+      _SearchUsages = searchUsages;
+      _GetUsageCounts = getUsageCounts;
       _RenameValue = renameValue;
       _RenameTag = renameTag;
       _AddAtomicFileToProject = addAtomicFileToProject;
       _GenerationStatus = generationStatus;
+      _UsagesFound = usagesFound;
+      _TypeIndexChanged = typeIndexChanged;
+      _UsageIndexChanged = usageIndexChanged;
+      _BackendReady = backendReady;
+      _BackendReady.OptimizeNested = true;
       _GenerateApi.Async = true;
+      _GenerateApis.Async = true;
       _GetTypeCompletions.Async = true;
       _ValidateType.Async = true;
       _GetAvailableProjects.Async = true;
       _GetNamespaceCompletions.Async = true;
       _ValidateNamespace.Async = true;
+      _ValidateTypes.Async = true;
       _FindMethodUsages.Async = true;
       _FindTagUsages.Async = true;
+      _SearchUsages.Async = true;
+      _GetUsageCounts.Async = true;
       _RenameValue.Async = true;
       _RenameTag.Async = true;
       _AddAtomicFileToProject.Async = true;
       _GenerationStatus.Async = true;
+      _UsagesFound.Async = true;
+      _TypeIndexChanged.Async = true;
+      _UsageIndexChanged.Async = true;
+      _BackendReady.Async = true;
       BindableChildren.Add(new KeyValuePair<string, object>("generateApi", _GenerateApi));
+      BindableChildren.Add(new KeyValuePair<string, object>("generateApis", _GenerateApis));
       BindableChildren.Add(new KeyValuePair<string, object>("getTypeCompletions", _GetTypeCompletions));
       BindableChildren.Add(new KeyValuePair<string, object>("validateType", _ValidateType));
       BindableChildren.Add(new KeyValuePair<string, object>("getAvailableProjects", _GetAvailableProjects));
       BindableChildren.Add(new KeyValuePair<string, object>("getNamespaceCompletions", _GetNamespaceCompletions));
       BindableChildren.Add(new KeyValuePair<string, object>("validateNamespace", _ValidateNamespace));
+      BindableChildren.Add(new KeyValuePair<string, object>("validateTypes", _ValidateTypes));
       BindableChildren.Add(new KeyValuePair<string, object>("findMethodUsages", _FindMethodUsages));
       BindableChildren.Add(new KeyValuePair<string, object>("findTagUsages", _FindTagUsages));
+      BindableChildren.Add(new KeyValuePair<string, object>("searchUsages", _SearchUsages));
+      BindableChildren.Add(new KeyValuePair<string, object>("getUsageCounts", _GetUsageCounts));
       BindableChildren.Add(new KeyValuePair<string, object>("renameValue", _RenameValue));
       BindableChildren.Add(new KeyValuePair<string, object>("renameTag", _RenameTag));
       BindableChildren.Add(new KeyValuePair<string, object>("addAtomicFileToProject", _AddAtomicFileToProject));
       BindableChildren.Add(new KeyValuePair<string, object>("generationStatus", _GenerationStatus));
+      BindableChildren.Add(new KeyValuePair<string, object>("usagesFound", _UsagesFound));
+      BindableChildren.Add(new KeyValuePair<string, object>("typeIndexChanged", _TypeIndexChanged));
+      BindableChildren.Add(new KeyValuePair<string, object>("usageIndexChanged", _UsageIndexChanged));
+      BindableChildren.Add(new KeyValuePair<string, object>("backendReady", _BackendReady));
     }
     //secondary constructor
     internal AtomicGenerationModel (
     ) : this (
-      new RdCall<AtomicFileData, string>(AtomicFileData.Read, AtomicFileData.Write, JetBrains.Rd.Impl.Serializers.ReadString, JetBrains.Rd.Impl.Serializers.WriteString),
+      new RdCall<AtomicFileData, GenerationResult>(AtomicFileData.Read, AtomicFileData.Write, GenerationResult.Read, GenerationResult.Write),
+      new RdCall<AtomicFileData[], GenerationResult[]>(ReadAtomicFileDataArray, WriteAtomicFileDataArray, ReadGenerationResultArray, WriteGenerationResultArray),
       new RdCall<TypeCompletionRequest, TypeCompletionResponse>(TypeCompletionRequest.Read, TypeCompletionRequest.Write, TypeCompletionResponse.Read, TypeCompletionResponse.Write),
       new RdCall<TypeValidationRequest, TypeValidationResponse>(TypeValidationRequest.Read, TypeValidationRequest.Write, TypeValidationResponse.Read, TypeValidationResponse.Write),
       new RdCall<Unit, string[]>(JetBrains.Rd.Impl.Serializers.ReadVoid, JetBrains.Rd.Impl.Serializers.WriteVoid, ReadStringArray, WriteStringArray),
       new RdCall<NamespaceCompletionRequest, NamespaceCompletionResponse>(NamespaceCompletionRequest.Read, NamespaceCompletionRequest.Write, NamespaceCompletionResponse.Read, NamespaceCompletionResponse.Write),
       new RdCall<NamespaceValidationRequest, NamespaceValidationResponse>(NamespaceValidationRequest.Read, NamespaceValidationRequest.Write, NamespaceValidationResponse.Read, NamespaceValidationResponse.Write),
+      new RdCall<TypeValidationBatchRequest, TypeValidationBatchResponse>(TypeValidationBatchRequest.Read, TypeValidationBatchRequest.Write, TypeValidationBatchResponse.Read, TypeValidationBatchResponse.Write),
       new RdCall<FindMethodUsagesRequest, FindMethodUsagesResponse>(FindMethodUsagesRequest.Read, FindMethodUsagesRequest.Write, FindMethodUsagesResponse.Read, FindMethodUsagesResponse.Write),
       new RdCall<FindTagUsagesRequest, FindTagUsagesResponse>(FindTagUsagesRequest.Read, FindTagUsagesRequest.Write, FindTagUsagesResponse.Read, FindTagUsagesResponse.Write),
+      new RdCall<UsageSearchRequest, int>(UsageSearchRequest.Read, UsageSearchRequest.Write, JetBrains.Rd.Impl.Serializers.ReadInt, JetBrains.Rd.Impl.Serializers.WriteInt),
+      new RdCall<string[], UsageCount[]>(ReadStringArray, WriteStringArray, ReadUsageCountArray, WriteUsageCountArray),
       new RdCall<RenameValueRequest, RenameResponse>(RenameValueRequest.Read, RenameValueRequest.Write, RenameResponse.Read, RenameResponse.Write),
       new RdCall<RenameTagRequest, RenameResponse>(RenameTagRequest.Read, RenameTagRequest.Write, RenameResponse.Read, RenameResponse.Write),
       new RdCall<string, bool>(JetBrains.Rd.Impl.Serializers.ReadString, JetBrains.Rd.Impl.Serializers.WriteString, JetBrains.Rd.Impl.Serializers.ReadBool, JetBrains.Rd.Impl.Serializers.WriteBool),
-      new RdSignal<string>(JetBrains.Rd.Impl.Serializers.ReadString, JetBrains.Rd.Impl.Serializers.WriteString)
+      new RdSignal<string>(JetBrains.Rd.Impl.Serializers.ReadString, JetBrains.Rd.Impl.Serializers.WriteString),
+      new RdSignal<UsageSearchBatch>(UsageSearchBatch.Read, UsageSearchBatch.Write),
+      new RdSignal<long>(JetBrains.Rd.Impl.Serializers.ReadLong, JetBrains.Rd.Impl.Serializers.WriteLong),
+      new RdSignal<long>(JetBrains.Rd.Impl.Serializers.ReadLong, JetBrains.Rd.Impl.Serializers.WriteLong),
+      new RdProperty<bool>(JetBrains.Rd.Impl.Serializers.ReadBool, JetBrains.Rd.Impl.Serializers.WriteBool, false)
     ) {}
     //deconstruct trait
     //statics
     
+    public static CtxReadDelegate<AtomicFileData[]> ReadAtomicFileDataArray = AtomicFileData.Read.Array();
+    public static CtxReadDelegate<GenerationResult[]> ReadGenerationResultArray = GenerationResult.Read.Array();
     public static CtxReadDelegate<string[]> ReadStringArray = JetBrains.Rd.Impl.Serializers.ReadString.Array();
+    public static CtxReadDelegate<UsageCount[]> ReadUsageCountArray = UsageCount.Read.Array();
     
+    public static  CtxWriteDelegate<AtomicFileData[]> WriteAtomicFileDataArray = AtomicFileData.Write.Array();
+    public static  CtxWriteDelegate<GenerationResult[]> WriteGenerationResultArray = GenerationResult.Write.Array();
     public static  CtxWriteDelegate<string[]> WriteStringArray = JetBrains.Rd.Impl.Serializers.WriteString.Array();
+    public static  CtxWriteDelegate<UsageCount[]> WriteUsageCountArray = UsageCount.Write.Array();
     
-    protected override long SerializationHash => 8091421013007210735L;
+    protected override long SerializationHash => 4220647369139357291L;
     
     protected override Action<ISerializers> Register => RegisterDeclaredTypesSerializers;
     public static void RegisterDeclaredTypesSerializers(ISerializers serializers)
@@ -180,17 +251,25 @@ namespace ReSharperPlugin.AtomicPlugin.Model
       printer.Println("AtomicGenerationModel (");
       using (printer.IndentCookie()) {
         printer.Print("generateApi = "); _GenerateApi.PrintEx(printer); printer.Println();
+        printer.Print("generateApis = "); _GenerateApis.PrintEx(printer); printer.Println();
         printer.Print("getTypeCompletions = "); _GetTypeCompletions.PrintEx(printer); printer.Println();
         printer.Print("validateType = "); _ValidateType.PrintEx(printer); printer.Println();
         printer.Print("getAvailableProjects = "); _GetAvailableProjects.PrintEx(printer); printer.Println();
         printer.Print("getNamespaceCompletions = "); _GetNamespaceCompletions.PrintEx(printer); printer.Println();
         printer.Print("validateNamespace = "); _ValidateNamespace.PrintEx(printer); printer.Println();
+        printer.Print("validateTypes = "); _ValidateTypes.PrintEx(printer); printer.Println();
         printer.Print("findMethodUsages = "); _FindMethodUsages.PrintEx(printer); printer.Println();
         printer.Print("findTagUsages = "); _FindTagUsages.PrintEx(printer); printer.Println();
+        printer.Print("searchUsages = "); _SearchUsages.PrintEx(printer); printer.Println();
+        printer.Print("getUsageCounts = "); _GetUsageCounts.PrintEx(printer); printer.Println();
         printer.Print("renameValue = "); _RenameValue.PrintEx(printer); printer.Println();
         printer.Print("renameTag = "); _RenameTag.PrintEx(printer); printer.Println();
         printer.Print("addAtomicFileToProject = "); _AddAtomicFileToProject.PrintEx(printer); printer.Println();
         printer.Print("generationStatus = "); _GenerationStatus.PrintEx(printer); printer.Println();
+        printer.Print("usagesFound = "); _UsagesFound.PrintEx(printer); printer.Println();
+        printer.Print("typeIndexChanged = "); _TypeIndexChanged.PrintEx(printer); printer.Println();
+        printer.Print("usageIndexChanged = "); _UsageIndexChanged.PrintEx(printer); printer.Println();
+        printer.Print("backendReady = "); _BackendReady.PrintEx(printer); printer.Println();
       }
       printer.Print(")");
     }
@@ -212,7 +291,7 @@ namespace ReSharperPlugin.AtomicPlugin.Model
   
   
   /// <summary>
-  /// <p>Generated from: AtomicGenerationModel.kt:31</p>
+  /// <p>Generated from: AtomicGenerationModel.kt:37</p>
   /// </summary>
   public sealed class AtomicFileData : IPrintable, IEquatable<AtomicFileData>
   {
@@ -223,6 +302,7 @@ namespace ReSharperPlugin.AtomicPlugin.Model
     [NotNull] public string[] Tags {get; private set;}
     [NotNull] public AtomicValueData[] Values {get; private set;}
     [NotNull] public string FilePath {get; private set;}
+    [NotNull] public AtomicIdData[] Ids {get; private set;}
     
     //private fields
     //primary constructor
@@ -231,7 +311,8 @@ namespace ReSharperPlugin.AtomicPlugin.Model
       [NotNull] string[] imports,
       [NotNull] string[] tags,
       [NotNull] AtomicValueData[] values,
-      [NotNull] string filePath
+      [NotNull] string filePath,
+      [NotNull] AtomicIdData[] ids
     )
     {
       if (headerProperties == null) throw new ArgumentNullException("headerProperties");
@@ -239,22 +320,25 @@ namespace ReSharperPlugin.AtomicPlugin.Model
       if (tags == null) throw new ArgumentNullException("tags");
       if (values == null) throw new ArgumentNullException("values");
       if (filePath == null) throw new ArgumentNullException("filePath");
+      if (ids == null) throw new ArgumentNullException("ids");
       
       HeaderProperties = headerProperties;
       Imports = imports;
       Tags = tags;
       Values = values;
       FilePath = filePath;
+      Ids = ids;
     }
     //secondary constructor
     //deconstruct trait
-    public void Deconstruct([NotNull] out HeaderProperty[] headerProperties, [NotNull] out string[] imports, [NotNull] out string[] tags, [NotNull] out AtomicValueData[] values, [NotNull] out string filePath)
+    public void Deconstruct([NotNull] out HeaderProperty[] headerProperties, [NotNull] out string[] imports, [NotNull] out string[] tags, [NotNull] out AtomicValueData[] values, [NotNull] out string filePath, [NotNull] out AtomicIdData[] ids)
     {
       headerProperties = HeaderProperties;
       imports = Imports;
       tags = Tags;
       values = Values;
       filePath = FilePath;
+      ids = Ids;
     }
     //statics
     
@@ -265,12 +349,14 @@ namespace ReSharperPlugin.AtomicPlugin.Model
       var tags = ReadStringArray(ctx, reader);
       var values = ReadAtomicValueDataArray(ctx, reader);
       var filePath = reader.ReadString();
-      var _result = new AtomicFileData(headerProperties, imports, tags, values, filePath);
+      var ids = ReadAtomicIdDataArray(ctx, reader);
+      var _result = new AtomicFileData(headerProperties, imports, tags, values, filePath, ids);
       return _result;
     };
     public static CtxReadDelegate<HeaderProperty[]> ReadHeaderPropertyArray = HeaderProperty.Read.Array();
     public static CtxReadDelegate<string[]> ReadStringArray = JetBrains.Rd.Impl.Serializers.ReadString.Array();
     public static CtxReadDelegate<AtomicValueData[]> ReadAtomicValueDataArray = AtomicValueData.Read.Array();
+    public static CtxReadDelegate<AtomicIdData[]> ReadAtomicIdDataArray = AtomicIdData.Read.Array();
     
     public static CtxWriteDelegate<AtomicFileData> Write = (ctx, writer, value) => 
     {
@@ -279,10 +365,12 @@ namespace ReSharperPlugin.AtomicPlugin.Model
       WriteStringArray(ctx, writer, value.Tags);
       WriteAtomicValueDataArray(ctx, writer, value.Values);
       writer.Write(value.FilePath);
+      WriteAtomicIdDataArray(ctx, writer, value.Ids);
     };
     public static  CtxWriteDelegate<HeaderProperty[]> WriteHeaderPropertyArray = HeaderProperty.Write.Array();
     public static  CtxWriteDelegate<string[]> WriteStringArray = JetBrains.Rd.Impl.Serializers.WriteString.Array();
     public static  CtxWriteDelegate<AtomicValueData[]> WriteAtomicValueDataArray = AtomicValueData.Write.Array();
+    public static  CtxWriteDelegate<AtomicIdData[]> WriteAtomicIdDataArray = AtomicIdData.Write.Array();
     
     //constants
     
@@ -300,7 +388,7 @@ namespace ReSharperPlugin.AtomicPlugin.Model
     {
       if (ReferenceEquals(null, other)) return false;
       if (ReferenceEquals(this, other)) return true;
-      return HeaderProperties.SequenceEqual(other.HeaderProperties) && Imports.SequenceEqual(other.Imports) && Tags.SequenceEqual(other.Tags) && Values.SequenceEqual(other.Values) && FilePath == other.FilePath;
+      return HeaderProperties.SequenceEqual(other.HeaderProperties) && Imports.SequenceEqual(other.Imports) && Tags.SequenceEqual(other.Tags) && Values.SequenceEqual(other.Values) && FilePath == other.FilePath && Ids.SequenceEqual(other.Ids);
     }
     //hash code trait
     public override int GetHashCode()
@@ -312,6 +400,7 @@ namespace ReSharperPlugin.AtomicPlugin.Model
         hash = hash * 31 + Tags.ContentHashCode();
         hash = hash * 31 + Values.ContentHashCode();
         hash = hash * 31 + FilePath.GetHashCode();
+        hash = hash * 31 + Ids.ContentHashCode();
         return hash;
       }
     }
@@ -325,6 +414,100 @@ namespace ReSharperPlugin.AtomicPlugin.Model
         printer.Print("tags = "); Tags.PrintEx(printer); printer.Println();
         printer.Print("values = "); Values.PrintEx(printer); printer.Println();
         printer.Print("filePath = "); FilePath.PrintEx(printer); printer.Println();
+        printer.Print("ids = "); Ids.PrintEx(printer); printer.Println();
+      }
+      printer.Print(")");
+    }
+    //toString
+    public override string ToString()
+    {
+      var printer = new SingleLinePrettyPrinter();
+      Print(printer);
+      return printer.ToString();
+    }
+  }
+  
+  
+  /// <summary>
+  /// <p>Generated from: AtomicGenerationModel.kt:31</p>
+  /// </summary>
+  public sealed class AtomicIdData : IPrintable, IEquatable<AtomicIdData>
+  {
+    //fields
+    //public fields
+    [NotNull] public string Name {get; private set;}
+    public int Id {get; private set;}
+    
+    //private fields
+    //primary constructor
+    public AtomicIdData(
+      [NotNull] string name,
+      int id
+    )
+    {
+      if (name == null) throw new ArgumentNullException("name");
+      
+      Name = name;
+      Id = id;
+    }
+    //secondary constructor
+    //deconstruct trait
+    public void Deconstruct([NotNull] out string name, out int id)
+    {
+      name = Name;
+      id = Id;
+    }
+    //statics
+    
+    public static CtxReadDelegate<AtomicIdData> Read = (ctx, reader) => 
+    {
+      var name = reader.ReadString();
+      var id = reader.ReadInt();
+      var _result = new AtomicIdData(name, id);
+      return _result;
+    };
+    
+    public static CtxWriteDelegate<AtomicIdData> Write = (ctx, writer, value) => 
+    {
+      writer.Write(value.Name);
+      writer.Write(value.Id);
+    };
+    
+    //constants
+    
+    //custom body
+    //methods
+    //equals trait
+    public override bool Equals(object obj)
+    {
+      if (ReferenceEquals(null, obj)) return false;
+      if (ReferenceEquals(this, obj)) return true;
+      if (obj.GetType() != GetType()) return false;
+      return Equals((AtomicIdData) obj);
+    }
+    public bool Equals(AtomicIdData other)
+    {
+      if (ReferenceEquals(null, other)) return false;
+      if (ReferenceEquals(this, other)) return true;
+      return Name == other.Name && Id == other.Id;
+    }
+    //hash code trait
+    public override int GetHashCode()
+    {
+      unchecked {
+        var hash = 0;
+        hash = hash * 31 + Name.GetHashCode();
+        hash = hash * 31 + Id.GetHashCode();
+        return hash;
+      }
+    }
+    //pretty print
+    public void Print(PrettyPrinter printer)
+    {
+      printer.Println("AtomicIdData (");
+      using (printer.IndentCookie()) {
+        printer.Print("name = "); Name.PrintEx(printer); printer.Println();
+        printer.Print("id = "); Id.PrintEx(printer); printer.Println();
       }
       printer.Print(")");
     }
@@ -433,7 +616,7 @@ namespace ReSharperPlugin.AtomicPlugin.Model
   
   
   /// <summary>
-  /// <p>Generated from: AtomicGenerationModel.kt:114</p>
+  /// <p>Generated from: AtomicGenerationModel.kt:146</p>
   /// </summary>
   public sealed class FindMethodUsagesRequest : IPrintable, IEquatable<FindMethodUsagesRequest>
   {
@@ -547,7 +730,7 @@ namespace ReSharperPlugin.AtomicPlugin.Model
   
   
   /// <summary>
-  /// <p>Generated from: AtomicGenerationModel.kt:121</p>
+  /// <p>Generated from: AtomicGenerationModel.kt:153</p>
   /// </summary>
   public sealed class FindMethodUsagesResponse : IPrintable, IEquatable<FindMethodUsagesResponse>
   {
@@ -634,7 +817,7 @@ namespace ReSharperPlugin.AtomicPlugin.Model
   
   
   /// <summary>
-  /// <p>Generated from: AtomicGenerationModel.kt:125</p>
+  /// <p>Generated from: AtomicGenerationModel.kt:157</p>
   /// </summary>
   public sealed class FindTagUsagesRequest : IPrintable, IEquatable<FindTagUsagesRequest>
   {
@@ -748,7 +931,7 @@ namespace ReSharperPlugin.AtomicPlugin.Model
   
   
   /// <summary>
-  /// <p>Generated from: AtomicGenerationModel.kt:132</p>
+  /// <p>Generated from: AtomicGenerationModel.kt:164</p>
   /// </summary>
   public sealed class FindTagUsagesResponse : IPrintable, IEquatable<FindTagUsagesResponse>
   {
@@ -834,6 +1017,117 @@ namespace ReSharperPlugin.AtomicPlugin.Model
   }
   
   
+  /// <summary>
+  /// <p>Generated from: AtomicGenerationModel.kt:48</p>
+  /// </summary>
+  public sealed class GenerationResult : IPrintable, IEquatable<GenerationResult>
+  {
+    //fields
+    //public fields
+    [NotNull] public string FilePath {get; private set;}
+    [CanBeNull] public string GeneratedCode {get; private set;}
+    [CanBeNull] public string ErrorMessage {get; private set;}
+    public bool OutputUpdated {get; private set;}
+    
+    //private fields
+    //primary constructor
+    public GenerationResult(
+      [NotNull] string filePath,
+      [CanBeNull] string generatedCode,
+      [CanBeNull] string errorMessage,
+      bool outputUpdated
+    )
+    {
+      if (filePath == null) throw new ArgumentNullException("filePath");
+      
+      FilePath = filePath;
+      GeneratedCode = generatedCode;
+      ErrorMessage = errorMessage;
+      OutputUpdated = outputUpdated;
+    }
+    //secondary constructor
+    //deconstruct trait
+    public void Deconstruct([NotNull] out string filePath, [CanBeNull] out string generatedCode, [CanBeNull] out string errorMessage, out bool outputUpdated)
+    {
+      filePath = FilePath;
+      generatedCode = GeneratedCode;
+      errorMessage = ErrorMessage;
+      outputUpdated = OutputUpdated;
+    }
+    //statics
+    
+    public static CtxReadDelegate<GenerationResult> Read = (ctx, reader) => 
+    {
+      var filePath = reader.ReadString();
+      var generatedCode = ReadStringNullable(ctx, reader);
+      var errorMessage = ReadStringNullable(ctx, reader);
+      var outputUpdated = reader.ReadBool();
+      var _result = new GenerationResult(filePath, generatedCode, errorMessage, outputUpdated);
+      return _result;
+    };
+    public static CtxReadDelegate<string> ReadStringNullable = JetBrains.Rd.Impl.Serializers.ReadString.NullableClass();
+    
+    public static CtxWriteDelegate<GenerationResult> Write = (ctx, writer, value) => 
+    {
+      writer.Write(value.FilePath);
+      WriteStringNullable(ctx, writer, value.GeneratedCode);
+      WriteStringNullable(ctx, writer, value.ErrorMessage);
+      writer.Write(value.OutputUpdated);
+    };
+    public static  CtxWriteDelegate<string> WriteStringNullable = JetBrains.Rd.Impl.Serializers.WriteString.NullableClass();
+    
+    //constants
+    
+    //custom body
+    //methods
+    //equals trait
+    public override bool Equals(object obj)
+    {
+      if (ReferenceEquals(null, obj)) return false;
+      if (ReferenceEquals(this, obj)) return true;
+      if (obj.GetType() != GetType()) return false;
+      return Equals((GenerationResult) obj);
+    }
+    public bool Equals(GenerationResult other)
+    {
+      if (ReferenceEquals(null, other)) return false;
+      if (ReferenceEquals(this, other)) return true;
+      return FilePath == other.FilePath && Equals(GeneratedCode, other.GeneratedCode) && Equals(ErrorMessage, other.ErrorMessage) && OutputUpdated == other.OutputUpdated;
+    }
+    //hash code trait
+    public override int GetHashCode()
+    {
+      unchecked {
+        var hash = 0;
+        hash = hash * 31 + FilePath.GetHashCode();
+        hash = hash * 31 + (GeneratedCode != null ? GeneratedCode.GetHashCode() : 0);
+        hash = hash * 31 + (ErrorMessage != null ? ErrorMessage.GetHashCode() : 0);
+        hash = hash * 31 + OutputUpdated.GetHashCode();
+        return hash;
+      }
+    }
+    //pretty print
+    public void Print(PrettyPrinter printer)
+    {
+      printer.Println("GenerationResult (");
+      using (printer.IndentCookie()) {
+        printer.Print("filePath = "); FilePath.PrintEx(printer); printer.Println();
+        printer.Print("generatedCode = "); GeneratedCode.PrintEx(printer); printer.Println();
+        printer.Print("errorMessage = "); ErrorMessage.PrintEx(printer); printer.Println();
+        printer.Print("outputUpdated = "); OutputUpdated.PrintEx(printer); printer.Println();
+      }
+      printer.Print(")");
+    }
+    //toString
+    public override string ToString()
+    {
+      var printer = new SingleLinePrettyPrinter();
+      Print(printer);
+      return printer.ToString();
+    }
+  }
+  
+  
   /// <summary>
   /// <p>Generated from: AtomicGenerationModel.kt:25</p>
   /// </summary>
@@ -929,7 +1223,7 @@ namespace ReSharperPlugin.AtomicPlugin.Model
   
   
   /// <summary>
-  /// <p>Generated from: AtomicGenerationModel.kt:106</p>
+  /// <p>Generated from: AtomicGenerationModel.kt:138</p>
   /// </summary>
   public sealed class MethodUsageLocation : IPrintable, IEquatable<MethodUsageLocation>
   {
@@ -1048,7 +1342,7 @@ namespace ReSharperPlugin.AtomicPlugin.Model
   
   
   /// <summary>
-  /// <p>Generated from: AtomicGenerationModel.kt:85</p>
+  /// <p>Generated from: AtomicGenerationModel.kt:104</p>
   /// </summary>
   public sealed class NamespaceCompletionRequest : IPrintable, IEquatable<NamespaceCompletionRequest>
   {
@@ -1142,7 +1436,7 @@ namespace ReSharperPlugin.AtomicPlugin.Model
   
   
   /// <summary>
-  /// <p>Generated from: AtomicGenerationModel.kt:90</p>
+  /// <p>Generated from: AtomicGenerationModel.kt:109</p>
   /// </summary>
   public sealed class NamespaceCompletionResponse : IPrintable, IEquatable<NamespaceCompletionResponse>
   {
@@ -1229,7 +1523,7 @@ namespace ReSharperPlugin.AtomicPlugin.Model
   
   
   /// <summary>
-  /// <p>Generated from: AtomicGenerationModel.kt:95</p>
+  /// <p>Generated from: AtomicGenerationModel.kt:114</p>
   /// </summary>
   public sealed class NamespaceValidationRequest : IPrintable, IEquatable<NamespaceValidationRequest>
   {
@@ -1323,7 +1617,7 @@ namespace ReSharperPlugin.AtomicPlugin.Model
   
   
   /// <summary>
-  /// <p>Generated from: AtomicGenerationModel.kt:100</p>
+  /// <p>Generated from: AtomicGenerationModel.kt:119</p>
   /// </summary>
   public sealed class NamespaceValidationResponse : IPrintable, IEquatable<NamespaceValidationResponse>
   {
@@ -1414,7 +1708,7 @@ namespace ReSharperPlugin.AtomicPlugin.Model
   
   
   /// <summary>
-  /// <p>Generated from: AtomicGenerationModel.kt:150</p>
+  /// <p>Generated from: AtomicGenerationModel.kt:204</p>
   /// </summary>
   public sealed class RenameResponse : IPrintable, IEquatable<RenameResponse>
   {
@@ -1527,7 +1821,7 @@ namespace ReSharperPlugin.AtomicPlugin.Model
   
   
   /// <summary>
-  /// <p>Generated from: AtomicGenerationModel.kt:143</p>
+  /// <p>Generated from: AtomicGenerationModel.kt:197</p>
   /// </summary>
   public sealed class RenameTagRequest : IPrintable, IEquatable<RenameTagRequest>
   {
@@ -1639,7 +1933,7 @@ namespace ReSharperPlugin.AtomicPlugin.Model
   
   
   /// <summary>
-  /// <p>Generated from: AtomicGenerationModel.kt:136</p>
+  /// <p>Generated from: AtomicGenerationModel.kt:190</p>
   /// </summary>
   public sealed class RenameValueRequest : IPrintable, IEquatable<RenameValueRequest>
   {
@@ -1751,7 +2045,7 @@ namespace ReSharperPlugin.AtomicPlugin.Model
   
   
   /// <summary>
-  /// <p>Generated from: AtomicGenerationModel.kt:48</p>
+  /// <p>Generated from: AtomicGenerationModel.kt:65</p>
   /// </summary>
   public sealed class TypeCompletionItem : IPrintable, IEquatable<TypeCompletionItem>
   {
@@ -1879,7 +2173,7 @@ namespace ReSharperPlugin.AtomicPlugin.Model
   
   
   /// <summary>
-  /// <p>Generated from: AtomicGenerationModel.kt:57</p>
+  /// <p>Generated from: AtomicGenerationModel.kt:74</p>
   /// </summary>
   public sealed class TypeCompletionRequest : IPrintable, IEquatable<TypeCompletionRequest>
   {
@@ -1994,36 +2288,41 @@ namespace ReSharperPlugin.AtomicPlugin.Model
   
   
   /// <summary>
-  /// <p>Generated from: AtomicGenerationModel.kt:64</p>
+  /// <p>Generated from: AtomicGenerationModel.kt:81</p>
   /// </summary>
   public sealed class TypeCompletionResponse : IPrintable, IEquatable<TypeCompletionResponse>
   {
     //fields
     //public fields
     [NotNull] public TypeCompletionItem[] Items {get; private set;}
+    public bool IsComplete {get; private set;}
     
     //private fields
     //primary constructor
     public TypeCompletionResponse(
-      [NotNull] TypeCompletionItem[] items
+      [NotNull] TypeCompletionItem[] items,
+      bool isComplete
     )
     {
       if (items == null) throw new ArgumentNullException("items");
       
       Items = items;
+      IsComplete = isComplete;
     }
     //secondary constructor
     //deconstruct trait
-    public void Deconstruct([NotNull] out TypeCompletionItem[] items)
+    public void Deconstruct([NotNull] out TypeCompletionItem[] items, out bool isComplete)
     {
       items = Items;
+      isComplete = IsComplete;
     }
     //statics
     
     public static CtxReadDelegate<TypeCompletionResponse> Read = (ctx, reader) => 
     {
       var items = ReadTypeCompletionItemArray(ctx, reader);
-      var _result = new TypeCompletionResponse(items);
+      var isComplete = reader.ReadBool();
+      var _result = new TypeCompletionResponse(items, isComplete);
       return _result;
     };
     public static CtxReadDelegate<TypeCompletionItem[]> ReadTypeCompletionItemArray = TypeCompletionItem.Read.Array();
@@ -2031,6 +2330,7 @@ namespace ReSharperPlugin.AtomicPlugin.Model
     public static CtxWriteDelegate<TypeCompletionResponse> Write = (ctx, writer, value) => 
     {
       WriteTypeCompletionItemArray(ctx, writer, value.Items);
+      writer.Write(value.IsComplete);
     };
     public static  CtxWriteDelegate<TypeCompletionItem[]> WriteTypeCompletionItemArray = TypeCompletionItem.Write.Array();
     
@@ -2050,7 +2350,7 @@ namespace ReSharperPlugin.AtomicPlugin.Model
     {
       if (ReferenceEquals(null, other)) return false;
       if (ReferenceEquals(this, other)) return true;
-      return Items.SequenceEqual(other.Items);
+      return Items.SequenceEqual(other.Items) && IsComplete == other.IsComplete;
     }
     //hash code trait
     public override int GetHashCode()
@@ -2058,6 +2358,7 @@ namespace ReSharperPlugin.AtomicPlugin.Model
       unchecked {
         var hash = 0;
         hash = hash * 31 + Items.ContentHashCode();
+        hash = hash * 31 + IsComplete.GetHashCode();
         return hash;
       }
     }
@@ -2067,6 +2368,7 @@ namespace ReSharperPlugin.AtomicPlugin.Model
       printer.Println("TypeCompletionResponse (");
       using (printer.IndentCookie()) {
         printer.Print("items = "); Items.PrintEx(printer); printer.Println();
+        printer.Print("isComplete = "); IsComplete.PrintEx(printer); printer.Println();
       }
       printer.Print(")");
     }
@@ -2081,7 +2383,7 @@ namespace ReSharperPlugin.AtomicPlugin.Model
   
   
   /// <summary>
-  /// <p>Generated from: AtomicGenerationModel.kt:40</p>
+  /// <p>Generated from: AtomicGenerationModel.kt:57</p>
   /// </summary>
   public enum TypeKind {
     Class,
@@ -2093,55 +2395,62 @@ namespace ReSharperPlugin.AtomicPlugin.Model
   
   
   /// <summary>
-  /// <p>Generated from: AtomicGenerationModel.kt:69</p>
+  /// <p>Generated from: AtomicGenerationModel.kt:125</p>
   /// </summary>
-  public sealed class TypeValidationRequest : IPrintable, IEquatable<TypeValidationRequest>
+  public sealed class TypeValidationBatchRequest : IPrintable, IEquatable<TypeValidationBatchRequest>
   {
     //fields
     //public fields
-    [NotNull] public string TypeName {get; private set;}
+    [NotNull] public string[] TypeNames {get; private set;}
+    [NotNull] public string[] Namespaces {get; private set;}
     [NotNull] public string[] Imports {get; private set;}
     [NotNull] public string ProjectPath {get; private set;}
     
     //private fields
     //primary constructor
-    public TypeValidationRequest(
-      [NotNull] string typeName,
+    public TypeValidationBatchRequest(
+      [NotNull] string[] typeNames,
+      [NotNull] string[] namespaces,
       [NotNull] string[] imports,
       [NotNull] string projectPath
     )
     {
-      if (typeName == null) throw new ArgumentNullException("typeName");
+      if (typeNames == null) throw new ArgumentNullException("typeNames");
+      if (namespaces == null) throw new ArgumentNullException("namespaces");
       if (imports == null) throw new ArgumentNullException("imports");
       if (projectPath == null) throw new ArgumentNullException("projectPath");
       
-      TypeName = typeName;
+      TypeNames = typeNames;
+      Namespaces = namespaces;
       Imports = imports;
       ProjectPath = projectPath;
     }
     //secondary constructor
     //deconstruct trait
-    public void Deconstruct([NotNull] out string typeName, [NotNull] out string[] imports, [NotNull] out string projectPath)
+    public void Deconstruct([NotNull] out string[] typeNames, [NotNull] out string[] namespaces, [NotNull] out string[] imports, [NotNull] out string projectPath)
     {
-      typeName = TypeName;
+      typeNames = TypeNames;
+      namespaces = Namespaces;
       imports = Imports;
       projectPath = ProjectPath;
     }
     //statics
     
-    public static CtxReadDelegate<TypeValidationRequest> Read = (ctx, reader) => 
+    public static CtxReadDelegate<TypeValidationBatchRequest> Read = (ctx, reader) => 
     {
-      var typeName = reader.ReadString();
+      var typeNames = ReadStringArray(ctx, reader);
+      var namespaces = ReadStringArray(ctx, reader);
       var imports = ReadStringArray(ctx, reader);
       var projectPath = reader.ReadString();
-      var _result = new TypeValidationRequest(typeName, imports, projectPath);
+      var _result = new TypeValidationBatchRequest(typeNames, namespaces, imports, projectPath);
       return _result;
     };
     public static CtxReadDelegate<string[]> ReadStringArray = JetBrains.Rd.Impl.Serializers.ReadString.Array();
     
-    public static CtxWriteDelegate<TypeValidationRequest> Write = (ctx, writer, value) => 
+    public static CtxWriteDelegate<TypeValidationBatchRequest> Write = (ctx, writer, value) => 
     {
-      writer.Write(value.TypeName);
+      WriteStringArray(ctx, writer, value.TypeNames);
+      WriteStringArray(ctx, writer, value.Namespaces);
       WriteStringArray(ctx, writer, value.Imports);
       writer.Write(value.ProjectPath);
     };
@@ -2157,20 +2466,21 @@ namespace ReSharperPlugin.AtomicPlugin.Model
       if (ReferenceEquals(null, obj)) return false;
       if (ReferenceEquals(this, obj)) return true;
       if (obj.GetType() != GetType()) return false;
-      return Equals((TypeValidationRequest) obj);
+      return Equals((TypeValidationBatchRequest) obj);
     }
-    public bool Equals(TypeValidationRequest other)
+    public bool Equals(TypeValidationBatchRequest other)
     {
       if (ReferenceEquals(null, other)) return false;
       if (ReferenceEquals(this, other)) return true;
-      return TypeName == other.TypeName && Imports.SequenceEqual(other.Imports) && ProjectPath == other.ProjectPath;
+      return TypeNames.SequenceEqual(other.TypeNames) && Namespaces.SequenceEqual(other.Namespaces) && Imports.SequenceEqual(other.Imports) && ProjectPath == other.ProjectPath;
     }
     //hash code trait
     public override int GetHashCode()
     {
       unchecked {
         var hash = 0;
-        hash = hash * 31 + TypeName.GetHashCode();
+        hash = hash * 31 + TypeNames.ContentHashCode();
+        hash = hash * 31 + Namespaces.ContentHashCode();
         hash = hash * 31 + Imports.ContentHashCode();
         hash = hash * 31 + ProjectPath.GetHashCode();
         return hash;
@@ -2179,9 +2489,10 @@ namespace ReSharperPlugin.AtomicPlugin.Model
     //pretty print
     public void Print(PrettyPrinter printer)
     {
-      printer.Println("TypeValidationRequest (");
+      printer.Println("TypeValidationBatchRequest (");
       using (printer.IndentCookie()) {
-        printer.Print("typeName = "); TypeName.PrintEx(printer); printer.Println();
+        printer.Print("typeNames = "); TypeNames.PrintEx(printer); printer.Println();
+        printer.Print("namespaces = "); Namespaces.PrintEx(printer); printer.Println();
         printer.Print("imports = "); Imports.PrintEx(printer); printer.Println();
         printer.Print("projectPath = "); ProjectPath.PrintEx(printer); printer.Println();
       }
@@ -2198,78 +2509,54 @@ namespace ReSharperPlugin.AtomicPlugin.Model
   
   
   /// <summary>
-  /// <p>Generated from: AtomicGenerationModel.kt:75</p>
+  /// <p>Generated from: AtomicGenerationModel.kt:132</p>
   /// </summary>
-  public sealed class TypeValidationResponse : IPrintable, IEquatable<TypeValidationResponse>
+  public sealed class TypeValidationBatchResponse : IPrintable, IEquatable<TypeValidationBatchResponse>
   {
     //fields
     //public fields
-    public bool IsValid {get; private set;}
-    [CanBeNull] public string FullTypeName {get; private set;}
-    [CanBeNull] public string SuggestedImport {get; private set;}
-    [NotNull] public string[] SuggestedImports {get; private set;}
-    public bool IsAmbiguous {get; private set;}
-    [NotNull] public string[] AmbiguousNamespaces {get; private set;}
+    [NotNull] public TypeValidationResponse[] Types {get; private set;}
+    [NotNull] public NamespaceValidationResponse[] Namespaces {get; private set;}
     
     //private fields
     //primary constructor
-    public TypeValidationResponse(
-      bool isValid,
-      [CanBeNull] string fullTypeName,
-      [CanBeNull] string suggestedImport,
-      [NotNull] string[] suggestedImports,
-      bool isAmbiguous,
-      [NotNull] string[] ambiguousNamespaces
+    public TypeValidationBatchResponse(
+      [NotNull] TypeValidationResponse[] types,
+      [NotNull] NamespaceValidationResponse[] namespaces
     )
     {
-      if (suggestedImports == null) throw new ArgumentNullException("suggestedImports");
-      if (ambiguousNamespaces == null) throw new ArgumentNullException("ambiguousNamespaces");
+      if (types == null) throw new ArgumentNullException("types");
+      if (namespaces == null) throw new ArgumentNullException("namespaces");
       
-      IsValid = isValid;
-      FullTypeName = fullTypeName;
-      SuggestedImport = suggestedImport;
-      SuggestedImports = suggestedImports;
-      IsAmbiguous = isAmbiguous;
-      AmbiguousNamespaces = ambiguousNamespaces;
+      Types = types;
+      Namespaces = namespaces;
     }
     //secondary constructor
     //deconstruct trait
-    public void Deconstruct(out bool isValid, [CanBeNull] out string fullTypeName, [CanBeNull] out string suggestedImport, [NotNull] out string[] suggestedImports, out bool isAmbiguous, [NotNull] out string[] ambiguousNamespaces)
+    public void Deconstruct([NotNull] out TypeValidationResponse[] types, [NotNull] out NamespaceValidationResponse[] namespaces)
     {
-      isValid = IsValid;
-      fullTypeName = FullTypeName;
-      suggestedImport = SuggestedImport;
-      suggestedImports = SuggestedImports;
-      isAmbiguous = IsAmbiguous;
-      ambiguousNamespaces = AmbiguousNamespaces;
+      types = Types;
+      namespaces = Namespaces;
     }
     //statics
     
-    public static CtxReadDelegate<TypeValidationResponse> Read = (ctx, reader) => 
+    public static CtxReadDelegate<TypeValidationBatchResponse> Read = (ctx, reader) => 
     {
-      var isValid = reader.ReadBool();
-      var fullTypeName = ReadStringNullable(ctx, reader);
-      var suggestedImport = ReadStringNullable(ctx, reader);
-      var suggestedImports = ReadStringArray(ctx, reader);
-      var isAmbiguous = reader.ReadBool();
-      var ambiguousNamespaces = ReadStringArray(ctx, reader);
-      var _result = new TypeValidationResponse(isValid, fullTypeName, suggestedImport, suggestedImports, isAmbiguous, ambiguousNamespaces);
+      var types = ReadTypeValidationResponseArray(ctx, reader);
+      var namespaces = ReadNamespaceValidationResponseArray(ctx, reader);
+      var _result = new TypeValidationBatchResponse(types, namespaces);
       return _result;
     };
-    public static CtxReadDelegate<string> ReadStringNullable = JetBrains.Rd.Impl.Serializers.ReadString.NullableClass();
-    public static CtxReadDelegate<string[]> ReadStringArray = JetBrains.Rd.Impl.Serializers.ReadString.Array();
+    public static CtxReadDelegate<TypeValidationResponse[]> ReadTypeValidationResponseArray = TypeValidationResponse.Read.Array();
+    public static CtxReadDelegate<NamespaceValidationResponse[]> ReadNamespaceValidationResponseArray = NamespaceValidationResponse.Read.Array();
     
-    public static CtxWriteDelegate<TypeValidationResponse> Write = (ctx, writer, value) => 
+    public static CtxWriteDelegate<TypeValidationBatchResponse> Write = (ctx, writer, value) => 
     {
-      writer.Write(value.IsValid);
-      WriteStringNullable(ctx, writer, value.FullTypeName);
-      WriteStringNullable(ctx, writer, value.SuggestedImport);
-      WriteStringArray(ctx, writer, value.SuggestedImports);
-      writer.Write(value.IsAmbiguous);
-      WriteStringArray(ctx, writer, value.AmbiguousNamespaces);
+      WriteTypeValidationResponseArray(ctx, writer, value.Types);
+      WriteNamespaceValidationResponseArray(ctx, writer, value.Namespaces);
     };
-    public static  CtxWriteDelegate<string> WriteStringNullable = JetBrains.Rd.Impl.Serializers.WriteString.NullableClass();
-    public static  CtxWriteDelegate<string[]> WriteStringArray = JetBrains.Rd.Impl.Serializers.WriteString.Array();
+    public static  CtxWriteDelegate<TypeValidationResponse[]> WriteTypeValidationResponseArray = TypeValidationResponse.Write.Array();
+    public static  CtxWriteDelegate<NamespaceValidationResponse[]> WriteNamespaceValidationResponseArray = NamespaceValidationResponse.Write.Array();
     
     //constants
     
@@ -2281,24 +2568,251 @@ namespace ReSharperPlugin.AtomicPlugin.Model
       if (ReferenceEquals(null, obj)) return false;
       if (ReferenceEquals(this, obj)) return true;
       if (obj.GetType() != GetType()) return false;
-      return Equals((TypeValidationResponse) obj);
+      return Equals((TypeValidationBatchResponse) obj);
     }
-    public bool Equals(TypeValidationResponse other)
+    public bool Equals(TypeValidationBatchResponse other)
     {
       if (ReferenceEquals(null, other)) return false;
       if (ReferenceEquals(this, other)) return true;
-      return IsValid == other.IsValid && Equals(FullTypeName, other.FullTypeName) && Equals(SuggestedImport, other.SuggestedImport) && SuggestedImports.SequenceEqual(other.SuggestedImports) && IsAmbiguous == other.IsAmbiguous && AmbiguousNamespaces.SequenceEqual(other.AmbiguousNamespaces);
+      return Types.SequenceEqual(other.Types) && Namespaces.SequenceEqual(other.Namespaces);
     }
     //hash code trait
     public override int GetHashCode()
     {
       unchecked {
         var hash = 0;
-        hash = hash * 31 + IsValid.GetHashCode();
-        hash = hash * 31 + (FullTypeName != null ? FullTypeName.GetHashCode() : 0);
-        hash = hash * 31 + (SuggestedImport != null ? SuggestedImport.GetHashCode() : 0);
-        hash = hash * 31 + SuggestedImports.ContentHashCode();
-        hash = hash * 31 + IsAmbiguous.GetHashCode();
+        hash = hash * 31 + Types.ContentHashCode();
+        hash = hash * 31 + Namespaces.ContentHashCode();
+        return hash;
+      }
+    }
+    //pretty print
+    public void Print(PrettyPrinter printer)
+    {
+      printer.Println("TypeValidationBatchResponse (");
+      using (printer.IndentCookie()) {
+        printer.Print("types = "); Types.PrintEx(printer); printer.Println();
+        printer.Print("namespaces = "); Namespaces.PrintEx(printer); printer.Println();
+      }
+      printer.Print(")");
+    }
+    //toString
+    public override string ToString()
+    {
+      var printer = new SingleLinePrettyPrinter();
+      Print(printer);
+      return printer.ToString();
+    }
+  }
+  
+  
+  /// <summary>
+  /// <p>Generated from: AtomicGenerationModel.kt:88</p>
+  /// </summary>
+  public sealed class TypeValidationRequest : IPrintable, IEquatable<TypeValidationRequest>
+  {
+    //fields
+    //public fields
+    [NotNull] public string TypeName {get; private set;}
+    [NotNull] public string[] Imports {get; private set;}
+    [NotNull] public string ProjectPath {get; private set;}
+    
+    //private fields
+    //primary constructor
+    public TypeValidationRequest(
+      [NotNull] string typeName,
+      [NotNull] string[] imports,
+      [NotNull] string projectPath
+    )
+    {
+      if (typeName == null) throw new ArgumentNullException("typeName");
+      if (imports == null) throw new ArgumentNullException("imports");
+      if (projectPath == null) throw new ArgumentNullException("projectPath");
+      
+      TypeName = typeName;
+      Imports = imports;
+      ProjectPath = projectPath;
+    }
+    //secondary constructor
+    //deconstruct trait
+    public void Deconstruct([NotNull] out string typeName, [NotNull] out string[] imports, [NotNull] out string projectPath)
+    {
+      typeName = TypeName;
+      imports = Imports;
+      projectPath = ProjectPath;
+    }
+    //statics
+    
+    public static CtxReadDelegate<TypeValidationRequest> Read = (ctx, reader) => 
+    {
+      var typeName = reader.ReadString();
+      var imports = ReadStringArray(ctx, reader);
+      var projectPath = reader.ReadString();
+      var _result = new TypeValidationRequest(typeName, imports, projectPath);
+      return _result;
+    };
+    public static CtxReadDelegate<string[]> ReadStringArray = JetBrains.Rd.Impl.Serializers.ReadString.Array();
+    
+    public static CtxWriteDelegate<TypeValidationRequest> Write = (ctx, writer, value) => 
+    {
+      writer.Write(value.TypeName);
+      WriteStringArray(ctx, writer, value.Imports);
+      writer.Write(value.ProjectPath);
+    };
+    public static  CtxWriteDelegate<string[]> WriteStringArray = JetBrains.Rd.Impl.Serializers.WriteString.Array();
+    
+    //constants
+    
+    //custom body
+    //methods
+    //equals trait
+    public override bool Equals(object obj)
+    {
+      if (ReferenceEquals(null, obj)) return false;
+      if (ReferenceEquals(this, obj)) return true;
+      if (obj.GetType() != GetType()) return false;
+      return Equals((TypeValidationRequest) obj);
+    }
+    public bool Equals(TypeValidationRequest other)
+    {
+      if (ReferenceEquals(null, other)) return false;
+      if (ReferenceEquals(this, other)) return true;
+      return TypeName == other.TypeName && Imports.SequenceEqual(other.Imports) && ProjectPath == other.ProjectPath;
+    }
+    //hash code trait
+    public override int GetHashCode()
+    {
+      unchecked {
+        var hash = 0;
+        hash = hash * 31 + TypeName.GetHashCode();
+        hash = hash * 31 + Imports.ContentHashCode();
+        hash = hash * 31 + ProjectPath.GetHashCode();
+        return hash;
+      }
+    }
+    //pretty print
+    public void Print(PrettyPrinter printer)
+    {
+      printer.Println("TypeValidationRequest (");
+      using (printer.IndentCookie()) {
+        printer.Print("typeName = "); TypeName.PrintEx(printer); printer.Println();
+        printer.Print("imports = "); Imports.PrintEx(printer); printer.Println();
+        printer.Print("projectPath = "); ProjectPath.PrintEx(printer); printer.Println();
+      }
+      printer.Print(")");
+    }
+    //toString
+    public override string ToString()
+    {
+      var printer = new SingleLinePrettyPrinter();
+      Print(printer);
+      return printer.ToString();
+    }
+  }
+  
+  
+  /// <summary>
+  /// <p>Generated from: AtomicGenerationModel.kt:94</p>
+  /// </summary>
+  public sealed class TypeValidationResponse : IPrintable, IEquatable<TypeValidationResponse>
+  {
+    //fields
+    //public fields
+    public bool IsValid {get; private set;}
+    [CanBeNull] public string FullTypeName {get; private set;}
+    [CanBeNull] public string SuggestedImport {get; private set;}
+    [NotNull] public string[] SuggestedImports {get; private set;}
+    public bool IsAmbiguous {get; private set;}
+    [NotNull] public string[] AmbiguousNamespaces {get; private set;}
+    
+    //private fields
+    //primary constructor
+    public TypeValidationResponse(
+      bool isValid,
+      [CanBeNull] string fullTypeName,
+      [CanBeNull] string suggestedImport,
+      [NotNull] string[] suggestedImports,
+      bool isAmbiguous,
+      [NotNull] string[] ambiguousNamespaces
+    )
+    {
+      if (suggestedImports == null) throw new ArgumentNullException("suggestedImports");
+      if (ambiguousNamespaces == null) throw new ArgumentNullException("ambiguousNamespaces");
+      
+      IsValid = isValid;
+      FullTypeName = fullTypeName;
+      SuggestedImport = suggestedImport;
+      SuggestedImports = suggestedImports;
+      IsAmbiguous = isAmbiguous;
+      AmbiguousNamespaces = ambiguousNamespaces;
+    }
+    //secondary constructor
+    //deconstruct trait
+    public void Deconstruct(out bool isValid, [CanBeNull] out string fullTypeName, [CanBeNull] out string suggestedImport, [NotNull] out string[] suggestedImports, out bool isAmbiguous, [NotNull] out string[] ambiguousNamespaces)
+    {
+      isValid = IsValid;
+      fullTypeName = FullTypeName;
+      suggestedImport = SuggestedImport;
+      suggestedImports = SuggestedImports;
+      isAmbiguous = IsAmbiguous;
+      ambiguousNamespaces = AmbiguousNamespaces;
+    }
+    //statics
+    
+    public static CtxReadDelegate<TypeValidationResponse> Read = (ctx, reader) => 
+    {
+      var isValid = reader.ReadBool();
+      var fullTypeName = ReadStringNullable(ctx, reader);
+      var suggestedImport = ReadStringNullable(ctx, reader);
+      var suggestedImports = ReadStringArray(ctx, reader);
+      var isAmbiguous = reader.ReadBool();
+      var ambiguousNamespaces = ReadStringArray(ctx, reader);
+      var _result = new TypeValidationResponse(isValid, fullTypeName, suggestedImport, suggestedImports, isAmbiguous, ambiguousNamespaces);
+      return _result;
+    };
+    public static CtxReadDelegate<string> ReadStringNullable = JetBrains.Rd.Impl.Serializers.ReadString.NullableClass();
+    public static CtxReadDelegate<string[]> ReadStringArray = JetBrains.Rd.Impl.Serializers.ReadString.Array();
+    
+    public static CtxWriteDelegate<TypeValidationResponse> Write = (ctx, writer, value) => 
+    {
+      writer.Write(value.IsValid);
+      WriteStringNullable(ctx, writer, value.FullTypeName);
+      WriteStringNullable(ctx, writer, value.SuggestedImport);
+      WriteStringArray(ctx, writer, value.SuggestedImports);
+      writer.Write(value.IsAmbiguous);
+      WriteStringArray(ctx, writer, value.AmbiguousNamespaces);
+    };
+    public static  CtxWriteDelegate<string> WriteStringNullable = JetBrains.Rd.Impl.Serializers.WriteString.NullableClass();
+    public static  CtxWriteDelegate<string[]> WriteStringArray = JetBrains.Rd.Impl.Serializers.WriteString.Array();
+    
+    //constants
+    
+    //custom body
+    //methods
+    //equals trait
+    public override bool Equals(object obj)
+    {
+      if (ReferenceEquals(null, obj)) return false;
+      if (ReferenceEquals(this, obj)) return true;
+      if (obj.GetType() != GetType()) return false;
+      return Equals((TypeValidationResponse) obj);
+    }
+    public bool Equals(TypeValidationResponse other)
+    {
+      if (ReferenceEquals(null, other)) return false;
+      if (ReferenceEquals(this, other)) return true;
+      return IsValid == other.IsValid && Equals(FullTypeName, other.FullTypeName) && Equals(SuggestedImport, other.SuggestedImport) && SuggestedImports.SequenceEqual(other.SuggestedImports) && IsAmbiguous == other.IsAmbiguous && AmbiguousNamespaces.SequenceEqual(other.AmbiguousNamespaces);
+    }
+    //hash code trait
+    public override int GetHashCode()
+    {
+      unchecked {
+        var hash = 0;
+        hash = hash * 31 + IsValid.GetHashCode();
+        hash = hash * 31 + (FullTypeName != null ? FullTypeName.GetHashCode() : 0);
+        hash = hash * 31 + (SuggestedImport != null ? SuggestedImport.GetHashCode() : 0);
+        hash = hash * 31 + SuggestedImports.ContentHashCode();
+        hash = hash * 31 + IsAmbiguous.GetHashCode();
         hash = hash * 31 + AmbiguousNamespaces.ContentHashCode();
         return hash;
       }
@@ -2325,4 +2839,322 @@ namespace ReSharperPlugin.AtomicPlugin.Model
       return printer.ToString();
     }
   }
+  
+  
+  /// <summary>
+  /// <p>Generated from: AtomicGenerationModel.kt:185</p>
+  /// </summary>
+  public sealed class UsageCount : IPrintable, IEquatable<UsageCount>
+  {
+    //fields
+    //public fields
+    [NotNull] public string MethodName {get; private set;}
+    public int Count {get; private set;}
+    
+    //private fields
+    //primary constructor
+    public UsageCount(
+      [NotNull] string methodName,
+      int count
+    )
+    {
+      if (methodName == null) throw new ArgumentNullException("methodName");
+      
+      MethodName = methodName;
+      Count = count;
+    }
+    //secondary constructor
+    //deconstruct trait
+    public void Deconstruct([NotNull] out string methodName, out int count)
+    {
+      methodName = MethodName;
+      count = Count;
+    }
+    //statics
+    
+    public static CtxReadDelegate<UsageCount> Read = (ctx, reader) => 
+    {
+      var methodName = reader.ReadString();
+      var count = reader.ReadInt();
+      var _result = new UsageCount(methodName, count);
+      return _result;
+    };
+    
+    public static CtxWriteDelegate<UsageCount> Write = (ctx, writer, value) => 
+    {
+      writer.Write(value.MethodName);
+      writer.Write(value.Count);
+    };
+    
+    //constants
+    
+    //custom body
+    //methods
+    //equals trait
+    public override bool Equals(object obj)
+    {
+      if (ReferenceEquals(null, obj)) return false;
+      if (ReferenceEquals(this, obj)) return true;
+      if (obj.GetType() != GetType()) return false;
+      return Equals((UsageCount) obj);
+    }
+    public bool Equals(UsageCount other)
+    {
+      if (ReferenceEquals(null, other)) return false;
+      if (ReferenceEquals(this, other)) return true;
+      return MethodName == other.MethodName && Count == other.Count;
+    }
+    //hash code trait
+    public override int GetHashCode()
+    {
+      unchecked {
+        var hash = 0;
+        hash = hash * 31 + MethodName.GetHashCode();
+        hash = hash * 31 + Count.GetHashCode();
+        return hash;
+      }
+    }
+    //pretty print
+    public void Print(PrettyPrinter printer)
+    {
+      printer.Println("UsageCount (");
+      using (printer.IndentCookie()) {
+        printer.Print("methodName = "); MethodName.PrintEx(printer); printer.Println();
+        printer.Print("count = "); Count.PrintEx(printer); printer.Println();
+      }
+      printer.Print(")");
+    }
+    //toString
+    public override string ToString()
+    {
+      var printer = new SingleLinePrettyPrinter();
+      Print(printer);
+      return printer.ToString();
+    }
+  }
+  
+  
+  /// <summary>
+  /// <p>Generated from: AtomicGenerationModel.kt:179</p>
+  /// </summary>
+  public sealed class UsageSearchBatch : IPrintable, IEquatable<UsageSearchBatch>
+  {
+    //fields
+    //public fields
+    public int SearchId {get; private set;}
+    [NotNull] public MethodUsageLocation[] Usages {get; private set;}
+    
+    //private fields
+    //primary constructor
+    public UsageSearchBatch(
+      int searchId,
+      [NotNull] MethodUsageLocation[] usages
+    )
+    {
+      if (usages == null) throw new ArgumentNullException("usages");
+      
+      SearchId = searchId;
+      Usages = usages;
+    }
+    //secondary constructor
+    //deconstruct trait
+    public void Deconstruct(out int searchId, [NotNull] out MethodUsageLocation[] usages)
+    {
+      searchId = SearchId;
+      usages = Usages;
+    }
+    //statics
+    
+    public static CtxReadDelegate<UsageSearchBatch> Read = (ctx, reader) => 
+    {
+      var searchId = reader.ReadInt();
+      var usages = ReadMethodUsageLocationArray(ctx, reader);
+      var _result = new UsageSearchBatch(searchId, usages);
+      return _result;
+    };
+    public static CtxReadDelegate<MethodUsageLocation[]> ReadMethodUsageLocationArray = MethodUsageLocation.Read.Array();
+    
+    public static CtxWriteDelegate<UsageSearchBatch> Write = (ctx, writer, value) => 
+    {
+      writer.Write(value.SearchId);
+      WriteMethodUsageLocationArray(ctx, writer, value.Usages);
+    };
+    public static  CtxWriteDelegate<MethodUsageLocation[]> WriteMethodUsageLocationArray = MethodUsageLocation.Write.Array();
+    
+    //constants
+    
+    //custom body
+    //methods
+    //equals trait
+    public override bool Equals(object obj)
+    {
+      if (ReferenceEquals(null, obj)) return false;
+      if (ReferenceEquals(this, obj)) return true;
+      if (obj.GetType() != GetType()) return false;
+      return Equals((UsageSearchBatch) obj);
+    }
+    public bool Equals(UsageSearchBatch other)
+    {
+      if (ReferenceEquals(null, other)) return false;
+      if (ReferenceEquals(this, other)) return true;
+      return SearchId == other.SearchId && Usages.SequenceEqual(other.Usages);
+    }
+    //hash code trait
+    public override int GetHashCode()
+    {
+      unchecked {
+        var hash = 0;
+        hash = hash * 31 + SearchId.GetHashCode();
+        hash = hash * 31 + Usages.ContentHashCode();
+        return hash;
+      }
+    }
+    //pretty print
+    public void Print(PrettyPrinter printer)
+    {
+      printer.Println("UsageSearchBatch (");
+      using (printer.IndentCookie()) {
+        printer.Print("searchId = "); SearchId.PrintEx(printer); printer.Println();
+        printer.Print("usages = "); Usages.PrintEx(printer); printer.Println();
+      }
+      printer.Print(")");
+    }
+    //toString
+    public override string ToString()
+    {
+      var printer = new SingleLinePrettyPrinter();
+      Print(printer);
+      return printer.ToString();
+    }
+  }
+  
+  
+  /// <summary>
+  /// <p>Generated from: AtomicGenerationModel.kt:169</p>
+  /// </summary>
+  public sealed class UsageSearchRequest : IPrintable, IEquatable<UsageSearchRequest>
+  {
+    //fields
+    //public fields
+    public int SearchId {get; private set;}
+    [NotNull] public string EntityName {get; private set;}
+    public bool IsTag {get; private set;}
+    [NotNull] public string[] MethodNames {get; private set;}
+    [NotNull] public string ProjectPath {get; private set;}
+    [NotNull] public string GeneratedFilePath {get; private set;}
+    
+    //private fields
+    //primary constructor
+    public UsageSearchRequest(
+      int searchId,
+      [NotNull] string entityName,
+      bool isTag,
+      [NotNull] string[] methodNames,
+      [NotNull] string projectPath,
+      [NotNull] string generatedFilePath
+    )
+    {
+      if (entityName == null) throw new ArgumentNullException("entityName");
+      if (methodNames == null) throw new ArgumentNullException("methodNames");
+      if (projectPath == null) throw new ArgumentNullException("projectPath");
+      if (generatedFilePath == null) throw new ArgumentNullException("generatedFilePath");
+      
+      SearchId = searchId;
+      EntityName = entityName;
+      IsTag = isTag;
+      MethodNames = methodNames;
+      ProjectPath = projectPath;
+      GeneratedFilePath = generatedFilePath;
+    }
+    //secondary constructor
+    //deconstruct trait
+    public void Deconstruct(out int searchId, [NotNull] out string entityName, out bool isTag, [NotNull] out string[] methodNames, [NotNull] out string projectPath, [NotNull] out string generatedFilePath)
+    {
+      searchId = SearchId;
+      entityName = EntityName;
+      isTag = IsTag;
+      methodNames = MethodNames;
+      projectPath = ProjectPath;
+      generatedFilePath = GeneratedFilePath;
+    }
+    //statics
+    
+    public static CtxReadDelegate<UsageSearchRequest> Read = (ctx, reader) => 
+    {
+      var searchId = reader.ReadInt();
+      var entityName = reader.ReadString();
+      var isTag = reader.ReadBool();
+      var methodNames = ReadStringArray(ctx, reader);
+      var projectPath = reader.ReadString();
+      var generatedFilePath = reader.ReadString();
+      var _result = new UsageSearchRequest(searchId, entityName, isTag, methodNames, projectPath, generatedFilePath);
+      return _result;
+    };
+    public static CtxReadDelegate<string[]> ReadStringArray = JetBrains.Rd.Impl.Serializers.ReadString.Array();
+    
+    public static CtxWriteDelegate<UsageSearchRequest> Write = (ctx, writer, value) => 
+    {
+      writer.Write(value.SearchId);
+      writer.Write(value.EntityName);
+      writer.Write(value.IsTag);
+      WriteStringArray(ctx, writer, value.MethodNames);
+      writer.Write(value.ProjectPath);
+      writer.Write(value.GeneratedFilePath);
+    };
+    public static  CtxWriteDelegate<string[]> WriteStringArray = JetBrains.Rd.Impl.Serializers.WriteString.Array();
+    
+    //constants
+    
+    //custom body
+    //methods
+    //equals trait
+    public override bool Equals(object obj)
+    {
+      if (ReferenceEquals(null, obj)) return false;
+      if (ReferenceEquals(this, obj)) return true;
+      if (obj.GetType() != GetType()) return false;
+      return Equals((UsageSearchRequest) obj);
+    }
+    public bool Equals(UsageSearchRequest other)
+    {
+      if (ReferenceEquals(null, other)) return false;
+      if (ReferenceEquals(this, other)) return true;
+      return SearchId == other.SearchId && EntityName == other.EntityName && IsTag == other.IsTag && MethodNames.SequenceEqual(other.MethodNames) && ProjectPath == other.ProjectPath && GeneratedFilePath == other.GeneratedFilePath;
+    }
+    //hash code trait
+    public override int GetHashCode()
+    {
+      unchecked {
+        var hash = 0;
+        hash = hash * 31 + SearchId.GetHashCode();
+        hash = hash * 31 + EntityName.GetHashCode();
+        hash = hash * 31 + IsTag.GetHashCode();
+        hash = hash * 31 + MethodNames.ContentHashCode();
+        hash = hash * 31 + ProjectPath.GetHashCode();
+        hash = hash * 31 + GeneratedFilePath.GetHashCode();
+        return hash;
+      }
+    }
+    //pretty print
+    public void Print(PrettyPrinter printer)
+    {
+      printer.Println("UsageSearchRequest (");
+      using (printer.IndentCookie()) {
+        printer.Print("searchId = "); SearchId.PrintEx(printer); printer.Println();
+        printer.Print("entityName = "); EntityName.PrintEx(printer); printer.Println();
+        printer.Print("isTag = "); IsTag.PrintEx(printer); printer.Println();
+        printer.Print("methodNames = "); MethodNames.PrintEx(printer); printer.Println();
+        printer.Print("projectPath = "); ProjectPath.PrintEx(printer); printer.Println();
+        printer.Print("generatedFilePath = "); GeneratedFilePath.PrintEx(printer); printer.Println();
+      }
+      printer.Print(")");
+    }
+    //toString
+    public override string ToString()
+    {
+      var printer = new SingleLinePrettyPrinter();
+      Print(printer);
+      return printer.ToString();
+    }
+  }
 }
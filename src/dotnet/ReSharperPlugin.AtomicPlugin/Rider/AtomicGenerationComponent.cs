@@ -3,10 +3,12 @@ using System.Collections.Generic;
 using System.Linq;
 using System.Threading.Tasks;
 using JetBrains.Application.Parts;
+using JetBrains.Application.Progress;
 using JetBrains.Application.Threading;
 using JetBrains.Application.Threading.Tasks;
 using JetBrains.DataFlow;
 using JetBrains.DocumentManagers.impl;
+using JetBrains.DocumentManagers.Transactions;
 using JetBrains.DocumentModel;
 using JetBrains.Lifetimes;
 using JetBrains.ProjectModel;
@@ -37,6 +39,7 @@ namespace ReSharperPlugin.AtomicPlugin.Rider
         private readonly IFileSystemManager _fileSystemManager;
         private readonly IConfigurationMapper _configMapper;
         private readonly IUsageFinder _usageFinder;
+        private readonly IGeneratedUsageIndex _usageIndex;
         
         public AtomicGenerationComponent(ISolution solution)
         {
@@ -47,23 +50,50 @@ namespace ReSharperPlugin.AtomicPlugin.Rider
             var hashGenerator = new HashCodeGenerator();
             var transactionManager = new TransactionManager(solution);
             var extensionMethodDetector = new ExtensionMethodDetector();
+            var typeNameIndex = new TypeNameIndex(solution, symbolScopeManager);
             
             _codeGenerator = new CodeGenerator(hashGenerator);
-            _typeResolver = new TypeResolver(symbolScopeManager);
+            _typeResolver = new TypeResolver(typeNameIndex);
             _typeValidator = new TypeValidator(symbolScopeManager);
-            _namespaceResolver = new NamespaceResolver(symbolScopeManager); 
+            _namespaceResolver = new NamespaceResolver(typeNameIndex); 
             _projectManager = new Services.ProjectManager(solution);
             _fileSystemManager = new FileSystemManagerAsync(_projectManager, solution);
             _configMapper = new ConfigurationMapper();
-            _usageFinder = new UsageFinder(solution, extensionMethodDetector);
+            _usageIndex = solution.GetComponent<GeneratedUsageCache>();
+            _usageFinder = new UsageFinder(solution, extensionMethodDetector, _usageIndex);
             
             
             var model = solution.GetProtocolSolution().GetAtomicGenerationModel();
             SetupHandlers(model);
             
+            
+            typeNameIndex.Changed += version => model.TypeIndexChanged(version);
+            _usageIndex.Changed += version => model.UsageIndexChanged(version);
+            
+            
+            SetupReadiness(model, typeNameIndex);
+            
             Logger.Info("AtomicGenerationComponentRefactored initialized");
         }
         
+        private void SetupReadiness(AtomicGenerationModel model, ITypeNameIndex typeNameIndex)
+        {
+            var lifetime = _solution.GetSolutionLifetimes().UntilSolutionCloseLifetime;
+            var cachesState = _solution.GetPsiServices().CachesState;
+            
+            cachesState.IsIdle.Advise(lifetime, isIdle =>
+            {
+                if (!isIdle || model.BackendReady.Value)
+                    return;
+                
+                Logger.Info("Symbol caches are ready, reporting backend readiness");
+                model.BackendReady.Value = true;
+                
+                
+                Task.Run(() => typeNameIndex.GetShortNames());
+            });
+        }
+        
         private void SetupHandlers(AtomicGenerationModel model)
         {
             
@@ -74,10 +104,17 @@ namespace ReSharperPlugin.AtomicPlugin.Rider
             });
             
             
+            model.GenerateApis.SetAsync(async (lt, fileDatas) =>
+            {
+                Logger.Info($"Backend received bulk generation request for {fileDatas.Length} files");
+                return await GenerateApisAsync(fileDatas, lt);
+            });
+            
+            
             model.GetTypeCompletions.SetAsync(async (lt, request) =>
             {
                 Logger.Info($"Backend received type completion request for prefix: {request.Prefix}");
-                return await _typeResolver.GetCompletionsAsync(request);
+                return await _typeResolver.GetCompletionsAsync(request, lt);
             });
             
             
@@ -98,7 +135,7 @@ namespace ReSharperPlugin.AtomicPlugin.Rider
             model.GetNamespaceCompletions.SetAsync(async (lt, request) =>
             {
                 Logger.Info($"Backend received namespace completion request for prefix: {request.Prefix}");
-                return await _namespaceResolver.GetCompletionsAsync(request);
+                return await _namespaceResolver.GetCompletionsAsync(request, lt);
             });
             
             
@@ -109,6 +146,15 @@ namespace ReSharperPlugin.AtomicPlugin.Rider
             });
             
             
+            model.ValidateTypes.SetAsync(async (lt, request) =>
+            {
+                Logger.Info($"Backend received batch validation request for {request.TypeNames.Length} types and {request.Namespaces.Length} namespaces");
+                var types = await _typeValidator.ValidateBatchAsync(request);
+                var namespaces = await _namespaceResolver.ValidateBatchAsync(request);
+                return new TypeValidationBatchResponse(types, namespaces);
+            });
+            
+            
             model.FindMethodUsages.SetAsync(async (lt, request) =>
             {
                 Logger.Info($"Backend received find method usages request for value: {request.ValueName}");
@@ -123,6 +169,21 @@ namespace ReSharperPlugin.AtomicPlugin.Rider
             });
             
             
+            model.SearchUsages.SetAsync(async (lt, request) =>
+            {
+                Logger.Info($"Backend received streaming usage search #{request.SearchId} for: {request.EntityName}");
+                return await _usageFinder.SearchUsagesAsync(lt, request,
+                    usages => model.UsagesFound(new UsageSearchBatch(request.SearchId, usages)));
+            });
+            
+            
+            model.GetUsageCounts.SetAsync(async (lt, methodNames) =>
+            {
+                var counts = await Task.Run(() => _usageIndex.GetUsageCounts(methodNames));
+                return counts.Select(pair => new UsageCount(pair.Key, pair.Value)).ToArray();
+            });
+            
+            
             model.RenameValue.SetAsync(async (lt, request) =>
             {
                 Logger.Info($"Backend received rename value request: {request.OldName} -> {request.NewName}");
@@ -144,7 +205,7 @@ namespace ReSharperPlugin.AtomicPlugin.Rider
             });
         }
         
-        private async Task<string> GenerateApiAsync(AtomicFileData fileData)
+        private async Task<GenerationResult> GenerateApiAsync(AtomicFileData fileData)
         {
             Logger.Info($"[GenerateApiAsync] Started for file: {fileData.FilePath}");
             Logger.Info($"[GenerateApiAsync] Raw header properties count: {fileData.HeaderProperties.Length}");
@@ -164,7 +225,7 @@ namespace ReSharperPlugin.AtomicPlugin.Rider
                 var generatedCode = _codeGenerator.GenerateCode(config);
                 
                 
-                await _fileSystemManager.CreateOrUpdateFile(fileData.FilePath, config, generatedCode);
+                var written = await _fileSystemManager.CreateOrUpdateFile(fileData.FilePath, config, generatedCode);
                 
                 
                 _solution.Locks.Tasks.StartNew(Lifetime.Eternal, Scheduling.MainGuard, () =>
@@ -173,7 +234,7 @@ namespace ReSharperPlugin.AtomicPlugin.Rider
                     model.GenerationStatus($"Generated API for {config.Values.Count} values");
                 });
                 
-                return generatedCode;
+                return new GenerationResult(fileData.FilePath, generatedCode, null, written);
             }
             catch (Exception ex)
             {
@@ -182,6 +243,55 @@ namespace ReSharperPlugin.AtomicPlugin.Rider
             }
         }
         
+        private async Task<GenerationResult[]> GenerateApisAsync(AtomicFileData[] fileDatas, Lifetime lifetime)
+        {
+            var results = new GenerationResult[fileDatas.Length];
+            var contents = new GeneratedFileContent[fileDatas.Length];
+            
+            await Task.Run(() =>
+            {
+                var options = new ParallelOptions
+                {
+                    CancellationToken = lifetime.ToCancellationToken(),
+                    MaxDegreeOfParallelism = Environment.ProcessorCount
+                };
+                
+                Parallel.For(0, fileDatas.Length, options, i =>
+                {
+                    var fileData = fileDatas[i];
+                    try
+                    {
+                        var config = _configMapper.MapToConfig(fileData);
+                        var generatedCode = _codeGenerator.GenerateCode(config);
+                        contents[i] = new GeneratedFileContent(fileData.FilePath, config, generatedCode);
+                        results[i] = new GenerationResult(fileData.FilePath, generatedCode, null, false);
+                    }
+                    catch (Exception ex)
+                    {
+                        Logger.Warn($"[GenerateApisAsync] Failed to generate API for {fileData.FilePath}: {ex.Message}");
+                        results[i] = new GenerationResult(fileData.FilePath, null, ex.Message, false);
+                    }
+                });
+            }).ConfigureAwait(false);
+            
+            var generatedIndices = Enumerable.Range(0, contents.Length).Where(i => contents[i] != null).ToList();
+            var generated = generatedIndices.Select(i => contents[i]).ToList();
+            var written = await _fileSystemManager.CreateOrUpdateFiles(generated);
+            for (var i = 0; i < generatedIndices.Count; i++)
+            {
+                var result = results[generatedIndices[i]];
+                results[generatedIndices[i]] = new GenerationResult(result.FilePath, result.GeneratedCode, null, written[i]);
+            }
+            
+            _solution.Locks.Tasks.StartNew(Lifetime.Eternal, Scheduling.MainGuard, () =>
+            {
+                var model = _solution.GetProtocolSolution().GetAtomicGenerationModel();
+                model.GenerationStatus($"Generated API for {generated.Count} of {fileDatas.Length} files");
+            });
+            
+            return results;
+        }
+        
         private async Task<RenameResponse> HandleRenameValueAsync(RenameValueRequest request)
         {
             try
@@ -206,16 +316,7 @@ namespace ReSharperPlugin.AtomicPlugin.Rider
                 var usages = usagesResponse.Usages.ToList();
                 
                 
-                var updatedUsages = new List<MethodUsageLocation>();
-                
-                foreach (var usage in usages)
-                {
-                    var updated = await UpdateMethodUsage(usage, request.OldName, request.NewName);
-                    if (updated != null)
-                    {
-                        updatedUsages.Add(updated);
-                    }
-                }
+                var updatedUsages = await UpdateMethodUsagesAsync(usages, request.OldName, request.NewName);
                 
                 
                 
@@ -262,16 +363,7 @@ namespace ReSharperPlugin.AtomicPlugin.Rider
                 var usages = usagesResponse.Usages.ToList();
                 
                 
-                var updatedUsages = new List<MethodUsageLocation>();
-                
-                foreach (var usage in usages)
-                {
-                    var updated = await UpdateTagMethodUsage(usage, request.OldName, request.NewName);
-                    if (updated != null)
-                    {
-                        updatedUsages.Add(updated);
-                    }
-                }
+                var updatedUsages = await UpdateMethodUsagesAsync(usages, request.OldName, request.NewName);
                 
                 
                 var regeneratedPath = await RegenerateApiFile(request.AtomicFilePath);
@@ -376,120 +468,152 @@ namespace ReSharperPlugin.AtomicPlugin.Rider
             }
         }
         
-        private async Task<MethodUsageLocation> UpdateMethodUsage(MethodUsageLocation usage, string oldName, string newName)
+        /// <summary>
+        /// Renames all usages grouped by document in one write lock and one transaction, so the rename is a single undoable step.
+        /// </summary>
+        private async Task<List<MethodUsageLocation>> UpdateMethodUsagesAsync(IReadOnlyList<MethodUsageLocation> usages, string oldName, string newName)
         {
-            return await Task.Run(() =>
+            var updatedUsages = new List<MethodUsageLocation>();
+            if (usages.Count == 0)
             {
-                _solution.Locks.Tasks.StartNew(Lifetime.Eternal, Scheduling.MainGuard, () =>
+                return updatedUsages;
+            }
+            
+            // Resolving the files only reads the project model, so it runs off the main thread before the write lock
+            Dictionary<FileSystemPath, IPsiSourceFile> sourceFiles = null;
+            await Task.Run(() =>
+            {
+                using (ReadLockCookie.Create())
                 {
-                    try
+                    sourceFiles = FindSourceFiles(usages.Select(u => FileSystemPath.Parse(u.FilePath)));
+                }
+            });
+            
+            var tcs = new TaskCompletionSource<bool>();
+            _solution.Locks.Tasks.StartNew(Lifetime.Eternal, Scheduling.MainGuard, () =>
+            {
+                try
+                {
+                    var psiServices = _solution.GetPsiServices();
+                    
+                    using (WriteLockCookie.Create())
+                    using (_solution.CreateTransactionCookie(DefaultAction.Commit, $"Rename {oldName} to {newName}", NullProgressIndicator.Create()))
                     {
-                        var psiServices = _solution.GetPsiServices();
-                        var filePath = FileSystemPath.Parse(usage.FilePath);
-                        IPsiSourceFile sourceFile = null;
-                        
-                        
-                        foreach (var project in _solution.GetAllProjects())
-                        {
-                            var projectFile = project.GetAllProjectFiles()
-                                .FirstOrDefault(pf => pf.Location.Equals(filePath));
-                            
-                            if (projectFile != null)
-                            {
-                                sourceFile = projectFile.ToSourceFiles().FirstOrDefault();
-                                break;
-                            }
-                        }
-                        
-                        if (sourceFile != null)
+                        foreach (var fileUsages in usages.GroupBy(u => FileSystemPath.Parse(u.FilePath)))
                         {
-                            var document = sourceFile.Document;
-                            if (document != null)
+                            if (!sourceFiles.TryGetValue(fileUsages.Key, out var sourceFile) || !sourceFile.IsValid() || sourceFile.Document == null)
                             {
-                                
-                                var oldMethodName = usage.MethodName;
-                                var newMethodName = oldMethodName.Replace(oldName, newName);
-                                
-                                
-                                _solution.Locks.ExecuteWithWriteLock(() =>
-                                {
-                                    
-                                    var text = document.GetText();
-                                    
-                                    
-                                    var lineIndex = (int)usage.Line - 1;
-                                    var lineNum = (Int32<DocLine>)lineIndex;
-                                    var lineStartOffset = document.GetLineStartOffset(lineNum);
-                                    
-                                    
-                                    var lineEndOffset = text.Length;
-                                    
-                                    
-                                    var newlineIndex = text.IndexOf('\n', lineStartOffset);
-                                    if (newlineIndex >= 0)
-                                    {
-                                        lineEndOffset = newlineIndex;
-                                        
-                                        if (newlineIndex > 0 && text[newlineIndex - 1] == '\r')
-                                        {
-                                            lineEndOffset = newlineIndex - 1;
-                                        }
-                                    }
-                                    var lineText = text.Substring(lineStartOffset, lineEndOffset - lineStartOffset);
-                                    
-                                    
-                                    var methodIndex = lineText.IndexOf(oldMethodName);
-                                    if (methodIndex >= 0)
-                                    {
-                                        
-                                        var absoluteOffset = lineStartOffset + methodIndex;
-                                        var range = new TextRange(absoluteOffset, absoluteOffset + oldMethodName.Length);
-                                        
-                                        
-                                        var textToReplace = text.Substring(absoluteOffset, oldMethodName.Length);
-                                        if (textToReplace == oldMethodName)
-                                        {
-                                            document.ReplaceText(range, newMethodName);
-                                        }
-                                        else
-                                        {
-                                            Logger.Warn($"Text mismatch at offset {absoluteOffset}: expected '{oldMethodName}', found '{textToReplace}'");
-                                        }
-                                    }
-                                    else
-                                    {
-                                        Logger.Warn($"Method name '{oldMethodName}' not found in line: {lineText}");
-                                    }
-                                    
-                                    psiServices.Files.CommitAllDocuments();
-                                });
-                                
-                                
-                                
+                                Logger.Warn($"Cannot update usages in {fileUsages.Key}: file is not part of the solution");
+                                continue;
                             }
+                            
+                            updatedUsages.AddRange(RenameUsagesInDocument(sourceFile.Document, fileUsages, oldName, newName));
                         }
                     }
-                    catch (Exception ex)
-                    {
-                        Logger.Error($"Failed to update usage at {usage.FilePath}:{usage.Line}", ex);
-                    }
-                });
-                
+                    
+                    psiServices.Files.CommitAllDocuments();
+                    tcs.TrySetResult(true);
+                }
+                catch (Exception ex)
+                {
+                    Logger.Error($"Failed to update usages of {oldName}: {ex.Message}", ex);
+                    tcs.TrySetException(ex);
+                }
+            });
+            
+            await tcs.Task;
+            Logger.Info($"Renamed {updatedUsages.Count} of {usages.Count} usages of {oldName}");
+            return updatedUsages;
+        }
+        
+        /// <summary>
+        /// Looks up each distinct path in the solution's location index. Must run under a read lock.
+        /// </summary>
+        private Dictionary<FileSystemPath, IPsiSourceFile> FindSourceFiles(IEnumerable<FileSystemPath> paths)
+        {
+            var sourceFiles = new Dictionary<FileSystemPath, IPsiSourceFile>();
+            
+            foreach (var path in paths.Distinct())
+            {
+                var sourceFile = _solution.FindProjectItemsByLocation(path)
+                    .OfType<IProjectFile>()
+                    .SelectMany(projectFile => projectFile.ToSourceFiles())
+                    .FirstOrDefault();
+                if (sourceFile != null)
+                {
+                    sourceFiles[path] = sourceFile;
+                }
+            }
+            
+            return sourceFiles;
+        }
+        
+        /// <summary>
+        /// Edits are located against the unchanged text and applied from the end of the document, so earlier offsets stay valid.
+        /// </summary>
+        private static List<MethodUsageLocation> RenameUsagesInDocument(IDocument document, IEnumerable<MethodUsageLocation> usages,
+            string oldName, string newName)
+        {
+            var text = document.GetText();
+            var edits = new SortedDictionary<int, MethodUsageLocation>();
+            
+            foreach (var usage in usages)
+            {
+                var offset = FindUsageOffset(document, text, usage);
+                if (offset >= 0)
+                {
+                    edits[offset] = usage;
+                }
+            }
+            
+            var renamed = new List<MethodUsageLocation>();
+            foreach (var edit in edits.Reverse())
+            {
+                var usage = edit.Value;
+                var newMethodName = usage.MethodName.Replace(oldName, newName);
+                document.ReplaceText(new TextRange(edit.Key, edit.Key + usage.MethodName.Length), newMethodName);
                 
-                return new MethodUsageLocation(
+                renamed.Add(new MethodUsageLocation(
                     filePath: usage.FilePath,
                     line: usage.Line,
                     column: usage.Column,
-                    methodName: usage.MethodName.Replace(oldName, newName),
-                    usageText: usage.UsageText.Replace(usage.MethodName, usage.MethodName.Replace(oldName, newName))
-                );
-            });
+                    methodName: newMethodName,
+                    usageText: usage.UsageText.Replace(usage.MethodName, newMethodName)
+                ));
+            }
+            
+            renamed.Reverse();
+            return renamed;
         }
         
-        private async Task<MethodUsageLocation> UpdateTagMethodUsage(MethodUsageLocation usage, string oldName, string newName)
+        private static int FindUsageOffset(IDocument document, string text, MethodUsageLocation usage)
         {
+            var lineIndex = usage.Line - 1;
+            if (lineIndex < 0 || lineIndex >= (int)document.GetLineCount())
+            {
+                Logger.Warn($"Line {usage.Line} is out of range in {usage.FilePath}");
+                return -1;
+            }
+            
+            var lineStartOffset = document.GetLineStartOffset((Int32<DocLine>)lineIndex);
+            var lineEndOffset = document.GetLineEndOffsetNoLineBreak((Int32<DocLine>)lineIndex);
+            
+            var columnOffset = lineStartOffset + usage.Column - 1;
+            if (columnOffset >= lineStartOffset && columnOffset + usage.MethodName.Length <= lineEndOffset &&
+                string.CompareOrdinal(text, columnOffset, usage.MethodName, 0, usage.MethodName.Length) == 0)
+            {
+                return columnOffset;
+            }
+            
+            var lineText = text.Substring(lineStartOffset, lineEndOffset - lineStartOffset);
+            var methodIndex = lineText.IndexOf(usage.MethodName, StringComparison.Ordinal);
+            if (methodIndex < 0)
+            {
+                Logger.Warn($"Method name '{usage.MethodName}' not found in line: {lineText}");
+                return -1;
+            }
             
-            return await UpdateMethodUsage(usage, oldName, newName);
+            return lineStartOffset + methodIndex;
         }
         
         private async Task<string> RegenerateApiFile(string atomicFilePath)
@@ -540,7 +664,7 @@ namespace ReSharperPlugin.AtomicPlugin.Rider
                 Logger.Info($"[RegenerateApiFile] Parsed data - Values: {string.Join(", ", fileData.Values.Select(v => $"{v.Name}:{v.Type}"))}");
                 
                 
-                var generatedCode = await GenerateApiAsync(fileData);
+                var generatedCode = (await GenerateApiAsync(fileData)).GeneratedCode;
                 Logger.Info($"[RegenerateApiFile] Generated code length: {generatedCode.Length}");
                 
                 
@@ -627,10 +751,27 @@ namespace ReSharperPlugin.AtomicPlugin.Rider
                 imports: imports.ToArray(),
                 tags: tags.ToArray(),
                 values: values.ToArray(),
-                filePath: filePath
+                filePath: filePath,
+                ids: ReadLockedIds(tags.Concat(values.Select(v => v.Name)))
             );
         }
         
+        private AtomicIdData[] ReadLockedIds(IEnumerable<string> names)
+        {
+            var lockFilePath = _solution.SolutionFilePath.Directory.Combine(AtomicIdLockFile.FileName);
+            if (!lockFilePath.ExistsFile)
+            {
+                return new AtomicIdData[0];
+            }
+            
+            var ids = AtomicIdLockFile.Read(lockFilePath.FullPath);
+            return names
+                .Distinct()
+                .Where(ids.ContainsKey)
+                .Select(name => new AtomicIdData(name, ids[name]))
+                .ToArray();
+        }
+        
         private async Task<bool> AddAtomicFileToProjectAsync(string atomicFilePath)
         {
             try
@@ -0,0 +1,54 @@
+using System;
+using System.Collections.Generic;
+using System.IO;
+
+namespace ReSharperPlugin.AtomicPlugin.Services
+{
+    /// <summary>
+    /// Reads the dense tag and value IDs the frontend allocates in atomic-ids.lock next to the solution.
+    /// </summary>
+    public static class AtomicIdLockFile
+    {
+        public const string FileName = "atomic-ids.lock";
+
+        /// <summary>
+        /// Throws <see cref="InvalidOperationException"/> on malformed lines, negative IDs, duplicate names and IDs allocated twice.
+        /// </summary>
+        public static Dictionary<string, int> Read(string path)
+        {
+            var ids = new Dictionary<string, int>();
+            var usedIds = new HashSet<int>();
+            var lines = File.ReadAllLines(path);
+            
+            for (var index = 0; index < lines.Length; index++)
+            {
+                var rawLine = lines[index];
+                var line = rawLine.Trim();
+                if (line.Length == 0 || line.StartsWith("#"))
+                {
+                    continue;
+                }
+                
+                var separator = line.IndexOf('=');
+                var name = separator < 0 ? string.Empty : line.Substring(0, separator).Trim();
+                int id;
+                if (name.Length == 0 || !int.TryParse(line.Substring(separator + 1).Trim(), out id) || id < 0)
+                {
+                    throw new InvalidOperationException($"{FileName}:{index + 1}: expected 'Name=Id', got '{rawLine}'");
+                }
+                if (ids.ContainsKey(name))
+                {
+                    throw new InvalidOperationException($"{FileName}:{index + 1}: duplicate name '{name}'");
+                }
+                if (!usedIds.Add(id))
+                {
+                    throw new InvalidOperationException($"{FileName}:{index + 1}: ID {id} is allocated twice");
+                }
+                
+                ids.Add(name, id);
+            }
+            
+            return ids;
+        }
+    }
+}
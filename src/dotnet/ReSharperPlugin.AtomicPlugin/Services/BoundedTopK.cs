@@ -0,0 +1,100 @@
+using System;
+using System.Collections.Generic;
+
+namespace ReSharperPlugin.AtomicPlugin.Services
+{
+    /// <summary>
+    /// Keeps the best <c>capacity</c> items seen so far in a max-heap ordered by <c>comparer</c>,
+    /// so the worst kept item is evicted in O(log K) and the full candidate list is never sorted.
+    /// </summary>
+    public class BoundedTopK<T>
+    {
+        private readonly T[] _heap;
+        private readonly IComparer<T> _comparer;
+        private int _count;
+
+        public BoundedTopK(int capacity, IComparer<T> comparer)
+        {
+            _heap = new T[capacity];
+            _comparer = comparer;
+        }
+
+        public int Count => _count;
+
+        // True once an item was dropped because the heap was full
+        public bool IsTruncated { get; private set; }
+
+        public void Add(T item)
+        {
+            if (_heap.Length == 0)
+            {
+                IsTruncated = true;
+                return;
+            }
+            
+            if (_count < _heap.Length)
+            {
+                _heap[_count] = item;
+                SiftUp(_count++);
+            }
+            else
+            {
+                IsTruncated = true;
+                if (_comparer.Compare(item, _heap[0]) < 0)
+                {
+                    _heap[0] = item;
+                    SiftDown(0);
+                }
+            }
+        }
+
+        public List<T> ToSortedList()
+        {
+            var result = new T[_count];
+            Array.Copy(_heap, result, _count);
+            Array.Sort(result, _comparer);
+            return new List<T>(result);
+        }
+
+        private void SiftUp(int index)
+        {
+            while (index > 0)
+            {
+                var parent = (index - 1) / 2;
+                if (_comparer.Compare(_heap[index], _heap[parent]) <= 0)
+                    return;
+                
+                Swap(index, parent);
+                index = parent;
+            }
+        }
+
+        private void SiftDown(int index)
+        {
+            while (true)
+            {
+                var largest = index;
+                var left = index * 2 + 1;
+                var right = left + 1;
+                
+                if (left < _count && _comparer.Compare(_heap[left], _heap[largest]) > 0)
+                    largest = left;
+                if (right < _count && _comparer.Compare(_heap[right], _heap[largest]) > 0)
+                    largest = right;
+                
+                if (largest == index)
+                    return;
+                
+                Swap(index, largest);
+                index = largest;
+            }
+        }
+
+        private void Swap(int a, int b)
+        {
+            var tmp = _heap[a];
+            _heap[a] = _heap[b];
+            _heap[b] = tmp;
+        }
+    }
+}
@@ -10,6 +10,7 @@ namespace ReSharperPlugin.AtomicPlugin.Services
         private const string UNSAFE_SUFFIX = "Unsafe";
         private const string REF_MODIFIER = "ref";
         private const string PARAM_NAME = "entity";
+        public const string GENERATED_HEADER = "* Code generation. Don't modify!";
 
         private readonly IHashCodeGenerator _hashCodeGenerator;
 
@@ -23,7 +24,7 @@ namespace ReSharperPlugin.AtomicPlugin.Services
             var sb = new StringBuilder();
 
             sb.AppendLine("/**");
-            sb.AppendLine("* Code generation. Don't modify! ");
+            sb.AppendLine($"{GENERATED_HEADER} ");
             sb.AppendLine("**/");
             sb.AppendLine();
 
@@ -51,10 +52,13 @@ namespace ReSharperPlugin.AtomicPlugin.Services
                 sb.AppendLine("using System.Runtime.CompilerServices;");
             }
 
-            // Unity Editor using
-            sb.AppendLine("#if UNITY_EDITOR");
-            sb.AppendLine("using UnityEditor;");
-            sb.AppendLine("#endif");
+            // Unity Editor using, only needed for the [InitializeOnLoad] static constructor
+            if (!config.ConstantIds)
+            {
+                sb.AppendLine("#if UNITY_EDITOR");
+                sb.AppendLine("using UnityEditor;");
+                sb.AppendLine("#endif");
+            }
 
             var existingUsings = new HashSet<string> 
             { 
@@ -78,9 +82,12 @@ namespace ReSharperPlugin.AtomicPlugin.Services
         private void GenerateStaticClass(StringBuilder sb, AtomicEntityApiConfig config)
         {
             // Add Unity Editor attribute
-            sb.AppendLine("#if UNITY_EDITOR");
-            sb.AppendLine("\t[InitializeOnLoad]");
-            sb.AppendLine("#endif");
+            if (!config.ConstantIds)
+            {
+                sb.AppendLine("#if UNITY_EDITOR");
+                sb.AppendLine("\t[InitializeOnLoad]");
+                sb.AppendLine("#endif");
+            }
             
             sb.AppendLine($"\tpublic static class {config.ClassName}");
             sb.AppendLine("\t{");
@@ -95,7 +102,9 @@ namespace ReSharperPlugin.AtomicPlugin.Services
                 sb.AppendLine("\t\t///Tags");
                 foreach (var tag in config.Tags)
                 {
-                    sb.AppendLine($"\t\tpublic static readonly int {tag};");
+                    sb.AppendLine(config.ConstantIds
+                        ? $"\t\tpublic const int {tag} = {IdOf(config, tag)};"
+                        : $"\t\tpublic static readonly int {tag};");
                 }
             }
 
@@ -108,38 +117,17 @@ namespace ReSharperPlugin.AtomicPlugin.Services
                 foreach (var value in config.Values)
                 {
                     string typeComment = IsBaseType(value.Type) ? string.Empty : $"// {value.Type}";
-                    sb.AppendLine($"\t\tpublic static readonly int {value.Name}; {typeComment}");
+                    sb.AppendLine(config.ConstantIds
+                        ? $"\t\tpublic const int {value.Name} = {IdOf(config, value.Name)}; {typeComment}"
+                        : $"\t\tpublic static readonly int {value.Name}; {typeComment}");
                 }
             }
 
-            // Generate static constructor
-            sb.AppendLine();
-            sb.AppendLine($"\t\tstatic {config.ClassName}()");
-            sb.AppendLine("\t\t{");
-            
-            // Initialize tags in static constructor
-            if (hasTags)
+            // Generate static constructor, constant IDs need no runtime initialization
+            if (!config.ConstantIds)
             {
-                sb.AppendLine("\t\t\t//Tags");
-                foreach (var tag in config.Tags)
-                {
-                    sb.AppendLine($"\t\t\t{tag} = NameToId(nameof({tag}));");
-                }
+                GenerateStaticConstructor(sb, config, hasTags, hasValues);
             }
-            
-            // Initialize values in static constructor
-            if (hasValues)
-            {
-                if (hasTags) sb.AppendLine();
-                
-                sb.AppendLine("\t\t\t//Values");
-                foreach (var value in config.Values)
-                {
-                    sb.AppendLine($"\t\t\t{value.Name} = NameToId(nameof({value.Name}));");
-                }
-            }
-            
-            sb.AppendLine("\t\t}");
 
             // Generate tag extensions
             if (hasTags)
@@ -169,6 +157,43 @@ namespace ReSharperPlugin.AtomicPlugin.Services
             sb.AppendLine("    }");
         }
 
+        private int IdOf(AtomicEntityApiConfig config, string name)
+        {
+            int id;
+            return config.Ids.TryGetValue(name, out id) ? id : _hashCodeGenerator.GetHashCode(name);
+        }
+
+        private void GenerateStaticConstructor(StringBuilder sb, AtomicEntityApiConfig config, bool hasTags, bool hasValues)
+        {
+            sb.AppendLine();
+            sb.AppendLine($"\t\tstatic {config.ClassName}()");
+            sb.AppendLine("\t\t{");
+            
+            // Initialize tags in static constructor
+            if (hasTags)
+            {
+                sb.AppendLine("\t\t\t//Tags");
+                foreach (var tag in config.Tags)
+                {
+                    sb.AppendLine($"\t\t\t{tag} = NameToId(nameof({tag}));");
+                }
+            }
+            
+            // Initialize values in static constructor
+            if (hasValues)
+            {
+                if (hasTags) sb.AppendLine();
+                
+                sb.AppendLine("\t\t\t//Values");
+                foreach (var value in config.Values)
+                {
+                    sb.AppendLine($"\t\t\t{value.Name} = NameToId(nameof({value.Name}));");
+                }
+            }
+            
+            sb.AppendLine("\t\t}");
+        }
+
         private void GenerateTagExtensions(StringBuilder sb, string tag, string entity, bool useInlining)
         {
             sb.AppendLine();
@@ -11,6 +11,7 @@ namespace ReSharperPlugin.AtomicPlugin.Services
         public AtomicEntityApiConfig MapToConfig(AtomicFileData fileData)
         {
             var config = new AtomicEntityApiConfig();
+            bool? constantIds = null;
             
             
             foreach (var prop in fileData.HeaderProperties)
@@ -26,6 +27,9 @@ namespace ReSharperPlugin.AtomicPlugin.Services
                     case "unsafe":
                         config.UnsafeAccess = bool.Parse(prop.Value);
                         break;
+                    case "constids":
+                        constantIds = bool.Parse(prop.Value);
+                        break;
                     case "namespace":
                         config.Namespace = prop.Value;
                         break;
@@ -57,6 +61,11 @@ namespace ReSharperPlugin.AtomicPlugin.Services
                 .ToList();
             
             
+            // Lock file IDs make constant IDs the default, an explicit constIds: false still wins
+            config.Ids = fileData.Ids.ToDictionary(i => i.Name, i => i.Id);
+            config.ConstantIds = constantIds ?? config.Ids.Count > 0;
+            
+            
             if (string.IsNullOrEmpty(config.ClassName))
             {
                 config.ClassName = "AtomicExtensions";
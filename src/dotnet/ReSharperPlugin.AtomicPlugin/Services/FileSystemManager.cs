@@ -31,7 +31,7 @@ namespace ReSharperPlugin.AtomicPlugin.Services
             _projectManager = projectManager;
         }
 
-        public async Task CreateOrUpdateFile(string atomicFilePath, AtomicEntityApiConfig config, string generatedCode)
+        public async Task<bool> CreateOrUpdateFile(string atomicFilePath, AtomicEntityApiConfig config, string generatedCode)
         {
             var atomicPath = FileSystemPath.TryParse(atomicFilePath);
             if (atomicPath.IsEmpty) 
@@ -47,6 +47,7 @@ namespace ReSharperPlugin.AtomicPlugin.Services
             {
                 try
                 {
+                    var written = false;
                     using (WriteLockCookie.Create())
                     {
                         IProject targetProject = null;
@@ -155,6 +156,7 @@ namespace ReSharperPlugin.AtomicPlugin.Services
                                 var normalizedCode = NormalizeLineEndings(generatedCode, document);
                                 document.ReplaceText(document.DocumentRange, normalizedCode);
                                 Logger.Info($"Updated existing file content");
+                                written = true;
                             }
                         }
                         else
@@ -178,6 +180,7 @@ namespace ReSharperPlugin.AtomicPlugin.Services
                             Logger.Info($"Got parent folder: {parentFolder.Name} at location: {parentFolder.Location}");
                             
                             AddNewItemHelper.AddFile(parentFolder, outputPath.Name, generatedCode);
+                            written = true;
                             
                             Logger.Info($"Successfully added file to project: {outputPath}");
                         }
@@ -187,7 +190,7 @@ namespace ReSharperPlugin.AtomicPlugin.Services
                         psiServices.Files.CommitAllDocuments();
                     }
                     
-                    tcs.SetResult(true);
+                    tcs.SetResult(written);
                 }
                 catch (Exception ex)
                 {
@@ -195,7 +198,18 @@ namespace ReSharperPlugin.AtomicPlugin.Services
                 }
             });
             
-            await tcs.Task;
+            return await tcs.Task;
+        }
+
+        public async Task<bool[]> CreateOrUpdateFiles(IReadOnlyList<GeneratedFileContent> files)
+        {
+            var written = new bool[files.Count];
+            for (var i = 0; i < files.Count; i++)
+            {
+                var file = files[i];
+                written[i] = await CreateOrUpdateFile(file.AtomicFilePath, file.Config, file.GeneratedCode);
+            }
+            return written;
         }
 
         public FileSystemPath GetOutputPath(FileSystemPath atomicFilePath, AtomicEntityApiConfig config, IProject project)
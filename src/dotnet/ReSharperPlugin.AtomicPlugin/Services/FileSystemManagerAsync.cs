@@ -9,6 +9,7 @@ using JetBrains.Application.Threading.Tasks;
 using JetBrains.DataFlow;
 using JetBrains.DocumentManagers;
 using JetBrains.DocumentManagers.impl;
+using JetBrains.DocumentManagers.Transactions;
 using JetBrains.DocumentModel;
 using JetBrains.Lifetimes;
 using JetBrains.ProjectModel;
@@ -29,8 +30,11 @@ namespace ReSharperPlugin.AtomicPlugin.Services
         private static readonly ILogger Logger = JetBrains.Util.Logging.Logger.GetLogger<FileSystemManagerAsync>();
         private readonly IProjectManager _projectManager;
         private readonly ISolution _solution;
-        private readonly SemaphoreSlim _fileOperationSemaphore = new SemaphoreSlim(1, 1);
-        private readonly ConcurrentDictionary<string, DateTime> _lastGenerationTime = new ConcurrentDictionary<string, DateTime>();
+        private const int OutputPathLockStripes = 32;
+        private readonly SemaphoreSlim[] _outputPathLocks = Enumerable.Range(0, OutputPathLockStripes)
+            .Select(_ => new SemaphoreSlim(1, 1))
+            .ToArray();
+        private readonly ConcurrentDictionary<FileSystemPath, SingleFlight> _inFlightWrites = new ConcurrentDictionary<FileSystemPath, SingleFlight>();
 
         public FileSystemManagerAsync(IProjectManager projectManager, ISolution solution)
         {
@@ -38,27 +42,13 @@ namespace ReSharperPlugin.AtomicPlugin.Services
             _solution = solution;
         }
 
-        public async Task CreateOrUpdateFile(string atomicFilePath, AtomicEntityApiConfig config, string generatedCode)
+        public async Task<bool> CreateOrUpdateFile(string atomicFilePath, AtomicEntityApiConfig config, string generatedCode)
         {
             var atomicPath = FileSystemPath.TryParse(atomicFilePath);
             if (atomicPath.IsEmpty) 
                 throw new ArgumentException($"Invalid file path: {atomicFilePath}");
 
             Logger.Info($"[AtomicGeneration] Starting file generation for: {atomicFilePath}");
-            
-            await _fileOperationSemaphore.WaitAsync().ConfigureAwait(false);
-            try
-            {
-                if (_lastGenerationTime.TryGetValue(atomicFilePath, out var lastTime))
-                {
-                    var timeSinceLastGen = DateTime.Now - lastTime;
-                    if (timeSinceLastGen.TotalMilliseconds < 500)
-                    {
-                        Logger.Info($"[AtomicGeneration] Skipping - too soon after last generation ({timeSinceLastGen.TotalMilliseconds}ms)");
-                        return;
-                    }
-                }
-                _lastGenerationTime[atomicFilePath] = DateTime.Now;
 
             IProject targetProject = null;
             FileSystemPath outputPath = FileSystemPath.Empty;
@@ -78,6 +68,40 @@ namespace ReSharperPlugin.AtomicPlugin.Services
                 }
             }).ConfigureAwait(false);
 
+            // Requests for the same output path are coalesced, requests for other paths run concurrently
+            var written = await RunCoalesced(outputPath, () => WithOutputPathLocksAsync(new[] { outputPath },
+                () => WriteFileAsync(targetProject, outputPath, generatedCode, atomicPath, config))).ConfigureAwait(false);
+            
+            Logger.Info($"[AtomicGeneration] Successfully completed file generation for: {outputPath}");
+            return written;
+        }
+
+        private Task<bool> RunCoalesced(FileSystemPath outputPath, Func<Task<bool>> work)
+        {
+            while (true)
+            {
+                var flight = _inFlightWrites.GetOrAdd(outputPath, _ => new SingleFlight(drained => Evict(outputPath, drained)));
+                var completion = flight.TryRun(work);
+                if (completion != null)
+                {
+                    return completion;
+                }
+                
+                // The flight drained between the lookup and the call and is being evicted, start a new one
+                Evict(outputPath, flight);
+            }
+        }
+
+        private void Evict(FileSystemPath outputPath, SingleFlight flight)
+        {
+            // Removes the entry only while it still holds this flight, a newer flight for the path stays
+            ((ICollection<KeyValuePair<FileSystemPath, SingleFlight>>) _inFlightWrites)
+                .Remove(new KeyValuePair<FileSystemPath, SingleFlight>(outputPath, flight));
+        }
+
+        private async Task<bool> WriteFileAsync(IProject targetProject, FileSystemPath outputPath, string generatedCode,
+            FileSystemPath atomicPath, AtomicEntityApiConfig config)
+        {
             IProjectFile existingFile = null;
             await Task.Run(() =>
             {
@@ -88,48 +112,209 @@ namespace ReSharperPlugin.AtomicPlugin.Services
                 }
             }).ConfigureAwait(false);
 
+            var written = true;
             if (existingFile != null)
             {
-                await UpdateExistingFileAsync(existingFile, generatedCode, outputPath).ConfigureAwait(false);
+                written = await UpdateExistingFileAsync(existingFile, generatedCode, outputPath).ConfigureAwait(false);
             }
             else
             {
                 await CreateNewFileAsync(targetProject, outputPath, generatedCode, atomicPath, config).ConfigureAwait(false);
             }
 
-                await CommitDocumentsAsync().ConfigureAwait(false);
+            await CommitDocumentsAsync().ConfigureAwait(false);
+            return written;
+        }
+
+        /// <summary>
+        /// Runs <paramref name="action"/> holding the lock stripes of all <paramref name="outputPaths"/>,
+        /// taken in ascending order so that overlapping single and bulk writes cannot deadlock.
+        /// </summary>
+        private async Task<T> WithOutputPathLocksAsync<T>(IEnumerable<FileSystemPath> outputPaths, Func<Task<T>> action)
+        {
+            var stripes = outputPaths
+                .Select(path => (StringComparer.OrdinalIgnoreCase.GetHashCode(path.FullPath) & int.MaxValue) % OutputPathLockStripes)
+                .Distinct()
+                .OrderBy(stripe => stripe)
+                .ToList();
+
+            var acquired = 0;
+            try
+            {
+                foreach (var stripe in stripes)
+                {
+                    await _outputPathLocks[stripe].WaitAsync().ConfigureAwait(false);
+                    acquired++;
+                }
                 
-                Logger.Info($"[AtomicGeneration] Successfully completed file generation for: {outputPath}");
+                return await action().ConfigureAwait(false);
             }
             finally
             {
-                _fileOperationSemaphore.Release();
+                for (var i = 0; i < acquired; i++)
+                {
+                    _outputPathLocks[stripes[i]].Release();
+                }
             }
         }
 
-        private async Task UpdateExistingFileAsync(IProjectFile existingFile, string generatedCode, FileSystemPath outputPath)
+        private async Task<bool> UpdateExistingFileAsync(IProjectFile existingFile, string generatedCode, FileSystemPath outputPath)
+        {
+            var tcs = new TaskCompletionSource<bool>();
+            _solution.Locks.Tasks.StartNew(
+                _solution.GetSolutionLifetimes().UntilSolutionCloseLifetime,
+                Scheduling.MainGuard,
+                () =>
+                {
+                    try
+                    {
+                        bool written;
+                        using (WriteLockCookie.Create())
+                        {
+                            using (_solution.CreateTransactionCookie(DefaultAction.Commit, "Regenerate Atomic API", NullProgressIndicator.Create()))
+                            {
+                                written = ReplaceDocumentText(existingFile, generatedCode);
+                            }
+                        }
+                        tcs.TrySetResult(written);
+                    }
+                    catch (Exception ex)
+                    {
+                        Logger.Error($"Error updating generated file {outputPath}: {ex.Message}", ex);
+                        tcs.TrySetException(ex);
+                    }
+                });
+            return await tcs.Task.ConfigureAwait(false);
+        }
+
+        public async Task<bool[]> CreateOrUpdateFiles(IReadOnlyList<GeneratedFileContent> files)
         {
+            var written = new bool[files.Count];
+            if (files.Count == 0)
+                return written;
+
+            Logger.Info($"[AtomicGeneration] Starting bulk file generation for {files.Count} files");
+            
+            var targets = new List<FileTarget>();
+            
             await Task.Run(() =>
             {
+                using (ReadLockCookie.Create())
+                {
+                    var projectFiles = new Dictionary<IProject, Dictionary<FileSystemPath, IProjectFile>>();
+                    
+                    for (var index = 0; index < files.Count; index++)
+                    {
+                        var file = files[index];
+                        var atomicPath = FileSystemPath.TryParse(file.AtomicFilePath);
+                        var targetProject = atomicPath.IsEmpty ? null : FindTargetProject(atomicPath, file.Config);
+                        if (targetProject == null)
+                        {
+                            Logger.Warn($"[AtomicGeneration] No suitable C# project found for {file.AtomicFilePath}");
+                            continue;
+                        }
+                        
+                        if (!projectFiles.TryGetValue(targetProject, out var filesByLocation))
+                        {
+                            filesByLocation = new Dictionary<FileSystemPath, IProjectFile>();
+                            foreach (var projectFile in targetProject.GetAllProjectFiles())
+                            {
+                                filesByLocation[projectFile.Location] = projectFile;
+                            }
+                            projectFiles[targetProject] = filesByLocation;
+                        }
+                        
+                        var outputPath = GetOutputPath(atomicPath, file.Config, targetProject);
+                        filesByLocation.TryGetValue(outputPath, out var existingFile);
+                        targets.Add(new FileTarget(index, file, targetProject, outputPath, existingFile));
+                    }
+                }
+            }).ConfigureAwait(false);
+
+            await WithOutputPathLocksAsync(targets.Select(t => t.OutputPath), async () =>
+            {
+                // Document updates and project-model additions share one transaction
+                var tcs = new TaskCompletionSource<bool>();
                 _solution.Locks.Tasks.StartNew(
-                    Lifetime.Eternal,
+                    _solution.GetSolutionLifetimes().UntilSolutionCloseLifetime,
                     Scheduling.MainGuard,
                     () =>
                     {
-                        using (WriteLockCookie.Create())
+                        try
                         {
-                            Logger.Info($"Updating existing file: {existingFile.Location}");
-                            
-                            var document = existingFile.GetDocument();
-                            if (document != null)
+                            using (WriteLockCookie.Create())
+                            using (_solution.CreateTransactionCookie(DefaultAction.Commit, "Regenerate Atomic APIs", NullProgressIndicator.Create()))
                             {
-                                var lfCode = generatedCode.Replace("\r\n", "\n");
-                                document.ReplaceText(document.DocumentRange, lfCode);
-                                Logger.Info($"Updated existing file content with LF line endings");
+                                foreach (var target in targets)
+                                {
+                                    if (target.ExistingFile != null)
+                                    {
+                                        written[target.Index] = ReplaceDocumentText(target.ExistingFile, target.File.GeneratedCode);
+                                    }
+                                    else if (target.Project.IsMiscFilesProject())
+                                    {
+                                        Logger.Warn($"[AtomicGeneration] Cannot add {target.OutputPath} to misc files project");
+                                    }
+                                    else
+                                    {
+                                        try
+                                        {
+                                            AddFile(target.Project, target.OutputPath, target.File.GeneratedCode);
+                                            written[target.Index] = true;
+                                        }
+                                        catch (Exception ex)
+                                        {
+                                            Logger.Error($"[AtomicGeneration] Failed to create {target.OutputPath}: {ex.Message}", ex);
+                                        }
+                                    }
+                                }
                             }
+                            tcs.TrySetResult(true);
+                        }
+                        catch (Exception ex)
+                        {
+                            Logger.Error($"Error updating generated files: {ex.Message}", ex);
+                            tcs.TrySetException(ex);
                         }
                     });
+                await tcs.Task.ConfigureAwait(false);
+
+                await CommitDocumentsAsync().ConfigureAwait(false);
+                return written;
             }).ConfigureAwait(false);
+            
+            Logger.Info($"[AtomicGeneration] Successfully completed bulk file generation for {targets.Count} files");
+            return written;
+        }
+
+        /// <summary>
+        /// Returns false when the file has no document, so the content was not applied.
+        /// </summary>
+        private static bool ReplaceDocumentText(IProjectFile existingFile, string generatedCode)
+        {
+            Logger.Info($"Updating existing file: {existingFile.Location}");
+            
+            var document = existingFile.GetDocument();
+            if (document == null)
+                return false;
+            
+            var lfCode = generatedCode.Replace("\r\n", "\n");
+            var currentText = document.GetText();
+            if (currentText == lfCode)
+            {
+                Logger.Info($"Generated content is unchanged, skipping update of {existingFile.Location}");
+                return true;
+            }
+            
+            // Replace only the changed lines so untouched extension methods keep their resolve caches
+            var edits = GeneratedCodeDiff.Compute(currentText, lfCode);
+            for (var i = edits.Count - 1; i >= 0; i--)
+            {
+                var edit = edits[i];
+                document.ReplaceText(new TextRange(edit.StartOffset, edit.EndOffset), edit.NewText);
+            }
+            Logger.Info($"Updated {edits.Count} changed ranges of {existingFile.Location}");
+            return true;
         }
 
         private async Task CreateNewFileAsync(IProject targetProject, FileSystemPath outputPath, 
@@ -270,42 +455,9 @@ namespace ReSharperPlugin.AtomicPlugin.Services
                     {
                         using (WriteLockCookie.Create())
                         {
-                            var existingFile = targetProject.GetAllProjectFiles()
-                                .FirstOrDefault(f => f.Location.Equals(filePath));
-                            
-                            if (existingFile != null)
-                            {
-                                Logger.Info($"File already exists in project: {filePath}");
-                                tcs.TrySetResult(true);
-                                return;
-                            }
-                            
-                            var parentFolder = GetOrCreateProjectFolder(targetProject, filePath.Directory);
-                            if (parentFolder == null)
-                            {
-                                Logger.Error($"Could not get or create folder for path: {filePath.Directory}");
-                                tcs.TrySetException(new InvalidOperationException($"Could not create folder structure for: {filePath.Directory}"));
-                                return;
-                            }
-                            
-                            Logger.Info($"Adding file using AddNewItemHelper: {filePath}");
-                            var projectFile = AddNewItemHelper.AddFile(
-                                parentFolder,
-                                filePath.Name,
-                                generatedCode
-                            );
-                            
-                            if (projectFile != null)
-                            {
-                                Logger.Info($"Successfully added file to project: {targetProject.Name}");
-                                tcs.TrySetResult(true);
-                            }
-                            else
-                            {
-                                Logger.Error($"AddNewItemHelper.AddFile returned null");
-                                tcs.TrySetException(new InvalidOperationException("AddNewItemHelper.AddFile failed"));
-                            }
+                            AddFile(targetProject, filePath, generatedCode);
                         }
+                        tcs.TrySetResult(true);
                     }
                     catch (Exception ex)
                     {
@@ -321,6 +473,43 @@ namespace ReSharperPlugin.AtomicPlugin.Services
             }
         }
 
+        /// <summary>
+        /// Adds a generated file to the project. Must run on the main thread under a write lock.
+        /// </summary>
+        private void AddFile(IProject targetProject, FileSystemPath filePath, string generatedCode)
+        {
+            var existingFile = targetProject.GetAllProjectFiles()
+                .FirstOrDefault(f => f.Location.Equals(filePath));
+            
+            if (existingFile != null)
+            {
+                Logger.Info($"File already exists in project: {filePath}");
+                return;
+            }
+            
+            var parentFolder = GetOrCreateProjectFolder(targetProject, filePath.Directory);
+            if (parentFolder == null)
+            {
+                Logger.Error($"Could not get or create folder for path: {filePath.Directory}");
+                throw new InvalidOperationException($"Could not create folder structure for: {filePath.Directory}");
+            }
+            
+            Logger.Info($"Adding file using AddNewItemHelper: {filePath}");
+            var projectFile = AddNewItemHelper.AddFile(
+                parentFolder,
+                filePath.Name,
+                generatedCode
+            );
+            
+            if (projectFile == null)
+            {
+                Logger.Error($"AddNewItemHelper.AddFile returned null");
+                throw new InvalidOperationException("AddNewItemHelper.AddFile failed");
+            }
+            
+            Logger.Info($"Successfully added file to project: {targetProject.Name}");
+        }
+
         private IProjectFolder GetOrCreateProjectFolder(IProject project, FileSystemPath directory)
         {
             if (project == null || directory.IsEmpty)
@@ -367,5 +556,108 @@ namespace ReSharperPlugin.AtomicPlugin.Services
         {
             return text.Replace("\r\n", "\n");
         }
+
+        /// <summary>
+        /// Runs at most one write per target at a time. Requests arriving while a write is running
+        /// are coalesced: only the latest one runs next, and all of them complete with it.
+        /// Once nothing is pending the flight is drained, refuses further work and reports itself for eviction.
+        /// </summary>
+        private class SingleFlight
+        {
+            private readonly object _sync = new object();
+            private readonly Action<SingleFlight> _onDrained;
+            private bool _running;
+            private bool _drained;
+            private Func<Task<bool>> _pending;
+            private TaskCompletionSource<bool> _pendingCompletion;
+
+            public SingleFlight(Action<SingleFlight> onDrained)
+            {
+                _onDrained = onDrained;
+            }
+
+            /// <summary>
+            /// Returns null when the flight has already drained.
+            /// </summary>
+            public Task<bool> TryRun(Func<Task<bool>> work)
+            {
+                lock (_sync)
+                {
+                    if (_drained)
+                    {
+                        return null;
+                    }
+                    
+                    _pending = work;
+                    if (_pendingCompletion == null)
+                    {
+                        _pendingCompletion = new TaskCompletionSource<bool>(TaskCreationOptions.RunContinuationsAsynchronously);
+                    }
+                    var completion = _pendingCompletion.Task;
+                    
+                    if (!_running)
+                    {
+                        _running = true;
+                        Task.Run(() => DrainAsync());
+                    }
+                    return completion;
+                }
+            }
+
+            private async Task DrainAsync()
+            {
+                while (true)
+                {
+                    Func<Task<bool>> work;
+                    TaskCompletionSource<bool> completion;
+                    lock (_sync)
+                    {
+                        work = _pending;
+                        completion = _pendingCompletion;
+                        _pending = null;
+                        _pendingCompletion = null;
+                        
+                        if (work == null)
+                        {
+                            _running = false;
+                            _drained = true;
+                        }
+                    }
+                    
+                    if (work == null)
+                    {
+                        _onDrained(this);
+                        return;
+                    }
+                    
+                    try
+                    {
+                        completion.TrySetResult(await work().ConfigureAwait(false));
+                    }
+                    catch (Exception ex)
+                    {
+                        completion.TrySetException(ex);
+                    }
+                }
+            }
+        }
+
+        private class FileTarget
+        {
+            public FileTarget(int index, GeneratedFileContent file, IProject project, FileSystemPath outputPath, IProjectFile existingFile)
+            {
+                Index = index;
+                File = file;
+                Project = project;
+                OutputPath = outputPath;
+                ExistingFile = existingFile;
+            }
+
+            public int Index { get; }
+            public GeneratedFileContent File { get; }
+            public IProject Project { get; }
+            public FileSystemPath OutputPath { get; }
+            public IProjectFile ExistingFile { get; }
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,86 @@
+using System.Collections.Generic;
+using JetBrains.Serialization;
+
+namespace ReSharperPlugin.AtomicPlugin.Services
+{
+    /// <summary>
+    /// Reference counts in one source file to the generated extension methods, and the extension methods
+    /// the file declares when it is a generated API file.
+    /// </summary>
+    public class GeneratedCallSites
+    {
+        // Entries written before this marker existed hold per-reference offsets and are re-indexed on load
+        private const int FormatMarker = -1;
+
+        public static readonly IUnsafeMarshaller<GeneratedCallSites> Marshaller =
+            new UniversalMarshaller<GeneratedCallSites>(Read, Write);
+
+        public static readonly GeneratedCallSites Outdated =
+            new GeneratedCallSites(new Dictionary<string, int>(), new string[0]);
+
+        public GeneratedCallSites(IReadOnlyDictionary<string, int> countsByMethodName, IReadOnlyCollection<string> declaredMethodNames)
+        {
+            CountsByMethodName = countsByMethodName;
+            DeclaredMethodNames = declaredMethodNames;
+        }
+
+        public IReadOnlyDictionary<string, int> CountsByMethodName { get; }
+
+        public IReadOnlyCollection<string> DeclaredMethodNames { get; }
+
+        private static GeneratedCallSites Read(UnsafeReader reader)
+        {
+            var marker = reader.ReadInt32();
+            if (marker != FormatMarker)
+            {
+                SkipOffsets(reader, marker);
+                return Outdated;
+            }
+            
+            var count = reader.ReadInt32();
+            var countsByMethodName = new Dictionary<string, int>(count);
+            for (var i = 0; i < count; i++)
+            {
+                var methodName = reader.ReadString();
+                countsByMethodName[methodName] = reader.ReadInt32();
+            }
+            
+            var declaredMethodNames = new string[reader.ReadInt32()];
+            for (var i = 0; i < declaredMethodNames.Length; i++)
+            {
+                declaredMethodNames[i] = reader.ReadString();
+            }
+            return new GeneratedCallSites(countsByMethodName, declaredMethodNames);
+        }
+
+        private static void SkipOffsets(UnsafeReader reader, int count)
+        {
+            for (var i = 0; i < count; i++)
+            {
+                reader.ReadString();
+                var offsets = reader.ReadInt32();
+                for (var j = 0; j < offsets; j++)
+                {
+                    reader.ReadInt32();
+                }
+            }
+        }
+
+        private static void Write(UnsafeWriter writer, GeneratedCallSites value)
+        {
+            writer.Write(FormatMarker);
+            writer.Write(value.CountsByMethodName.Count);
+            foreach (var pair in value.CountsByMethodName)
+            {
+                writer.Write(pair.Key);
+                writer.Write(pair.Value);
+            }
+            
+            writer.Write(value.DeclaredMethodNames.Count);
+            foreach (var methodName in value.DeclaredMethodNames)
+            {
+                writer.Write(methodName);
+            }
+        }
+    }
+}
@@ -0,0 +1,233 @@
+using System.Collections.Generic;
+using System.Linq;
+using System.Text;
+
+namespace ReSharperPlugin.AtomicPlugin.Services
+{
+    /// <summary>
+    /// Computes the edits turning one generated file into another. The #region blocks emitted by CodeGenerator
+    /// are aligned first, then only the lines of changed blocks are compared, so untouched extension methods keep their text.
+    /// </summary>
+    public static class GeneratedCodeDiff
+    {
+        private const string RegionStart = "#region ";
+        private const string RegionEnd = "#endregion";
+        private const long MaxLcsCells = 4000000;
+
+        public static IReadOnlyList<GeneratedCodeEdit> Compute(string oldText, string newText)
+        {
+            var edits = new List<GeneratedCodeEdit>();
+            if (oldText == newText)
+            {
+                return edits;
+            }
+            
+            var oldLines = SplitLines(oldText);
+            var newLines = SplitLines(newText);
+            var oldChunks = SplitChunks(oldLines);
+            var newChunks = SplitChunks(newLines);
+            
+            foreach (var chunkHunk in DiffSequences(oldChunks.Select(c => c.Text).ToList(), newChunks.Select(c => c.Text).ToList()))
+            {
+                var oldFirstLine = LineAt(oldChunks, chunkHunk.OldStart, oldLines.Count);
+                var oldEndLine = LineAt(oldChunks, chunkHunk.OldEnd, oldLines.Count);
+                var newFirstLine = LineAt(newChunks, chunkHunk.NewStart, newLines.Count);
+                var newEndLine = LineAt(newChunks, chunkHunk.NewEnd, newLines.Count);
+                
+                var oldHunkLines = oldLines.GetRange(oldFirstLine, oldEndLine - oldFirstLine);
+                var newHunkLines = newLines.GetRange(newFirstLine, newEndLine - newFirstLine);
+                
+                foreach (var lineHunk in DiffSequences(oldHunkLines, newHunkLines))
+                {
+                    var startOffset = OffsetOf(oldLines, oldFirstLine + lineHunk.OldStart, oldText.Length);
+                    var endOffset = OffsetOf(oldLines, oldFirstLine + lineHunk.OldEnd, oldText.Length);
+                    var replacement = new StringBuilder();
+                    for (var i = lineHunk.NewStart; i < lineHunk.NewEnd; i++)
+                    {
+                        replacement.Append(newHunkLines[i]);
+                    }
+                    
+                    edits.Add(new GeneratedCodeEdit(startOffset, endOffset, replacement.ToString()));
+                }
+            }
+            
+            return edits;
+        }
+
+        private static List<string> SplitLines(string text)
+        {
+            var lines = new List<string>();
+            var start = 0;
+            while (start < text.Length)
+            {
+                var end = text.IndexOf('\n', start);
+                end = end < 0 ? text.Length : end + 1;
+                lines.Add(text.Substring(start, end - start));
+                start = end;
+            }
+            return lines;
+        }
+
+        /// <summary>
+        /// Groups lines into #region blocks and the runs of lines between them.
+        /// </summary>
+        private static List<Chunk> SplitChunks(List<string> lines)
+        {
+            var chunks = new List<Chunk>();
+            var chunkStart = 0;
+            var inRegion = false;
+            
+            for (var i = 0; i < lines.Count; i++)
+            {
+                var trimmed = lines[i].Trim();
+                if (!inRegion && trimmed.StartsWith(RegionStart))
+                {
+                    AddChunk(chunks, lines, chunkStart, i);
+                    chunkStart = i;
+                    inRegion = true;
+                }
+                else if (inRegion && trimmed.StartsWith(RegionEnd))
+                {
+                    AddChunk(chunks, lines, chunkStart, i + 1);
+                    chunkStart = i + 1;
+                    inRegion = false;
+                }
+            }
+            
+            AddChunk(chunks, lines, chunkStart, lines.Count);
+            return chunks;
+        }
+
+        private static void AddChunk(List<Chunk> chunks, List<string> lines, int start, int end)
+        {
+            if (end > start)
+            {
+                chunks.Add(new Chunk(start, string.Concat(lines.GetRange(start, end - start))));
+            }
+        }
+
+        private static int LineAt(List<Chunk> chunks, int chunkIndex, int lineCount)
+        {
+            return chunkIndex < chunks.Count ? chunks[chunkIndex].FirstLine : lineCount;
+        }
+
+        private static int OffsetOf(List<string> lines, int lineIndex, int textLength)
+        {
+            if (lineIndex >= lines.Count)
+            {
+                return textLength;
+            }
+            
+            var offset = 0;
+            for (var i = 0; i < lineIndex; i++)
+            {
+                offset += lines[i].Length;
+            }
+            return offset;
+        }
+
+        /// <summary>
+        /// Ranges of <paramref name="a"/> replaced by ranges of <paramref name="b"/>, in ascending order.
+        /// Falls back to a single hunk when the differing middle is too large for an LCS table.
+        /// </summary>
+        private static List<Hunk> DiffSequences(List<string> a, List<string> b)
+        {
+            var hunks = new List<Hunk>();
+            
+            var prefix = 0;
+            while (prefix < a.Count && prefix < b.Count && a[prefix] == b[prefix])
+            {
+                prefix++;
+            }
+            
+            var suffix = 0;
+            while (suffix < a.Count - prefix && suffix < b.Count - prefix && a[a.Count - 1 - suffix] == b[b.Count - 1 - suffix])
+            {
+                suffix++;
+            }
+            
+            var n = a.Count - prefix - suffix;
+            var m = b.Count - prefix - suffix;
+            if (n == 0 && m == 0)
+            {
+                return hunks;
+            }
+            
+            if (n == 0 || m == 0 || (long) n * m > MaxLcsCells)
+            {
+                hunks.Add(new Hunk(prefix, prefix + n, prefix, prefix + m));
+                return hunks;
+            }
+            
+            var lcs = new int[n + 1, m + 1];
+            for (var i = n - 1; i >= 0; i--)
+            {
+                for (var j = m - 1; j >= 0; j--)
+                {
+                    lcs[i, j] = a[prefix + i] == b[prefix + j]
+                        ? lcs[i + 1, j + 1] + 1
+                        : System.Math.Max(lcs[i + 1, j], lcs[i, j + 1]);
+                }
+            }
+            
+            int x = 0, y = 0, hunkX = 0, hunkY = 0;
+            while (x < n || y < m)
+            {
+                if (x < n && y < m && a[prefix + x] == b[prefix + y])
+                {
+                    if (x > hunkX || y > hunkY)
+                    {
+                        hunks.Add(new Hunk(prefix + hunkX, prefix + x, prefix + hunkY, prefix + y));
+                    }
+                    x++;
+                    y++;
+                    hunkX = x;
+                    hunkY = y;
+                }
+                else if (y < m && (x == n || lcs[x, y + 1] >= lcs[x + 1, y]))
+                {
+                    y++;
+                }
+                else
+                {
+                    x++;
+                }
+            }
+            
+            if (x > hunkX || y > hunkY)
+            {
+                hunks.Add(new Hunk(prefix + hunkX, prefix + x, prefix + hunkY, prefix + y));
+            }
+            
+            return hunks;
+        }
+
+        private class Chunk
+        {
+            public Chunk(int firstLine, string text)
+            {
+                FirstLine = firstLine;
+                Text = text;
+            }
+            
+            public int FirstLine { get; }
+            public string Text { get; }
+        }
+
+        private class Hunk
+        {
+            public Hunk(int oldStart, int oldEnd, int newStart, int newEnd)
+            {
+                OldStart = oldStart;
+                OldEnd = oldEnd;
+                NewStart = newStart;
+                NewEnd = newEnd;
+            }
+            
+            public int OldStart { get; }
+            public int OldEnd { get; }
+            public int NewStart { get; }
+            public int NewEnd { get; }
+        }
+    }
+}
@@ -0,0 +1,16 @@
+namespace ReSharperPlugin.AtomicPlugin.Services
+{
+    public class GeneratedCodeEdit
+    {
+        public GeneratedCodeEdit(int startOffset, int endOffset, string newText)
+        {
+            StartOffset = startOffset;
+            EndOffset = endOffset;
+            NewText = newText;
+        }
+
+        public int StartOffset { get; }
+        public int EndOffset { get; }
+        public string NewText { get; }
+    }
+}
@@ -0,0 +1,16 @@
+namespace ReSharperPlugin.AtomicPlugin.Services
+{
+    public class GeneratedFileContent
+    {
+        public GeneratedFileContent(string atomicFilePath, AtomicEntityApiConfig config, string generatedCode)
+        {
+            AtomicFilePath = atomicFilePath;
+            Config = config;
+            GeneratedCode = generatedCode;
+        }
+
+        public string AtomicFilePath { get; }
+        public AtomicEntityApiConfig Config { get; }
+        public string GeneratedCode { get; }
+    }
+}
@@ -0,0 +1,278 @@
+using System;
+using System.Collections.Generic;
+using System.Linq;
+using System.Threading;
+using JetBrains.Application.Parts;
+using JetBrains.Application.Threading;
+using JetBrains.Application.Threading.Tasks;
+using JetBrains.DocumentModel;
+using JetBrains.Lifetimes;
+using JetBrains.ReSharper.Psi;
+using JetBrains.ReSharper.Psi.Caches;
+using JetBrains.ReSharper.Psi.CSharp;
+using JetBrains.ReSharper.Psi.CSharp.Tree;
+using JetBrains.ReSharper.Psi.Tree;
+using JetBrains.ReSharper.Resources.Shell;
+using JetBrains.Util;
+
+namespace ReSharperPlugin.AtomicPlugin.Services
+{
+    /// <summary>
+    /// Persistent per-file index of references to the extension methods declared by generated API files.
+    /// Files are indexed syntactically, without resolve, so every real call site is covered and counts are by method name.
+    /// Only names declared by a generated file are indexed; files mentioning a newly declared name are indexed again.
+    /// </summary>
+    [PsiComponent(Instantiation.DemandAnyThreadSafe)]
+    public class GeneratedUsageCache : SimpleICache<GeneratedCallSites>, IGeneratedUsageIndex
+    {
+        private const int HeaderLength = 64;
+        private static readonly string[] NoMethodNames = new string[0];
+        
+        private readonly Lifetime _lifetime;
+        private readonly IShellLocks _locks;
+        private readonly object _countsLock = new object();
+        private readonly Dictionary<string, Dictionary<IPsiSourceFile, int>> _countsByMethodName =
+            new Dictionary<string, Dictionary<IPsiSourceFile, int>>(StringComparer.Ordinal);
+        private readonly Dictionary<IPsiSourceFile, IReadOnlyCollection<string>> _declaredMethodNames =
+            new Dictionary<IPsiSourceFile, IReadOnlyCollection<string>>();
+        private volatile HashSet<string> _generatedMethodNames = new HashSet<string>(StringComparer.Ordinal);
+        private long _version;
+        private bool _changeReported;
+
+        public GeneratedUsageCache(Lifetime lifetime, IShellLocks locks, IPersistentIndexManager persistentIndexManager)
+            : base(lifetime, locks, persistentIndexManager, GeneratedCallSites.Marshaller)
+        {
+            _lifetime = lifetime;
+            _locks = locks;
+        }
+
+        public long Version => Interlocked.Read(ref _version);
+
+        // Raised once per change observed through GetUsageCounts, not for every re-indexed file
+        public event Action<long> Changed;
+
+        public IReadOnlyDictionary<string, int> GetUsageCounts(IEnumerable<string> methodNames)
+        {
+            lock (_countsLock)
+            {
+                _changeReported = false;
+                return methodNames.Distinct().ToDictionary(
+                    name => name,
+                    name => _countsByMethodName.TryGetValue(name, out var counts) ? counts.Values.Sum() : 0);
+            }
+        }
+
+        public IReadOnlyCollection<IPsiSourceFile> GetFilesReferencing(IEnumerable<string> methodNames)
+        {
+            lock (_countsLock)
+            {
+                var files = new HashSet<IPsiSourceFile>();
+                foreach (var name in methodNames)
+                {
+                    if (_countsByMethodName.TryGetValue(name, out var counts))
+                    {
+                        files.UnionWith(counts.Keys);
+                    }
+                }
+                return files;
+            }
+        }
+
+        protected override bool IsApplicable(IPsiSourceFile sourceFile)
+        {
+            return base.IsApplicable(sourceFile) && sourceFile.PrimaryPsiLanguage.Is<CSharpLanguage>();
+        }
+
+        public override object Build(IPsiSourceFile sourceFile, bool isStartup)
+        {
+            var file = sourceFile.GetPrimaryPsiFile() as ICSharpFile;
+            if (file == null)
+            {
+                return null;
+            }
+            
+            var generatedMethodNames = _generatedMethodNames;
+            var counts = new Dictionary<string, int>(StringComparer.Ordinal);
+            foreach (var referenceExpression in file.Descendants<IReferenceExpression>())
+            {
+                var name = referenceExpression.NameIdentifier?.Name;
+                if (name == null || !generatedMethodNames.Contains(name)) continue;
+                
+                counts.TryGetValue(name, out var count);
+                counts[name] = count + 1;
+            }
+            
+            var declaredMethodNames = IsGeneratedApiFile(sourceFile)
+                ? file.Descendants<JetBrains.ReSharper.Psi.CSharp.Tree.IMethodDeclaration>()
+                    .Select(declaration => declaration.DeclaredName)
+                    .Distinct()
+                    .ToArray()
+                : NoMethodNames;
+            return new GeneratedCallSites(counts, declaredMethodNames);
+        }
+
+        public override void Merge(IPsiSourceFile sourceFile, object builtPart)
+        {
+            Map.TryGetValue(sourceFile, out var previous);
+            base.Merge(sourceFile, builtPart);
+            var callSites = builtPart as GeneratedCallSites;
+            UpdateCounts(sourceFile, previous, callSites);
+            UpdateGeneratedMethodNames(sourceFile, callSites?.DeclaredMethodNames);
+        }
+
+        public override void Drop(IPsiSourceFile sourceFile)
+        {
+            Map.TryGetValue(sourceFile, out var previous);
+            base.Drop(sourceFile);
+            UpdateCounts(sourceFile, previous, null);
+            UpdateGeneratedMethodNames(sourceFile, null);
+        }
+
+        public override void MergeLoaded(object data)
+        {
+            base.MergeLoaded(data);
+            var outdatedFiles = new List<IPsiSourceFile>();
+            lock (_countsLock)
+            {
+                _countsByMethodName.Clear();
+                _declaredMethodNames.Clear();
+                foreach (var pair in Map)
+                {
+                    if (pair.Value == GeneratedCallSites.Outdated)
+                    {
+                        outdatedFiles.Add(pair.Key);
+                        continue;
+                    }
+                    
+                    AddCounts(pair.Key, pair.Value);
+                    if (pair.Value.DeclaredMethodNames.Count > 0)
+                    {
+                        _declaredMethodNames[pair.Key] = pair.Value.DeclaredMethodNames;
+                    }
+                }
+                _generatedMethodNames = CollectGeneratedMethodNames();
+            }
+            
+            foreach (var sourceFile in outdatedFiles)
+            {
+                MarkAsDirty(sourceFile);
+            }
+            ReportChange();
+        }
+
+        private static bool IsGeneratedApiFile(IPsiSourceFile sourceFile)
+        {
+            var document = sourceFile.Document;
+            var header = document.GetText(new TextRange(0, Math.Min(document.GetTextLength(), HeaderLength)));
+            return header.Contains(CodeGenerator.GENERATED_HEADER);
+        }
+
+        private HashSet<string> CollectGeneratedMethodNames()
+        {
+            return new HashSet<string>(_declaredMethodNames.Values.SelectMany(names => names), StringComparer.Ordinal);
+        }
+
+        private void UpdateGeneratedMethodNames(IPsiSourceFile sourceFile, IReadOnlyCollection<string> declaredMethodNames)
+        {
+            List<string> addedNames;
+            lock (_countsLock)
+            {
+                if (declaredMethodNames == null || declaredMethodNames.Count == 0)
+                {
+                    if (!_declaredMethodNames.Remove(sourceFile)) return;
+                }
+                else
+                {
+                    _declaredMethodNames[sourceFile] = declaredMethodNames;
+                }
+                
+                var previousNames = _generatedMethodNames;
+                _generatedMethodNames = CollectGeneratedMethodNames();
+                addedNames = _generatedMethodNames.Where(name => !previousNames.Contains(name)).ToList();
+            }
+            
+            if (addedNames.Count == 0) return;
+            
+            // Files indexed before the names were declared are found through the word index and indexed again
+            var psiServices = sourceFile.GetPsiServices();
+            _locks.Tasks.StartNew(_lifetime, Scheduling.MainGuard, () =>
+            {
+                using (ReadLockCookie.Create())
+                {
+                    var files = addedNames.SelectMany(name => psiServices.WordIndex.GetFilesContainingWord(name));
+                    foreach (var file in new HashSet<IPsiSourceFile>(files))
+                    {
+                        if (file.IsValid() && Map.ContainsKey(file))
+                        {
+                            MarkAsDirty(file);
+                        }
+                    }
+                }
+            });
+        }
+
+        private void UpdateCounts(IPsiSourceFile sourceFile, GeneratedCallSites previous, GeneratedCallSites callSites)
+        {
+            if (HaveSameCounts(previous, callSites)) return;
+            
+            lock (_countsLock)
+            {
+                if (previous != null)
+                {
+                    foreach (var name in previous.CountsByMethodName.Keys)
+                    {
+                        if (!_countsByMethodName.TryGetValue(name, out var counts)) continue;
+                        
+                        counts.Remove(sourceFile);
+                        if (counts.Count == 0)
+                        {
+                            _countsByMethodName.Remove(name);
+                        }
+                    }
+                }
+                AddCounts(sourceFile, callSites);
+            }
+            
+            ReportChange();
+        }
+
+        private static bool HaveSameCounts(GeneratedCallSites previous, GeneratedCallSites callSites)
+        {
+            var previousCounts = previous?.CountsByMethodName;
+            var counts = callSites?.CountsByMethodName;
+            if (previousCounts == null || counts == null)
+            {
+                return (previousCounts?.Count ?? 0) == 0 && (counts?.Count ?? 0) == 0;
+            }
+            
+            return previousCounts.Count == counts.Count && previousCounts.All(pair =>
+                counts.TryGetValue(pair.Key, out var other) && other == pair.Value);
+        }
+
+        private void AddCounts(IPsiSourceFile sourceFile, GeneratedCallSites callSites)
+        {
+            if (callSites == null) return;
+            
+            foreach (var pair in callSites.CountsByMethodName)
+            {
+                if (!_countsByMethodName.TryGetValue(pair.Key, out var counts))
+                {
+                    counts = new Dictionary<IPsiSourceFile, int>();
+                    _countsByMethodName[pair.Key] = counts;
+                }
+                counts[sourceFile] = pair.Value;
+            }
+        }
+
+        private void ReportChange()
+        {
+            var version = Interlocked.Increment(ref _version);
+            lock (_countsLock)
+            {
+                if (_changeReported) return;
+                _changeReported = true;
+            }
+            Changed?.Invoke(version);
+        }
+    }
+}
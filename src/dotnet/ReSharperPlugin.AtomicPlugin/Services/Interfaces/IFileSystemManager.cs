@@ -1,3 +1,4 @@
+using System.Collections.Generic;
 using System.Threading.Tasks;
 using JetBrains.ProjectModel;
 using JetBrains.Util;
@@ -6,7 +7,15 @@ namespace ReSharperPlugin.AtomicPlugin.Services
 {
     public interface IFileSystemManager
     {
-        Task CreateOrUpdateFile(string atomicFilePath, AtomicEntityApiConfig config, string generatedCode);
+        /// <summary>
+        /// Returns whether the output was written, either into the document of the existing project file or as a new file.
+        /// </summary>
+        Task<bool> CreateOrUpdateFile(string atomicFilePath, AtomicEntityApiConfig config, string generatedCode);
+        
+        /// <summary>
+        /// Returns whether the output of each file was written, in the order of <paramref name="files"/>.
+        /// </summary>
+        Task<bool[]> CreateOrUpdateFiles(IReadOnlyList<GeneratedFileContent> files);
         FileSystemPath GetOutputPath(FileSystemPath atomicFilePath, AtomicEntityApiConfig config, IProject project);
     }
 }
\ No newline at end of file
@@ -0,0 +1,14 @@
+using System;
+using System.Collections.Generic;
+using JetBrains.ReSharper.Psi;
+
+namespace ReSharperPlugin.AtomicPlugin.Services
+{
+    public interface IGeneratedUsageIndex
+    {
+        long Version { get; }
+        event Action<long> Changed;
+        IReadOnlyDictionary<string, int> GetUsageCounts(IEnumerable<string> methodNames);
+        IReadOnlyCollection<IPsiSourceFile> GetFilesReferencing(IEnumerable<string> methodNames);
+    }
+}
@@ -1,11 +1,13 @@
 using System.Threading.Tasks;
+using JetBrains.Lifetimes;
 using ReSharperPlugin.AtomicPlugin.Model;
 
 namespace ReSharperPlugin.AtomicPlugin.Services
 {
     public interface INamespaceResolver
     {
-        Task<NamespaceCompletionResponse> GetCompletionsAsync(NamespaceCompletionRequest request);
+        Task<NamespaceCompletionResponse> GetCompletionsAsync(NamespaceCompletionRequest request, Lifetime lifetime);
         Task<NamespaceValidationResponse> ValidateAsync(NamespaceValidationRequest request);
+        Task<NamespaceValidationResponse[]> ValidateBatchAsync(TypeValidationBatchRequest request);
     }
 }
\ No newline at end of file
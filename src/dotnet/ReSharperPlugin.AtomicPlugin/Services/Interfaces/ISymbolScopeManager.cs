@@ -1,11 +1,13 @@
 using System;
 using JetBrains.ReSharper.Psi.Caches;
+using JetBrains.ReSharper.Psi.Modules;
 
 namespace ReSharperPlugin.AtomicPlugin.Services
 {
     public interface ISymbolScopeManager
     {
         ISymbolScope GetSymbolScope(LibrarySymbolScope scope, bool caseSensitive);
+        ISymbolScope GetSymbolScope(IPsiModule module, bool caseSensitive);
         void ExecuteWithReadLock(Action action);
         T ExecuteWithReadLock<T>(Func<T> func);
     }
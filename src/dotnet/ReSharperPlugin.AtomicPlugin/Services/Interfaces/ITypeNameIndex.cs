@@ -0,0 +1,20 @@
+using System;
+using System.Collections.Generic;
+
+namespace ReSharperPlugin.AtomicPlugin.Services
+{
+    public interface ITypeNameIndex
+    {
+        long Version { get; }
+        event Action<long> Changed;
+        IReadOnlyList<TypeNameIndexEntry> GetTypesByShortName(string shortName);
+        IEnumerable<TypeNameIndexEntry> GetTypesWithPrefix(string prefix);
+        IReadOnlyList<string> GetShortNames();
+        IEnumerable<string> GetShortNameCandidates(string pattern);
+        IReadOnlyList<TypeNameIndexEntry> GetTypesFromNamespace(string @namespace);
+        IEnumerable<string> GetNamespacesWithPrefix(string prefix);
+        bool NamespaceHasTypes(string @namespace);
+        bool NamespaceExists(string @namespace);
+        void Invalidate();
+    }
+}
@@ -1,10 +1,11 @@
 using System.Threading.Tasks;
+using JetBrains.Lifetimes;
 using ReSharperPlugin.AtomicPlugin.Model;
 
 namespace ReSharperPlugin.AtomicPlugin.Services
 {
     public interface ITypeResolver
     {
-        Task<TypeCompletionResponse> GetCompletionsAsync(TypeCompletionRequest request);
+        Task<TypeCompletionResponse> GetCompletionsAsync(TypeCompletionRequest request, Lifetime lifetime);
     }
 }
\ No newline at end of file
@@ -6,5 +6,6 @@ namespace ReSharperPlugin.AtomicPlugin.Services
     public interface ITypeValidator
     {
         Task<TypeValidationResponse> ValidateAsync(TypeValidationRequest request);
+        Task<TypeValidationResponse[]> ValidateBatchAsync(TypeValidationBatchRequest request);
     }
 }
\ No newline at end of file
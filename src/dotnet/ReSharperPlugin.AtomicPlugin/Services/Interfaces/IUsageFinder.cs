@@ -1,4 +1,6 @@
+using System;
 using System.Threading.Tasks;
+using JetBrains.Lifetimes;
 using ReSharperPlugin.AtomicPlugin.Model;
 
 namespace ReSharperPlugin.AtomicPlugin.Services
@@ -7,5 +9,6 @@ namespace ReSharperPlugin.AtomicPlugin.Services
     {
         Task<FindMethodUsagesResponse> FindMethodUsagesAsync(FindMethodUsagesRequest request);
         Task<FindTagUsagesResponse> FindTagUsagesAsync(FindTagUsagesRequest request);
+        Task<int> SearchUsagesAsync(Lifetime lifetime, UsageSearchRequest request, Action<MethodUsageLocation[]> onBatch);
     }
 }
\ No newline at end of file
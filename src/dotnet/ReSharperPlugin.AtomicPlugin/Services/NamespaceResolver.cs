@@ -2,8 +2,7 @@ using System;
 using System.Collections.Generic;
 using System.Linq;
 using System.Threading.Tasks;
-using JetBrains.ReSharper.Psi;
-using JetBrains.ReSharper.Psi.Caches;
+using JetBrains.Lifetimes;
 using JetBrains.Util;
 using ReSharperPlugin.AtomicPlugin.Model;
 
@@ -12,58 +11,22 @@ namespace ReSharperPlugin.AtomicPlugin.Services
     public class NamespaceResolver : INamespaceResolver
     {
         private static readonly ILogger Logger = JetBrains.Util.Logging.Logger.GetLogger<NamespaceResolver>();
-        private readonly ISymbolScopeManager _symbolScopeManager;
+        private readonly ITypeNameIndex _typeNameIndex;
 
-        public NamespaceResolver(ISymbolScopeManager symbolScopeManager)
+        public NamespaceResolver(ITypeNameIndex typeNameIndex)
         {
-            _symbolScopeManager = symbolScopeManager;
+            _typeNameIndex = typeNameIndex;
         }
 
-        public async Task<NamespaceCompletionResponse> GetCompletionsAsync(NamespaceCompletionRequest request)
+        public async Task<NamespaceCompletionResponse> GetCompletionsAsync(NamespaceCompletionRequest request, Lifetime lifetime)
         {
             return await Task.Run(() =>
             {
-                var namespaces = new HashSet<string>();
+                var namespaces = new List<string>();
                 
                 try
                 {
-                    _symbolScopeManager.ExecuteWithReadLock(() =>
-                    {
-                            var symbolScope = _symbolScopeManager.GetSymbolScope(LibrarySymbolScope.FULL, caseSensitive: false);
-                        
-                        
-                        var allShortNames = symbolScope.GetAllShortNames();
-                        
-                        foreach (var shortName in allShortNames)
-                        {
-                            try
-                            {
-                                var types = symbolScope.GetElementsByShortName(shortName).OfType<ITypeElement>();
-                                foreach (var type in types)
-                                {
-                                    var ns = type.GetContainingNamespace()?.QualifiedName;
-                                    if (!string.IsNullOrEmpty(ns))
-                                    {
-                                        
-                                        var parts = ns.Split('.');
-                                        for (int i = 1; i <= parts.Length; i++)
-                                        {
-                                            var partialNamespace = string.Join(".", parts.Take(i));
-                                            if (string.IsNullOrEmpty(request.Prefix) || 
-                                                partialNamespace.StartsWith(request.Prefix, StringComparison.OrdinalIgnoreCase))
-                                            {
-                                                namespaces.Add(partialNamespace);
-                                            }
-                                        }
-                                    }
-                                }
-                            }
-                            catch
-                            {
-                                
-                            }
-                        }
-                    });
+                    namespaces.AddRange(_typeNameIndex.GetNamespacesWithPrefix(request.Prefix));
                 }
                 catch (Exception ex)
                 {
@@ -87,65 +50,25 @@ namespace ReSharperPlugin.AtomicPlugin.Services
                     .ToArray();
                 
                 return new NamespaceCompletionResponse(sortedNamespaces);
-            });
+            }, lifetime.ToCancellationToken());
         }
 
         public async Task<NamespaceValidationResponse> ValidateAsync(NamespaceValidationRequest request)
         {
-            return await Task.Run(() =>
-            {
-                return _symbolScopeManager.ExecuteWithReadLock(() =>
-                {
-                        var symbolScope = _symbolScopeManager.GetSymbolScope(LibrarySymbolScope.FULL, caseSensitive: true);
-                    
-                    
-                    var namespaceExists = false;
-                    var hasTypes = false;
-                    
-                    
-                    var allNamespaces = new HashSet<string>();
-                    var allShortNames = symbolScope.GetAllShortNames();
-                    
-                    foreach (var shortName in allShortNames)
-                    {
-                        try
-                        {
-                            var types = symbolScope.GetElementsByShortName(shortName).OfType<ITypeElement>();
-                            foreach (var type in types)
-                            {
-                                var ns = type.GetContainingNamespace()?.QualifiedName;
-                                if (!string.IsNullOrEmpty(ns))
-                                {
-                                    allNamespaces.Add(ns);
-                                    
-                                    
-                                    if (ns == request.Namespace)
-                                    {
-                                        hasTypes = true;
-                                        namespaceExists = true;
-                                    }
-                                    
-                                    else if (ns.StartsWith(request.Namespace + ".") || request.Namespace.StartsWith(ns + "."))
-                                    {
-                                        namespaceExists = true;
-                                    }
-                                }
-                            }
-                        }
-                        catch
-                        {
-                            
-                        }
-                    }
-                    
-                    
-                    
-                    return new NamespaceValidationResponse(
-                        isValid: namespaceExists,
-                        hasTypes: hasTypes
-                    );
-                });
-            });
+            return await Task.Run(() => Validate(request.Namespace));
+        }
+
+        public async Task<NamespaceValidationResponse[]> ValidateBatchAsync(TypeValidationBatchRequest request)
+        {
+            return await Task.Run(() => request.Namespaces.Select(Validate).ToArray());
+        }
+
+        private NamespaceValidationResponse Validate(string @namespace)
+        {
+            return new NamespaceValidationResponse(
+                isValid: _typeNameIndex.NamespaceExists(@namespace),
+                hasTypes: _typeNameIndex.NamespaceHasTypes(@namespace)
+            );
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,131 @@
+using System;
+using System.Collections.Generic;
+using System.Linq;
+using JetBrains.Application.Parts;
+using JetBrains.Application.Threading;
+using JetBrains.Lifetimes;
+using JetBrains.ReSharper.Psi;
+using JetBrains.ReSharper.Psi.Caches;
+using JetBrains.ReSharper.Psi.CSharp;
+using JetBrains.ReSharper.Psi.CSharp.Tree;
+using JetBrains.ReSharper.Psi.Tree;
+using ReSharperPlugin.AtomicPlugin.Model;
+
+namespace ReSharperPlugin.AtomicPlugin.Services
+{
+    /// <summary>
+    /// Persistent per-file list of the types declared in C# sources, read from the syntax tree so it is current
+    /// as soon as a file is re-indexed. Feeds the source half of TypeNameIndex without rescanning the symbol scope.
+    /// </summary>
+    [PsiComponent(Instantiation.DemandAnyThreadSafe)]
+    public class SourceTypeNameCache : SimpleICache<SourceTypeNames>
+    {
+        public SourceTypeNameCache(Lifetime lifetime, IShellLocks locks, IPersistentIndexManager persistentIndexManager)
+            : base(lifetime, locks, persistentIndexManager, SourceTypeNames.Marshaller)
+        {
+        }
+
+        // Raised when a file starts or stops declaring a type, not when only its bodies change
+        public event Action Changed;
+
+        public IEnumerable<TypeNameIndexEntry> GetAllEntries()
+        {
+            return Map.Values.SelectMany(types => types.Entries);
+        }
+
+        protected override bool IsApplicable(IPsiSourceFile sourceFile)
+        {
+            return base.IsApplicable(sourceFile) && sourceFile.PrimaryPsiLanguage.Is<CSharpLanguage>();
+        }
+
+        public override object Build(IPsiSourceFile sourceFile, bool isStartup)
+        {
+            var file = sourceFile.GetPrimaryPsiFile() as ICSharpFile;
+            if (file == null)
+            {
+                return null;
+            }
+            
+            var assemblyName = sourceFile.PsiModule.DisplayName;
+            var entries = new List<TypeNameIndexEntry>();
+            foreach (var declaration in file.Descendants<ICSharpTypeDeclaration>())
+            {
+                var clrName = declaration.CLRName;
+                if (string.IsNullOrEmpty(clrName) || string.IsNullOrEmpty(declaration.DeclaredName)) continue;
+                
+                entries.Add(CreateEntry(declaration, clrName, assemblyName));
+            }
+            
+            return new SourceTypeNames(entries.ToArray());
+        }
+
+        public override void Merge(IPsiSourceFile sourceFile, object builtPart)
+        {
+            Map.TryGetValue(sourceFile, out var previous);
+            base.Merge(sourceFile, builtPart);
+            
+            var types = builtPart as SourceTypeNames;
+            if (previous == null ? types != null && types.Entries.Length > 0 : !previous.HasSameEntries(types))
+            {
+                Changed?.Invoke();
+            }
+        }
+
+        public override void Drop(IPsiSourceFile sourceFile)
+        {
+            Map.TryGetValue(sourceFile, out var previous);
+            base.Drop(sourceFile);
+            
+            if (previous != null && previous.Entries.Length > 0)
+            {
+                Changed?.Invoke();
+            }
+        }
+
+        public override void MergeLoaded(object data)
+        {
+            base.MergeLoaded(data);
+            Changed?.Invoke();
+        }
+
+        // CLR names look like "Game.Components.Outer`1+Inner`2": namespace before the outermost type, arity after '`'
+        private static TypeNameIndexEntry CreateEntry(ICSharpTypeDeclaration declaration, string clrName, string assemblyName)
+        {
+            var outermost = clrName.Split('+')[0];
+            var lastDot = outermost.LastIndexOf('.');
+            var ns = lastDot < 0 ? "" : outermost.Substring(0, lastDot);
+            
+            var typeParameterCount = 0;
+            var arity = clrName.LastIndexOf('`');
+            if (arity > clrName.LastIndexOf('+'))
+            {
+                int.TryParse(clrName.Substring(arity + 1), out typeParameterCount);
+            }
+            
+            return new TypeNameIndexEntry(
+                declaration.DeclaredName,
+                ns,
+                clrName,
+                assemblyName,
+                GetTypeKind(declaration),
+                typeParameterCount);
+        }
+
+        private static TypeKind GetTypeKind(ICSharpTypeDeclaration declaration)
+        {
+            switch (declaration)
+            {
+                case IInterfaceDeclaration _:
+                    return TypeKind.Interface;
+                case IStructDeclaration _:
+                    return TypeKind.Struct;
+                case IEnumDeclaration _:
+                    return TypeKind.Enum;
+                case IDelegateDeclaration _:
+                    return TypeKind.Delegate;
+                default:
+                    return TypeKind.Class;
+            }
+        }
+    }
+}
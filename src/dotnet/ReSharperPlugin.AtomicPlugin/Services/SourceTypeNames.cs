@@ -0,0 +1,68 @@
+using JetBrains.Serialization;
+using ReSharperPlugin.AtomicPlugin.Model;
+
+namespace ReSharperPlugin.AtomicPlugin.Services
+{
+    /// <summary>
+    /// Type names declared in one C# source file, in declaration order.
+    /// </summary>
+    public class SourceTypeNames
+    {
+        public static readonly IUnsafeMarshaller<SourceTypeNames> Marshaller =
+            new UniversalMarshaller<SourceTypeNames>(Read, Write);
+
+        public SourceTypeNames(TypeNameIndexEntry[] entries)
+        {
+            Entries = entries;
+        }
+
+        public TypeNameIndexEntry[] Entries { get; }
+
+        public bool HasSameEntries(SourceTypeNames other)
+        {
+            if (other == null || other.Entries.Length != Entries.Length)
+                return false;
+            
+            for (var i = 0; i < Entries.Length; i++)
+            {
+                var entry = Entries[i];
+                var otherEntry = other.Entries[i];
+                if (entry.FullTypeName != otherEntry.FullTypeName
+                    || entry.AssemblyName != otherEntry.AssemblyName
+                    || entry.Kind != otherEntry.Kind)
+                    return false;
+            }
+            return true;
+        }
+
+        private static SourceTypeNames Read(UnsafeReader reader)
+        {
+            var entries = new TypeNameIndexEntry[reader.ReadInt32()];
+            for (var i = 0; i < entries.Length; i++)
+            {
+                entries[i] = new TypeNameIndexEntry(
+                    reader.ReadString(),
+                    reader.ReadString(),
+                    reader.ReadString(),
+                    reader.ReadString(),
+                    (TypeKind) reader.ReadInt32(),
+                    reader.ReadInt32());
+            }
+            return new SourceTypeNames(entries);
+        }
+
+        private static void Write(UnsafeWriter writer, SourceTypeNames value)
+        {
+            writer.Write(value.Entries.Length);
+            foreach (var entry in value.Entries)
+            {
+                writer.Write(entry.ShortName);
+                writer.Write(entry.Namespace);
+                writer.Write(entry.FullTypeName);
+                writer.Write(entry.AssemblyName);
+                writer.Write((int) entry.Kind);
+                writer.Write(entry.TypeParameterCount);
+            }
+        }
+    }
+}
@@ -3,6 +3,7 @@ using JetBrains.Application.Threading;
 using JetBrains.ProjectModel;
 using JetBrains.ReSharper.Psi;
 using JetBrains.ReSharper.Psi.Caches;
+using JetBrains.ReSharper.Psi.Modules;
 
 namespace ReSharperPlugin.AtomicPlugin.Services
 {
@@ -22,6 +23,12 @@ namespace ReSharperPlugin.AtomicPlugin.Services
             return symbolCache.GetSymbolScope(scope, caseSensitive);
         }
 
+        public ISymbolScope GetSymbolScope(IPsiModule module, bool caseSensitive)
+        {
+            var psiServices = _solution.GetPsiServices();
+            return psiServices.Symbols.GetSymbolScope(module, withReferences: false, caseSensitive: caseSensitive);
+        }
+
         public void ExecuteWithReadLock(Action action)
         {
             var psiServices = _solution.GetPsiServices();
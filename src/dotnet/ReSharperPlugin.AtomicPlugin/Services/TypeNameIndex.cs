@@ -0,0 +1,528 @@
+using System;
+using System.Collections.Generic;
+using System.Linq;
+using System.Threading;
+using System.Threading.Tasks;
+using JetBrains.Application.changes;
+using JetBrains.ProjectModel;
+using JetBrains.ReSharper.Psi;
+using JetBrains.ReSharper.Psi.Modules;
+using JetBrains.Util;
+using ReSharperPlugin.AtomicPlugin.Model;
+
+namespace ReSharperPlugin.AtomicPlugin.Services
+{
+    /// <summary>
+    /// Solution-wide map of type short names and namespaces. Referenced assemblies are indexed per PSI module and
+    /// re-read only when that module changes; source types come per file from SourceTypeNameCache.
+    /// </summary>
+    public class TypeNameIndex : ITypeNameIndex
+    {
+        private static readonly ILogger Logger = JetBrains.Util.Logging.Logger.GetLogger<TypeNameIndex>();
+        private static readonly IReadOnlyList<TypeNameIndexEntry> EmptyEntries = new TypeNameIndexEntry[0];
+        
+        private readonly ISymbolScopeManager _symbolScopeManager;
+        private readonly SourceTypeNameCache _sourceTypes;
+        private readonly IPsiServices _psiServices;
+        private readonly object _buildLock = new object();
+        private readonly object _pendingLock = new object();
+        private readonly Dictionary<IPsiModule, TypeNameIndexEntry[]> _assemblyTypes = new Dictionary<IPsiModule, TypeNameIndexEntry[]>();
+        private readonly HashSet<IPsiModule> _dirtyModules = new HashSet<IPsiModule>();
+        private bool _sourcesDirty;
+        private Snapshot _snapshot;
+        private long _version;
+
+        public TypeNameIndex(ISolution solution, ISymbolScopeManager symbolScopeManager)
+        {
+            _symbolScopeManager = symbolScopeManager;
+            _sourceTypes = solution.GetComponent<SourceTypeNameCache>();
+            
+            _psiServices = solution.GetPsiServices();
+            _sourceTypes.Changed += OnSourceTypesChanged;
+            
+            var lifetime = solution.GetSolutionLifetimes().UntilSolutionCloseLifetime;
+            var changeManager = solution.GetComponent<ChangeManager>();
+            changeManager.Changed.Advise(lifetime, OnChange);
+            
+            // Assembly symbols of a changed module are only readable once the caches have caught up
+            _psiServices.CachesState.IsIdle.Advise(lifetime, isIdle =>
+            {
+                if (isIdle)
+                {
+                    ScheduleRefresh();
+                }
+            });
+        }
+
+        public long Version => Interlocked.Read(ref _version);
+
+        // Raised only when the set of type names or namespaces differs from the previous snapshot
+        public event Action<long> Changed;
+
+        public IReadOnlyList<TypeNameIndexEntry> GetTypesByShortName(string shortName)
+        {
+            return GetSnapshot().ByShortName.TryGetValue(shortName, out var entries) ? entries : EmptyEntries;
+        }
+
+        public IEnumerable<TypeNameIndexEntry> GetTypesWithPrefix(string prefix)
+        {
+            var snapshot = GetSnapshot();
+            return WithPrefix(snapshot.SortedShortNames, prefix)
+                .SelectMany(shortName => snapshot.ByShortName[shortName]);
+        }
+
+        public IReadOnlyList<string> GetShortNames()
+        {
+            return GetSnapshot().SortedShortNames;
+        }
+
+        public IEnumerable<string> GetShortNameCandidates(string pattern)
+        {
+            var snapshot = GetSnapshot();
+            var names = snapshot.SortedShortNames;
+            if (string.IsNullOrEmpty(pattern))
+                return names;
+            
+            
+            var candidates = new HashSet<int>();
+            for (var i = LowerBound(names, pattern); i < names.Length && names[i].StartsWith(pattern, StringComparison.OrdinalIgnoreCase); i++)
+            {
+                candidates.Add(i);
+            }
+            
+            for (var i = 1; i < pattern.Length; i++)
+            {
+                if (snapshot.ByHumpKey.TryGetValue(TypeNameMatcher.GetCharPairKey(pattern[0], pattern[i]), out var humpMatches))
+                {
+                    candidates.UnionWith(humpMatches);
+                }
+            }
+            
+            // A substring match contains every bigram of the pattern, so the rarest one bounds the candidates
+            int[] substringMatches = null;
+            for (var i = 1; i < pattern.Length; i++)
+            {
+                if (!snapshot.ByBigram.TryGetValue(TypeNameMatcher.GetCharPairKey(pattern[i - 1], pattern[i]), out var bigramMatches))
+                {
+                    substringMatches = null;
+                    break;
+                }
+                
+                if (substringMatches == null || bigramMatches.Length < substringMatches.Length)
+                {
+                    substringMatches = bigramMatches;
+                }
+            }
+            if (substringMatches != null)
+            {
+                candidates.UnionWith(substringMatches);
+            }
+            
+            return candidates.OrderBy(i => i).Select(i => names[i]);
+        }
+
+        public IReadOnlyList<TypeNameIndexEntry> GetTypesFromNamespace(string @namespace)
+        {
+            return GetSnapshot().ByNamespace.TryGetValue(@namespace, out var entries) ? entries : EmptyEntries;
+        }
+
+        public IEnumerable<string> GetNamespacesWithPrefix(string prefix)
+        {
+            return WithPrefix(GetSnapshot().SortedNamespaces, prefix);
+        }
+
+        public bool NamespaceHasTypes(string @namespace)
+        {
+            return !string.IsNullOrEmpty(@namespace) && GetSnapshot().ByNamespace.ContainsKey(@namespace);
+        }
+
+        public bool NamespaceExists(string @namespace)
+        {
+            if (string.IsNullOrEmpty(@namespace))
+                return false;
+            
+            var snapshot = GetSnapshot();
+            if (snapshot.Namespaces.Contains(@namespace))
+                return true;
+            
+            
+            var parent = @namespace;
+            int lastDot;
+            while ((lastDot = parent.LastIndexOf('.')) > 0)
+            {
+                parent = parent.Substring(0, lastDot);
+                if (snapshot.ByNamespace.ContainsKey(parent))
+                    return true;
+            }
+            
+            return false;
+        }
+
+        public void Invalidate()
+        {
+            lock (_buildLock)
+            {
+                Volatile.Write(ref _snapshot, null);
+            }
+            
+            Changed?.Invoke(Interlocked.Increment(ref _version));
+        }
+
+        private void OnChange(ChangeEventArgs args)
+        {
+            var modules = args.ChangeMap.GetChanges<PsiModuleChange>()
+                .SelectMany(change => change.ModuleChanges)
+                .Select(change => change.Item)
+                .Where(module => !(module is IProjectPsiModule))
+                .ToList();
+            if (modules.Count == 0)
+                return;
+            
+            lock (_pendingLock)
+            {
+                _dirtyModules.UnionWith(modules);
+            }
+            ScheduleRefresh();
+        }
+
+        private void OnSourceTypesChanged()
+        {
+            lock (_pendingLock)
+            {
+                _sourcesDirty = true;
+            }
+            ScheduleRefresh();
+        }
+
+        private void ScheduleRefresh()
+        {
+            if (Volatile.Read(ref _snapshot) == null)
+                return;
+            
+            lock (_pendingLock)
+            {
+                if (!_sourcesDirty && _dirtyModules.Count == 0)
+                    return;
+            }
+            
+            Task.Run(() => Refresh());
+        }
+
+        private void Refresh()
+        {
+            Snapshot previous, snapshot;
+            lock (_buildLock)
+            {
+                previous = Volatile.Read(ref _snapshot);
+                if (previous == null)
+                    return;
+                
+                snapshot = _symbolScopeManager.ExecuteWithReadLock(() => ApplyPendingChanges());
+                if (snapshot == null)
+                    return;
+                
+                Volatile.Write(ref _snapshot, snapshot);
+            }
+            
+            if (!previous.HasSameNames(snapshot))
+            {
+                Changed?.Invoke(Interlocked.Increment(ref _version));
+            }
+        }
+
+        // Caller holds _buildLock and the read lock; returns null when nothing could be applied yet
+        private Snapshot ApplyPendingChanges()
+        {
+            IPsiModule[] dirtyModules;
+            bool sourcesDirty;
+            lock (_pendingLock)
+            {
+                var cachesIdle = _psiServices.CachesState.IsIdle.Value;
+                dirtyModules = cachesIdle ? _dirtyModules.ToArray() : EmptyArray<IPsiModule>.Instance;
+                if (cachesIdle)
+                {
+                    _dirtyModules.Clear();
+                }
+                
+                sourcesDirty = _sourcesDirty;
+                _sourcesDirty = false;
+            }
+            
+            if (dirtyModules.Length == 0 && !sourcesDirty)
+                return null;
+            
+            foreach (var module in dirtyModules)
+            {
+                if (module.IsValid() && module is IAssemblyPsiModule)
+                {
+                    _assemblyTypes[module] = CollectAssemblyTypes(module);
+                }
+                else
+                {
+                    _assemblyTypes.Remove(module);
+                }
+            }
+            
+            return Compose();
+        }
+
+        private Snapshot GetSnapshot()
+        {
+            var snapshot = Volatile.Read(ref _snapshot);
+            if (snapshot != null)
+                return snapshot;
+            
+            lock (_buildLock)
+            {
+                snapshot = Volatile.Read(ref _snapshot);
+                if (snapshot == null)
+                {
+                    snapshot = _symbolScopeManager.ExecuteWithReadLock(() => Build());
+                    Volatile.Write(ref _snapshot, snapshot);
+                }
+                
+                return snapshot;
+            }
+        }
+
+        // Caller holds _buildLock and the read lock
+        private Snapshot Build()
+        {
+            lock (_pendingLock)
+            {
+                _dirtyModules.Clear();
+                _sourcesDirty = false;
+            }
+            
+            _assemblyTypes.Clear();
+            foreach (var module in _psiServices.Modules.GetModules().OfType<IAssemblyPsiModule>())
+            {
+                _assemblyTypes[module] = CollectAssemblyTypes(module);
+            }
+            
+            var snapshot = Compose();
+            Logger.Info($"[TypeNameIndex] Indexed {snapshot.ByShortName.Count} type names in {snapshot.Namespaces.Count} namespaces");
+            return snapshot;
+        }
+
+        private TypeNameIndexEntry[] CollectAssemblyTypes(IPsiModule module)
+        {
+            var symbolScope = _symbolScopeManager.GetSymbolScope(module, caseSensitive: true);
+            var entries = new List<TypeNameIndexEntry>();
+            
+            foreach (var shortName in symbolScope.GetAllShortNames())
+            {
+                try
+                {
+                    foreach (var typeElement in symbolScope.GetElementsByShortName(shortName).OfType<ITypeElement>())
+                    {
+                        if (typeElement.ShortName.StartsWith("<"))
+                            continue;
+                        
+                        var containingType = typeElement.GetContainingType();
+                        if (containingType != null && containingType.ShortName.StartsWith("<"))
+                            continue;
+                        
+                        entries.Add(new TypeNameIndexEntry(
+                            typeElement.ShortName,
+                            typeElement.GetContainingNamespace()?.QualifiedName ?? "",
+                            typeElement.GetClrName().FullName,
+                            typeElement.Module?.DisplayName ?? "",
+                            GetTypeKind(typeElement),
+                            typeElement.TypeParameters.Count));
+                    }
+                }
+                catch
+                {
+                    
+                }
+            }
+            
+            return entries.ToArray();
+        }
+
+        private Snapshot Compose()
+        {
+            var byShortName = new Dictionary<string, List<TypeNameIndexEntry>>(StringComparer.Ordinal);
+            var byNamespace = new Dictionary<string, List<TypeNameIndexEntry>>(StringComparer.Ordinal);
+            var namespaces = new HashSet<string>(StringComparer.Ordinal);
+            
+            // Partial types contribute one entry per declaring file
+            var seen = new HashSet<string>(StringComparer.Ordinal);
+            
+            foreach (var entry in _assemblyTypes.Values.SelectMany(entries => entries).Concat(_sourceTypes.GetAllEntries()))
+            {
+                if (!seen.Add(entry.AssemblyName + "|" + entry.FullTypeName))
+                    continue;
+                
+                var ns = entry.Namespace;
+                Add(byShortName, entry.ShortName, entry);
+                Add(byNamespace, ns, entry);
+                
+                
+                var end = ns.Length;
+                while (end > 0 && namespaces.Add(ns.Substring(0, end)))
+                {
+                    end = ns.LastIndexOf('.', end - 1);
+                }
+            }
+            
+            var sortedShortNames = byShortName.Keys.ToArray();
+            Array.Sort(sortedShortNames, StringComparer.OrdinalIgnoreCase);
+            var sortedNamespaces = namespaces.ToArray();
+            Array.Sort(sortedNamespaces, StringComparer.OrdinalIgnoreCase);
+            
+            return new Snapshot(byShortName, byNamespace, namespaces, sortedShortNames, sortedNamespaces,
+                IndexByHumpKey(sortedShortNames), IndexByBigram(sortedShortNames));
+        }
+
+        private static Dictionary<int, int[]> IndexByHumpKey(string[] sortedNames)
+        {
+            var byHumpKey = new Dictionary<int, List<int>>();
+            for (var i = 0; i < sortedNames.Length; i++)
+            {
+                foreach (var key in TypeNameMatcher.GetHumpKeys(sortedNames[i]).Distinct())
+                {
+                    Add(byHumpKey, key, i);
+                }
+            }
+            
+            return byHumpKey.ToDictionary(pair => pair.Key, pair => pair.Value.ToArray());
+        }
+
+        private static Dictionary<int, int[]> IndexByBigram(string[] sortedNames)
+        {
+            var byBigram = new Dictionary<int, List<int>>();
+            var nameBigrams = new HashSet<int>();
+            for (var i = 0; i < sortedNames.Length; i++)
+            {
+                var name = sortedNames[i];
+                nameBigrams.Clear();
+                for (var j = 1; j < name.Length; j++)
+                {
+                    var key = TypeNameMatcher.GetCharPairKey(name[j - 1], name[j]);
+                    if (nameBigrams.Add(key))
+                    {
+                        Add(byBigram, key, i);
+                    }
+                }
+            }
+            
+            return byBigram.ToDictionary(pair => pair.Key, pair => pair.Value.ToArray());
+        }
+
+        private static void Add<TKey, TValue>(Dictionary<TKey, List<TValue>> map, TKey key, TValue value)
+        {
+            if (!map.TryGetValue(key, out var values))
+            {
+                values = new List<TValue>();
+                map[key] = values;
+            }
+            
+            values.Add(value);
+        }
+
+        private static IEnumerable<string> WithPrefix(string[] sortedNames, string prefix)
+        {
+            if (string.IsNullOrEmpty(prefix))
+                return sortedNames;
+            
+            return WithPrefixFrom(sortedNames, prefix, LowerBound(sortedNames, prefix));
+        }
+
+        private static IEnumerable<string> WithPrefixFrom(string[] sortedNames, string prefix, int start)
+        {
+            for (var i = start; i < sortedNames.Length; i++)
+            {
+                if (!sortedNames[i].StartsWith(prefix, StringComparison.OrdinalIgnoreCase))
+                    yield break;
+                
+                yield return sortedNames[i];
+            }
+        }
+
+        private static int LowerBound(string[] sortedNames, string prefix)
+        {
+            var low = 0;
+            var high = sortedNames.Length;
+            while (low < high)
+            {
+                var mid = low + (high - low) / 2;
+                if (StringComparer.OrdinalIgnoreCase.Compare(sortedNames[mid], prefix) < 0)
+                    low = mid + 1;
+                else
+                    high = mid;
+            }
+            
+            return low;
+        }
+
+        private static TypeKind GetTypeKind(ITypeElement typeElement)
+        {
+            switch (typeElement)
+            {
+                case IClass _:
+                    return TypeKind.Class;
+                case IInterface _:
+                    return TypeKind.Interface;
+                case IStruct _:
+                    return TypeKind.Struct;
+                case IEnum _:
+                    return TypeKind.Enum;
+                case IDelegate _:
+                    return TypeKind.Delegate;
+                default:
+                    return TypeKind.Class;
+            }
+        }
+
+        private class Snapshot
+        {
+            public Snapshot(
+                Dictionary<string, List<TypeNameIndexEntry>> byShortName,
+                Dictionary<string, List<TypeNameIndexEntry>> byNamespace,
+                HashSet<string> namespaces,
+                string[] sortedShortNames,
+                string[] sortedNamespaces,
+                Dictionary<int, int[]> byHumpKey,
+                Dictionary<int, int[]> byBigram)
+            {
+                ByShortName = byShortName;
+                ByNamespace = byNamespace;
+                Namespaces = namespaces;
+                SortedShortNames = sortedShortNames;
+                SortedNamespaces = sortedNamespaces;
+                ByHumpKey = byHumpKey;
+                ByBigram = byBigram;
+            }
+
+            public Dictionary<string, List<TypeNameIndexEntry>> ByShortName { get; }
+            public Dictionary<string, List<TypeNameIndexEntry>> ByNamespace { get; }
+            public HashSet<string> Namespaces { get; }
+            public string[] SortedShortNames { get; }
+            public string[] SortedNamespaces { get; }
+
+            // Positions in SortedShortNames, ascending
+            public Dictionary<int, int[]> ByHumpKey { get; }
+            public Dictionary<int, int[]> ByBigram { get; }
+
+            // Same namespaces and, per short name, the same (assembly, full type name) entries
+            public bool HasSameNames(Snapshot other)
+            {
+                return ByShortName.Count == other.ByShortName.Count
+                    && Namespaces.SetEquals(other.Namespaces)
+                    && ByShortName.All(pair => other.ByShortName.TryGetValue(pair.Key, out var otherEntries)
+                                               && HaveSameTypes(pair.Value, otherEntries));
+            }
+
+            private static bool HaveSameTypes(List<TypeNameIndexEntry> entries, List<TypeNameIndexEntry> otherEntries)
+            {
+                if (ReferenceEquals(entries, otherEntries))
+                    return true;
+                
+                var types = new HashSet<(string, string)>(entries.Select(entry => (entry.AssemblyName, entry.FullTypeName)));
+                return types.SetEquals(otherEntries.Select(entry => (entry.AssemblyName, entry.FullTypeName)));
+            }
+        }
+    }
+}
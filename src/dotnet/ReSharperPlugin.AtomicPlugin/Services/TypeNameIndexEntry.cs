@@ -0,0 +1,24 @@
+using ReSharperPlugin.AtomicPlugin.Model;
+
+namespace ReSharperPlugin.AtomicPlugin.Services
+{
+    public class TypeNameIndexEntry
+    {
+        public TypeNameIndexEntry(string shortName, string @namespace, string fullTypeName, string assemblyName, TypeKind kind, int typeParameterCount)
+        {
+            ShortName = shortName;
+            Namespace = @namespace;
+            FullTypeName = fullTypeName;
+            AssemblyName = assemblyName;
+            Kind = kind;
+            TypeParameterCount = typeParameterCount;
+        }
+
+        public string ShortName { get; }
+        public string Namespace { get; }
+        public string FullTypeName { get; }
+        public string AssemblyName { get; }
+        public TypeKind Kind { get; }
+        public int TypeParameterCount { get; }
+    }
+}
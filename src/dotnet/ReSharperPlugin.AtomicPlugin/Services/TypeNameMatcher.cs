@@ -0,0 +1,96 @@
+using System;
+using System.Collections.Generic;
+
+namespace ReSharperPlugin.AtomicPlugin.Services
+{
+    public enum TypeNameMatchKind
+    {
+        Exact = 0,
+        Prefix = 1,
+        CamelHumps = 2,
+        Substring = 3,
+        None = 4
+    }
+
+    public static class TypeNameMatcher
+    {
+        public static TypeNameMatchKind Match(string name, string pattern)
+        {
+            if (string.IsNullOrEmpty(pattern))
+                return TypeNameMatchKind.Prefix;
+            
+            if (name.Equals(pattern, StringComparison.OrdinalIgnoreCase))
+                return TypeNameMatchKind.Exact;
+            
+            if (name.StartsWith(pattern, StringComparison.OrdinalIgnoreCase))
+                return TypeNameMatchKind.Prefix;
+            
+            if (MatchesCamelHumps(name, pattern))
+                return TypeNameMatchKind.CamelHumps;
+            
+            if (name.IndexOf(pattern, StringComparison.OrdinalIgnoreCase) >= 0)
+                return TypeNameMatchKind.Substring;
+            
+            return TypeNameMatchKind.None;
+        }
+
+        // "LiGO" and "lgo" both match "ListGameObjects": every pattern char continues the current hump or starts a later one
+        public static bool MatchesCamelHumps(string name, string pattern)
+        {
+            if (pattern.Length == 0 || name.Length == 0 || !CharEquals(name[0], pattern[0]))
+                return false;
+            
+            return MatchHumps(name, 1, pattern, 1);
+        }
+
+        // First char paired with each later hump start, upper-cased: a CamelHumps match that is not a plain prefix
+        // match jumps to some hump, so the pattern's first char and the char landing there select it from an index
+        public static IEnumerable<int> GetHumpKeys(string name)
+        {
+            for (var i = 1; i < name.Length; i++)
+            {
+                if (IsHumpStart(name, i))
+                    yield return GetCharPairKey(name[0], name[i]);
+            }
+        }
+
+        public static int GetCharPairKey(char first, char second)
+        {
+            return char.ToUpperInvariant(first) << 16 | char.ToUpperInvariant(second);
+        }
+
+        private static bool MatchHumps(string name, int nameIndex, string pattern, int patternIndex)
+        {
+            if (patternIndex == pattern.Length)
+                return true;
+            
+            var c = pattern[patternIndex];
+            
+            if (nameIndex < name.Length && CharEquals(name[nameIndex], c) && MatchHumps(name, nameIndex + 1, pattern, patternIndex + 1))
+                return true;
+            
+            for (var i = nameIndex + 1; i < name.Length; i++)
+            {
+                if (IsHumpStart(name, i) && CharEquals(name[i], c) && MatchHumps(name, i + 1, pattern, patternIndex + 1))
+                    return true;
+            }
+            
+            return false;
+        }
+
+        private static bool IsHumpStart(string name, int index)
+        {
+            var c = name[index];
+            var previous = name[index - 1];
+            
+            return char.IsUpper(c)
+                || previous == '_' && c != '_'
+                || char.IsDigit(c) && !char.IsDigit(previous);
+        }
+
+        private static bool CharEquals(char a, char b)
+        {
+            return char.ToUpperInvariant(a) == char.ToUpperInvariant(b);
+        }
+    }
+}
@@ -2,8 +2,7 @@ using System;
 using System.Collections.Generic;
 using System.Linq;
 using System.Threading.Tasks;
-using JetBrains.ReSharper.Psi;
-using JetBrains.ReSharper.Psi.Caches;
+using JetBrains.Lifetimes;
 using JetBrains.Util;
 using ReSharperPlugin.AtomicPlugin.Model;
 
@@ -12,307 +11,239 @@ namespace ReSharperPlugin.AtomicPlugin.Services
     public class TypeResolver : ITypeResolver
     {
         private static readonly ILogger Logger = JetBrains.Util.Logging.Logger.GetLogger<TypeResolver>();
-        private readonly ISymbolScopeManager _symbolScopeManager;
+        private const int MaxResults = 200;
+        private const int MinFuzzyPrefixLength = 2;
+        private readonly ITypeNameIndex _typeNameIndex;
 
-        public TypeResolver(ISymbolScopeManager symbolScopeManager)
+        public TypeResolver(ITypeNameIndex typeNameIndex)
         {
-            _symbolScopeManager = symbolScopeManager;
+            _typeNameIndex = typeNameIndex;
         }
 
-        public async Task<TypeCompletionResponse> GetCompletionsAsync(TypeCompletionRequest request)
+        public async Task<TypeCompletionResponse> GetCompletionsAsync(TypeCompletionRequest request, Lifetime lifetime)
         {
             var items = new List<TypeCompletionItem>();
+            var isComplete = false;
             
             await Task.Run(() =>
             {
                 try
                 {
-                    _symbolScopeManager.ExecuteWithReadLock(() =>
+                    var importedNamespaces = new HashSet<string>(request.Imports);
+                    importedNamespaces.Add("System");
+                    
+                    if (!string.IsNullOrEmpty(request.NamespaceFilter))
+                    {
+                        items.AddRange(GetTypesFromNamespace(request.Prefix, request.NamespaceFilter, out isComplete));
+                    }
+                    else
                     {
-                            var symbolScope = _symbolScopeManager.GetSymbolScope(LibrarySymbolScope.FULL, caseSensitive: false);
-                            
-                            var importedNamespaces = new HashSet<string>(request.Imports);
-                            importedNamespaces.Add("System");
-                            
-                            if (!string.IsNullOrEmpty(request.NamespaceFilter))
-                            {
-                                items.AddRange(GetTypesFromNamespace(symbolScope, request.Prefix, request.NamespaceFilter));
-                            }
-                            else
-                            {
-                                items.AddRange(GetTypesWithPrefix(symbolScope, request.Prefix, importedNamespaces));
-                                items.AddRange(GetNamespaceSuggestions(symbolScope, request.Prefix));
-                            }
-                    });
+                        items.AddRange(GetTypesWithPrefix(request.Prefix, importedNamespaces, lifetime, out isComplete));
+                        lifetime.ThrowIfNotAlive();
+                        items.AddRange(GetNamespaceSuggestions(request.Prefix));
+                    }
+                }
+                catch (OperationCanceledException)
+                {
+                    throw;
                 }
                 catch (Exception ex)
                 {
                     Logger.Error($"Error getting type completions: {ex.Message}");
                 }
-            });
+            }, lifetime.ToCancellationToken());
             
-            return new TypeCompletionResponse(items.ToArray());
+            return new TypeCompletionResponse(items.ToArray(), isComplete);
         }
 
-        private List<TypeCompletionItem> GetTypesFromNamespace(ISymbolScope symbolScope, string prefix, string namespaceFilter)
+        private List<TypeCompletionItem> GetTypesFromNamespace(string prefix, string namespaceFilter, out bool isComplete)
         {
             Logger.Info($"[TypeCompletion] Filtering by namespace: {namespaceFilter}");
             
-            var items = new List<TypeCompletionItem>();
-            var allShortNames = symbolScope.GetAllShortNames();
-            
-            foreach (var shortName in allShortNames)
+            var topK = new BoundedTopK<RankedType>(MaxResults, RankedTypeComparer.Instance);
+            foreach (var type in _typeNameIndex.GetTypesFromNamespace(namespaceFilter))
             {
-                if (!string.IsNullOrEmpty(prefix) && !shortName.StartsWith(prefix, StringComparison.OrdinalIgnoreCase))
-                    continue;
-                
-                try
-                {
-                    var types = symbolScope.GetElementsByShortName(shortName).OfType<ITypeElement>();
-                    foreach (var type in types)
-                    {
-                        var ns = type.GetContainingNamespace()?.QualifiedName;
-                        if (ns == namespaceFilter && IsValidType(type))
-                        {
-                            items.Add(CreateCompletionItem(type, namespaceFilter));
-                        }
-                    }
-                }
-                catch
+                var matchKind = TypeNameMatcher.Match(type.ShortName, prefix);
+                if (matchKind != TypeNameMatchKind.None && IsValidType(type))
                 {
-                    
+                    topK.Add(new RankedType(type, matchKind, 0));
                 }
             }
             
-            return items.OrderBy(t => t.TypeName).Take(200).ToList();
+            isComplete = !topK.IsTruncated;
+            return topK.ToSortedList().Select(t => CreateCompletionItem(t.Type)).ToList();
         }
 
-        private List<TypeCompletionItem> GetTypesWithPrefix(ISymbolScope symbolScope, string prefix, HashSet<string> importedNamespaces)
+        private List<TypeCompletionItem> GetTypesWithPrefix(string prefix, HashSet<string> importedNamespaces, Lifetime lifetime, out bool isComplete)
         {
-            var items = new List<TypeCompletionItem>();
-            var matchingTypes = new List<ITypeElement>();
+            var topK = new BoundedTopK<RankedType>(MaxResults, RankedTypeComparer.Instance);
             
-            if (!string.IsNullOrEmpty(prefix))
+            if (string.IsNullOrEmpty(prefix))
             {
-                Logger.Info($"[TypeCompletion] Looking for types with prefix: {prefix}");
                 
-                var allShortNames = symbolScope.GetAllShortNames();
-                var matchingNames = allShortNames
-                    .Where(name => name.StartsWith(prefix, StringComparison.OrdinalIgnoreCase));
+                Logger.Info($"[TypeCompletion] No prefix, showing types from imported namespaces");
                 
-                foreach (var shortName in matchingNames)
+                foreach (var ns in importedNamespaces)
                 {
-                    try
+                    foreach (var type in _typeNameIndex.GetTypesFromNamespace(ns))
                     {
-                        var types = symbolScope.GetElementsByShortName(shortName).OfType<ITypeElement>();
-                        matchingTypes.AddRange(types);
-                    }
-                    catch
-                    {
-                        
+                        Offer(topK, type, TypeNameMatchKind.Prefix, importedNamespaces);
                     }
                 }
             }
-            else
+            else if (prefix.Length < MinFuzzyPrefixLength)
             {
+                Logger.Info($"[TypeCompletion] Looking for types with prefix: {prefix}");
                 
-                Logger.Info($"[TypeCompletion] No prefix, showing types from imported namespaces");
-                
-                foreach (var ns in importedNamespaces)
+                foreach (var type in _typeNameIndex.GetTypesWithPrefix(prefix))
                 {
-                    try
-                    {
-                        var someTypes = symbolScope.GetAllShortNames()
-                            .Take(50)
-                            .ToList();
-                        
-                        foreach (var typeName in someTypes)
-                        {
-                            var types = symbolScope.GetElementsByShortName(typeName)
-                                .OfType<ITypeElement>()
-                                .Where(t => t.GetContainingNamespace()?.QualifiedName == ns);
-                            matchingTypes.AddRange(types);
-                        }
-                    }
-                    catch
-                    {
-                        
-                    }
+                    Offer(topK, type, TypeNameMatcher.Match(type.ShortName, prefix), importedNamespaces);
                 }
             }
-            
-            
-            foreach (var typeElement in matchingTypes)
+            else
             {
-                try
+                Logger.Info($"[TypeCompletion] Looking for types matching: {prefix}");
+                
+                
+                foreach (var shortName in _typeNameIndex.GetShortNameCandidates(prefix))
                 {
-                    if (!IsValidType(typeElement) || !IsAccessible(typeElement))
-                        continue;
+                    lifetime.ThrowIfNotAlive();
                     
-                    var ns = typeElement.GetContainingNamespace()?.QualifiedName ?? "";
-                    items.Add(CreateCompletionItem(typeElement, ns));
-                }
-                catch
-                {
+                    var matchKind = TypeNameMatcher.Match(shortName, prefix);
+                    if (matchKind == TypeNameMatchKind.None)
+                        continue;
                     
+                    foreach (var type in _typeNameIndex.GetTypesByShortName(shortName))
+                    {
+                        Offer(topK, type, matchKind, importedNamespaces);
+                    }
                 }
             }
             
-            return SortByRelevance(items, prefix, importedNamespaces);
+            // Short prefixes skip fuzzy matches and an empty prefix only lists imported namespaces
+            isComplete = prefix.Length >= MinFuzzyPrefixLength && !topK.IsTruncated;
+            return topK.ToSortedList().Select(t => CreateCompletionItem(t.Type)).ToList();
         }
 
-        private List<TypeCompletionItem> GetNamespaceSuggestions(ISymbolScope symbolScope, string prefix)
+        private void Offer(BoundedTopK<RankedType> topK, TypeNameIndexEntry type, TypeNameMatchKind matchKind, HashSet<string> importedNamespaces)
         {
-            if (string.IsNullOrEmpty(prefix))
-                return new List<TypeCompletionItem>();
-            
-            var items = new List<TypeCompletionItem>();
-            var namespaceSet = new HashSet<string>();
+            if (!IsValidType(type))
+                return;
             
+            topK.Add(new RankedType(type, matchKind, GetImportProximity(type.Namespace, importedNamespaces)));
+        }
+
+        private static int GetImportProximity(string @namespace, HashSet<string> importedNamespaces)
+        {
+            if (string.IsNullOrEmpty(@namespace) || importedNamespaces.Contains(@namespace))
+                return 0;
             
-            var allShortNames = symbolScope.GetAllShortNames();
             
-            foreach (var shortName in allShortNames)
+            foreach (var import in importedNamespaces)
             {
-                try
-                {
-                    var types = symbolScope.GetElementsByShortName(shortName).OfType<ITypeElement>();
-                    foreach (var type in types)
-                    {
-                        var ns = type.GetContainingNamespace()?.QualifiedName;
-                        if (!string.IsNullOrEmpty(ns))
-                        {
-                            
-                            var parts = ns.Split('.');
-                            for (int i = 1; i <= parts.Length; i++)
-                            {
-                                var partialNamespace = string.Join(".", parts.Take(i));
-                                namespaceSet.Add(partialNamespace);
-                            }
-                        }
-                    }
-                }
-                catch
-                {
-                    
-                }
+                if (@namespace.StartsWith(import + ".", StringComparison.Ordinal))
+                    return 1;
             }
             
+            if (@namespace.StartsWith("System"))
+                return 2;
             
-            var matchingNamespaces = namespaceSet
-                .Where(ns => ns.StartsWith(prefix, StringComparison.OrdinalIgnoreCase))
-                .OrderBy(ns => ns);
-            
+            return 3;
+        }
+
+        private List<TypeCompletionItem> GetNamespaceSuggestions(string prefix)
+        {
+            if (string.IsNullOrEmpty(prefix))
+                return new List<TypeCompletionItem>();
             
-            foreach (var ns in matchingNamespaces)
-            {
-                items.Add(new TypeCompletionItem(
+            return _typeNameIndex.GetNamespacesWithPrefix(prefix)
+                .Select(ns => new TypeCompletionItem(
                     typeName: ns,
                     fullTypeName: ns,
                     @namespace: "", 
                     assemblyName: "",
                     isGeneric: false,
                     typeKind: TypeKind.Class 
-                ));
-            }
-            
-            return items;
+                ))
+                .ToList();
         }
 
-        private bool IsValidType(ITypeElement typeElement)
+        private bool IsValidType(TypeNameIndexEntry type)
         {
-            var typeKind = GetTypeKind(typeElement);
-            if (typeKind == null) return false;
-            
             
-            if (typeElement.ShortName.StartsWith("<") || typeElement.ShortName.Contains("__"))
+            if (type.ShortName.StartsWith("<") || type.ShortName.Contains("__"))
                 return false;
             
             return true;
         }
 
-        private bool IsAccessible(ITypeElement typeElement)
-        {
-            try
-            {
-                
-                if (typeElement.GetContainingType() != null)
-                {
-                    var parent = typeElement.GetContainingType();
-                    if (parent != null && parent.ShortName.StartsWith("<"))
-                        return false;
-                }
-                return true;
-            }
-            catch
-            {
-                
-                return true;
-            }
-        }
-
-        private TypeCompletionItem CreateCompletionItem(ITypeElement typeElement, string @namespace)
+        private TypeCompletionItem CreateCompletionItem(TypeNameIndexEntry type)
         {
             return new TypeCompletionItem(
-                typeName: typeElement.ShortName,
-                fullTypeName: typeElement.GetClrName().FullName,
-                @namespace: @namespace,
-                assemblyName: typeElement.Module?.DisplayName ?? "",
-                isGeneric: typeElement.TypeParameters.Count > 0,
-                typeKind: GetTypeKind(typeElement)
+                typeName: type.ShortName,
+                fullTypeName: type.FullTypeName,
+                @namespace: type.Namespace,
+                assemblyName: type.AssemblyName,
+                isGeneric: type.TypeParameterCount > 0,
+                typeKind: type.Kind
             );
         }
 
-        private List<TypeCompletionItem> SortByRelevance(List<TypeCompletionItem> items, string prefix, HashSet<string> importedNamespaces)
+        private static int GetKindRank(TypeKind kind)
         {
-            return items
-                .OrderBy(t => 
-                {
-                    
-                    if (t.TypeName.Equals(prefix, StringComparison.OrdinalIgnoreCase))
-                        return 0;
-                        
-                    
-                    var isImported = string.IsNullOrEmpty(t.Namespace) || 
-                        importedNamespaces.Any(import => 
-                            t.Namespace.Equals(import, StringComparison.Ordinal) || 
-                            t.Namespace.StartsWith(import + ".", StringComparison.Ordinal));
-                            
-                    if (isImported && t.TypeName.StartsWith(prefix, StringComparison.OrdinalIgnoreCase))
-                        return 1;
-                        
-                    
-                    if (t.Namespace.StartsWith("System") && t.TypeName.StartsWith(prefix, StringComparison.OrdinalIgnoreCase))
-                        return 2;
-                        
-                    
-                    if (t.TypeName.StartsWith(prefix, StringComparison.OrdinalIgnoreCase))
-                        return 3;
-                        
-                    
+            switch (kind)
+            {
+                case TypeKind.Class:
+                    return 0;
+                case TypeKind.Struct:
+                    return 1;
+                case TypeKind.Interface:
+                    return 2;
+                case TypeKind.Enum:
+                    return 3;
+                default:
                     return 4;
-                })
-                .ThenBy(t => t.TypeName.Length)
-                .ThenBy(t => t.TypeName)
-                .ToList();
+            }
         }
 
-        private TypeKind GetTypeKind(ITypeElement typeElement)
+        private struct RankedType
         {
-            switch (typeElement)
+            public RankedType(TypeNameIndexEntry type, TypeNameMatchKind matchKind, int importProximity)
             {
-                case IClass _:
-                    return TypeKind.Class;
-                case IInterface _:
-                    return TypeKind.Interface;
-                case IStruct _:
-                    return TypeKind.Struct;
-                case IEnum _:
-                    return TypeKind.Enum;
-                case IDelegate _:
-                    return TypeKind.Delegate;
-                default:
-                    return TypeKind.Class;
+                Type = type;
+                MatchKind = matchKind;
+                ImportProximity = importProximity;
+                KindRank = GetKindRank(type.Kind);
+            }
+
+            public TypeNameIndexEntry Type { get; }
+            public TypeNameMatchKind MatchKind { get; }
+            public int ImportProximity { get; }
+            public int KindRank { get; }
+        }
+
+        private class RankedTypeComparer : IComparer<RankedType>
+        {
+            public static readonly RankedTypeComparer Instance = new RankedTypeComparer();
+
+            public int Compare(RankedType x, RankedType y)
+            {
+                var result = x.MatchKind.CompareTo(y.MatchKind);
+                if (result != 0) return result;
+                
+                result = x.ImportProximity.CompareTo(y.ImportProximity);
+                if (result != 0) return result;
+                
+                result = x.KindRank.CompareTo(y.KindRank);
+                if (result != 0) return result;
+                
+                result = x.Type.ShortName.Length.CompareTo(y.Type.ShortName.Length);
+                if (result != 0) return result;
+                
+                result = string.CompareOrdinal(x.Type.ShortName, y.Type.ShortName);
+                if (result != 0) return result;
+                
+                return string.CompareOrdinal(x.Type.FullTypeName, y.Type.FullTypeName);
             }
         }
     }
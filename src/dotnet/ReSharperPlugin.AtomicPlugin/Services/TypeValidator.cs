@@ -1,4 +1,5 @@
 using System;
+using System.Collections.Generic;
 using System.Linq;
 using System.Threading.Tasks;
 using JetBrains.ReSharper.Psi;
@@ -40,6 +41,33 @@ namespace ReSharperPlugin.AtomicPlugin.Services
             });
         }
 
+        public async Task<TypeValidationResponse[]> ValidateBatchAsync(TypeValidationBatchRequest request)
+        {
+            return await Task.Run(() =>
+            {
+                return _symbolScopeManager.ExecuteWithReadLock(() =>
+                {
+                    var symbolScope = _symbolScopeManager.GetSymbolScope(LibrarySymbolScope.FULL, caseSensitive: true);
+                    var resolved = new Dictionary<string, TypeValidationResponse>();
+                    
+                    Logger.Info($"[ValidateTypes] Validating {request.TypeNames.Length} types with imports: {string.Join(", ", request.Imports)}");
+                    
+                    return request.TypeNames.Select(typeName =>
+                    {
+                        if (!resolved.TryGetValue(typeName, out var response))
+                        {
+                            response = typeName.Contains(".")
+                                ? ValidateFullyQualifiedType(typeName, symbolScope)
+                                : ValidateSimpleType(typeName, request.Imports, symbolScope);
+                            resolved[typeName] = response;
+                        }
+                        
+                        return response;
+                    }).ToArray();
+                });
+            });
+        }
+
         private TypeValidationResponse ValidateFullyQualifiedType(string typeName, ISymbolScope symbolScope)
         {
             var lastDotIndex = typeName.LastIndexOf('.');
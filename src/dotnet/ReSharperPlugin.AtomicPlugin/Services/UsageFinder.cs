@@ -10,9 +10,11 @@ using JetBrains.Lifetimes;
 using JetBrains.ProjectModel;
 using JetBrains.ReSharper.Psi;
 using JetBrains.ReSharper.Psi.Caches;
+using JetBrains.ReSharper.Psi.Modules;
 using JetBrains.ReSharper.Psi.Resolve;
 using JetBrains.ReSharper.Psi.Search;
 using JetBrains.ReSharper.Psi.Tree;
+using JetBrains.ReSharper.Resources.Shell;
 using JetBrains.Util;
 using ReSharperPlugin.AtomicPlugin.Model;
 
@@ -21,16 +23,53 @@ namespace ReSharperPlugin.AtomicPlugin.Services
     public class UsageFinder : IUsageFinder
     {
         private static readonly ILogger Logger = JetBrains.Util.Logging.Logger.GetLogger<UsageFinder>();
+        private const int FilesPerReadLock = 16;
         private readonly ISolution _solution;
         private readonly IExtensionMethodDetector _extensionMethodDetector;
+        private readonly IGeneratedUsageIndex _usageIndex;
 
-        public UsageFinder(ISolution solution, IExtensionMethodDetector extensionMethodDetector)
+        public UsageFinder(ISolution solution, IExtensionMethodDetector extensionMethodDetector, IGeneratedUsageIndex usageIndex)
         {
             _solution = solution;
             _extensionMethodDetector = extensionMethodDetector;
+            _usageIndex = usageIndex;
         }
 
         public async Task<FindMethodUsagesResponse> FindMethodUsagesAsync(FindMethodUsagesRequest request)
+        {
+            var usages = await FindGeneratedMethodUsagesAsync("FindMethodUsages", request.MethodNames,
+                request.GeneratedFilePath, request.ValueName,
+                method => _extensionMethodDetector.IsGeneratedExtensionMethod(method, request.ValueName));
+
+            return new FindMethodUsagesResponse(usages.ToArray());
+        }
+
+        public async Task<FindTagUsagesResponse> FindTagUsagesAsync(FindTagUsagesRequest request)
+        {
+            var usages = await FindGeneratedMethodUsagesAsync("FindTagUsages", request.MethodNames,
+                request.GeneratedFilePath, request.TagName,
+                method => _extensionMethodDetector.IsGeneratedTagExtensionMethod(method, request.TagName));
+
+            return new FindTagUsagesResponse(usages.ToArray());
+        }
+
+        /// <summary>
+        /// Streams usages to <paramref name="onBatch"/> while the search runs. The search takes short read locks
+        /// off the main thread so that writes are not blocked and terminating <paramref name="lifetime"/> stops it early.
+        /// </summary>
+        public Task<int> SearchUsagesAsync(Lifetime lifetime, UsageSearchRequest request, Action<MethodUsageLocation[]> onBatch)
+        {
+            var logPrefix = $"SearchUsages#{request.SearchId}";
+            Func<IMethod, bool> isGeneratedMethod = request.IsTag
+                ? (Func<IMethod, bool>) (method => _extensionMethodDetector.IsGeneratedTagExtensionMethod(method, request.EntityName))
+                : method => _extensionMethodDetector.IsGeneratedExtensionMethod(method, request.EntityName);
+
+            return Task.Run(() => SearchUsagesInterruptibly(logPrefix, request.MethodNames, request.GeneratedFilePath,
+                request.EntityName, isGeneratedMethod, lifetime, batch => onBatch(batch.ToArray())));
+        }
+
+        private async Task<List<MethodUsageLocation>> FindGeneratedMethodUsagesAsync(string logPrefix,
+            string[] methodNames, string generatedFilePath, string entityName, Func<IMethod, bool> isGeneratedMethod)
         {
             var usages = new List<MethodUsageLocation>();
 
@@ -42,112 +81,11 @@ namespace ReSharperPlugin.AtomicPlugin.Services
                 {
                     try
                     {
-                        var psiServices = _solution.GetPsiServices();
-                        var searchDomain = SearchDomainFactory.Instance.CreateSearchDomain(_solution, false);
-                        var symbolCache = psiServices.Symbols;
-                        var symbolScope = symbolCache.GetSymbolScope(LibrarySymbolScope.FULL, caseSensitive: true);
-
-                        foreach (var methodName in request.MethodNames)
-                        {
-                            Logger.Info($"[FindMethodUsages] Searching for method: {methodName}");
-                            var sourceMembers = symbolScope.GetSourceMembers(methodName);
-                            var methods = new List<IMethod>();
-
-                            using (CompilationContextCookie.GetExplicitUniversalContextIfNotSet())
-                            {
-                                var typeMembers = sourceMembers as ITypeMember[] ?? sourceMembers.ToArray();
-
-                                foreach (var member in typeMembers.Where(x => x.ShortName == methodName))
-                                {
-                                    if (member is IMethod method)
-                                    {
-                                        methods.Add(method);
-                                    }
-                                }
-
-                                Logger.Info($"[FindMethodUsages] Found {methods.Count} methods named {methodName}");
-
-                                foreach (var method in methods)
-                                {
-                                    if (method == null) continue;
-
-                                    var containingType = method.ContainingType;
-                                    Logger.Info(
-                                        $"[FindMethodUsages] Checking method {method.ShortName} in type {containingType?.ShortName}, is extension: {method.IsExtensionMethod}");
-
-
-                                    var methodSourceFile = method.GetSourceFiles().FirstOrDefault();
-                                    if (methodSourceFile != null)
-                                    {
-                                        var methodFilePath = methodSourceFile.GetLocation().FullPath;
-                                        Logger.Info($"[FindMethodUsages] Method source file: {methodFilePath}");
-
-
-                                        var normalizedMethodPath = System.IO.Path.GetFullPath(methodFilePath)
-                                            .ToLowerInvariant();
-                                        var normalizedGeneratedPath = System.IO.Path
-                                            .GetFullPath(request.GeneratedFilePath).ToLowerInvariant();
-
-                                        if (normalizedMethodPath != normalizedGeneratedPath)
-                                        {
-                                            Logger.Info(
-                                                $"[FindMethodUsages] Method is not from the expected generated file");
-                                            Logger.Info($"[FindMethodUsages] Expected: {normalizedGeneratedPath}");
-                                            Logger.Info($"[FindMethodUsages] Actual: {normalizedMethodPath}");
-                                            continue;
-                                        }
-                                    }
-
-                                    if (!_extensionMethodDetector.IsGeneratedExtensionMethod(method, request.ValueName))
-                                    {
-                                        Logger.Info(
-                                            $"[FindMethodUsages] Method {method.ShortName} is not a generated extension method for {request.ValueName}");
-                                        continue;
-                                    }
-
-                                    Logger.Info(
-                                        $"[FindMethodUsages] Method {method.ShortName} IS a generated extension method for {request.ValueName}");
-
-                                    var finder = psiServices.SingleThreadedFinder;
-                                    var referencesList = new List<IReference>();
-                                    var consumer = new SimpleReferenceConsumer(referencesList);
-
-                                    finder.FindReferences(method, searchDomain, consumer,
-                                        NullProgressIndicator.Create());
-
-                                    Logger.Info(
-                                        $"[FindMethodUsages] Found {referencesList.Count} references to {method.ShortName}");
-
-                                    foreach (var reference in referencesList)
-                                    {
-                                        var sourceFile = reference.GetTreeNode()?.GetSourceFile();
-                                        if (sourceFile == null) continue;
-
-                                        var document = sourceFile.Document;
-                                        if (document == null) continue;
-
-                                        var range = reference.GetTreeNode().GetDocumentRange();
-                                        var startOffset = range.TextRange.StartOffset;
-                                        var docCoords = new DocumentOffset(document, startOffset).ToDocumentCoords();
-
-
-                                        var line = document.GetLineText(docCoords.Line);
-
-                                        usages.Add(new MethodUsageLocation(
-                                            filePath: sourceFile.GetLocation().FullPath,
-                                            line: (int)docCoords.Line.Plus1(),
-                                            column: (int)docCoords.Column.Plus1(),
-                                            methodName: methodName,
-                                            usageText: line.Trim()
-                                        ));
-                                    }
-                                }
-                            }
-                        }
+                        var result = new List<MethodUsageLocation>();
+                        SearchUsages(logPrefix, methodNames, generatedFilePath, entityName, isGeneratedMethod,
+                            Lifetime.Eternal, result.AddRange);
 
-                        Logger.Info($"[FindMethodUsages] Found {usages.Count} usages");
-
-                        tcs.SetResult(usages);
+                        tcs.SetResult(result);
                     }
                     catch (Exception ex)
                     {
@@ -160,158 +98,224 @@ namespace ReSharperPlugin.AtomicPlugin.Services
             }
             catch (Exception ex)
             {
-                Logger.Error($"Error finding method usages: {ex.Message}", ex);
+                Logger.Error($"[{logPrefix}] Error finding usages of {entityName}: {ex.Message}", ex);
             }
 
-            return new FindMethodUsagesResponse(usages.ToArray());
+            return usages;
         }
 
-        public async Task<FindTagUsagesResponse> FindTagUsagesAsync(FindTagUsagesRequest request)
+        /// <summary>
+        /// Collects the generated methods for all <paramref name="methodNames"/> first and finds their references
+        /// in one search, over the candidate files of <see cref="CollectCandidateFiles"/>.
+        /// </summary>
+        private int SearchUsages(string logPrefix, string[] methodNames, string generatedFilePath, string entityName,
+            Func<IMethod, bool> isGeneratedMethod, Lifetime lifetime, Action<List<MethodUsageLocation>> onBatch)
         {
-            var usages = new List<MethodUsageLocation>();
+            var psiServices = _solution.GetPsiServices();
 
-            try
+            using (CompilationContextCookie.GetExplicitUniversalContextIfNotSet())
             {
-                var tcs = new TaskCompletionSource<List<MethodUsageLocation>>();
+                var methods = CollectGeneratedMethods(psiServices, methodNames, generatedFilePath,
+                    entityName, isGeneratedMethod, logPrefix);
+                if (methods.Count == 0 || !lifetime.IsAlive)
+                {
+                    return 0;
+                }
 
-                var _ = _solution.Locks.Tasks.StartNew(Lifetime.Eternal, Scheduling.MainGuard, () =>
+                var searchDomain = SearchDomainFactory.Instance.CreateSearchDomain(
+                    CollectCandidateFiles(psiServices, methodNames, methods, logPrefix));
+                var consumer = new StreamingUsageConsumer(lifetime, onBatch);
+
+                psiServices.SingleThreadedFinder.FindReferences(methods.Cast<IDeclaredElement>().ToList(),
+                    searchDomain, consumer, NullProgressIndicator.Create());
+                consumer.Flush();
+
+                Logger.Info(lifetime.IsAlive
+                    ? $"[{logPrefix}] Found {consumer.Count} usages"
+                    : $"[{logPrefix}] Cancelled after {consumer.Count} usages");
+                return consumer.Count;
+            }
+        }
+
+        /// <summary>
+        /// Same search as <see cref="SearchUsages"/> for background threads. Each group of candidate files is searched
+        /// under its own read lock, so a pending write waits for one group instead of the whole search.
+        /// Generated methods invalidated by such a write are collected again before the next group.
+        /// </summary>
+        private int SearchUsagesInterruptibly(string logPrefix, string[] methodNames, string generatedFilePath, string entityName,
+            Func<IMethod, bool> isGeneratedMethod, Lifetime lifetime, Action<List<MethodUsageLocation>> onBatch)
+        {
+            var psiServices = _solution.GetPsiServices();
+            List<IMethod> methods;
+            List<IPsiSourceFile> candidateFiles;
+
+            using (ReadLockCookie.Create())
+            using (CompilationContextCookie.GetExplicitUniversalContextIfNotSet())
+            {
+                methods = CollectGeneratedMethods(psiServices, methodNames, generatedFilePath,
+                    entityName, isGeneratedMethod, logPrefix);
+                if (methods.Count == 0 || !lifetime.IsAlive)
                 {
-                    try
-                    {
-                        var psiServices = _solution.GetPsiServices();
-                        var searchDomain = SearchDomainFactory.Instance.CreateSearchDomain(_solution, false);
-                        var symbolCache = psiServices.Symbols;
-                        var symbolScope = symbolCache.GetSymbolScope(LibrarySymbolScope.FULL, caseSensitive: true);
+                    return 0;
+                }
 
-                        foreach (var methodName in request.MethodNames)
+                candidateFiles = CollectCandidateFiles(psiServices, methodNames, methods, logPrefix).ToList();
+            }
+
+            var consumer = new StreamingUsageConsumer(lifetime, onBatch);
+            for (var start = 0; start < candidateFiles.Count && lifetime.IsAlive; start += FilesPerReadLock)
+            {
+                using (ReadLockCookie.Create())
+                using (CompilationContextCookie.GetExplicitUniversalContextIfNotSet())
+                {
+                    if (methods.Any(method => !method.IsValid()))
+                    {
+                        methods = CollectGeneratedMethods(psiServices, methodNames, generatedFilePath,
+                            entityName, isGeneratedMethod, logPrefix);
+                        if (methods.Count == 0)
                         {
-                            Logger.Info($"[FindTagUsages] Searching for method: {methodName}");
-                            var sourceMembers = symbolScope.GetSourceMembers(methodName);
-                            var methods = new List<IMethod>();
-
-                            using (CompilationContextCookie.GetExplicitUniversalContextIfNotSet())
-                            {
-                                var typeMembers = sourceMembers as ITypeMember[] ?? sourceMembers.ToArray();
-
-                                foreach (var member in typeMembers.Where(x => x.ShortName == methodName))
-                                {
-                                    if (member is IMethod method)
-                                    {
-                                        methods.Add(method);
-                                    }
-                                }
-
-                                Logger.Info($"[FindTagUsages] Found {methods.Count} methods named {methodName}");
-
-                                foreach (var method in methods)
-                                {
-                                    if (method == null) continue;
-
-                                    var containingType = method.ContainingType;
-                                    Logger.Info(
-                                        $"[FindTagUsages] Checking method {method.ShortName} in type {containingType?.ShortName}, is extension: {method.IsExtensionMethod}");
-
-
-                                    var methodSourceFile = method.GetSourceFiles().FirstOrDefault();
-                                    if (methodSourceFile != null)
-                                    {
-                                        var methodFilePath = methodSourceFile.GetLocation().FullPath;
-                                        Logger.Info($"[FindTagUsages] Method source file: {methodFilePath}");
-
-
-                                        var normalizedMethodPath = System.IO.Path.GetFullPath(methodFilePath)
-                                            .ToLowerInvariant();
-                                        var normalizedGeneratedPath = System.IO.Path
-                                            .GetFullPath(request.GeneratedFilePath).ToLowerInvariant();
-
-                                        if (normalizedMethodPath != normalizedGeneratedPath)
-                                        {
-                                            Logger.Info(
-                                                $"[FindTagUsages] Method is not from the expected generated file");
-                                            Logger.Info($"[FindTagUsages] Expected: {normalizedGeneratedPath}");
-                                            Logger.Info($"[FindTagUsages] Actual: {normalizedMethodPath}");
-                                            continue;
-                                        }
-                                    }
-
-                                    if (!_extensionMethodDetector.IsGeneratedTagExtensionMethod(method,
-                                            request.TagName))
-                                    {
-                                        Logger.Info(
-                                            $"[FindTagUsages] Method {method.ShortName} is not a generated extension method for tag {request.TagName}");
-                                        continue;
-                                    }
-
-                                    Logger.Info(
-                                        $"[FindTagUsages] Method {method.ShortName} IS a generated extension method for tag {request.TagName}");
-
-                                    var finder = psiServices.SingleThreadedFinder;
-                                    var referencesList = new List<IReference>();
-                                    var consumer = new SimpleReferenceConsumer(referencesList);
-
-                                    finder.FindReferences(method, searchDomain, consumer,
-                                        NullProgressIndicator.Create());
-
-                                    Logger.Info(
-                                        $"[FindTagUsages] Found {referencesList.Count} references to {method.ShortName}");
-
-                                    foreach (var reference in referencesList)
-                                    {
-                                        var sourceFile = reference.GetTreeNode()?.GetSourceFile();
-                                        if (sourceFile == null) continue;
-
-                                        var document = sourceFile.Document;
-                                        if (document == null) continue;
-
-                                        var range = reference.GetTreeNode().GetDocumentRange();
-                                        var startOffset = range.TextRange.StartOffset;
-                                        var docCoords = new DocumentOffset(document, startOffset).ToDocumentCoords();
-
-
-                                        var line = document.GetLineText(docCoords.Line);
-
-                                        usages.Add(new MethodUsageLocation(
-                                            filePath: sourceFile.GetLocation().FullPath,
-                                            line: (int)docCoords.Line.Plus1(),
-                                            column: (int)docCoords.Column.Plus1(),
-                                            methodName: methodName,
-                                            usageText: line.Trim()
-                                        ));
-                                    }
-                                }
-                            }
+                            break;
                         }
+                    }
+
+                    var files = candidateFiles.Skip(start).Take(FilesPerReadLock).Where(file => file.IsValid()).ToList();
+                    psiServices.SingleThreadedFinder.FindReferences(methods.Cast<IDeclaredElement>().ToList(),
+                        SearchDomainFactory.Instance.CreateSearchDomain(files), consumer, NullProgressIndicator.Create());
+                }
+            }
+            consumer.Flush();
 
-                        Logger.Info($"[FindTagUsages] Found {usages.Count} usages");
+            Logger.Info(lifetime.IsAlive
+                ? $"[{logPrefix}] Found {consumer.Count} usages"
+                : $"[{logPrefix}] Cancelled after {consumer.Count} usages");
+            return consumer.Count;
+        }
 
-                        tcs.SetResult(usages);
-                    }
-                    catch (Exception ex)
+        private List<IMethod> CollectGeneratedMethods(IPsiServices psiServices, string[] methodNames,
+            string generatedFilePath, string entityName, Func<IMethod, bool> isGeneratedMethod, string logPrefix)
+        {
+            var symbolScope = psiServices.Symbols.GetSymbolScope(LibrarySymbolScope.FULL, caseSensitive: true);
+            var normalizedGeneratedPath = System.IO.Path.GetFullPath(generatedFilePath).ToLowerInvariant();
+            var methods = new List<IMethod>();
+
+            foreach (var methodName in methodNames.Distinct())
+            {
+                foreach (var member in symbolScope.GetSourceMembers(methodName).Where(x => x.ShortName == methodName))
+                {
+                    if (!(member is IMethod method)) continue;
+
+                    var methodSourceFile = method.GetSourceFiles().FirstOrDefault();
+                    if (methodSourceFile != null)
                     {
-                        tcs.SetException(ex);
+                        var normalizedMethodPath = System.IO.Path.GetFullPath(methodSourceFile.GetLocation().FullPath)
+                            .ToLowerInvariant();
+
+                        if (normalizedMethodPath != normalizedGeneratedPath)
+                        {
+                            Logger.Info(
+                                $"[{logPrefix}] Skipping {method.ShortName} from {normalizedMethodPath}, expected {normalizedGeneratedPath}");
+                            continue;
+                        }
                     }
-                });
 
+                    if (!isGeneratedMethod(method))
+                    {
+                        Logger.Info(
+                            $"[{logPrefix}] Method {method.ShortName} is not a generated extension method for {entityName}");
+                        continue;
+                    }
 
-                usages = await tcs.Task;
+                    methods.Add(method);
+                }
             }
-            catch (Exception ex)
+
+            Logger.Info($"[{logPrefix}] Found {methods.Count} generated methods for {entityName}");
+            return methods;
+        }
+
+        /// <summary>
+        /// Files that can call the generated methods: project files referencing one of the names according to the
+        /// usage index, or the word index while caches are still updating, compiled in the declaring module or in a
+        /// module referencing it. Package and library sources are never resolved.
+        /// </summary>
+        private HashSet<IPsiSourceFile> CollectCandidateFiles(IPsiServices psiServices, string[] methodNames,
+            List<IMethod> methods, string logPrefix)
+        {
+            var declaringModules = new HashSet<IPsiModule>(methods.Select(m => m.Module));
+            var modulesSeeingMethods = new Dictionary<IPsiModule, bool>();
+            var useUsageIndex = psiServices.CachesState.IsIdle.Value;
+            var matchedFiles = useUsageIndex
+                ? _usageIndex.GetFilesReferencing(methodNames)
+                : methodNames.Distinct().SelectMany(name => psiServices.WordIndex.GetFilesContainingWord(name)).ToList();
+            var candidateFiles = new HashSet<IPsiSourceFile>();
+
+            foreach (var sourceFile in matchedFiles)
             {
-                Logger.Error($"Error finding tag usages: {ex.Message}", ex);
+                if (candidateFiles.Contains(sourceFile)) continue;
+
+                var project = sourceFile.GetProject();
+                if (project == null || project.IsMiscFilesProject()) continue;
+
+                var module = sourceFile.PsiModule;
+                if (!modulesSeeingMethods.TryGetValue(module, out var seesMethods))
+                {
+                    seesMethods = declaringModules.Contains(module) ||
+                                  psiServices.Modules.GetModuleReferences(module)
+                                      .Any(reference => declaringModules.Contains(reference.Module));
+                    modulesSeeingMethods[module] = seesMethods;
+                }
+
+                if (seesMethods)
+                {
+                    candidateFiles.Add(sourceFile);
+                }
             }
 
-            return new FindTagUsagesResponse(usages.ToArray());
+            Logger.Info(
+                $"[{logPrefix}] Searching {candidateFiles.Count} candidate files of {matchedFiles.Count} {(useUsageIndex ? "usage" : "word")} index matches");
+            return candidateFiles;
+        }
+
+        private static MethodUsageLocation ToUsageLocation(IReference reference)
+        {
+            var treeNode = reference.GetTreeNode();
+            var sourceFile = treeNode?.GetSourceFile();
+            if (sourceFile == null) return null;
+
+            var document = sourceFile.Document;
+            if (document == null) return null;
+
+            var startOffset = treeNode.GetDocumentRange().TextRange.StartOffset;
+            var docCoords = new DocumentOffset(document, startOffset).ToDocumentCoords();
+            var line = document.GetLineText(docCoords.Line);
+
+            return new MethodUsageLocation(
+                filePath: sourceFile.GetLocation().FullPath,
+                line: (int)docCoords.Line.Plus1(),
+                column: (int)docCoords.Column.Plus1(),
+                methodName: reference.GetName(),
+                usageText: line.Trim()
+            );
         }
 
-        private class SimpleReferenceConsumer : IFindResultConsumer<IReference>
+        /// <summary>
+        /// Hands usages on in batches as the finder reports them and stops the search once the lifetime terminates.
+        /// </summary>
+        private class StreamingUsageConsumer : IFindResultConsumer<IReference>
         {
-            private readonly List<IReference> _references;
+            private const int BatchSize = 20;
+            private readonly Lifetime _lifetime;
+            private readonly Action<List<MethodUsageLocation>> _onBatch;
+            private List<MethodUsageLocation> _batch = new List<MethodUsageLocation>();
 
-            public SimpleReferenceConsumer(List<IReference> references)
+            public StreamingUsageConsumer(Lifetime lifetime, Action<List<MethodUsageLocation>> onBatch)
             {
-                _references = references;
+                _lifetime = lifetime;
+                _onBatch = onBatch;
             }
 
+            public int Count { get; private set; }
+
             public IReference Build(FindResult result)
             {
                 if (result is FindResultReference findResultReference)
@@ -324,13 +328,36 @@ namespace ReSharperPlugin.AtomicPlugin.Services
 
             public FindExecution Merge(IReference reference)
             {
-                if (reference != null)
+                if (!_lifetime.IsAlive)
                 {
-                    _references.Add(reference);
+                    return FindExecution.Stop;
+                }
+
+                var usage = reference == null ? null : ToUsageLocation(reference);
+                if (usage != null)
+                {
+                    _batch.Add(usage);
+                    Count++;
+                    if (_batch.Count >= BatchSize)
+                    {
+                        Flush();
+                    }
                 }
 
                 return FindExecution.Continue;
             }
+
+            public void Flush()
+            {
+                if (_batch.Count == 0 || !_lifetime.IsAlive)
+                {
+                    return;
+                }
+
+                var batch = _batch;
+                _batch = new List<MethodUsageLocation>();
+                _onBatch(batch);
+            }
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,35 @@
+package com.jetbrains.rider.plugins.atomic.benchmarks
+
+import com.jetbrains.rider.plugins.atomic.language.AtomicLexerAdapter
+import org.openjdk.jmh.annotations.*
+import org.openjdk.jmh.infra.Blackhole
+import java.util.concurrent.TimeUnit
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+open class AtomicLexerBenchmark {
+    
+    @Param("10", "1000", "50000")
+    @JvmField
+    var valueCount = 0
+    
+    private lateinit var text: String
+    
+    @Setup
+    fun setUp() {
+        text = AtomicSources.generate(valueCount)
+    }
+    
+    @Benchmark
+    fun lex(blackhole: Blackhole) {
+        val lexer = AtomicLexerAdapter()
+        lexer.start(text)
+        while (true) {
+            val tokenType = lexer.tokenType ?: break
+            blackhole.consume(tokenType)
+            blackhole.consume(lexer.tokenEnd)
+            lexer.advance()
+        }
+    }
+}
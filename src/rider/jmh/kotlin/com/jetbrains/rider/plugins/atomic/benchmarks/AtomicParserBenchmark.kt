@@ -0,0 +1,33 @@
+package com.jetbrains.rider.plugins.atomic.benchmarks
+
+import org.openjdk.jmh.annotations.*
+import java.util.concurrent.TimeUnit
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+open class AtomicParserBenchmark {
+    
+    @Param("10", "1000", "50000")
+    @JvmField
+    var valueCount = 0
+    
+    private val environment = AtomicParsingEnvironment()
+    private lateinit var text: String
+    
+    @Setup(Level.Trial)
+    fun setUp() {
+        environment.start()
+        text = AtomicSources.generate(valueCount)
+    }
+    
+    @TearDown(Level.Trial)
+    fun tearDown() {
+        environment.stop()
+    }
+    
+    @Benchmark
+    fun parse(): Int {
+        return environment.parse(text).node.textLength
+    }
+}
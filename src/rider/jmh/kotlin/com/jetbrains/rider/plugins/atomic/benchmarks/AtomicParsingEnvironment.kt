@@ -0,0 +1,34 @@
+package com.jetbrains.rider.plugins.atomic.benchmarks
+
+import com.intellij.psi.PsiFile
+import com.intellij.psi.PsiRecursiveElementWalkingVisitor
+import com.intellij.testFramework.ParsingTestCase
+import com.jetbrains.rider.plugins.atomic.language.AtomicParserDefinition
+
+/**
+ * Headless application and project with the Atomic parser definition registered,
+ * borrowed from the platform's [ParsingTestCase] fixture.
+ */
+class AtomicParsingEnvironment : ParsingTestCase("", "atomic", AtomicParserDefinition()) {
+    
+    init {
+        name = "benchmark"
+    }
+    
+    fun start() {
+        setUp()
+    }
+    
+    fun stop() {
+        tearDown()
+    }
+    
+    /**
+     * Parses [text] and expands every lazily parsed section so the whole tree is built.
+     */
+    fun parse(text: String): PsiFile {
+        val file = createPsiFile("benchmark", text)
+        file.accept(object : PsiRecursiveElementWalkingVisitor() {})
+        return file
+    }
+}
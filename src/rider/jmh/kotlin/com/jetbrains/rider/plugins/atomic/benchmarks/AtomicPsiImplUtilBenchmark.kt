@@ -0,0 +1,53 @@
+package com.jetbrains.rider.plugins.atomic.benchmarks
+
+import com.intellij.psi.util.PsiTreeUtil
+import com.jetbrains.rider.plugins.atomic.psi.*
+import com.jetbrains.rider.plugins.atomic.psi.impl.AtomicPsiImplUtil
+import org.openjdk.jmh.annotations.*
+import org.openjdk.jmh.infra.Blackhole
+import java.util.concurrent.TimeUnit
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+open class AtomicPsiImplUtilBenchmark {
+    
+    @Param("10", "1000", "50000")
+    @JvmField
+    var valueCount = 0
+    
+    private val environment = AtomicParsingEnvironment()
+    private lateinit var headerProps: List<AtomicEntityTypeProp>
+    private lateinit var namespaceProps: List<AtomicNamespaceProp>
+    private lateinit var valueItems: List<AtomicValueItem>
+    
+    @Setup(Level.Trial)
+    fun setUp() {
+        environment.start()
+        val file = environment.parse(AtomicSources.generate(valueCount))
+        headerProps = PsiTreeUtil.findChildrenOfType(file, AtomicEntityTypeProp::class.java).toList()
+        namespaceProps = PsiTreeUtil.findChildrenOfType(file, AtomicNamespaceProp::class.java).toList()
+        valueItems = PsiTreeUtil.findChildrenOfType(file, AtomicValueItem::class.java).toList()
+    }
+    
+    @TearDown(Level.Trial)
+    fun tearDown() {
+        environment.stop()
+    }
+    
+    @Benchmark
+    fun getValue(blackhole: Blackhole) {
+        headerProps.forEach { blackhole.consume(AtomicPsiImplUtil.getValue(it)) }
+        namespaceProps.forEach { blackhole.consume(AtomicPsiImplUtil.getValue(it)) }
+    }
+    
+    @Benchmark
+    fun getTypeReference(blackhole: Blackhole) {
+        valueItems.forEach { blackhole.consume(AtomicPsiImplUtil.getTypeReference(it)) }
+    }
+    
+    @Benchmark
+    fun getValueName(blackhole: Blackhole) {
+        valueItems.forEach { blackhole.consume(AtomicPsiImplUtil.getValueName(it)) }
+    }
+}
@@ -0,0 +1,56 @@
+package com.jetbrains.rider.plugins.atomic.benchmarks
+
+/**
+ * Synthetic .atomic files exercising every lexer state: header values, `WAITING_NAMESPACE`,
+ * imports, tags and values with deeply nested generic types.
+ */
+object AtomicSources {
+    
+    private val TYPES = listOf(
+        "int",
+        "float",
+        "Vector3",
+        "List<int>",
+        "Dictionary<string, List<Vector3>>",
+        "Dictionary<int, Dictionary<string, HashSet<Tuple<int, float, List<Vector2>>>>>",
+        "System.Collections.Generic.List<UnityEngine.GameObject>",
+        "Tuple<Tuple<Tuple<Tuple<Quaternion>>>>",
+        "int[]",
+        "ReactiveVariable<List<Dictionary<string, int[]>>>"
+    )
+    
+    fun generate(valueCount: Int): String {
+        val builder = StringBuilder(valueCount * 64 + 512)
+        builder.append("# Generated benchmark input\n")
+        builder.append("entityType: IEntity\n")
+        builder.append("aggressiveInlining: true\n")
+        builder.append("unsafe: false\n")
+        builder.append("namespace: Benchmark.Generated.Entities\n")
+        builder.append("className: BenchmarkEntityAPI\n")
+        builder.append("directory: Assets/Scripts/Generated\n")
+        builder.append("solution: Assembly-CSharp\n")
+        builder.append("\n")
+        
+        builder.append("imports:\n")
+        builder.append("- UnityEngine\n")
+        builder.append("- System.Collections.Generic\n")
+        builder.append("- Atomic.Entities\n")
+        builder.append("\n")
+        
+        builder.append("tags:\n")
+        repeat(maxOf(1, valueCount / 10)) { index ->
+            builder.append("- Tag").append(index).append('\n')
+        }
+        builder.append("\n")
+        
+        builder.append("values:\n")
+        repeat(valueCount) { index ->
+            if (index % 50 == 0) {
+                builder.append("# group ").append(index / 50).append('\n')
+            }
+            builder.append("- Value").append(index).append(": ").append(TYPES[index % TYPES.size]).append('\n')
+        }
+        
+        return builder.toString()
+    }
+}
@@ -108,23 +108,24 @@ class AtomicLexer implements FlexLexer {
   private static final String ZZ_ACTION_PACKED_0 =
     "\10\0\1\1\1\2\1\3\13\4\2\5\1\1\1\6"+
     "\3\7\1\10\1\11\1\12\13\13\13\14\1\15\2\16"+
-    "\1\17\1\20\1\21\1\22\5\21\12\4\1\0\1\23"+
-    "\1\0\1\24\2\7\2\0\12\13\12\14\4\21\12\4"+
-    "\2\7\12\13\12\14\4\21\7\4\1\25\2\4\1\7"+
-    "\1\26\7\13\1\25\2\13\7\14\1\25\2\14\2\21"+
-    "\1\27\1\21\11\4\1\30\11\13\11\14\2\21\7\4"+
-    "\1\31\1\32\7\13\1\31\1\32\7\14\1\31\1\32"+
-    "\1\21\4\4\1\33\2\4\4\13\1\33\2\13\4\14"+
-    "\1\33\2\14\1\21\5\4\1\34\5\13\1\34\5\14"+
-    "\1\34\1\21\1\4\1\35\1\36\1\4\1\37\1\13"+
-    "\1\35\1\36\1\13\1\40\1\14\1\35\1\36\1\14"+
-    "\1\40\1\21\1\4\1\41\1\13\1\41\1\14\1\41"+
-    "\1\4\1\13\1\14\1\4\1\13\1\14\1\4\1\13"+
+    "\1\17\1\20\1\21\1\22\5\21\13\4\1\0\1\23"+
+    "\1\0\1\24\2\7\2\0\13\13\13\14\4\21\13\4"+
+    "\2\7\13\13\13\14\4\21\10\4\1\25\2\4\1\7"+
+    "\1\26\10\13\1\25\2\13\10\14\1\25\2\14\2\21"+
+    "\1\27\1\21\12\4\1\30\12\13\12\14\2\21\10\4"+
+    "\1\31\1\32\10\13\1\31\1\32\10\14\1\31\1\32"+
+    "\1\21\5\4\1\33\2\4\5\13\1\33\2\13\5\14"+
+    "\1\33\2\14\1\21\2\4\1\34\3\4\1\35\2\13"+
+    "\1\34\3\13\1\35\2\14\1\34\3\14\1\35\1\21"+
+    "\1\4\1\36\1\37\1\4\1\40\1\13\1\36\1\37"+
+    "\1\13\1\41\1\14\1\36\1\37\1\14\1\41\1\21"+
+    "\1\4\1\42\1\13\1\42\1\14\1\42\1\4\1\13"+
     "\1\14\1\4\1\13\1\14\1\4\1\13\1\14\1\4"+
-    "\1\13\1\14\1\4\1\13\1\14\3\42";
+    "\1\13\1\14\1\4\1\13\1\14\1\4\1\13\1\14"+
+    "\1\4\1\13\1\14\3\43";
 
   private static int [] zzUnpackAction() {
-    int [] result = new int[325];
+    int [] result = new int[346];
     int offset = 0;
     offset = zzUnpackAction(ZZ_ACTION_PACKED_0, offset, result);
     return result;
@@ -158,7 +159,7 @@ class AtomicLexer implements FlexLexer {
     "\0\u06db\0\u0702\0\u0729\0\u0750\0\u0777\0\u079e\0\u0138\0\u015f"+
     "\0\u07c5\0\u07ec\0\u0813\0\u0138\0\u0138\0\u083a\0\u0861\0\u0888"+
     "\0\u08af\0\u08d6\0\u08fd\0\u0924\0\u094b\0\u0972\0\u0999\0\u09c0"+
-    "\0\u09e7\0\u0a0e\0\u0a35\0\u0a5c\0\u0381\0\u0138\0\u0a83\0\u0aaa"+
+    "\0\u09e7\0\u0a0e\0\u0a35\0\u0a5c\0\u0a83\0\u0381\0\u0138\0\u0aaa"+
     "\0\u0ad1\0\u0af8\0\u0b1f\0\u0b46\0\u0b6d\0\u0b94\0\u0bbb\0\u0be2"+
     "\0\u0c09\0\u0c30\0\u0c57\0\u0c7e\0\u0ca5\0\u0ccc\0\u0cf3\0\u0d1a"+
     "\0\u0d41\0\u0d68\0\u0d8f\0\u0db6\0\u0ddd\0\u0e04\0\u0e2b\0\u0e52"+
@@ -167,32 +168,35 @@ class AtomicLexer implements FlexLexer {
     "\0\u10e9\0\u1110\0\u1137\0\u115e\0\u1185\0\u11ac\0\u11d3\0\u11fa"+
     "\0\u1221\0\u1248\0\u126f\0\u1296\0\u12bd\0\u12e4\0\u130b\0\u1332"+
     "\0\u1359\0\u1380\0\u13a7\0\u13ce\0\u13f5\0\u141c\0\u1443\0\u146a"+
-    "\0\u1491\0\u14b8\0\u14df\0\u1506\0\u152d\0\u1554\0\u157b\0\u01ad"+
-    "\0\u15a2\0\u15c9\0\u15f0\0\u03a8\0\u1617\0\u163e\0\u1665\0\u168c"+
-    "\0\u16b3\0\u16da\0\u1701\0\u046b\0\u1728\0\u174f\0\u1776\0\u179d"+
-    "\0\u17c4\0\u17eb\0\u1812\0\u1839\0\u1860\0\u0618\0\u1887\0\u18ae"+
-    "\0\u18d5\0\u18fc\0\u083a\0\u1923\0\u194a\0\u1971\0\u1998\0\u19bf"+
-    "\0\u19e6\0\u1a0d\0\u1a34\0\u1a5b\0\u1a82\0\u03a8\0\u1aa9\0\u1ad0"+
-    "\0\u1af7\0\u1b1e\0\u1b45\0\u1b6c\0\u1b93\0\u1bba\0\u1be1\0\u1c08"+
+    "\0\u1491\0\u14b8\0\u14df\0\u1506\0\u152d\0\u1554\0\u157b\0\u15a2"+
+    "\0\u15c9\0\u15f0\0\u1617\0\u163e\0\u1665\0\u168c\0\u01ad\0\u16b3"+
+    "\0\u16da\0\u1701\0\u03a8\0\u1728\0\u174f\0\u1776\0\u179d\0\u17c4"+
+    "\0\u17eb\0\u1812\0\u1839\0\u046b\0\u1860\0\u1887\0\u18ae\0\u18d5"+
+    "\0\u18fc\0\u1923\0\u194a\0\u1971\0\u1998\0\u19bf\0\u0618\0\u19e6"+
+    "\0\u1a0d\0\u1a34\0\u1a5b\0\u083a\0\u1a82\0\u1aa9\0\u1ad0\0\u1af7"+
+    "\0\u1b1e\0\u1b45\0\u1b6c\0\u1b93\0\u1bba\0\u1be1\0\u1c08\0\u03a8"+
     "\0\u1c2f\0\u1c56\0\u1c7d\0\u1ca4\0\u1ccb\0\u1cf2\0\u1d19\0\u1d40"+
     "\0\u1d67\0\u1d8e\0\u1db5\0\u1ddc\0\u1e03\0\u1e2a\0\u1e51\0\u1e78"+
-    "\0\u1e9f\0\u01ad\0\u01ad\0\u1ec6\0\u1eed\0\u1f14\0\u1f3b\0\u1f62"+
-    "\0\u1f89\0\u1fb0\0\u046b\0\u046b\0\u1fd7\0\u1ffe\0\u2025\0\u204c"+
-    "\0\u2073\0\u209a\0\u20c1\0\u0618\0\u0618\0\u20e8\0\u210f\0\u2136"+
-    "\0\u215d\0\u2184\0\u01ad\0\u21ab\0\u21d2\0\u21f9\0\u2220\0\u2247"+
-    "\0\u226e\0\u046b\0\u2295\0\u22bc\0\u22e3\0\u230a\0\u2331\0\u2358"+
-    "\0\u0618\0\u237f\0\u23a6\0\u23cd\0\u23f4\0\u241b\0\u2442\0\u2469"+
-    "\0\u2490\0\u01ad\0\u24b7\0\u24de\0\u2505\0\u252c\0\u2553\0\u046b"+
-    "\0\u257a\0\u25a1\0\u25c8\0\u25ef\0\u2616\0\u0618\0\u263d\0\u2664"+
-    "\0\u01ad\0\u01ad\0\u268b\0\u01ad\0\u26b2\0\u046b\0\u046b\0\u26d9"+
-    "\0\u046b\0\u2700\0\u0618\0\u0618\0\u2727\0\u0618\0\u274e\0\u2775"+
-    "\0\u01ad\0\u279c\0\u046b\0\u27c3\0\u0618\0\u27ea\0\u2811\0\u2838"+
-    "\0\u285f\0\u2886\0\u28ad\0\u28d4\0\u28fb\0\u2922\0\u2949\0\u2970"+
-    "\0\u2997\0\u29be\0\u29e5\0\u2a0c\0\u2a33\0\u2a5a\0\u2a81\0\u2aa8"+
-    "\0\u2acf\0\u2af6\0\u01ad\0\u046b\0\u0618";
+    "\0\u1e9f\0\u1ec6\0\u1eed\0\u1f14\0\u1f3b\0\u1f62\0\u1f89\0\u1fb0"+
+    "\0\u1fd7\0\u1ffe\0\u2025\0\u204c\0\u2073\0\u209a\0\u01ad\0\u01ad"+
+    "\0\u20c1\0\u20e8\0\u210f\0\u2136\0\u215d\0\u2184\0\u21ab\0\u21d2"+
+    "\0\u046b\0\u046b\0\u21f9\0\u2220\0\u2247\0\u226e\0\u2295\0\u22bc"+
+    "\0\u22e3\0\u230a\0\u0618\0\u0618\0\u2331\0\u2358\0\u237f\0\u23a6"+
+    "\0\u23cd\0\u23f4\0\u01ad\0\u241b\0\u2442\0\u2469\0\u2490\0\u24b7"+
+    "\0\u24de\0\u2505\0\u046b\0\u252c\0\u2553\0\u257a\0\u25a1\0\u25c8"+
+    "\0\u25ef\0\u2616\0\u0618\0\u263d\0\u2664\0\u268b\0\u26b2\0\u26d9"+
+    "\0\u01ad\0\u2700\0\u2727\0\u274e\0\u01ad\0\u2775\0\u279c\0\u046b"+
+    "\0\u27c3\0\u27ea\0\u2811\0\u046b\0\u2838\0\u285f\0\u0618\0\u2886"+
+    "\0\u28ad\0\u28d4\0\u0618\0\u28fb\0\u2922\0\u01ad\0\u01ad\0\u2949"+
+    "\0\u01ad\0\u2970\0\u046b\0\u046b\0\u2997\0\u046b\0\u29be\0\u0618"+
+    "\0\u0618\0\u29e5\0\u0618\0\u2a0c\0\u2a33\0\u01ad\0\u2a5a\0\u046b"+
+    "\0\u2a81\0\u0618\0\u2aa8\0\u2acf\0\u2af6\0\u2b1d\0\u2b44\0\u2b6b"+
+    "\0\u2b92\0\u2bb9\0\u2be0\0\u2c07\0\u2c2e\0\u2c55\0\u2c7c\0\u2ca3"+
+    "\0\u2cca\0\u2cf1\0\u2d18\0\u2d3f\0\u2d66\0\u2d8d\0\u2db4\0\u01ad"+
+    "\0\u046b\0\u0618";
 
   private static int [] zzUnpackRowMap() {
-    int [] result = new int[325];
+    int [] result = new int[346];
     int offset = 0;
     offset = zzUnpackRowMap(ZZ_ROWMAP_PACKED_0, offset, result);
     return result;
@@ -235,296 +239,317 @@ class AtomicLexer implements FlexLexer {
     "\41\0\2\13\1\0\2\13\1\0\41\13\14\0\1\14"+
     "\1\0\4\14\2\0\22\14\15\0\1\14\1\0\4\14"+
     "\2\0\5\14\1\103\14\14\15\0\1\14\1\0\4\14"+
-    "\2\0\7\14\1\104\12\14\15\0\1\14\1\0\4\14"+
-    "\2\0\6\14\1\105\13\14\15\0\1\14\1\0\4\14"+
-    "\2\0\11\14\1\106\10\14\15\0\1\14\1\0\4\14"+
-    "\2\0\10\14\1\107\11\14\15\0\1\14\1\0\4\14"+
-    "\2\0\1\110\21\14\15\0\1\14\1\0\4\14\2\0"+
-    "\12\14\1\111\7\14\15\0\1\14\1\0\4\14\2\0"+
-    "\1\112\21\14\15\0\1\14\1\0\4\14\2\0\11\14"+
-    "\1\113\10\14\15\0\1\14\1\0\4\14\2\0\1\114"+
-    "\21\14\2\0\1\12\1\27\3\12\41\0\6\115\1\116"+
-    "\14\115\1\117\23\115\12\0\2\120\1\33\1\0\4\33"+
-    "\1\0\1\120\22\33\13\0\2\120\1\33\1\0\4\33"+
-    "\1\0\1\120\1\121\21\33\13\0\2\120\1\33\1\0"+
-    "\4\33\1\0\1\120\14\33\1\122\5\33\13\0\1\123"+
-    "\1\0\1\36\1\0\4\36\2\0\22\36\1\0\2\37"+
-    "\1\0\2\37\1\0\41\37\12\0\1\124\1\0\1\41"+
-    "\1\0\4\41\2\0\22\41\13\0\1\124\1\0\1\41"+
-    "\1\0\4\41\2\0\5\41\1\125\14\41\13\0\1\124"+
-    "\1\0\1\41\1\0\4\41\2\0\7\41\1\126\12\41"+
-    "\13\0\1\124\1\0\1\41\1\0\4\41\2\0\6\41"+
-    "\1\127\13\41\13\0\1\124\1\0\1\41\1\0\4\41"+
-    "\2\0\11\41\1\130\10\41\13\0\1\124\1\0\1\41"+
-    "\1\0\4\41\2\0\10\41\1\131\11\41\13\0\1\124"+
-    "\1\0\1\41\1\0\4\41\2\0\1\132\21\41\13\0"+
-    "\1\124\1\0\1\41\1\0\4\41\2\0\12\41\1\133"+
-    "\7\41\13\0\1\124\1\0\1\41\1\0\4\41\2\0"+
-    "\1\134\21\41\13\0\1\124\1\0\1\41\1\0\4\41"+
-    "\2\0\11\41\1\135\10\41\13\0\1\124\1\0\1\41"+
-    "\1\0\4\41\2\0\1\136\21\41\15\0\1\54\1\0"+
-    "\4\54\2\0\22\54\15\0\1\54\1\0\4\54\2\0"+
-    "\5\54\1\137\14\54\15\0\1\54\1\0\4\54\2\0"+
-    "\7\54\1\140\12\54\15\0\1\54\1\0\4\54\2\0"+
-    "\6\54\1\141\13\54\15\0\1\54\1\0\4\54\2\0"+
-    "\11\54\1\142\10\54\15\0\1\54\1\0\4\54\2\0"+
-    "\10\54\1\143\11\54\15\0\1\54\1\0\4\54\2\0"+
-    "\1\144\21\54\15\0\1\54\1\0\4\54\2\0\12\54"+
-    "\1\145\7\54\15\0\1\54\1\0\4\54\2\0\1\146"+
-    "\21\54\15\0\1\54\1\0\4\54\2\0\11\54\1\147"+
-    "\10\54\15\0\1\54\1\0\4\54\2\0\1\150\21\54"+
-    "\2\0\1\12\1\70\3\12\55\0\1\72\1\0\4\72"+
-    "\2\0\22\72\1\0\2\73\1\0\2\73\1\0\41\73"+
-    "\12\0\1\76\1\0\1\76\1\0\5\76\1\0\22\76"+
-    "\13\0\1\76\1\0\1\76\1\0\5\76\1\0\11\76"+
-    "\1\151\10\76\13\0\1\76\1\0\1\76\1\0\5\76"+
-    "\1\0\10\76\1\152\11\76\13\0\1\76\1\0\1\76"+
-    "\1\0\5\76\1\0\1\153\21\76\13\0\1\76\1\0"+
-    "\1\76\1\0\5\76\1\0\1\154\21\76\15\0\1\14"+
-    "\1\0\4\14\2\0\5\14\1\155\14\14\15\0\1\14"+
-    "\1\0\4\14\2\0\1\156\21\14\15\0\1\14\1\0"+
-    "\4\14\2\0\14\14\1\157\5\14\15\0\1\14\1\0"+
-    "\4\14\2\0\16\14\1\160\3\14\15\0\1\14\1\0"+
-    "\4\14\2\0\13\14\1\161\6\14\15\0\1\14\1\0"+
-    "\4\14\2\0\10\14\1\162\11\14\15\0\1\14\1\0"+
-    "\4\14\2\0\7\14\1\163\12\14\15\0\1\14\1\0"+
-    "\4\14\2\0\5\14\1\164\14\14\15\0\1\14\1\0"+
-    "\4\14\2\0\15\14\1\165\4\14\15\0\1\14\1\0"+
-    "\4\14\2\0\7\14\1\166\12\14\1\0\2\115\4\0"+
-    "\40\115\13\0\3\120\1\0\4\120\1\0\23\120\13\0"+
-    "\2\120\1\33\1\0\4\33\1\0\1\120\7\33\1\167"+
-    "\12\33\13\0\2\120\1\33\1\0\4\33\1\0\1\120"+
-    "\17\33\1\170\2\33\17\0\4\36\2\0\22\36\17\0"+
-    "\4\41\2\0\22\41\13\0\1\124\1\0\1\41\1\0"+
-    "\4\41\2\0\5\41\1\171\14\41\13\0\1\124\1\0"+
-    "\1\41\1\0\4\41\2\0\1\172\21\41\13\0\1\124"+
-    "\1\0\1\41\1\0\4\41\2\0\14\41\1\173\5\41"+
-    "\13\0\1\124\1\0\1\41\1\0\4\41\2\0\16\41"+
-    "\1\174\3\41\13\0\1\124\1\0\1\41\1\0\4\41"+
-    "\2\0\13\41\1\175\6\41\13\0\1\124\1\0\1\41"+
-    "\1\0\4\41\2\0\10\41\1\176\11\41\13\0\1\124"+
-    "\1\0\1\41\1\0\4\41\2\0\7\41\1\177\12\41"+
-    "\13\0\1\124\1\0\1\41\1\0\4\41\2\0\5\41"+
-    "\1\200\14\41\13\0\1\124\1\0\1\41\1\0\4\41"+
-    "\2\0\15\41\1\201\4\41\13\0\1\124\1\0\1\41"+
-    "\1\0\4\41\2\0\7\41\1\202\12\41\15\0\1\54"+
-    "\1\0\4\54\2\0\5\54\1\203\14\54\15\0\1\54"+
-    "\1\0\4\54\2\0\1\204\21\54\15\0\1\54\1\0"+
-    "\4\54\2\0\14\54\1\205\5\54\15\0\1\54\1\0"+
-    "\4\54\2\0\16\54\1\206\3\54\15\0\1\54\1\0"+
-    "\4\54\2\0\13\54\1\207\6\54\15\0\1\54\1\0"+
-    "\4\54\2\0\10\54\1\210\11\54\15\0\1\54\1\0"+
-    "\4\54\2\0\7\54\1\211\12\54\15\0\1\54\1\0"+
-    "\4\54\2\0\5\54\1\212\14\54\15\0\1\54\1\0"+
-    "\4\54\2\0\15\54\1\213\4\54\15\0\1\54\1\0"+
-    "\4\54\2\0\7\54\1\214\12\54\13\0\1\76\1\0"+
-    "\1\76\1\0\5\76\1\0\16\76\1\215\3\76\13\0"+
-    "\1\76\1\0\1\76\1\0\5\76\1\0\13\76\1\216"+
+    "\2\0\7\14\1\104\2\14\1\105\7\14\15\0\1\14"+
+    "\1\0\4\14\2\0\6\14\1\106\13\14\15\0\1\14"+
+    "\1\0\4\14\2\0\11\14\1\107\10\14\15\0\1\14"+
+    "\1\0\4\14\2\0\10\14\1\110\11\14\15\0\1\14"+
+    "\1\0\4\14\2\0\1\111\21\14\15\0\1\14\1\0"+
+    "\4\14\2\0\12\14\1\112\7\14\15\0\1\14\1\0"+
+    "\4\14\2\0\1\113\21\14\15\0\1\14\1\0\4\14"+
+    "\2\0\11\14\1\114\10\14\15\0\1\14\1\0\4\14"+
+    "\2\0\1\115\21\14\2\0\1\12\1\27\3\12\41\0"+
+    "\6\116\1\117\14\116\1\120\23\116\12\0\2\121\1\33"+
+    "\1\0\4\33\1\0\1\121\22\33\13\0\2\121\1\33"+
+    "\1\0\4\33\1\0\1\121\1\122\21\33\13\0\2\121"+
+    "\1\33\1\0\4\33\1\0\1\121\14\33\1\123\5\33"+
+    "\13\0\1\124\1\0\1\36\1\0\4\36\2\0\22\36"+
+    "\1\0\2\37\1\0\2\37\1\0\41\37\12\0\1\125"+
+    "\1\0\1\41\1\0\4\41\2\0\22\41\13\0\1\125"+
+    "\1\0\1\41\1\0\4\41\2\0\5\41\1\126\14\41"+
+    "\13\0\1\125\1\0\1\41\1\0\4\41\2\0\7\41"+
+    "\1\127\2\41\1\130\7\41\13\0\1\125\1\0\1\41"+
+    "\1\0\4\41\2\0\6\41\1\131\13\41\13\0\1\125"+
+    "\1\0\1\41\1\0\4\41\2\0\11\41\1\132\10\41"+
+    "\13\0\1\125\1\0\1\41\1\0\4\41\2\0\10\41"+
+    "\1\133\11\41\13\0\1\125\1\0\1\41\1\0\4\41"+
+    "\2\0\1\134\21\41\13\0\1\125\1\0\1\41\1\0"+
+    "\4\41\2\0\12\41\1\135\7\41\13\0\1\125\1\0"+
+    "\1\41\1\0\4\41\2\0\1\136\21\41\13\0\1\125"+
+    "\1\0\1\41\1\0\4\41\2\0\11\41\1\137\10\41"+
+    "\13\0\1\125\1\0\1\41\1\0\4\41\2\0\1\140"+
+    "\21\41\15\0\1\54\1\0\4\54\2\0\22\54\15\0"+
+    "\1\54\1\0\4\54\2\0\5\54\1\141\14\54\15\0"+
+    "\1\54\1\0\4\54\2\0\7\54\1\142\2\54\1\143"+
+    "\7\54\15\0\1\54\1\0\4\54\2\0\6\54\1\144"+
+    "\13\54\15\0\1\54\1\0\4\54\2\0\11\54\1\145"+
+    "\10\54\15\0\1\54\1\0\4\54\2\0\10\54\1\146"+
+    "\11\54\15\0\1\54\1\0\4\54\2\0\1\147\21\54"+
+    "\15\0\1\54\1\0\4\54\2\0\12\54\1\150\7\54"+
+    "\15\0\1\54\1\0\4\54\2\0\1\151\21\54\15\0"+
+    "\1\54\1\0\4\54\2\0\11\54\1\152\10\54\15\0"+
+    "\1\54\1\0\4\54\2\0\1\153\21\54\2\0\1\12"+
+    "\1\70\3\12\55\0\1\72\1\0\4\72\2\0\22\72"+
+    "\1\0\2\73\1\0\2\73\1\0\41\73\12\0\1\76"+
+    "\1\0\1\76\1\0\5\76\1\0\22\76\13\0\1\76"+
+    "\1\0\1\76\1\0\5\76\1\0\11\76\1\154\10\76"+
+    "\13\0\1\76\1\0\1\76\1\0\5\76\1\0\10\76"+
+    "\1\155\11\76\13\0\1\76\1\0\1\76\1\0\5\76"+
+    "\1\0\1\156\21\76\13\0\1\76\1\0\1\76\1\0"+
+    "\5\76\1\0\1\157\21\76\15\0\1\14\1\0\4\14"+
+    "\2\0\5\14\1\160\14\14\15\0\1\14\1\0\4\14"+
+    "\2\0\1\161\21\14\15\0\1\14\1\0\4\14\2\0"+
+    "\11\14\1\162\10\14\15\0\1\14\1\0\4\14\2\0"+
+    "\14\14\1\163\5\14\15\0\1\14\1\0\4\14\2\0"+
+    "\16\14\1\164\3\14\15\0\1\14\1\0\4\14\2\0"+
+    "\13\14\1\165\6\14\15\0\1\14\1\0\4\14\2\0"+
+    "\10\14\1\166\11\14\15\0\1\14\1\0\4\14\2\0"+
+    "\7\14\1\167\12\14\15\0\1\14\1\0\4\14\2\0"+
+    "\5\14\1\170\14\14\15\0\1\14\1\0\4\14\2\0"+
+    "\15\14\1\171\4\14\15\0\1\14\1\0\4\14\2\0"+
+    "\7\14\1\172\12\14\1\0\2\116\4\0\40\116\13\0"+
+    "\3\121\1\0\4\121\1\0\23\121\13\0\2\121\1\33"+
+    "\1\0\4\33\1\0\1\121\7\33\1\173\12\33\13\0"+
+    "\2\121\1\33\1\0\4\33\1\0\1\121\17\33\1\174"+
+    "\2\33\17\0\4\36\2\0\22\36\17\0\4\41\2\0"+
+    "\22\41\13\0\1\125\1\0\1\41\1\0\4\41\2\0"+
+    "\5\41\1\175\14\41\13\0\1\125\1\0\1\41\1\0"+
+    "\4\41\2\0\1\176\21\41\13\0\1\125\1\0\1\41"+
+    "\1\0\4\41\2\0\11\41\1\177\10\41\13\0\1\125"+
+    "\1\0\1\41\1\0\4\41\2\0\14\41\1\200\5\41"+
+    "\13\0\1\125\1\0\1\41\1\0\4\41\2\0\16\41"+
+    "\1\201\3\41\13\0\1\125\1\0\1\41\1\0\4\41"+
+    "\2\0\13\41\1\202\6\41\13\0\1\125\1\0\1\41"+
+    "\1\0\4\41\2\0\10\41\1\203\11\41\13\0\1\125"+
+    "\1\0\1\41\1\0\4\41\2\0\7\41\1\204\12\41"+
+    "\13\0\1\125\1\0\1\41\1\0\4\41\2\0\5\41"+
+    "\1\205\14\41\13\0\1\125\1\0\1\41\1\0\4\41"+
+    "\2\0\15\41\1\206\4\41\13\0\1\125\1\0\1\41"+
+    "\1\0\4\41\2\0\7\41\1\207\12\41\15\0\1\54"+
+    "\1\0\4\54\2\0\5\54\1\210\14\54\15\0\1\54"+
+    "\1\0\4\54\2\0\1\211\21\54\15\0\1\54\1\0"+
+    "\4\54\2\0\11\54\1\212\10\54\15\0\1\54\1\0"+
+    "\4\54\2\0\14\54\1\213\5\54\15\0\1\54\1\0"+
+    "\4\54\2\0\16\54\1\214\3\54\15\0\1\54\1\0"+
+    "\4\54\2\0\13\54\1\215\6\54\15\0\1\54\1\0"+
+    "\4\54\2\0\10\54\1\216\11\54\15\0\1\54\1\0"+
+    "\4\54\2\0\7\54\1\217\12\54\15\0\1\54\1\0"+
+    "\4\54\2\0\5\54\1\220\14\54\15\0\1\54\1\0"+
+    "\4\54\2\0\15\54\1\221\4\54\15\0\1\54\1\0"+
+    "\4\54\2\0\7\54\1\222\12\54\13\0\1\76\1\0"+
+    "\1\76\1\0\5\76\1\0\16\76\1\223\3\76\13\0"+
+    "\1\76\1\0\1\76\1\0\5\76\1\0\13\76\1\224"+
     "\6\76\13\0\1\76\1\0\1\76\1\0\5\76\1\0"+
-    "\5\76\1\217\14\76\13\0\1\76\1\0\1\76\1\0"+
-    "\5\76\1\0\7\76\1\220\12\76\15\0\1\14\1\0"+
-    "\4\14\2\0\14\14\1\221\5\14\15\0\1\14\1\0"+
-    "\4\14\2\0\15\14\1\222\4\14\15\0\1\14\1\0"+
-    "\4\14\2\0\3\14\1\223\16\14\15\0\1\14\1\0"+
-    "\4\14\2\0\6\14\1\224\13\14\15\0\1\14\1\0"+
-    "\4\14\2\0\12\14\1\225\7\14\15\0\1\14\1\0"+
-    "\4\14\2\0\3\14\1\226\16\14\15\0\1\14\1\0"+
-    "\4\14\2\0\17\14\1\227\2\14\15\0\1\14\1\0"+
+    "\5\76\1\225\14\76\13\0\1\76\1\0\1\76\1\0"+
+    "\5\76\1\0\7\76\1\226\12\76\15\0\1\14\1\0"+
+    "\4\14\2\0\14\14\1\227\5\14\15\0\1\14\1\0"+
     "\4\14\2\0\15\14\1\230\4\14\15\0\1\14\1\0"+
-    "\4\14\2\0\1\231\21\14\15\0\1\14\1\0\4\14"+
-    "\2\0\17\14\1\232\2\14\13\0\2\120\1\33\1\0"+
-    "\4\33\1\0\1\120\15\33\1\233\4\33\13\0\2\120"+
-    "\1\33\1\0\4\33\1\0\1\120\3\33\1\234\16\33"+
-    "\13\0\1\124\1\0\1\41\1\0\4\41\2\0\14\41"+
-    "\1\235\5\41\13\0\1\124\1\0\1\41\1\0\4\41"+
-    "\2\0\15\41\1\236\4\41\13\0\1\124\1\0\1\41"+
-    "\1\0\4\41\2\0\3\41\1\237\16\41\13\0\1\124"+
-    "\1\0\1\41\1\0\4\41\2\0\6\41\1\240\13\41"+
-    "\13\0\1\124\1\0\1\41\1\0\4\41\2\0\12\41"+
-    "\1\241\7\41\13\0\1\124\1\0\1\41\1\0\4\41"+
-    "\2\0\3\41\1\242\16\41\13\0\1\124\1\0\1\41"+
-    "\1\0\4\41\2\0\17\41\1\243\2\41\13\0\1\124"+
-    "\1\0\1\41\1\0\4\41\2\0\15\41\1\244\4\41"+
-    "\13\0\1\124\1\0\1\41\1\0\4\41\2\0\1\245"+
-    "\21\41\13\0\1\124\1\0\1\41\1\0\4\41\2\0"+
-    "\17\41\1\246\2\41\15\0\1\54\1\0\4\54\2\0"+
-    "\14\54\1\247\5\54\15\0\1\54\1\0\4\54\2\0"+
-    "\15\54\1\250\4\54\15\0\1\54\1\0\4\54\2\0"+
-    "\3\54\1\251\16\54\15\0\1\54\1\0\4\54\2\0"+
-    "\6\54\1\252\13\54\15\0\1\54\1\0\4\54\2\0"+
-    "\12\54\1\253\7\54\15\0\1\54\1\0\4\54\2\0"+
-    "\3\54\1\254\16\54\15\0\1\54\1\0\4\54\2\0"+
-    "\17\54\1\255\2\54\15\0\1\54\1\0\4\54\2\0"+
-    "\15\54\1\256\4\54\15\0\1\54\1\0\4\54\2\0"+
-    "\1\257\21\54\15\0\1\54\1\0\4\54\2\0\17\54"+
-    "\1\260\2\54\13\0\1\76\1\0\1\76\1\0\5\76"+
-    "\1\0\6\76\1\261\13\76\13\0\1\76\1\0\1\76"+
-    "\1\0\5\76\1\0\12\76\1\262\7\76\13\0\1\76"+
-    "\1\0\1\76\1\0\5\76\1\0\15\76\1\263\4\76"+
-    "\13\0\1\76\1\0\1\76\1\0\5\76\1\0\17\76"+
-    "\1\264\2\76\15\0\1\14\1\0\4\14\2\0\3\14"+
-    "\1\265\16\14\15\0\1\14\1\0\4\14\2\0\15\14"+
-    "\1\266\4\14\15\0\1\14\1\0\4\14\2\0\1\14"+
-    "\1\267\20\14\15\0\1\14\1\0\4\14\2\0\16\14"+
-    "\1\270\3\14\15\0\1\14\1\0\4\14\2\0\14\14"+
-    "\1\271\5\14\15\0\1\14\1\0\4\14\2\0\15\14"+
-    "\1\272\4\14\15\0\1\14\1\0\4\14\2\0\16\14"+
-    "\1\273\3\14\15\0\1\14\1\0\4\14\2\0\4\14"+
-    "\1\274\15\14\15\0\1\14\1\0\4\14\2\0\3\14"+
-    "\1\275\16\14\13\0\2\120\1\33\1\0\4\33\1\0"+
-    "\1\120\3\33\1\276\16\33\13\0\1\124\1\0\1\41"+
-    "\1\0\4\41\2\0\3\41\1\277\16\41\13\0\1\124"+
-    "\1\0\1\41\1\0\4\41\2\0\15\41\1\300\4\41"+
-    "\13\0\1\124\1\0\1\41\1\0\4\41\2\0\1\41"+
-    "\1\301\20\41\13\0\1\124\1\0\1\41\1\0\4\41"+
-    "\2\0\16\41\1\302\3\41\13\0\1\124\1\0\1\41"+
-    "\1\0\4\41\2\0\14\41\1\303\5\41\13\0\1\124"+
-    "\1\0\1\41\1\0\4\41\2\0\15\41\1\304\4\41"+
-    "\13\0\1\124\1\0\1\41\1\0\4\41\2\0\16\41"+
-    "\1\305\3\41\13\0\1\124\1\0\1\41\1\0\4\41"+
-    "\2\0\4\41\1\306\15\41\13\0\1\124\1\0\1\41"+
-    "\1\0\4\41\2\0\3\41\1\307\16\41\15\0\1\54"+
-    "\1\0\4\54\2\0\3\54\1\310\16\54\15\0\1\54"+
-    "\1\0\4\54\2\0\15\54\1\311\4\54\15\0\1\54"+
-    "\1\0\4\54\2\0\1\54\1\312\20\54\15\0\1\54"+
-    "\1\0\4\54\2\0\16\54\1\313\3\54\15\0\1\54"+
-    "\1\0\4\54\2\0\14\54\1\314\5\54\15\0\1\54"+
-    "\1\0\4\54\2\0\15\54\1\315\4\54\15\0\1\54"+
-    "\1\0\4\54\2\0\16\54\1\316\3\54\15\0\1\54"+
-    "\1\0\4\54\2\0\4\54\1\317\15\54\15\0\1\54"+
-    "\1\0\4\54\2\0\3\54\1\320\16\54\13\0\1\76"+
-    "\1\0\1\76\1\0\5\76\1\0\16\76\1\321\3\76"+
-    "\13\0\1\76\1\0\1\76\1\0\5\76\1\0\14\76"+
-    "\1\322\5\76\13\0\1\76\1\0\1\76\1\0\5\76"+
-    "\1\0\3\76\1\217\16\76\15\0\1\14\1\0\4\14"+
-    "\2\0\15\14\1\323\4\14\15\0\1\14\1\0\2\14"+
-    "\1\324\1\14\2\0\22\14\15\0\1\14\1\0\4\14"+
-    "\2\0\16\14\1\325\3\14\15\0\1\14\1\0\4\14"+
-    "\2\0\21\14\1\326\15\0\1\14\1\0\4\14\2\0"+
-    "\16\14\1\327\3\14\15\0\1\14\1\0\4\14\2\0"+
-    "\13\14\1\330\6\14\15\0\1\14\1\0\4\14\2\0"+
-    "\6\14\1\331\13\14\15\0\1\14\1\0\4\14\2\0"+
-    "\3\14\1\332\16\14\15\0\1\14\1\0\4\14\2\0"+
-    "\15\14\1\333\4\14\13\0\1\124\1\0\1\41\1\0"+
-    "\4\41\2\0\15\41\1\334\4\41\13\0\1\124\1\0"+
-    "\1\41\1\0\2\41\1\335\1\41\2\0\22\41\13\0"+
-    "\1\124\1\0\1\41\1\0\4\41\2\0\16\41\1\336"+
-    "\3\41\13\0\1\124\1\0\1\41\1\0\4\41\2\0"+
-    "\21\41\1\337\13\0\1\124\1\0\1\41\1\0\4\41"+
-    "\2\0\16\41\1\340\3\41\13\0\1\124\1\0\1\41"+
-    "\1\0\4\41\2\0\13\41\1\341\6\41\13\0\1\124"+
-    "\1\0\1\41\1\0\4\41\2\0\6\41\1\342\13\41"+
-    "\13\0\1\124\1\0\1\41\1\0\4\41\2\0\3\41"+
-    "\1\343\16\41\13\0\1\124\1\0\1\41\1\0\4\41"+
-    "\2\0\15\41\1\344\4\41\15\0\1\54\1\0\4\54"+
-    "\2\0\15\54\1\345\4\54\15\0\1\54\1\0\2\54"+
-    "\1\346\1\54\2\0\22\54\15\0\1\54\1\0\4\54"+
-    "\2\0\16\54\1\347\3\54\15\0\1\54\1\0\4\54"+
-    "\2\0\21\54\1\350\15\0\1\54\1\0\4\54\2\0"+
-    "\16\54\1\351\3\54\15\0\1\54\1\0\4\54\2\0"+
-    "\13\54\1\352\6\54\15\0\1\54\1\0\4\54\2\0"+
-    "\6\54\1\353\13\54\15\0\1\54\1\0\4\54\2\0"+
-    "\3\54\1\354\16\54\15\0\1\54\1\0\4\54\2\0"+
-    "\15\54\1\355\4\54\13\0\1\76\1\0\1\76\1\0"+
-    "\5\76\1\0\21\76\1\356\13\0\1\76\1\0\1\76"+
-    "\1\0\5\76\1\0\16\76\1\217\3\76\15\0\1\14"+
-    "\1\0\4\14\2\0\15\14\1\357\4\14\15\0\1\14"+
-    "\1\0\4\14\2\0\1\360\21\14\15\0\1\14\1\0"+
-    "\4\14\2\0\12\14\1\361\7\14\15\0\1\14\1\0"+
-    "\3\14\1\362\2\0\22\14\15\0\1\14\1\0\4\14"+
-    "\2\0\15\14\1\363\4\14\15\0\1\14\1\0\4\14"+
-    "\2\0\1\364\21\14\15\0\1\14\1\0\4\14\2\0"+
-    "\12\14\1\365\7\14\13\0\1\124\1\0\1\41\1\0"+
-    "\4\41\2\0\15\41\1\366\4\41\13\0\1\124\1\0"+
-    "\1\41\1\0\4\41\2\0\1\367\21\41\13\0\1\124"+
-    "\1\0\1\41\1\0\4\41\2\0\12\41\1\370\7\41"+
-    "\13\0\1\124\1\0\1\41\1\0\3\41\1\371\2\0"+
-    "\22\41\13\0\1\124\1\0\1\41\1\0\4\41\2\0"+
-    "\15\41\1\372\4\41\13\0\1\124\1\0\1\41\1\0"+
-    "\4\41\2\0\1\373\21\41\13\0\1\124\1\0\1\41"+
-    "\1\0\4\41\2\0\12\41\1\374\7\41\15\0\1\54"+
-    "\1\0\4\54\2\0\15\54\1\375\4\54\15\0\1\54"+
-    "\1\0\4\54\2\0\1\376\21\54\15\0\1\54\1\0"+
-    "\4\54\2\0\12\54\1\377\7\54\15\0\1\54\1\0"+
-    "\3\54\1\u0100\2\0\22\54\15\0\1\54\1\0\4\54"+
-    "\2\0\15\54\1\u0101\4\54\15\0\1\54\1\0\4\54"+
-    "\2\0\1\u0102\21\54\15\0\1\54\1\0\4\54\2\0"+
-    "\12\54\1\u0103\7\54\13\0\1\76\1\0\1\76\1\0"+
-    "\3\76\1\u0104\1\76\1\0\22\76\15\0\1\14\1\0"+
-    "\4\14\2\0\6\14\1\u0105\13\14\15\0\1\14\1\0"+
-    "\4\14\2\0\10\14\1\u0106\11\14\15\0\1\14\1\0"+
-    "\4\14\2\0\14\14\1\u0107\5\14\15\0\1\14\1\0"+
-    "\4\14\2\0\21\14\1\u0108\15\0\1\14\1\0\4\14"+
-    "\2\0\1\14\1\u0109\20\14\15\0\1\14\1\0\4\14"+
-    "\2\0\11\14\1\u010a\10\14\13\0\1\124\1\0\1\41"+
-    "\1\0\4\41\2\0\6\41\1\u010b\13\41\13\0\1\124"+
-    "\1\0\1\41\1\0\4\41\2\0\10\41\1\u010c\11\41"+
-    "\13\0\1\124\1\0\1\41\1\0\4\41\2\0\14\41"+
-    "\1\u010d\5\41\13\0\1\124\1\0\1\41\1\0\4\41"+
-    "\2\0\21\41\1\u010e\13\0\1\124\1\0\1\41\1\0"+
-    "\4\41\2\0\1\41\1\u010f\20\41\13\0\1\124\1\0"+
-    "\1\41\1\0\4\41\2\0\11\41\1\u0110\10\41\15\0"+
-    "\1\54\1\0\4\54\2\0\6\54\1\u0111\13\54\15\0"+
-    "\1\54\1\0\4\54\2\0\10\54\1\u0112\11\54\15\0"+
-    "\1\54\1\0\4\54\2\0\14\54\1\u0113\5\54\15\0"+
-    "\1\54\1\0\4\54\2\0\21\54\1\u0114\15\0\1\54"+
-    "\1\0\4\54\2\0\1\54\1\u0115\20\54\15\0\1\54"+
-    "\1\0\4\54\2\0\11\54\1\u0116\10\54\13\0\1\76"+
-    "\1\0\1\76\1\0\5\76\1\0\21\76\1\u0117\15\0"+
-    "\1\14\1\0\4\14\2\0\20\14\1\u0118\1\14\15\0"+
-    "\1\14\1\0\4\14\2\0\3\14\1\u0119\16\14\15\0"+
-    "\1\14\1\0\4\14\2\0\21\14\1\u011a\15\0\1\14"+
-    "\1\0\4\14\2\0\13\14\1\u011b\6\14\15\0\1\14"+
-    "\1\0\4\14\2\0\3\14\1\u011c\16\14\13\0\1\124"+
-    "\1\0\1\41\1\0\4\41\2\0\20\41\1\u011d\1\41"+
-    "\13\0\1\124\1\0\1\41\1\0\4\41\2\0\3\41"+
-    "\1\u011e\16\41\13\0\1\124\1\0\1\41\1\0\4\41"+
-    "\2\0\21\41\1\u011f\13\0\1\124\1\0\1\41\1\0"+
-    "\4\41\2\0\13\41\1\u0120\6\41\13\0\1\124\1\0"+
-    "\1\41\1\0\4\41\2\0\3\41\1\u0121\16\41\15\0"+
-    "\1\54\1\0\4\54\2\0\20\54\1\u0122\1\54\15\0"+
-    "\1\54\1\0\4\54\2\0\3\54\1\u0123\16\54\15\0"+
-    "\1\54\1\0\4\54\2\0\21\54\1\u0124\15\0\1\54"+
-    "\1\0\4\54\2\0\13\54\1\u0125\6\54\15\0\1\54"+
-    "\1\0\4\54\2\0\3\54\1\u0126\16\54\13\0\1\76"+
-    "\1\0\1\76\1\0\5\76\1\0\13\76\1\u0127\6\76"+
-    "\15\0\1\14\1\0\4\14\2\0\3\14\1\u0128\16\14"+
-    "\15\0\1\14\1\0\4\14\2\0\3\14\1\u0129\16\14"+
-    "\13\0\1\124\1\0\1\41\1\0\4\41\2\0\3\41"+
-    "\1\u012a\16\41\13\0\1\124\1\0\1\41\1\0\4\41"+
-    "\2\0\3\41\1\u012b\16\41\15\0\1\54\1\0\4\54"+
-    "\2\0\3\54\1\u012c\16\54\15\0\1\54\1\0\4\54"+
-    "\2\0\3\54\1\u012d\16\54\13\0\1\76\1\0\1\76"+
-    "\1\0\5\76\1\0\3\76\1\263\16\76\15\0\1\14"+
-    "\1\0\1\14\1\u012e\2\14\2\0\22\14\13\0\1\124"+
-    "\1\0\1\41\1\0\1\41\1\u012f\2\41\2\0\22\41"+
-    "\15\0\1\54\1\0\1\54\1\u0130\2\54\2\0\22\54"+
-    "\15\0\1\14\1\0\4\14\2\0\11\14\1\u0131\10\14"+
-    "\13\0\1\124\1\0\1\41\1\0\4\41\2\0\11\41"+
-    "\1\u0132\10\41\15\0\1\54\1\0\4\54\2\0\11\54"+
-    "\1\u0133\10\54\15\0\1\14\1\0\4\14\2\0\7\14"+
-    "\1\u0134\12\14\13\0\1\124\1\0\1\41\1\0\4\41"+
-    "\2\0\7\41\1\u0135\12\41\15\0\1\54\1\0\4\54"+
-    "\2\0\7\54\1\u0136\12\54\15\0\1\14\1\0\4\14"+
-    "\2\0\6\14\1\u0137\13\14\13\0\1\124\1\0\1\41"+
-    "\1\0\4\41\2\0\6\41\1\u0138\13\41\15\0\1\54"+
-    "\1\0\4\54\2\0\6\54\1\u0139\13\54\15\0\1\14"+
-    "\1\0\4\14\2\0\11\14\1\u013a\10\14\13\0\1\124"+
-    "\1\0\1\41\1\0\4\41\2\0\11\41\1\u013b\10\41"+
-    "\15\0\1\54\1\0\4\54\2\0\11\54\1\u013c\10\54"+
-    "\15\0\1\14\1\0\4\14\2\0\6\14\1\u013d\13\14"+
-    "\13\0\1\124\1\0\1\41\1\0\4\41\2\0\6\41"+
-    "\1\u013e\13\41\15\0\1\54\1\0\4\54\2\0\6\54"+
-    "\1\u013f\13\54\15\0\1\14\1\0\4\14\2\0\11\14"+
-    "\1\u0140\10\14\13\0\1\124\1\0\1\41\1\0\4\41"+
-    "\2\0\11\41\1\u0141\10\41\15\0\1\54\1\0\4\54"+
-    "\2\0\11\54\1\u0142\10\54\15\0\1\14\1\0\4\14"+
-    "\2\0\5\14\1\u0143\14\14\13\0\1\124\1\0\1\41"+
-    "\1\0\4\41\2\0\5\41\1\u0144\14\41\15\0\1\54"+
-    "\1\0\4\54\2\0\5\54\1\u0145\14\54\1\0";
+    "\4\14\2\0\15\14\1\231\4\14\15\0\1\14\1\0"+
+    "\4\14\2\0\3\14\1\232\16\14\15\0\1\14\1\0"+
+    "\4\14\2\0\6\14\1\233\13\14\15\0\1\14\1\0"+
+    "\4\14\2\0\12\14\1\234\7\14\15\0\1\14\1\0"+
+    "\4\14\2\0\3\14\1\235\16\14\15\0\1\14\1\0"+
+    "\4\14\2\0\17\14\1\236\2\14\15\0\1\14\1\0"+
+    "\4\14\2\0\15\14\1\237\4\14\15\0\1\14\1\0"+
+    "\4\14\2\0\1\240\21\14\15\0\1\14\1\0\4\14"+
+    "\2\0\17\14\1\241\2\14\13\0\2\121\1\33\1\0"+
+    "\4\33\1\0\1\121\15\33\1\242\4\33\13\0\2\121"+
+    "\1\33\1\0\4\33\1\0\1\121\3\33\1\243\16\33"+
+    "\13\0\1\125\1\0\1\41\1\0\4\41\2\0\14\41"+
+    "\1\244\5\41\13\0\1\125\1\0\1\41\1\0\4\41"+
+    "\2\0\15\41\1\245\4\41\13\0\1\125\1\0\1\41"+
+    "\1\0\4\41\2\0\15\41\1\246\4\41\13\0\1\125"+
+    "\1\0\1\41\1\0\4\41\2\0\3\41\1\247\16\41"+
+    "\13\0\1\125\1\0\1\41\1\0\4\41\2\0\6\41"+
+    "\1\250\13\41\13\0\1\125\1\0\1\41\1\0\4\41"+
+    "\2\0\12\41\1\251\7\41\13\0\1\125\1\0\1\41"+
+    "\1\0\4\41\2\0\3\41\1\252\16\41\13\0\1\125"+
+    "\1\0\1\41\1\0\4\41\2\0\17\41\1\253\2\41"+
+    "\13\0\1\125\1\0\1\41\1\0\4\41\2\0\15\41"+
+    "\1\254\4\41\13\0\1\125\1\0\1\41\1\0\4\41"+
+    "\2\0\1\255\21\41\13\0\1\125\1\0\1\41\1\0"+
+    "\4\41\2\0\17\41\1\256\2\41\15\0\1\54\1\0"+
+    "\4\54\2\0\14\54\1\257\5\54\15\0\1\54\1\0"+
+    "\4\54\2\0\15\54\1\260\4\54\15\0\1\54\1\0"+
+    "\4\54\2\0\15\54\1\261\4\54\15\0\1\54\1\0"+
+    "\4\54\2\0\3\54\1\262\16\54\15\0\1\54\1\0"+
+    "\4\54\2\0\6\54\1\263\13\54\15\0\1\54\1\0"+
+    "\4\54\2\0\12\54\1\264\7\54\15\0\1\54\1\0"+
+    "\4\54\2\0\3\54\1\265\16\54\15\0\1\54\1\0"+
+    "\4\54\2\0\17\54\1\266\2\54\15\0\1\54\1\0"+
+    "\4\54\2\0\15\54\1\267\4\54\15\0\1\54\1\0"+
+    "\4\54\2\0\1\270\21\54\15\0\1\54\1\0\4\54"+
+    "\2\0\17\54\1\271\2\54\13\0\1\76\1\0\1\76"+
+    "\1\0\5\76\1\0\6\76\1\272\13\76\13\0\1\76"+
+    "\1\0\1\76\1\0\5\76\1\0\12\76\1\273\7\76"+
+    "\13\0\1\76\1\0\1\76\1\0\5\76\1\0\15\76"+
+    "\1\274\4\76\13\0\1\76\1\0\1\76\1\0\5\76"+
+    "\1\0\17\76\1\275\2\76\15\0\1\14\1\0\4\14"+
+    "\2\0\3\14\1\276\16\14\15\0\1\14\1\0\4\14"+
+    "\2\0\15\14\1\277\4\14\15\0\1\14\1\0\4\14"+
+    "\2\0\16\14\1\300\3\14\15\0\1\14\1\0\4\14"+
+    "\2\0\1\14\1\301\20\14\15\0\1\14\1\0\4\14"+
+    "\2\0\16\14\1\302\3\14\15\0\1\14\1\0\4\14"+
+    "\2\0\14\14\1\303\5\14\15\0\1\14\1\0\4\14"+
+    "\2\0\15\14\1\304\4\14\15\0\1\14\1\0\4\14"+
+    "\2\0\16\14\1\305\3\14\15\0\1\14\1\0\4\14"+
+    "\2\0\4\14\1\306\15\14\15\0\1\14\1\0\4\14"+
+    "\2\0\3\14\1\307\16\14\13\0\2\121\1\33\1\0"+
+    "\4\33\1\0\1\121\3\33\1\310\16\33\13\0\1\125"+
+    "\1\0\1\41\1\0\4\41\2\0\3\41\1\311\16\41"+
+    "\13\0\1\125\1\0\1\41\1\0\4\41\2\0\15\41"+
+    "\1\312\4\41\13\0\1\125\1\0\1\41\1\0\4\41"+
+    "\2\0\16\41\1\313\3\41\13\0\1\125\1\0\1\41"+
+    "\1\0\4\41\2\0\1\41\1\314\20\41\13\0\1\125"+
+    "\1\0\1\41\1\0\4\41\2\0\16\41\1\315\3\41"+
+    "\13\0\1\125\1\0\1\41\1\0\4\41\2\0\14\41"+
+    "\1\316\5\41\13\0\1\125\1\0\1\41\1\0\4\41"+
+    "\2\0\15\41\1\317\4\41\13\0\1\125\1\0\1\41"+
+    "\1\0\4\41\2\0\16\41\1\320\3\41\13\0\1\125"+
+    "\1\0\1\41\1\0\4\41\2\0\4\41\1\321\15\41"+
+    "\13\0\1\125\1\0\1\41\1\0\4\41\2\0\3\41"+
+    "\1\322\16\41\15\0\1\54\1\0\4\54\2\0\3\54"+
+    "\1\323\16\54\15\0\1\54\1\0\4\54\2\0\15\54"+
+    "\1\324\4\54\15\0\1\54\1\0\4\54\2\0\16\54"+
+    "\1\325\3\54\15\0\1\54\1\0\4\54\2\0\1\54"+
+    "\1\326\20\54\15\0\1\54\1\0\4\54\2\0\16\54"+
+    "\1\327\3\54\15\0\1\54\1\0\4\54\2\0\14\54"+
+    "\1\330\5\54\15\0\1\54\1\0\4\54\2\0\15\54"+
+    "\1\331\4\54\15\0\1\54\1\0\4\54\2\0\16\54"+
+    "\1\332\3\54\15\0\1\54\1\0\4\54\2\0\4\54"+
+    "\1\333\15\54\15\0\1\54\1\0\4\54\2\0\3\54"+
+    "\1\334\16\54\13\0\1\76\1\0\1\76\1\0\5\76"+
+    "\1\0\16\76\1\335\3\76\13\0\1\76\1\0\1\76"+
+    "\1\0\5\76\1\0\14\76\1\336\5\76\13\0\1\76"+
+    "\1\0\1\76\1\0\5\76\1\0\3\76\1\225\16\76"+
+    "\15\0\1\14\1\0\4\14\2\0\15\14\1\337\4\14"+
+    "\15\0\1\14\1\0\2\14\1\340\1\14\2\0\22\14"+
+    "\15\0\1\14\1\0\1\14\1\341\2\14\2\0\22\14"+
+    "\15\0\1\14\1\0\4\14\2\0\16\14\1\342\3\14"+
+    "\15\0\1\14\1\0\4\14\2\0\21\14\1\343\15\0"+
+    "\1\14\1\0\4\14\2\0\16\14\1\344\3\14\15\0"+
+    "\1\14\1\0\4\14\2\0\13\14\1\345\6\14\15\0"+
+    "\1\14\1\0\4\14\2\0\6\14\1\346\13\14\15\0"+
+    "\1\14\1\0\4\14\2\0\3\14\1\347\16\14\15\0"+
+    "\1\14\1\0\4\14\2\0\15\14\1\350\4\14\13\0"+
+    "\1\125\1\0\1\41\1\0\4\41\2\0\15\41\1\351"+
+    "\4\41\13\0\1\125\1\0\1\41\1\0\2\41\1\352"+
+    "\1\41\2\0\22\41\13\0\1\125\1\0\1\41\1\0"+
+    "\1\41\1\353\2\41\2\0\22\41\13\0\1\125\1\0"+
+    "\1\41\1\0\4\41\2\0\16\41\1\354\3\41\13\0"+
+    "\1\125\1\0\1\41\1\0\4\41\2\0\21\41\1\355"+
+    "\13\0\1\125\1\0\1\41\1\0\4\41\2\0\16\41"+
+    "\1\356\3\41\13\0\1\125\1\0\1\41\1\0\4\41"+
+    "\2\0\13\41\1\357\6\41\13\0\1\125\1\0\1\41"+
+    "\1\0\4\41\2\0\6\41\1\360\13\41\13\0\1\125"+
+    "\1\0\1\41\1\0\4\41\2\0\3\41\1\361\16\41"+
+    "\13\0\1\125\1\0\1\41\1\0\4\41\2\0\15\41"+
+    "\1\362\4\41\15\0\1\54\1\0\4\54\2\0\15\54"+
+    "\1\363\4\54\15\0\1\54\1\0\2\54\1\364\1\54"+
+    "\2\0\22\54\15\0\1\54\1\0\1\54\1\365\2\54"+
+    "\2\0\22\54\15\0\1\54\1\0\4\54\2\0\16\54"+
+    "\1\366\3\54\15\0\1\54\1\0\4\54\2\0\21\54"+
+    "\1\367\15\0\1\54\1\0\4\54\2\0\16\54\1\370"+
+    "\3\54\15\0\1\54\1\0\4\54\2\0\13\54\1\371"+
+    "\6\54\15\0\1\54\1\0\4\54\2\0\6\54\1\372"+
+    "\13\54\15\0\1\54\1\0\4\54\2\0\3\54\1\373"+
+    "\16\54\15\0\1\54\1\0\4\54\2\0\15\54\1\374"+
+    "\4\54\13\0\1\76\1\0\1\76\1\0\5\76\1\0"+
+    "\21\76\1\375\13\0\1\76\1\0\1\76\1\0\5\76"+
+    "\1\0\16\76\1\225\3\76\15\0\1\14\1\0\4\14"+
+    "\2\0\15\14\1\376\4\14\15\0\1\14\1\0\4\14"+
+    "\2\0\1\377\21\14\15\0\1\14\1\0\4\14\2\0"+
+    "\2\14\1\u0100\17\14\15\0\1\14\1\0\4\14\2\0"+
+    "\12\14\1\u0101\7\14\15\0\1\14\1\0\3\14\1\u0102"+
+    "\2\0\22\14\15\0\1\14\1\0\4\14\2\0\15\14"+
+    "\1\u0103\4\14\15\0\1\14\1\0\4\14\2\0\1\u0104"+
+    "\21\14\15\0\1\14\1\0\4\14\2\0\12\14\1\u0105"+
+    "\7\14\13\0\1\125\1\0\1\41\1\0\4\41\2\0"+
+    "\15\41\1\u0106\4\41\13\0\1\125\1\0\1\41\1\0"+
+    "\4\41\2\0\1\u0107\21\41\13\0\1\125\1\0\1\41"+
+    "\1\0\4\41\2\0\2\41\1\u0108\17\41\13\0\1\125"+
+    "\1\0\1\41\1\0\4\41\2\0\12\41\1\u0109\7\41"+
+    "\13\0\1\125\1\0\1\41\1\0\3\41\1\u010a\2\0"+
+    "\22\41\13\0\1\125\1\0\1\41\1\0\4\41\2\0"+
+    "\15\41\1\u010b\4\41\13\0\1\125\1\0\1\41\1\0"+
+    "\4\41\2\0\1\u010c\21\41\13\0\1\125\1\0\1\41"+
+    "\1\0\4\41\2\0\12\41\1\u010d\7\41\15\0\1\54"+
+    "\1\0\4\54\2\0\15\54\1\u010e\4\54\15\0\1\54"+
+    "\1\0\4\54\2\0\1\u010f\21\54\15\0\1\54\1\0"+
+    "\4\54\2\0\2\54\1\u0110\17\54\15\0\1\54\1\0"+
+    "\4\54\2\0\12\54\1\u0111\7\54\15\0\1\54\1\0"+
+    "\3\54\1\u0112\2\0\22\54\15\0\1\54\1\0\4\54"+
+    "\2\0\15\54\1\u0113\4\54\15\0\1\54\1\0\4\54"+
+    "\2\0\1\u0114\21\54\15\0\1\54\1\0\4\54\2\0"+
+    "\12\54\1\u0115\7\54\13\0\1\76\1\0\1\76\1\0"+
+    "\3\76\1\u0116\1\76\1\0\22\76\15\0\1\14\1\0"+
+    "\4\14\2\0\6\14\1\u0117\13\14\15\0\1\14\1\0"+
+    "\4\14\2\0\10\14\1\u0118\11\14\15\0\1\14\1\0"+
+    "\4\14\2\0\15\14\1\u0119\4\14\15\0\1\14\1\0"+
+    "\4\14\2\0\14\14\1\u011a\5\14\15\0\1\14\1\0"+
+    "\4\14\2\0\21\14\1\u011b\15\0\1\14\1\0\4\14"+
+    "\2\0\1\14\1\u011c\20\14\15\0\1\14\1\0\4\14"+
+    "\2\0\11\14\1\u011d\10\14\13\0\1\125\1\0\1\41"+
+    "\1\0\4\41\2\0\6\41\1\u011e\13\41\13\0\1\125"+
+    "\1\0\1\41\1\0\4\41\2\0\10\41\1\u011f\11\41"+
+    "\13\0\1\125\1\0\1\41\1\0\4\41\2\0\15\41"+
+    "\1\u0120\4\41\13\0\1\125\1\0\1\41\1\0\4\41"+
+    "\2\0\14\41\1\u0121\5\41\13\0\1\125\1\0\1\41"+
+    "\1\0\4\41\2\0\21\41\1\u0122\13\0\1\125\1\0"+
+    "\1\41\1\0\4\41\2\0\1\41\1\u0123\20\41\13\0"+
+    "\1\125\1\0\1\41\1\0\4\41\2\0\11\41\1\u0124"+
+    "\10\41\15\0\1\54\1\0\4\54\2\0\6\54\1\u0125"+
+    "\13\54\15\0\1\54\1\0\4\54\2\0\10\54\1\u0126"+
+    "\11\54\15\0\1\54\1\0\4\54\2\0\15\54\1\u0127"+
+    "\4\54\15\0\1\54\1\0\4\54\2\0\14\54\1\u0128"+
+    "\5\54\15\0\1\54\1\0\4\54\2\0\21\54\1\u0129"+
+    "\15\0\1\54\1\0\4\54\2\0\1\54\1\u012a\20\54"+
+    "\15\0\1\54\1\0\4\54\2\0\11\54\1\u012b\10\54"+
+    "\13\0\1\76\1\0\1\76\1\0\5\76\1\0\21\76"+
+    "\1\u012c\15\0\1\14\1\0\4\14\2\0\20\14\1\u012d"+
+    "\1\14\15\0\1\14\1\0\4\14\2\0\3\14\1\u012e"+
+    "\16\14\15\0\1\14\1\0\4\14\2\0\21\14\1\u012f"+
+    "\15\0\1\14\1\0\4\14\2\0\13\14\1\u0130\6\14"+
+    "\15\0\1\14\1\0\4\14\2\0\3\14\1\u0131\16\14"+
+    "\13\0\1\125\1\0\1\41\1\0\4\41\2\0\20\41"+
+    "\1\u0132\1\41\13\0\1\125\1\0\1\41\1\0\4\41"+
+    "\2\0\3\41\1\u0133\16\41\13\0\1\125\1\0\1\41"+
+    "\1\0\4\41\2\0\21\41\1\u0134\13\0\1\125\1\0"+
+    "\1\41\1\0\4\41\2\0\13\41\1\u0135\6\41\13\0"+
+    "\1\125\1\0\1\41\1\0\4\41\2\0\3\41\1\u0136"+
+    "\16\41\15\0\1\54\1\0\4\54\2\0\20\54\1\u0137"+
+    "\1\54\15\0\1\54\1\0\4\54\2\0\3\54\1\u0138"+
+    "\16\54\15\0\1\54\1\0\4\54\2\0\21\54\1\u0139"+
+    "\15\0\1\54\1\0\4\54\2\0\13\54\1\u013a\6\54"+
+    "\15\0\1\54\1\0\4\54\2\0\3\54\1\u013b\16\54"+
+    "\13\0\1\76\1\0\1\76\1\0\5\76\1\0\13\76"+
+    "\1\u013c\6\76\15\0\1\14\1\0\4\14\2\0\3\14"+
+    "\1\u013d\16\14\15\0\1\14\1\0\4\14\2\0\3\14"+
+    "\1\u013e\16\14\13\0\1\125\1\0\1\41\1\0\4\41"+
+    "\2\0\3\41\1\u013f\16\41\13\0\1\125\1\0\1\41"+
+    "\1\0\4\41\2\0\3\41\1\u0140\16\41\15\0\1\54"+
+    "\1\0\4\54\2\0\3\54\1\u0141\16\54\15\0\1\54"+
+    "\1\0\4\54\2\0\3\54\1\u0142\16\54\13\0\1\76"+
+    "\1\0\1\76\1\0\5\76\1\0\3\76\1\274\16\76"+
+    "\15\0\1\14\1\0\1\14\1\u0143\2\14\2\0\22\14"+
+    "\13\0\1\125\1\0\1\41\1\0\1\41\1\u0144\2\41"+
+    "\2\0\22\41\15\0\1\54\1\0\1\54\1\u0145\2\54"+
+    "\2\0\22\54\15\0\1\14\1\0\4\14\2\0\11\14"+
+    "\1\u0146\10\14\13\0\1\125\1\0\1\41\1\0\4\41"+
+    "\2\0\11\41\1\u0147\10\41\15\0\1\54\1\0\4\54"+
+    "\2\0\11\54\1\u0148\10\54\15\0\1\14\1\0\4\14"+
+    "\2\0\7\14\1\u0149\12\14\13\0\1\125\1\0\1\41"+
+    "\1\0\4\41\2\0\7\41\1\u014a\12\41\15\0\1\54"+
+    "\1\0\4\54\2\0\7\54\1\u014b\12\54\15\0\1\14"+
+    "\1\0\4\14\2\0\6\14\1\u014c\13\14\13\0\1\125"+
+    "\1\0\1\41\1\0\4\41\2\0\6\41\1\u014d\13\41"+
+    "\15\0\1\54\1\0\4\54\2\0\6\54\1\u014e\13\54"+
+    "\15\0\1\14\1\0\4\14\2\0\11\14\1\u014f\10\14"+
+    "\13\0\1\125\1\0\1\41\1\0\4\41\2\0\11\41"+
+    "\1\u0150\10\41\15\0\1\54\1\0\4\54\2\0\11\54"+
+    "\1\u0151\10\54\15\0\1\14\1\0\4\14\2\0\6\14"+
+    "\1\u0152\13\14\13\0\1\125\1\0\1\41\1\0\4\41"+
+    "\2\0\6\41\1\u0153\13\41\15\0\1\54\1\0\4\54"+
+    "\2\0\6\54\1\u0154\13\54\15\0\1\14\1\0\4\14"+
+    "\2\0\11\14\1\u0155\10\14\13\0\1\125\1\0\1\41"+
+    "\1\0\4\41\2\0\11\41\1\u0156\10\41\15\0\1\54"+
+    "\1\0\4\54\2\0\11\54\1\u0157\10\54\15\0\1\14"+
+    "\1\0\4\14\2\0\5\14\1\u0158\14\14\13\0\1\125"+
+    "\1\0\1\41\1\0\4\41\2\0\5\41\1\u0159\14\41"+
+    "\15\0\1\54\1\0\4\54\2\0\5\54\1\u015a\14\54"+
+    "\1\0";
 
   private static int [] zzUnpacktrans() {
-    int [] result = new int[11037];
+    int [] result = new int[11739];
     int offset = 0;
     offset = zzUnpacktrans(ZZ_TRANS_PACKED_0, offset, result);
     return result;
@@ -892,172 +917,177 @@ class AtomicLexer implements FlexLexer {
             { return TokenType.BAD_CHARACTER;
             }
           // fall through
-          case 35: break;
+          case 36: break;
           case 2:
             { return TokenType.WHITE_SPACE;
             }
           // fall through
-          case 36: break;
+          case 37: break;
           case 3:
             { yybegin(YYINITIAL); return AtomicTypes.COMMENT;
             }
           // fall through
-          case 37: break;
+          case 38: break;
           case 4:
             { return AtomicTypes.IDENTIFIER;
             }
           // fall through
-          case 38: break;
+          case 39: break;
           case 5:
             { yybegin(YYINITIAL); return TokenType.WHITE_SPACE;
             }
           // fall through
-          case 39: break;
+          case 40: break;
           case 6:
             { return AtomicTypes.COLON;
             }
           // fall through
-          case 40: break;
+          case 41: break;
           case 7:
             { yybegin(YYINITIAL); return AtomicTypes.IDENTIFIER;
             }
           // fall through
-          case 41: break;
+          case 42: break;
           case 8:
             { yybegin(YYINITIAL); return AtomicTypes.NAMESPACE_VALUE;
             }
           // fall through
-          case 42: break;
+          case 43: break;
           case 9:
             { return AtomicTypes.COMMENT;
             }
           // fall through
-          case 43: break;
+          case 44: break;
           case 10:
             { return AtomicTypes.HYPHEN;
             }
           // fall through
-          case 44: break;
+          case 45: break;
           case 11:
             { return AtomicTypes.IMPORT_PATH;
             }
           // fall through
-          case 45: break;
+          case 46: break;
           case 12:
             { return AtomicTypes.TAG_NAME;
             }
           // fall through
-          case 46: break;
+          case 47: break;
           case 13:
             { yybegin(IN_VALUE_NAME); return AtomicTypes.HYPHEN;
             }
           // fall through
-          case 47: break;
+          case 48: break;
           case 14:
             { yybegin(IN_VALUES); return TokenType.WHITE_SPACE;
             }
           // fall through
-          case 48: break;
+          case 49: break;
           case 15:
             { yybegin(IN_VALUE_TYPE); return AtomicTypes.VALUE_NAME;
             }
           // fall through
-          case 49: break;
+          case 50: break;
           case 16:
             { yybegin(IN_VALUES); return AtomicTypes.COMMENT;
             }
           // fall through
-          case 50: break;
+          case 51: break;
           case 17:
             { return AtomicTypes.TYPE_REFERENCE;
             }
           // fall through
-          case 51: break;
+          case 52: break;
           case 18:
             { yypushback(1); yybegin(IN_VALUES);
             }
           // fall through
-          case 52: break;
+          case 53: break;
           case 19:
             { yybegin(YYINITIAL); return AtomicTypes.STRING;
             }
           // fall through
-          case 53: break;
+          case 54: break;
           case 20:
             { yybegin(YYINITIAL); return AtomicTypes.TYPE_REFERENCE;
             }
           // fall through
-          case 54: break;
+          case 55: break;
           case 21:
             { yybegin(IN_TAGS); return AtomicTypes.TAGS_KEYWORD;
             }
           // fall through
-          case 55: break;
+          case 56: break;
           case 22:
             { yybegin(YYINITIAL); return AtomicTypes.TRUE;
             }
           // fall through
-          case 56: break;
+          case 57: break;
           case 23:
             { yypushback(yylength()); yybegin(IN_VALUES);
             }
           // fall through
-          case 57: break;
+          case 58: break;
           case 24:
             { yybegin(YYINITIAL); return AtomicTypes.FALSE;
             }
           // fall through
-          case 58: break;
+          case 59: break;
           case 25:
             { yybegin(WAITING_VALUE); return AtomicTypes.UNSAFE_KEYWORD;
             }
           // fall through
-          case 59: break;
+          case 60: break;
           case 26:
             { yybegin(IN_VALUES); return AtomicTypes.VALUES_KEYWORD;
             }
           // fall through
-          case 60: break;
+          case 61: break;
           case 27:
             { yybegin(IN_IMPORTS); return AtomicTypes.IMPORTS_KEYWORD;
             }
           // fall through
-          case 61: break;
+          case 62: break;
           case 28:
-            { yybegin(WAITING_VALUE); return AtomicTypes.SOLUTION_KEYWORD;
+            { yybegin(WAITING_VALUE); return AtomicTypes.CONST_IDS_KEYWORD;
             }
           // fall through
-          case 62: break;
+          case 63: break;
           case 29:
-            { yybegin(WAITING_VALUE); return AtomicTypes.CLASS_NAME_KEYWORD;
+            { yybegin(WAITING_VALUE); return AtomicTypes.SOLUTION_KEYWORD;
             }
           // fall through
-          case 63: break;
+          case 64: break;
           case 30:
-            { yybegin(WAITING_VALUE); return AtomicTypes.DIRECTORY_KEYWORD;
+            { yybegin(WAITING_VALUE); return AtomicTypes.CLASS_NAME_KEYWORD;
             }
           // fall through
-          case 64: break;
+          case 65: break;
           case 31:
-            { yybegin(WAITING_NAMESPACE); return AtomicTypes.NAMESPACE_KEYWORD;
+            { yybegin(WAITING_VALUE); return AtomicTypes.DIRECTORY_KEYWORD;
             }
           // fall through
-          case 65: break;
+          case 66: break;
           case 32:
-            { yybegin(WAITING_VALUE); return AtomicTypes.NAMESPACE_KEYWORD;
+            { yybegin(WAITING_NAMESPACE); return AtomicTypes.NAMESPACE_KEYWORD;
             }
           // fall through
-          case 66: break;
+          case 67: break;
           case 33:
-            { yybegin(WAITING_VALUE); return AtomicTypes.ENTITY_TYPE_KEYWORD;
+            { yybegin(WAITING_VALUE); return AtomicTypes.NAMESPACE_KEYWORD;
             }
           // fall through
-          case 67: break;
+          case 68: break;
           case 34:
+            { yybegin(WAITING_VALUE); return AtomicTypes.ENTITY_TYPE_KEYWORD;
+            }
+          // fall through
+          case 69: break;
+          case 35:
             { yybegin(WAITING_VALUE); return AtomicTypes.AGGRESSIVE_INLINING_KEYWORD;
             }
           // fall through
-          case 68: break;
+          case 70: break;
           default:
             zzScanError(ZZ_NO_MATCH);
           }
@@ -32,7 +32,20 @@ public class AtomicParser implements PsiParser, LightPsiParser {
   }
 
   static boolean parse_root_(IElementType root_, PsiBuilder builder_, int level_) {
-    return atomicFile(builder_, level_ + 1);
+    boolean result_;
+    if (root_ == IMPORTS_SECTION) {
+      result_ = imports_section(builder_, level_ + 1);
+    }
+    else if (root_ == TAGS_SECTION) {
+      result_ = tags_section(builder_, level_ + 1);
+    }
+    else if (root_ == VALUES_SECTION) {
+      result_ = values_section(builder_, level_ + 1);
+    }
+    else {
+      result_ = atomicFile(builder_, level_ + 1);
+    }
+    return result_;
   }
 
   /* ********************************************************** */
@@ -77,6 +90,29 @@ public class AtomicParser implements PsiParser, LightPsiParser {
     return result_ || pinned_;
   }
 
+  /* ********************************************************** */
+  // CONST_IDS_KEYWORD COLON (TRUE | FALSE)
+  public static boolean const_ids_prop(PsiBuilder builder_, int level_) {
+    if (!recursion_guard_(builder_, level_, "const_ids_prop")) return false;
+    if (!nextTokenIs(builder_, CONST_IDS_KEYWORD)) return false;
+    boolean result_, pinned_;
+    Marker marker_ = enter_section_(builder_, level_, _NONE_, CONST_IDS_PROP, null);
+    result_ = consumeTokens(builder_, 1, CONST_IDS_KEYWORD, COLON);
+    pinned_ = result_; // pin = 1
+    result_ = result_ && const_ids_prop_2(builder_, level_ + 1);
+    exit_section_(builder_, level_, marker_, result_, pinned_, null);
+    return result_ || pinned_;
+  }
+
+  // TRUE | FALSE
+  private static boolean const_ids_prop_2(PsiBuilder builder_, int level_) {
+    if (!recursion_guard_(builder_, level_, "const_ids_prop_2")) return false;
+    boolean result_;
+    result_ = consumeToken(builder_, TRUE);
+    if (!result_) result_ = consumeToken(builder_, FALSE);
+    return result_;
+  }
+
   /* ********************************************************** */
   // DIRECTORY_KEYWORD COLON (STRING | IDENTIFIER | TYPE_REFERENCE)
   public static boolean directory_prop(PsiBuilder builder_, int level_) {
@@ -138,13 +174,14 @@ public class AtomicParser implements PsiParser, LightPsiParser {
   }
 
   /* ********************************************************** */
-  // entity_type_prop | aggressive_inlining_prop | unsafe_prop | namespace_prop | class_name_prop | directory_prop | solution_prop
+  // entity_type_prop | aggressive_inlining_prop | unsafe_prop | const_ids_prop | namespace_prop | class_name_prop | directory_prop | solution_prop
   static boolean header_property(PsiBuilder builder_, int level_) {
     if (!recursion_guard_(builder_, level_, "header_property")) return false;
     boolean result_;
     result_ = entity_type_prop(builder_, level_ + 1);
     if (!result_) result_ = aggressive_inlining_prop(builder_, level_ + 1);
     if (!result_) result_ = unsafe_prop(builder_, level_ + 1);
+    if (!result_) result_ = const_ids_prop(builder_, level_ + 1);
     if (!result_) result_ = namespace_prop(builder_, level_ + 1);
     if (!result_) result_ = class_name_prop(builder_, level_ + 1);
     if (!result_) result_ = directory_prop(builder_, level_ + 1);
@@ -0,0 +1,18 @@
+// This is a generated file. Not intended for manual editing.
+package com.jetbrains.rider.plugins.atomic.psi;
+
+import java.util.List;
+import org.jetbrains.annotations.*;
+import com.intellij.psi.PsiElement;
+
+public interface AtomicConstIdsProp extends PsiElement {
+
+  //WARNING: getKey(...) is skipped
+  //matching getKey(AtomicConstIdsProp, ...)
+  //methods are not found in AtomicPsiImplUtil
+
+  //WARNING: getBooleanValue(...) is skipped
+  //matching getBooleanValue(AtomicConstIdsProp, ...)
+  //methods are not found in AtomicPsiImplUtil
+
+}
@@ -13,6 +13,9 @@ public interface AtomicHeaderSection extends PsiElement {
   @NotNull
   List<AtomicClassNameProp> getClassNamePropList();
 
+  @NotNull
+  List<AtomicConstIdsProp> getConstIdsPropList();
+
   @NotNull
   List<AtomicDirectoryProp> getDirectoryPropList();
 
@@ -10,23 +10,25 @@ public interface AtomicTypes {
 
   IElementType AGGRESSIVE_INLINING_PROP = new AtomicElementType("AGGRESSIVE_INLINING_PROP");
   IElementType CLASS_NAME_PROP = new AtomicElementType("CLASS_NAME_PROP");
+  IElementType CONST_IDS_PROP = new AtomicElementType("CONST_IDS_PROP");
   IElementType DIRECTORY_PROP = new AtomicElementType("DIRECTORY_PROP");
   IElementType ENTITY_TYPE_PROP = new AtomicElementType("ENTITY_TYPE_PROP");
   IElementType HEADER_SECTION = new AtomicElementType("HEADER_SECTION");
-  IElementType IMPORTS_SECTION = new AtomicElementType("IMPORTS_SECTION");
+  IElementType IMPORTS_SECTION = AtomicElementTypes.createSectionType("IMPORTS_SECTION");
   IElementType IMPORT_ITEM = new AtomicElementType("IMPORT_ITEM");
   IElementType NAMESPACE_PROP = new AtomicElementType("NAMESPACE_PROP");
   IElementType SOLUTION_PROP = new AtomicElementType("SOLUTION_PROP");
-  IElementType TAGS_SECTION = new AtomicElementType("TAGS_SECTION");
+  IElementType TAGS_SECTION = AtomicElementTypes.createSectionType("TAGS_SECTION");
   IElementType TAG_ITEM = new AtomicElementType("TAG_ITEM");
   IElementType UNSAFE_PROP = new AtomicElementType("UNSAFE_PROP");
-  IElementType VALUES_SECTION = new AtomicElementType("VALUES_SECTION");
+  IElementType VALUES_SECTION = AtomicElementTypes.createSectionType("VALUES_SECTION");
   IElementType VALUE_ITEM = new AtomicElementType("VALUE_ITEM");
 
   IElementType AGGRESSIVE_INLINING_KEYWORD = new AtomicTokenType("AGGRESSIVE_INLINING_KEYWORD");
   IElementType CLASS_NAME_KEYWORD = new AtomicTokenType("CLASS_NAME_KEYWORD");
   IElementType COLON = new AtomicTokenType("COLON");
   IElementType COMMENT = new AtomicTokenType("COMMENT");
+  IElementType CONST_IDS_KEYWORD = new AtomicTokenType("CONST_IDS_KEYWORD");
   IElementType CRLF = new AtomicTokenType("CRLF");
   IElementType DIRECTORY_KEYWORD = new AtomicTokenType("DIRECTORY_KEYWORD");
   IElementType ENTITY_TYPE_KEYWORD = new AtomicTokenType("ENTITY_TYPE_KEYWORD");
@@ -56,6 +58,9 @@ public interface AtomicTypes {
       else if (type == CLASS_NAME_PROP) {
         return new AtomicClassNamePropImpl(node);
       }
+      else if (type == CONST_IDS_PROP) {
+        return new AtomicConstIdsPropImpl(node);
+      }
       else if (type == DIRECTORY_PROP) {
         return new AtomicDirectoryPropImpl(node);
       }
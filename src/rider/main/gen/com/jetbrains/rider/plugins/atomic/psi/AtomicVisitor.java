@@ -16,6 +16,10 @@ public class AtomicVisitor extends PsiElementVisitor {
     visitPsiElement(o);
   }
 
+  public void visitConstIdsProp(@NotNull AtomicConstIdsProp o) {
+    visitPsiElement(o);
+  }
+
   public void visitDirectoryProp(@NotNull AtomicDirectoryProp o) {
     visitPsiElement(o);
   }
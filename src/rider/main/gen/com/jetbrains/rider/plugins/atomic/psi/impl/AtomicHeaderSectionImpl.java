@@ -39,6 +39,12 @@ public class AtomicHeaderSectionImpl extends ASTWrapperPsiElement implements Ato
     return PsiTreeUtil.getChildrenOfTypeAsList(this, AtomicClassNameProp.class);
   }
 
+  @Override
+  @NotNull
+  public List<AtomicConstIdsProp> getConstIdsPropList() {
+    return PsiTreeUtil.getChildrenOfTypeAsList(this, AtomicConstIdsProp.class);
+  }
+
   @Override
   @NotNull
   public List<AtomicDirectoryProp> getDirectoryPropList() {
@@ -0,0 +1,68 @@
+package com.jetbrains.rider.plugins.atomic.actions
+
+import com.intellij.notification.Notification
+import com.intellij.notification.NotificationType
+import com.intellij.notification.Notifications
+import com.intellij.openapi.actionSystem.ActionUpdateThread
+import com.intellij.openapi.actionSystem.AnAction
+import com.intellij.openapi.actionSystem.AnActionEvent
+import com.intellij.openapi.fileEditor.FileDocumentManager
+import com.intellij.openapi.progress.ProgressIndicator
+import com.intellij.openapi.progress.ProgressManager
+import com.intellij.openapi.progress.Task
+import com.intellij.openapi.project.Project
+import com.jetbrains.rider.plugins.atomic.services.AtomicBulkRegenerationService
+import com.jetbrains.rider.plugins.atomic.services.AtomicGenerationService
+import com.jetbrains.rider.plugins.atomic.services.AtomicIdLockFile
+import com.jetbrains.rider.plugins.atomic.services.AtomicIdRegistry
+import kotlinx.coroutines.runBlocking
+
+class AllocateDenseAtomicIdsAction : AnAction("Allocate Dense Atomic IDs", "Assign sequential IDs to every tag and value and store them in ${AtomicIdLockFile.FILE_NAME}", null) {
+    
+    override fun actionPerformed(e: AnActionEvent) {
+        val project = e.project ?: return
+        
+        FileDocumentManager.getInstance().saveAllDocuments()
+        
+        ProgressManager.getInstance().run(object : Task.Backgroundable(project, "Allocating dense Atomic IDs", true) {
+            override fun run(indicator: ProgressIndicator) {
+                indicator.text = "Collecting tag and value names"
+                val lockFile = try {
+                    AtomicIdRegistry.getInstance(project).allocateAll()
+                } catch (ex: IllegalStateException) {
+                    notify(project, "Cannot read ${AtomicIdLockFile.FILE_NAME}: ${ex.message}", NotificationType.ERROR)
+                    return
+                }
+                
+                indicator.isIndeterminate = false
+                val summary = runBlocking {
+                    AtomicBulkRegenerationService.getInstance(project).regenerateAll(indicator)
+                }
+                
+                val message = buildString {
+                    append("${lockFile.names.size} names have dense IDs in ${AtomicIdLockFile.FILE_NAME}")
+                    append(", regenerated ${summary.written} of ${summary.total} files")
+                    if (summary.failed.isNotEmpty()) append(", ${summary.failed.size} failed")
+                }
+                notify(project, message, if (summary.failed.isEmpty()) NotificationType.INFORMATION else NotificationType.WARNING)
+            }
+        })
+    }
+    
+    override fun update(e: AnActionEvent) {
+        val project = e.project
+        e.presentation.isEnabledAndVisible = project != null
+        e.presentation.isEnabled = project != null && AtomicGenerationService.getInstance(project).isReady()
+    }
+    
+    override fun getActionUpdateThread(): ActionUpdateThread {
+        return ActionUpdateThread.BGT
+    }
+    
+    private fun notify(project: Project, content: String, type: NotificationType) {
+        Notifications.Bus.notify(
+            Notification("Atomic Plugin", "Atomic Plugin", content, type),
+            project
+        )
+    }
+}
@@ -0,0 +1,59 @@
+package com.jetbrains.rider.plugins.atomic.actions
+
+import com.intellij.notification.Notification
+import com.intellij.notification.NotificationType
+import com.intellij.notification.Notifications
+import com.intellij.openapi.actionSystem.ActionUpdateThread
+import com.intellij.openapi.actionSystem.AnAction
+import com.intellij.openapi.actionSystem.AnActionEvent
+import com.intellij.openapi.fileEditor.FileDocumentManager
+import com.intellij.openapi.progress.ProgressIndicator
+import com.intellij.openapi.progress.ProgressManager
+import com.intellij.openapi.progress.Task
+import com.intellij.openapi.project.Project
+import com.jetbrains.rider.plugins.atomic.services.AtomicBulkRegenerationService
+import com.jetbrains.rider.plugins.atomic.services.AtomicGenerationService
+import kotlinx.coroutines.runBlocking
+
+class RegenerateAllAtomicFilesAction : AnAction("Regenerate All Atomic Files", "Regenerate C# API for every .atomic file in the project", null) {
+    
+    override fun actionPerformed(e: AnActionEvent) {
+        val project = e.project ?: return
+        
+        FileDocumentManager.getInstance().saveAllDocuments()
+        
+        ProgressManager.getInstance().run(object : Task.Backgroundable(project, "Regenerating .atomic files", true) {
+            override fun run(indicator: ProgressIndicator) {
+                indicator.isIndeterminate = false
+                val summary = runBlocking {
+                    AtomicBulkRegenerationService.getInstance(project).regenerateAll(indicator)
+                }
+                
+                val message = buildString {
+                    append("Regenerated ${summary.written} of ${summary.total} files")
+                    if (summary.unchanged > 0) append(", ${summary.unchanged} already up to date")
+                    if (summary.skipped.isNotEmpty()) append(", ${summary.skipped.size} skipped due to errors")
+                    if (summary.failed.isNotEmpty()) append(", ${summary.failed.size} failed")
+                }
+                notify(project, message, if (summary.failed.isEmpty()) NotificationType.INFORMATION else NotificationType.WARNING)
+            }
+        })
+    }
+    
+    override fun update(e: AnActionEvent) {
+        val project = e.project
+        e.presentation.isEnabledAndVisible = project != null
+        e.presentation.isEnabled = project != null && AtomicGenerationService.getInstance(project).isReady()
+    }
+    
+    override fun getActionUpdateThread(): ActionUpdateThread {
+        return ActionUpdateThread.BGT
+    }
+    
+    private fun notify(project: Project, content: String, type: NotificationType) {
+        Notifications.Bus.notify(
+            Notification("Atomic Plugin", "Atomic Plugin", content, type),
+            project
+        )
+    }
+}
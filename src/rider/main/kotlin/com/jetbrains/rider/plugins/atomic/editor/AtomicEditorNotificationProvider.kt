@@ -5,13 +5,11 @@ import com.intellij.openapi.fileEditor.FileEditorManager
 import com.intellij.openapi.project.Project
 import com.intellij.openapi.vfs.VirtualFile
 import com.intellij.openapi.vfs.VirtualFileManager
-import com.intellij.psi.PsiElement
 import com.intellij.psi.PsiManager
 import com.intellij.ui.EditorNotificationPanel
 import com.intellij.ui.EditorNotificationProvider
 import com.jetbrains.rider.plugins.atomic.language.AtomicFileType
 import com.jetbrains.rider.plugins.atomic.psi.*
-import com.jetbrains.rider.plugins.atomic.psi.impl.AtomicPsiImplUtil
 import com.jetbrains.rider.plugins.atomic.services.AtomicAutoGenerator
 import com.jetbrains.rider.plugins.atomic.services.AtomicFileValidator
 import com.jetbrains.rider.plugins.atomic.services.GeneratedFileTracker
@@ -27,6 +25,10 @@ class AtomicEditorNotificationProvider : EditorNotificationProvider {
         project: Project,
         file: VirtualFile
     ): Function<in FileEditor, out JComponent?>? {
+        if (file.extension == "cs") {
+            return collectGeneratedFileNotification(project, file)
+        }
+        
         if (file.fileType != AtomicFileType) {
             return null
         }
@@ -47,12 +49,7 @@ class AtomicEditorNotificationProvider : EditorNotificationProvider {
                 return@Function panel
             }
             
-            val calculatedPath = calculateGeneratedFilePath(project, file, psiFile)
-            
-            val generatedFileInfo = tracker.getGeneratedFileInfo(file)
-            val trackedPath = generatedFileInfo?.generatedFilePath
-            
-            val generatedFilePath = trackedPath ?: calculatedPath
+            val generatedFilePath = tracker.getGeneratedFilePath(file)
             
             val generatedFileExists = generatedFilePath?.let {
                 try {
@@ -163,39 +160,24 @@ class AtomicEditorNotificationProvider : EditorNotificationProvider {
         }
     }
     
-    private fun calculateGeneratedFilePath(project: Project, atomicFile: VirtualFile, psiFile: AtomicFile): String? {
-        val projectBasePath = project.basePath ?: return null
-        
-        var className: String? = null
-        var directory: String? = null
-        
-        // Parse header section
-        psiFile.children.filterIsInstance<AtomicHeaderSection>().forEach { headerSection ->
-            headerSection.children.forEach { child ->
-            }
+    /**
+     * Banner on generated C# files naming the .atomic file they come from, found through the reverse output lookup.
+     */
+    private fun collectGeneratedFileNotification(project: Project, file: VirtualFile): Function<in FileEditor, out JComponent?>? {
+        val atomicFiles = GeneratedFileTracker.getInstance(project).findAtomicFiles(file)
+        if (atomicFiles.isEmpty()) {
+            return null
         }
         
-        fun parseElement(element: PsiElement) {
-            element.children.forEach { child ->
-                when (child) {
-                    is AtomicClassNameProp -> className = AtomicPsiImplUtil.getValue(child)
-                    is AtomicDirectoryProp -> directory = AtomicPsiImplUtil.getValue(child)
+        return Function { fileEditor ->
+            val panel = EditorNotificationPanel(fileEditor, EditorNotificationPanel.Status.Info)
+            panel.text = "Generated from ${atomicFiles.joinToString { it.name }}. Manual changes are overwritten on regeneration"
+            atomicFiles.forEach { atomicFile ->
+                panel.createActionLabel("Open ${atomicFile.name}") {
+                    FileEditorManager.getInstance(project).openFile(atomicFile, true)
                 }
-                parseElement(child)
             }
+            panel
         }
-        parseElement(psiFile)
-        
-        if (className == null || directory == null) {
-            return null
-        }
-        
-        val outputDir = if (File(directory!!).isAbsolute) {
-            File(directory!!)
-        } else {
-            File(projectBasePath, directory!!)
-        }
-        
-        return File(outputDir, "$className.cs").absolutePath
     }
 }
\ No newline at end of file
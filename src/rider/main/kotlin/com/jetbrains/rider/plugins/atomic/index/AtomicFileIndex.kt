@@ -0,0 +1,65 @@
+package com.jetbrains.rider.plugins.atomic.index
+
+import com.intellij.openapi.project.Project
+import com.intellij.openapi.util.io.FileUtil
+import com.intellij.openapi.vfs.VirtualFile
+import com.intellij.psi.search.FileTypeIndex
+import com.intellij.psi.search.GlobalSearchScope
+import com.intellij.util.indexing.FileBasedIndex
+import com.jetbrains.rider.plugins.atomic.language.AtomicFileType
+import com.jetbrains.rider.plugins.atomic.psi.AtomicFileModel
+import com.jetbrains.rider.plugins.atomic.services.AtomicGenerationService
+
+/**
+ * Cross-file queries over [AtomicFileModelIndex] and [AtomicNameIndex].
+ * Callers must hold a read action and handle dumb mode.
+ */
+object AtomicFileIndex {
+    
+    fun getModel(project: Project, file: VirtualFile): AtomicFileModel? {
+        return FileBasedIndex.getInstance()
+            .getFileData(AtomicFileModelIndex.NAME, file, project)
+            .values
+            .firstOrNull()
+    }
+    
+    fun getAllAtomicFiles(project: Project): Collection<VirtualFile> {
+        return FileTypeIndex.getFiles(AtomicFileType, GlobalSearchScope.projectScope(project))
+    }
+    
+    /**
+     * .atomic files whose generated output resolves to [generatedFilePath].
+     */
+    fun findAtomicFilesGenerating(project: Project, generatedFilePath: String): List<VirtualFile> {
+        val fileName = generatedFilePath.substringAfterLast('/').substringAfterLast('\\')
+        val normalizedPath = FileUtil.toSystemIndependentName(generatedFilePath)
+        
+        return findFiles(project, AtomicNameIndex.outputKey(fileName)).filter { atomicFile ->
+            getGeneratedFilePath(project, atomicFile)
+                ?.let { FileUtil.pathsEqual(FileUtil.toSystemIndependentName(it), normalizedPath) } == true
+        }
+    }
+    
+    fun getGeneratedFilePath(project: Project, atomicFile: VirtualFile): String? {
+        val model = getModel(project, atomicFile) ?: return null
+        return AtomicGenerationService.resolveGeneratedFilePath(atomicFile.path, model.directory, model.className)
+    }
+    
+    /**
+     * .atomic files whose generated output no longer exists on disk.
+     */
+    fun findFilesWithMissingOutput(project: Project): List<VirtualFile> {
+        return getAllAtomicFiles(project).filter { atomicFile ->
+            val generatedPath = getGeneratedFilePath(project, atomicFile) ?: return@filter false
+            !java.io.File(generatedPath).exists()
+        }
+    }
+    
+    private fun findFiles(project: Project, key: String): Collection<VirtualFile> {
+        return FileBasedIndex.getInstance().getContainingFiles(
+            AtomicNameIndex.NAME,
+            key,
+            GlobalSearchScope.projectScope(project)
+        )
+    }
+}
@@ -0,0 +1,51 @@
+package com.jetbrains.rider.plugins.atomic.index
+
+import com.intellij.util.io.DataExternalizer
+import com.intellij.util.io.DataInputOutputUtil
+import com.intellij.util.io.IOUtil
+import com.jetbrains.rider.plugins.atomic.psi.AtomicFileModel
+import java.io.DataInput
+import java.io.DataOutput
+
+object AtomicFileModelExternalizer : DataExternalizer<AtomicFileModel> {
+    
+    override fun save(out: DataOutput, model: AtomicFileModel) {
+        DataInputOutputUtil.writeINT(out, model.headerProperties.size)
+        model.headerProperties.forEach { (key, value) ->
+            IOUtil.writeUTF(out, key)
+            IOUtil.writeUTF(out, value)
+        }
+        writeStrings(out, model.declaredProperties.toList())
+        writeStrings(out, model.imports)
+        writeStrings(out, model.tags)
+        DataInputOutputUtil.writeINT(out, model.values.size)
+        model.values.forEach { value ->
+            IOUtil.writeUTF(out, value.name)
+            IOUtil.writeUTF(out, value.type)
+        }
+    }
+    
+    override fun read(input: DataInput): AtomicFileModel {
+        val headerProperties = linkedMapOf<String, String>()
+        repeat(DataInputOutputUtil.readINT(input)) {
+            val key = IOUtil.readUTF(input)
+            headerProperties[key] = IOUtil.readUTF(input)
+        }
+        val declaredProperties = readStrings(input).toSet()
+        val imports = readStrings(input)
+        val tags = readStrings(input)
+        val values = List(DataInputOutputUtil.readINT(input)) {
+            AtomicFileModel.Value(IOUtil.readUTF(input), IOUtil.readUTF(input))
+        }
+        return AtomicFileModel(headerProperties, declaredProperties, imports, tags, values)
+    }
+    
+    private fun writeStrings(out: DataOutput, strings: List<String>) {
+        DataInputOutputUtil.writeINT(out, strings.size)
+        strings.forEach { IOUtil.writeUTF(out, it) }
+    }
+    
+    private fun readStrings(input: DataInput): List<String> {
+        return List(DataInputOutputUtil.readINT(input)) { IOUtil.readUTF(input) }
+    }
+}
@@ -0,0 +1,40 @@
+package com.jetbrains.rider.plugins.atomic.index
+
+import com.intellij.util.indexing.DefaultFileTypeSpecificInputFilter
+import com.intellij.util.indexing.FileBasedIndex
+import com.intellij.util.indexing.FileContent
+import com.intellij.util.indexing.ID
+import com.intellij.util.indexing.SingleEntryFileBasedIndexExtension
+import com.intellij.util.indexing.SingleEntryIndexer
+import com.intellij.util.io.DataExternalizer
+import com.jetbrains.rider.plugins.atomic.language.AtomicFileType
+import com.jetbrains.rider.plugins.atomic.psi.AtomicFile
+import com.jetbrains.rider.plugins.atomic.psi.AtomicFileModel
+
+/**
+ * Stores the [AtomicFileModel] of every .atomic file so header properties, tags and values
+ * can be read without loading PSI.
+ */
+class AtomicFileModelIndex : SingleEntryFileBasedIndexExtension<AtomicFileModel>() {
+    
+    companion object {
+        val NAME: ID<Int, AtomicFileModel> = ID.create("com.sarchuk.atomic.fileModel")
+    }
+    
+    override fun getName(): ID<Int, AtomicFileModel> = NAME
+    
+    override fun getIndexer(): SingleEntryIndexer<AtomicFileModel> {
+        return object : SingleEntryIndexer<AtomicFileModel>(false) {
+            override fun computeValue(inputData: FileContent): AtomicFileModel? {
+                val atomicFile = inputData.psiFile as? AtomicFile ?: return null
+                return AtomicFileModel.build(atomicFile)
+            }
+        }
+    }
+    
+    override fun getValueExternalizer(): DataExternalizer<AtomicFileModel> = AtomicFileModelExternalizer
+    
+    override fun getVersion(): Int = 3
+    
+    override fun getInputFilter(): FileBasedIndex.InputFilter = DefaultFileTypeSpecificInputFilter(AtomicFileType)
+}
@@ -0,0 +1,56 @@
+package com.jetbrains.rider.plugins.atomic.index
+
+import com.intellij.util.indexing.DataIndexer
+import com.intellij.util.indexing.DefaultFileTypeSpecificInputFilter
+import com.intellij.util.indexing.FileBasedIndex
+import com.intellij.util.indexing.FileContent
+import com.intellij.util.indexing.ID
+import com.intellij.util.indexing.ScalarIndexExtension
+import com.intellij.util.io.EnumeratorStringDescriptor
+import com.intellij.util.io.KeyDescriptor
+import com.jetbrains.rider.plugins.atomic.language.AtomicFileType
+import com.jetbrains.rider.plugins.atomic.psi.AtomicFile
+import com.jetbrains.rider.plugins.atomic.psi.AtomicFileModel
+
+/**
+ * Maps tag names, value names and generated file names to the .atomic files declaring them.
+ */
+class AtomicNameIndex : ScalarIndexExtension<String>() {
+    
+    companion object {
+        val NAME: ID<String, Void> = ID.create("com.sarchuk.atomic.names")
+        
+        fun tagKey(tag: String) = "tag:$tag"
+        fun valueKey(value: String) = "value:$value"
+        fun outputKey(fileName: String) = "output:$fileName"
+        
+        fun declaredName(key: String): String? = when {
+            key.startsWith("tag:") -> key.removePrefix("tag:")
+            key.startsWith("value:") -> key.removePrefix("value:")
+            else -> null
+        }
+    }
+    
+    override fun getName(): ID<String, Void> = NAME
+    
+    override fun getIndexer(): DataIndexer<String, Void, FileContent> {
+        return DataIndexer { inputData ->
+            val atomicFile = inputData.psiFile as? AtomicFile ?: return@DataIndexer emptyMap()
+            val model = AtomicFileModel.build(atomicFile)
+            
+            val keys = HashMap<String, Void?>()
+            model.tags.forEach { keys[tagKey(it)] = null }
+            model.values.forEach { keys[valueKey(it.name)] = null }
+            keys[outputKey("${model.className}.cs")] = null
+            keys
+        }
+    }
+    
+    override fun getKeyDescriptor(): KeyDescriptor<String> = EnumeratorStringDescriptor.INSTANCE
+    
+    override fun getVersion(): Int = 2
+    
+    override fun getInputFilter(): FileBasedIndex.InputFilter = DefaultFileTypeSpecificInputFilter(AtomicFileType)
+    
+    override fun dependsOnFileContent(): Boolean = true
+}
@@ -5,6 +5,7 @@ import com.intellij.codeInsight.lookup.LookupElementBuilder
 import com.intellij.icons.AllIcons
 import com.intellij.openapi.application.ApplicationManager
 import com.intellij.openapi.command.WriteCommandAction
+import com.intellij.openapi.diagnostic.Logger
 import com.intellij.openapi.editor.Document
 import com.intellij.openapi.project.Project
 import com.intellij.patterns.PlatformPatterns
@@ -15,7 +16,9 @@ import com.intellij.util.ProcessingContext
 import com.jetbrains.rider.plugins.atomic.psi.*
 import com.jetbrains.rider.plugins.atomic.services.AtomicGenerationService
 import com.jetbrains.rider.plugins.atomic.model.TypeKind
-import kotlinx.coroutines.runBlocking
+import com.intellij.openapi.progress.ProcessCanceledException
+import com.intellij.openapi.progress.ProgressManager
+import com.intellij.openapi.progress.runBlockingCancellable
 import com.intellij.patterns.ElementPattern
 import com.intellij.codeInsight.AutoPopupController
 import com.intellij.openapi.vfs.VirtualFile
@@ -24,6 +27,32 @@ import com.intellij.openapi.vfs.VfsUtil
 class AtomicCompletionContributor : CompletionContributor() {
     
     companion object {
+        private val LOG = Logger.getInstance(AtomicCompletionContributor::class.java)
+        
+        private val PRIMITIVE_TYPES = listOf(
+            "bool", "byte", "sbyte", "char", "decimal", "double", "float",
+            "int", "uint", "long", "ulong", "short", "ushort", "string", "object"
+        )
+        
+        /**
+         * Waits for a backend completion request without blocking cancellation:
+         * when the user keeps typing the coroutine is cancelled, which also cancels the RPC on the backend.
+         */
+        private fun <T> awaitBackend(request: suspend () -> T): T {
+            return runBlockingCancellable { request() }
+        }
+        
+        private fun addPrimitiveTypes(result: CompletionResultSet) {
+            PRIMITIVE_TYPES.forEach { typeName ->
+                result.addElement(
+                    LookupElementBuilder.create(typeName)
+                        .withIcon(AllIcons.Nodes.Type)
+                        .withTypeText("built-in")
+                        .withBoldness(true)
+                )
+            }
+        }
+        
         fun addImportToAtomicFile(project: Project, document: Document, namespace: String) {
             val virtualFile = com.intellij.openapi.fileEditor.FileDocumentManager.getInstance().getFile(document)
             if (virtualFile?.extension != "atomic") {
@@ -98,7 +127,7 @@ class AtomicCompletionContributor : CompletionContributor() {
                         return@Runnable
                     }
                     
-                    val headerPattern = Regex("^(entityType:|aggressiveInlining:|unsafe:|namespace:|className:|directory:|solution:).*$", RegexOption.MULTILINE)
+                    val headerPattern = Regex("^(entityType:|aggressiveInlining:|unsafe:|constIds:|namespace:|className:|directory:|solution:).*$", RegexOption.MULTILINE)
                     val headerMatches = headerPattern.findAll(text).toList()
                     
                     if (headerMatches.isNotEmpty()) {
@@ -180,6 +209,16 @@ class AtomicCompletionContributor : CompletionContributor() {
         )
         
         
+        extend(
+            CompletionType.BASIC,
+            PlatformPatterns.psiElement()
+                .afterLeaf(PlatformPatterns.psiElement(AtomicTypes.COLON)
+                    .afterLeaf(PlatformPatterns.psiElement(AtomicTypes.CONST_IDS_KEYWORD))
+                ),
+            BooleanValueCompletionProvider()
+        )
+        
+        
         
         extend(
             CompletionType.BASIC,
@@ -347,6 +386,7 @@ class AtomicCompletionContributor : CompletionContributor() {
                     "entityType" to "The C# type to extend",
                     "aggressiveInlining" to "Enable aggressive inlining",
                     "unsafe" to "Enable unsafe access methods",
+                    "constIds" to "Emit IDs as compile-time constants",
                     "namespace" to "Target namespace",
                     "className" to "Generated class name", 
                     "directory" to "Output directory",
@@ -542,26 +582,25 @@ class AtomicCompletionContributor : CompletionContributor() {
             
             val projectPath = project.basePath ?: ""
             
-
+            
+            if (namespaceFilter == null) {
+                addPrimitiveTypes(resultWithConfidence)
+            }
             
             try {
-                val backendTypes = runBlocking {
-                    try {
-                        service.getTypeCompletions(prefixToUse, imports, projectPath, namespaceFilter)
-                    } catch (e: Exception) {
-                        e.printStackTrace()
-                        emptyList()
-                    }
+                val backendTypes = awaitBackend {
+                    service.getTypeCompletions(prefixToUse, imports, projectPath, namespaceFilter)
                 }
                 
 
-                if (namespaceFilter != null) {
+                if (namespaceFilter != null && LOG.isDebugEnabled) {
                     backendTypes.take(5).forEach {
-                        println("  - ${it.typeName} (${it.namespace})")
+                        LOG.debug("  - ${it.typeName} (${it.namespace})")
                     }
                 }
                 
                 backendTypes.forEach { typeItem ->
+                    ProgressManager.checkCanceled()
                     
                     val isNamespace = typeItem.namespace.isEmpty() && typeItem.typeName == typeItem.fullTypeName
                     
@@ -653,6 +692,8 @@ class AtomicCompletionContributor : CompletionContributor() {
                     }
                 }
                 
+            } catch (e: ProcessCanceledException) {
+                throw e
             } catch (e: Exception) {
                 e.printStackTrace()
             }
@@ -794,7 +835,7 @@ class AtomicCompletionContributor : CompletionContributor() {
                 return
             }
             
-            println("GenericTypeParameterCompletionProvider: Inside generic type parameters!")
+            LOG.debug("GenericTypeParameterCompletionProvider: Inside generic type parameters!")
             
             
             val project = parameters.position.project
@@ -811,7 +852,7 @@ class AtomicCompletionContributor : CompletionContributor() {
             
             val prefixToUse = actualPrefix
             
-            println("GenericTypeParameterCompletionProvider: rawPrefix='$rawPrefix', actualPrefix='$actualPrefix', prefixToUse='$prefixToUse'")
+            LOG.debug("GenericTypeParameterCompletionProvider: rawPrefix='$rawPrefix', actualPrefix='$actualPrefix', prefixToUse='$prefixToUse'")
             
             
             val resultWithCorrectPrefix = result.withPrefixMatcher(prefixToUse).caseInsensitive()
@@ -829,19 +870,18 @@ class AtomicCompletionContributor : CompletionContributor() {
             val projectPath = project.basePath ?: ""
             
             
+            addPrimitiveTypes(resultWithCorrectPrefix)
+            
             try {
-                val backendTypes = runBlocking {
-                    try {
-                        service.getTypeCompletions(prefixToUse, imports, projectPath, null)
-                    } catch (e: Exception) {
-                        println("GenericTypeParameterCompletionProvider: Backend error - ${e.message}")
-                        emptyList()
-                    }
+                val backendTypes = awaitBackend {
+                    service.getTypeCompletions(prefixToUse, imports, projectPath, null)
                 }
                 
-                println("GenericTypeParameterCompletionProvider: Got ${backendTypes.size} types from backend")
+                LOG.debug("GenericTypeParameterCompletionProvider: Got ${backendTypes.size} types from backend")
                 
                 backendTypes.forEach { typeItem ->
+                    ProgressManager.checkCanceled()
+                    
                     val icon = when (typeItem.typeKind) {
                         TypeKind.Class -> AllIcons.Nodes.Class
                         TypeKind.Interface -> AllIcons.Nodes.Interface
@@ -891,9 +931,10 @@ class AtomicCompletionContributor : CompletionContributor() {
                     
                     resultWithCorrectPrefix.addElement(element)
                 }
+            } catch (e: ProcessCanceledException) {
+                throw e
             } catch (e: Exception) {
-                println("GenericTypeParameterCompletionProvider: Exception - ${e.message}")
-                e.printStackTrace()
+                LOG.warn("GenericTypeParameterCompletionProvider: Exception", e)
             }
         }
         
@@ -943,7 +984,7 @@ class AtomicCompletionContributor : CompletionContributor() {
             
             if (!ApplicationManager.getApplication().isDispatchThread) {
                 try {
-                    val projects = runBlocking {
+                    val projects = awaitBackend {
                         service.getAvailableProjects()
                     }
                     
@@ -963,6 +1004,8 @@ class AtomicCompletionContributor : CompletionContributor() {
                                 .withBoldness(true)
                         )
                     }
+                } catch (e: ProcessCanceledException) {
+                    throw e
                 } catch (e: Exception) {
                     
                     e.printStackTrace()
@@ -995,20 +1038,15 @@ class AtomicCompletionContributor : CompletionContributor() {
             val prefix = result.prefixMatcher.prefix
             val projectPath = project.basePath ?: ""
             
-            println("NamespaceCompletionProvider: Getting namespaces for prefix='$prefix'")
+            LOG.debug("NamespaceCompletionProvider: Getting namespaces for prefix='$prefix'")
             
             
             try {
-                val namespaces = runBlocking {
-                    try {
-                        service.getNamespaceCompletions(prefix, projectPath)
-                    } catch (e: Exception) {
-                        println("NamespaceCompletionProvider: Backend error - ${e.message}")
-                        emptyList()
-                    }
+                val namespaces = awaitBackend {
+                    service.getNamespaceCompletions(prefix, projectPath)
                 }
                 
-                println("NamespaceCompletionProvider: Got ${namespaces.size} namespaces from backend")
+                LOG.debug("NamespaceCompletionProvider: Got ${namespaces.size} namespaces from backend")
                 
                 namespaces.forEach { namespace ->
                     result.addElement(
@@ -1018,9 +1056,10 @@ class AtomicCompletionContributor : CompletionContributor() {
                             .withBoldness(namespace.startsWith("System"))
                     )
                 }
+            } catch (e: ProcessCanceledException) {
+                throw e
             } catch (e: Exception) {
-                println("NamespaceCompletionProvider: Exception - ${e.message}")
-                e.printStackTrace()
+                LOG.warn("NamespaceCompletionProvider: Exception", e)
             }
         }
     }
@@ -1237,7 +1276,7 @@ class AtomicCompletionContributor : CompletionContributor() {
             val actualPrefix = getActualPrefix(parameters)
             val prefixToUse = if (actualPrefix.isNotEmpty()) actualPrefix else prefix
             
-            println("EntityTypeCompletionProvider: prefix='$prefix', actualPrefix='$actualPrefix'")
+            LOG.debug("EntityTypeCompletionProvider: prefix='$prefix', actualPrefix='$actualPrefix'")
             
             
             val fullText = getFullTypeText(parameters)
@@ -1279,18 +1318,14 @@ class AtomicCompletionContributor : CompletionContributor() {
             
             
             try {
-                val backendTypes = runBlocking {
-                    try {
-                        service.getTypeCompletions(searchPrefix, imports, projectPath, namespaceFilter)
-                    } catch (e: Exception) {
-                        println("EntityTypeCompletionProvider: Backend error - ${e.message}")
-                        emptyList()
-                    }
+                val backendTypes = awaitBackend {
+                    service.getTypeCompletions(searchPrefix, imports, projectPath, namespaceFilter)
                 }
                 
-                println("EntityTypeCompletionProvider: Got ${backendTypes.size} types from backend")
+                LOG.debug("EntityTypeCompletionProvider: Got ${backendTypes.size} types from backend")
                 
                 backendTypes.forEach { typeItem ->
+                    ProgressManager.checkCanceled()
                     
                     val isNamespace = typeItem.namespace.isEmpty() && typeItem.typeName == typeItem.fullTypeName
                     
@@ -1375,9 +1410,10 @@ class AtomicCompletionContributor : CompletionContributor() {
                         result.addElement(element)
                     }
                 }
+            } catch (e: ProcessCanceledException) {
+                throw e
             } catch (e: Exception) {
-                println("EntityTypeCompletionProvider: Exception - ${e.message}")
-                e.printStackTrace()
+                LOG.warn("EntityTypeCompletionProvider: Exception", e)
             }
         }
         
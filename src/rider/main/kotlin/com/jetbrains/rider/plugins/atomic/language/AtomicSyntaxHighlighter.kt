@@ -62,6 +62,7 @@ class AtomicSyntaxHighlighter : SyntaxHighlighterBase() {
             AtomicTypes.ENTITY_TYPE_KEYWORD,
             AtomicTypes.AGGRESSIVE_INLINING_KEYWORD,
             AtomicTypes.UNSAFE_KEYWORD,
+            AtomicTypes.CONST_IDS_KEYWORD,
             AtomicTypes.NAMESPACE_KEYWORD,
             AtomicTypes.CLASS_NAME_KEYWORD,
             AtomicTypes.DIRECTORY_KEYWORD,
@@ -0,0 +1,463 @@
+package com.jetbrains.rider.plugins.atomic.language
+
+import com.intellij.lang.annotation.AnnotationHolder
+import com.intellij.lang.annotation.ExternalAnnotator
+import com.intellij.lang.annotation.HighlightSeverity
+import com.intellij.openapi.editor.Editor
+import com.intellij.psi.PsiElement
+import com.intellij.psi.PsiFile
+import com.intellij.psi.util.PsiTreeUtil
+import com.jetbrains.rider.plugins.atomic.psi.*
+import com.jetbrains.rider.plugins.atomic.psi.impl.AtomicPsiImplUtil
+
+/**
+ * Backend-dependent checks of .atomic files: type resolution, ambiguity, namespace existence and unused imports.
+ * Type references are collected from PSI under the read action, resolved off the highlighting thread with a single
+ * `validateTypes` call and cached in [AtomicTypeValidationCache].
+ * Syntactic checks stay in [AtomicAnnotator].
+ */
+class AtomicTypeExternalAnnotator : ExternalAnnotator<AtomicTypeExternalAnnotator.Info, AtomicTypeValidationBatch>() {
+    
+    class Info(
+        val file: AtomicFile,
+        val request: AtomicTypeValidationBatch.Request,
+        val modificationStamp: Long
+    )
+    
+    override fun collectInformation(file: PsiFile, editor: Editor, hasErrors: Boolean): Info? {
+        return collectInformation(file)
+    }
+    
+    override fun collectInformation(file: PsiFile): Info? {
+        val atomicFile = file as? AtomicFile ?: return null
+        return Info(atomicFile, AtomicTypeValidationBatch.collect(atomicFile), AtomicTypeValidationCache.modificationStamp(atomicFile))
+    }
+    
+    override fun doAnnotate(info: Info): AtomicTypeValidationBatch? {
+        return AtomicTypeValidationCache.resolveBlocking(info.file, info.request, info.modificationStamp)
+    }
+    
+    override fun apply(file: PsiFile, batch: AtomicTypeValidationBatch?, holder: AnnotationHolder) {
+        if (batch == null || file !is AtomicFile) return
+        
+        
+        if (batch.modificationStamp != AtomicTypeValidationCache.modificationStamp(file)) return
+        
+        PsiTreeUtil.findChildrenOfType(file, AtomicEntityTypeProp::class.java).forEach { property ->
+            val typeName = AtomicPsiImplUtil.getValue(property)
+            if (typeName != null && typeName.isNotBlank()) {
+                validateTypeForEntityType(property, typeName, batch, holder)
+            }
+        }
+        
+        PsiTreeUtil.findChildrenOfType(file, AtomicImportItem::class.java).forEach { importItem ->
+            val importPath = importItem.node.findChildByType(AtomicTypes.IMPORT_PATH)
+            if (importPath != null && importPath.text.isNotBlank()) {
+                validateNamespaceExists(importItem, importPath.text, batch, holder)
+            }
+        }
+        
+        PsiTreeUtil.findChildrenOfType(file, AtomicValueItem::class.java).forEach { valueItem ->
+            val typeReference = AtomicPsiImplUtil.getTypeReference(valueItem)
+            if (typeReference != null && typeReference.isNotBlank()) {
+                validateTypeExists(valueItem, typeReference, batch, holder)
+            }
+        }
+    }
+    
+    private fun validateTypeExists(valueItem: AtomicValueItem, typeText: String, batch: AtomicTypeValidationBatch, holder: AnnotationHolder) {
+        val fullTypeNameWithoutGenerics = typeText.substringBefore('<').trim()
+        val isFullyQualified = fullTypeNameWithoutGenerics.contains('.')
+        
+        if (isFullyQualified) {
+            
+            
+            val typeName = fullTypeNameWithoutGenerics.substringAfterLast('.')
+            
+            if (isPrimitiveType(typeName)) {
+                return 
+            }
+            
+            val validationResult = batch.type(fullTypeNameWithoutGenerics) ?: return
+            
+            if (!validationResult.isValid) {
+                
+                val namespaceValidation = batch.namespace(fullTypeNameWithoutGenerics)
+                
+                val colonNode = valueItem.node.findChildByType(AtomicTypes.COLON)
+                if (colonNode != null) {
+                    val valueText = valueItem.text
+                    val colonIndex = valueText.indexOf(':')
+                    if (colonIndex != -1) {
+                        val afterColon = valueText.substring(colonIndex + 1)
+                        val typeStartInAfterColon = afterColon.indexOf(fullTypeNameWithoutGenerics)
+                        if (typeStartInAfterColon != -1) {
+                            val startOffset = valueItem.textRange.startOffset + colonIndex + 1 + typeStartInAfterColon
+                            val endOffset = startOffset + fullTypeNameWithoutGenerics.length
+                            
+                            val message = if (namespaceValidation?.isValid == true) {
+                                "'$fullTypeNameWithoutGenerics' is a namespace, not a type"
+                            } else {
+                                "Cannot resolve type '$fullTypeNameWithoutGenerics'"
+                            }
+                            
+                            holder.newAnnotation(HighlightSeverity.ERROR, message)
+                                .range(com.intellij.openapi.util.TextRange(startOffset, endOffset))
+                                .create()
+                        }
+                    }
+                }
+            }
+            
+            
+            val genericTypes = extractGenericTypes(typeText)
+            for (genericType in genericTypes) {
+                validateTypeExists(valueItem, genericType, batch, holder)
+            }
+            
+            return
+        }
+        
+        
+        
+        val mainTypeName = extractMainTypeName(typeText)
+        if (mainTypeName.isEmpty()) return
+        
+        
+        if (isPrimitiveType(mainTypeName)) {
+            return 
+        }
+        
+        
+        val typeNameWithoutArray = mainTypeName.replace(Regex("\\[\\]"), "")
+        
+        val validationResult = batch.type(typeNameWithoutArray)
+        
+        if (validationResult != null) {
+            if (validationResult.isAmbiguous) {
+                
+                val colonNode = valueItem.node.findChildByType(AtomicTypes.COLON)
+                if (colonNode != null) {
+                    val valueText = valueItem.text
+                    val colonIndex = valueText.indexOf(':')
+                    if (colonIndex != -1) {
+                        val afterColon = valueText.substring(colonIndex + 1)
+                        val typeStartInAfterColon = afterColon.indexOf(mainTypeName)
+                        if (typeStartInAfterColon != -1) {
+                            val startOffset = valueItem.textRange.startOffset + colonIndex + 1 + typeStartInAfterColon
+                            val endOffset = startOffset + mainTypeName.length
+                            
+                            val namespaceList = validationResult.ambiguousNamespaces.joinToString(", ") { "'$it'" }
+                            val message = if (validationResult.ambiguousNamespaces.size == 2) {
+                                "Type '$mainTypeName' is ambiguous between ${validationResult.ambiguousNamespaces[0]} and ${validationResult.ambiguousNamespaces[1]}"
+                            } else {
+                                "Type '$mainTypeName' is ambiguous between: $namespaceList"
+                            }
+                            
+                            val annotation = holder.newAnnotation(HighlightSeverity.ERROR, message)
+                                .range(com.intellij.openapi.util.TextRange(startOffset, endOffset))
+                            
+                            
+                            for (namespace in validationResult.ambiguousNamespaces) {
+                                annotation.withFix(UseFullyQualifiedTypeQuickFix(mainTypeName, namespace))
+                            }
+                            
+                            
+                            for (namespace in validationResult.ambiguousNamespaces) {
+                                annotation.withFix(RemoveImportToResolveAmbiguityQuickFix(namespace, mainTypeName))
+                            }
+                            
+                            annotation.create()
+                        }
+                    }
+                }
+            } else if (!validationResult.isValid) {
+                val colonNode = valueItem.node.findChildByType(AtomicTypes.COLON)
+                if (colonNode != null) {
+                    
+                    val valueText = valueItem.text
+                    val colonIndex = valueText.indexOf(':')
+                    if (colonIndex != -1) {
+                        val afterColon = valueText.substring(colonIndex + 1)
+                        val typeStartInAfterColon = afterColon.indexOf(mainTypeName)
+                        if (typeStartInAfterColon != -1) {
+                            val startOffset = valueItem.textRange.startOffset + colonIndex + 1 + typeStartInAfterColon
+                            val endOffset = startOffset + mainTypeName.length
+                            
+                            val message = when {
+                                validationResult.suggestedImports.size > 1 -> 
+                                    "Cannot resolve type '$mainTypeName'. Multiple namespaces available."
+                                validationResult.suggestedImports.size == 1 -> 
+                                    "Cannot resolve type '$mainTypeName'. Import namespace '${validationResult.suggestedImports[0]}'?"
+                                validationResult.suggestedImport != null -> 
+                                    "Cannot resolve type '$mainTypeName'. Import namespace '${validationResult.suggestedImport}'?"
+                                else -> 
+                                    "Cannot resolve type '$mainTypeName'"
+                            }
+                            
+                            val annotation = holder.newAnnotation(HighlightSeverity.ERROR, message)
+                                .range(com.intellij.openapi.util.TextRange(startOffset, endOffset))
+                            
+                            
+                            if (validationResult.suggestedImports.isNotEmpty()) {
+                                for (namespace in validationResult.suggestedImports) {
+                                    annotation.withFix(AddImportQuickFix(namespace))
+                                }
+                            } else if (validationResult.suggestedImport != null) {
+                                
+                                annotation.withFix(AddImportQuickFix(validationResult.suggestedImport))
+                            }
+                            
+                            annotation.create()
+                        }
+                    }
+                }
+            }
+        }
+        
+        
+        val genericTypes = extractGenericTypes(typeText)
+        for (genericType in genericTypes) {
+            validateTypeExists(valueItem, genericType, batch, holder)
+        }
+    }
+    
+    private fun extractMainTypeName(typeText: String): String {
+        return AtomicTypeValidationBatch.extractMainTypeName(typeText)
+    }
+    
+    private fun extractGenericTypes(typeText: String): List<String> {
+        return AtomicTypeValidationBatch.extractGenericTypes(typeText)
+    }
+    
+    private fun validateNamespaceExists(importItem: AtomicImportItem, namespace: String, batch: AtomicTypeValidationBatch, holder: AnnotationHolder) {
+        val file = importItem.containingFile as? AtomicFile ?: return
+        
+        val validationResult = batch.namespace(namespace) ?: return
+        
+        if (!validationResult.isValid) {
+            val importPath = importItem.node.findChildByType(AtomicTypes.IMPORT_PATH)
+            if (importPath != null) {
+                holder.newAnnotation(HighlightSeverity.ERROR, "Namespace '$namespace' does not exist")
+                    .range(importPath.textRange)
+                    .create()
+            }
+        } else {
+            
+            val isUsed = isNamespaceUsed(file, namespace, batch)
+            
+            if (!isUsed) {
+                val importPath = importItem.node.findChildByType(AtomicTypes.IMPORT_PATH)
+                if (importPath != null) {
+                    val annotation = holder.newAnnotation(HighlightSeverity.WARNING, "Import '$namespace' is not used")
+                        .range(importPath.textRange)
+                        .withFix(RemoveImportQuickFix(namespace))
+                    
+                    annotation.create()
+                }
+            }
+        }
+    }
+    
+    private fun isNamespaceUsed(file: AtomicFile, namespace: String, batch: AtomicTypeValidationBatch): Boolean {
+        
+        val entityTypeProp = findEntityTypeProp(file)
+        if (entityTypeProp != null) {
+            val entityType = AtomicPsiImplUtil.getValue(entityTypeProp)
+            if (entityType != null && entityType.isNotBlank()) {
+                if (isTypeUsingNamespace(entityType, namespace, batch)) {
+                    return true
+                }
+            }
+        }
+        
+        
+        val valuesSection = file.children.filterIsInstance<AtomicValuesSection>().firstOrNull()
+        if (valuesSection != null) {
+            
+            for (valueItem in valuesSection.valueItemList) {
+                val typeReference = AtomicPsiImplUtil.getTypeReference(valueItem)
+                if (typeReference != null && typeReference.isNotBlank()) {
+                    if (isTypeUsingNamespace(typeReference, namespace, batch)) {
+                        return true
+                    }
+                }
+            }
+        }
+        
+        return false
+    }
+    
+    private fun findEntityTypeProp(file: AtomicFile): AtomicEntityTypeProp? {
+        
+        file.children.filterIsInstance<AtomicHeaderSection>().forEach { headerSection ->
+            headerSection.entityTypePropList.firstOrNull()?.let { return it }
+        }
+        
+        
+        file.children.filterIsInstance<AtomicEntityTypeProp>().firstOrNull()?.let { return it }
+        
+        
+        fun findInElement(element: PsiElement): AtomicEntityTypeProp? {
+            element.children.forEach { child ->
+                if (child is AtomicEntityTypeProp) return child
+                findInElement(child)?.let { return it }
+            }
+            return null
+        }
+        
+        return findInElement(file)
+    }
+    
+    private fun isTypeUsingNamespace(typeReference: String, targetNamespace: String, batch: AtomicTypeValidationBatch): Boolean {
+        
+        val fullTypeNameWithoutGenerics = typeReference.substringBefore('<').trim()
+        if (fullTypeNameWithoutGenerics.contains('.')) {
+            
+            return false
+        }
+        
+        
+        val mainTypeName = extractMainTypeName(typeReference)
+        
+        if (isPrimitiveType(mainTypeName)) {
+            return false
+        }
+        
+        
+        // The batch resolves with every import in place, so the namespace is used when the type resolves into it
+        val validation = batch.type(mainTypeName)
+        if (validation != null) {
+            val resolvedNamespace = validation.fullTypeName?.let { AtomicTypeValidationBatch.namespaceOf(it) }
+            if (validation.isValid && resolvedNamespace == targetNamespace) {
+                return true
+            }
+            
+            if (validation.isAmbiguous && validation.ambiguousNamespaces.contains(targetNamespace)) {
+                return true
+            }
+        }
+        
+        
+        val genericTypes = extractGenericTypes(typeReference)
+        for (genericType in genericTypes) {
+            if (isTypeUsingNamespace(genericType, targetNamespace, batch)) {
+                return true
+            }
+        }
+        
+        return false
+    }
+    
+    private fun validateTypeForEntityType(property: AtomicEntityTypeProp, typeText: String, batch: AtomicTypeValidationBatch, holder: AnnotationHolder) {
+        val fullTypeNameWithoutGenerics = typeText.substringBefore('<').trim()
+        val isFullyQualified = fullTypeNameWithoutGenerics.contains('.')
+        
+        if (isFullyQualified) {
+            
+            val typeName = fullTypeNameWithoutGenerics.substringAfterLast('.')
+            
+            
+            if (isPrimitiveType(typeName)) {
+                return
+            }
+            
+            val validationResult = batch.type(fullTypeNameWithoutGenerics)
+            
+            if (validationResult == null || !validationResult.isValid) {
+                
+                val colonNode = property.node.findChildByType(AtomicTypes.COLON)
+                if (colonNode != null) {
+                    val valueNode = property.node.findChildByType(AtomicTypes.IDENTIFIER)
+                    if (valueNode != null) {
+                        holder.newAnnotation(HighlightSeverity.ERROR, "Cannot resolve type '$fullTypeNameWithoutGenerics'")
+                            .range(valueNode.textRange)
+                            .create()
+                    }
+                }
+            }
+            
+            
+            val genericTypes = extractGenericTypes(typeText)
+            for (genericType in genericTypes) {
+                validateTypeForEntityType(property, genericType, batch, holder)
+            }
+            
+            return
+        }
+        
+        
+        val mainTypeName = extractMainTypeName(typeText)
+        if (mainTypeName.isEmpty() || isPrimitiveType(mainTypeName)) {
+            return
+        }
+        
+        val typeNameWithoutArray = mainTypeName.replace(Regex("\\[\\]"), "")
+        
+        val validationResult = batch.type(typeNameWithoutArray)
+        
+        if (validationResult != null) {
+            val colonNode = property.node.findChildByType(AtomicTypes.COLON)
+            val valueNode = property.node.findChildByType(AtomicTypes.IDENTIFIER)
+            
+            if (validationResult.isAmbiguous && colonNode != null && valueNode != null) {
+                
+                val namespaceList = validationResult.ambiguousNamespaces.joinToString(", ") { "'$it'" }
+                val message = if (validationResult.ambiguousNamespaces.size == 2) {
+                    "Type '$mainTypeName' is ambiguous between ${validationResult.ambiguousNamespaces[0]} and ${validationResult.ambiguousNamespaces[1]}"
+                } else {
+                    "Type '$mainTypeName' is ambiguous between: $namespaceList"
+                }
+                
+                val annotation = holder.newAnnotation(HighlightSeverity.ERROR, message)
+                    .range(valueNode.textRange)
+                
+                
+                for (namespace in validationResult.ambiguousNamespaces) {
+                    annotation.withFix(UseFullyQualifiedTypeQuickFix(mainTypeName, namespace))
+                }
+                
+                for (namespace in validationResult.ambiguousNamespaces) {
+                    annotation.withFix(RemoveImportToResolveAmbiguityQuickFix(namespace, mainTypeName))
+                }
+                
+                annotation.create()
+            } else if (!validationResult.isValid && colonNode != null && valueNode != null) {
+                val message = when {
+                    validationResult.suggestedImports.size > 1 -> 
+                        "Cannot resolve type '$mainTypeName'. Multiple namespaces available."
+                    validationResult.suggestedImports.size == 1 -> 
+                        "Cannot resolve type '$mainTypeName'. Import namespace '${validationResult.suggestedImports[0]}'?"
+                    validationResult.suggestedImport != null -> 
+                        "Cannot resolve type '$mainTypeName'. Import namespace '${validationResult.suggestedImport}'?"
+                    else -> 
+                        "Cannot resolve type '$mainTypeName'"
+                }
+                
+                val annotation = holder.newAnnotation(HighlightSeverity.ERROR, message)
+                    .range(valueNode.textRange)
+                
+                
+                if (validationResult.suggestedImports.isNotEmpty()) {
+                    for (namespace in validationResult.suggestedImports) {
+                        annotation.withFix(AddImportQuickFix(namespace))
+                    }
+                } else if (validationResult.suggestedImport != null) {
+                    annotation.withFix(AddImportQuickFix(validationResult.suggestedImport))
+                }
+                
+                annotation.create()
+            }
+        }
+        
+        
+        val genericTypes = extractGenericTypes(typeText)
+        for (genericType in genericTypes) {
+            validateTypeForEntityType(property, genericType, batch, holder)
+        }
+    }
+    
+    private fun isPrimitiveType(typeName: String): Boolean {
+        return AtomicTypeValidationBatch.isPrimitiveType(typeName)
+    }
+}
@@ -0,0 +1,168 @@
+package com.jetbrains.rider.plugins.atomic.language
+
+import com.jetbrains.rider.plugins.atomic.model.NamespaceValidationResponse
+import com.jetbrains.rider.plugins.atomic.model.TypeValidationBatchResponse
+import com.jetbrains.rider.plugins.atomic.model.TypeValidationResponse
+import com.jetbrains.rider.plugins.atomic.psi.*
+import com.jetbrains.rider.plugins.atomic.psi.impl.AtomicPsiImplUtil
+
+/**
+ * Backend validation results for every type reference and namespace of one .atomic file,
+ * resolved with a single `validateTypes` call.
+ */
+class AtomicTypeValidationBatch(
+    val modificationStamp: Long,
+    val typeIndexVersion: Long,
+    private val types: Map<String, TypeValidationResponse>,
+    private val namespaces: Map<String, NamespaceValidationResponse>
+) {
+    fun type(typeName: String): TypeValidationResponse? = types[typeName]
+
+    fun namespace(namespace: String): NamespaceValidationResponse? = namespaces[namespace]
+
+    fun hasTypeErrors(): Boolean = types.values.any { !it.isValid || it.isAmbiguous }
+
+    /**
+     * Type names and namespaces an .atomic file needs resolved by the backend.
+     */
+    class Request(
+        val typeNames: List<String>,
+        val namespaces: List<String>,
+        val imports: List<String>
+    ) {
+        fun toBatch(modificationStamp: Long, typeIndexVersion: Long, response: TypeValidationBatchResponse): AtomicTypeValidationBatch {
+            return AtomicTypeValidationBatch(
+                modificationStamp,
+                typeIndexVersion,
+                typeNames.zip(response.types).toMap(),
+                namespaces.zip(response.namespaces).toMap()
+            )
+        }
+    }
+
+    companion object {
+        private val PRIMITIVE_TYPES = setOf(
+            "bool", "byte", "sbyte", "char", "decimal", "double", "float",
+            "int", "uint", "long", "ulong", "short", "ushort", "string",
+            "object", "void", "dynamic"
+        )
+
+        fun collect(file: AtomicFile): Request {
+            val imports = getImports(file)
+            val typeNames = linkedSetOf<String>()
+            val namespaces = linkedSetOf<String>()
+            namespaces.addAll(imports)
+
+            fun collectTypeReference(typeText: String) {
+                val fullTypeNameWithoutGenerics = typeText.substringBefore('<').trim()
+                if (fullTypeNameWithoutGenerics.contains('.')) {
+                    if (!isPrimitiveType(fullTypeNameWithoutGenerics.substringAfterLast('.'))) {
+                        typeNames.add(fullTypeNameWithoutGenerics)
+                        namespaces.add(fullTypeNameWithoutGenerics)
+                    }
+                } else {
+                    val mainTypeName = extractMainTypeName(typeText)
+                    if (mainTypeName.isNotEmpty() && !isPrimitiveType(mainTypeName)) {
+                        typeNames.add(mainTypeName.replace(Regex("\\[\\]"), ""))
+                    }
+                }
+
+                extractGenericTypes(typeText).forEach { collectTypeReference(it) }
+            }
+
+            file.children.forEach { child ->
+                when (child) {
+                    is AtomicHeaderSection -> child.entityTypePropList.forEach { prop ->
+                        AtomicPsiImplUtil.getValue(prop)?.takeIf { it.isNotBlank() }?.let { collectTypeReference(it) }
+                    }
+                    is AtomicEntityTypeProp -> AtomicPsiImplUtil.getValue(child)?.takeIf { it.isNotBlank() }?.let { collectTypeReference(it) }
+                    is AtomicValuesSection -> child.valueItemList.forEach { valueItem ->
+                        AtomicPsiImplUtil.getTypeReference(valueItem)?.takeIf { it.isNotBlank() }?.let { collectTypeReference(it) }
+                    }
+                }
+            }
+
+            return Request(typeNames.toList(), namespaces.toList(), imports)
+        }
+
+        fun getImports(file: AtomicFile): List<String> {
+            return file.children.filterIsInstance<AtomicImportsSection>().firstOrNull()?.let { importsSection ->
+                importsSection.importItemList.mapNotNull { importItem ->
+                    importItem.node.findChildByType(AtomicTypes.IMPORT_PATH)?.text
+                }
+            } ?: emptyList()
+        }
+
+        fun isPrimitiveType(typeName: String): Boolean = PRIMITIVE_TYPES.contains(typeName)
+
+        fun extractMainTypeName(typeText: String): String {
+            val genericStart = typeText.indexOf('<')
+            val arrayStart = typeText.indexOf('[')
+
+            val endIndex = when {
+                genericStart == -1 && arrayStart == -1 -> typeText.length
+                genericStart == -1 -> arrayStart
+                arrayStart == -1 -> genericStart
+                else -> minOf(genericStart, arrayStart)
+            }
+
+            val fullTypeName = typeText.substring(0, endIndex).trim()
+
+            return if (fullTypeName.contains('.')) {
+                fullTypeName.substringAfterLast('.')
+            } else {
+                fullTypeName
+            }
+        }
+
+        fun extractGenericTypes(typeText: String): List<String> {
+            val result = mutableListOf<String>()
+            val genericStart = typeText.indexOf('<')
+            if (genericStart == -1) return result
+
+            val genericEnd = typeText.lastIndexOf('>')
+            if (genericEnd == -1 || genericEnd <= genericStart) return result
+
+            val genericContent = typeText.substring(genericStart + 1, genericEnd)
+
+            var current = StringBuilder()
+            var depth = 0
+
+            for (char in genericContent) {
+                when (char) {
+                    '<' -> {
+                        depth++
+                        current.append(char)
+                    }
+                    '>' -> {
+                        depth--
+                        current.append(char)
+                    }
+                    ',' -> {
+                        if (depth == 0) {
+                            result.add(current.toString().trim())
+                            current = StringBuilder()
+                        } else {
+                            current.append(char)
+                        }
+                    }
+                    else -> current.append(char)
+                }
+            }
+
+            if (current.isNotEmpty()) {
+                result.add(current.toString().trim())
+            }
+
+            return result
+        }
+
+        /**
+         * Namespace of a resolved CLR type name such as `System.Collections.Generic.List`1` or `Outer.Ns.Type+Nested`.
+         */
+        fun namespaceOf(fullTypeName: String): String {
+            val topLevelName = fullTypeName.substringBefore('+')
+            return if (topLevelName.contains('.')) topLevelName.substringBeforeLast('.') else ""
+        }
+    }
+}
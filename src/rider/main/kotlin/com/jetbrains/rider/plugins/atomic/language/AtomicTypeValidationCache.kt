@@ -0,0 +1,67 @@
+package com.jetbrains.rider.plugins.atomic.language
+
+import com.intellij.openapi.progress.runBlockingCancellable
+import com.intellij.openapi.util.Key
+import com.intellij.psi.PsiFile
+import com.jetbrains.rider.plugins.atomic.psi.AtomicFile
+import com.jetbrains.rider.plugins.atomic.services.AtomicGenerationService
+import kotlinx.coroutines.withTimeoutOrNull
+
+/**
+ * Per-file cache of backend type and namespace resolution shared by [AtomicTypeExternalAnnotator]
+ * and [com.jetbrains.rider.plugins.atomic.services.AtomicFileValidator].
+ * An entry is valid while both the document modification stamp and the backend type index version are unchanged.
+ */
+object AtomicTypeValidationCache {
+    
+    private const val VALIDATION_TIMEOUT_MS = 5000L
+    private val VALIDATION_BATCH_KEY = Key.create<AtomicTypeValidationBatch>("atomic.typeValidationBatch")
+    
+    fun modificationStamp(file: PsiFile): Long {
+        return file.viewProvider.document?.modificationStamp ?: file.modificationStamp
+    }
+    
+    fun getCached(file: AtomicFile, modificationStamp: Long): AtomicTypeValidationBatch? {
+        val cached = file.getUserData(VALIDATION_BATCH_KEY) ?: return null
+        val service = AtomicGenerationService.getInstance(file.project)
+        
+        return cached.takeIf {
+            it.modificationStamp == modificationStamp && it.typeIndexVersion == service.typeIndexVersion
+        }
+    }
+    
+    /**
+     * Blocking [resolve] for [AtomicTypeExternalAnnotator.doAnnotate], which runs on a background thread without a coroutine.
+     * Must not be called under a read action.
+     */
+    fun resolveBlocking(file: AtomicFile, request: AtomicTypeValidationBatch.Request, modificationStamp: Long): AtomicTypeValidationBatch? {
+        return runBlockingCancellable { resolve(file, request, modificationStamp) }
+    }
+    
+    /**
+     * Returns the cached batch or resolves [request] with one `validateTypes` call, cancelled with the calling coroutine.
+     * Must not be called under a read action; returns null if the backend is not ready or does not answer in time.
+     */
+    suspend fun resolve(file: AtomicFile, request: AtomicTypeValidationBatch.Request, modificationStamp: Long): AtomicTypeValidationBatch? {
+        getCached(file, modificationStamp)?.let { return it }
+        
+        val project = file.project
+        if (project.isDisposed) return null
+        
+        val service = AtomicGenerationService.getInstance(project)
+        if (!service.isReady()) {
+            
+            service.registerFileForReAnnotation(file)
+            return null
+        }
+        
+        val typeIndexVersion = service.typeIndexVersion
+        val response = withTimeoutOrNull(VALIDATION_TIMEOUT_MS) {
+            service.validateTypes(request.typeNames, request.namespaces, request.imports, project.basePath ?: "")
+        } ?: return null
+        
+        val batch = request.toBatch(modificationStamp, typeIndexVersion, response)
+        file.putUserData(VALIDATION_BATCH_KEY, batch)
+        return batch
+    }
+}
@@ -0,0 +1,60 @@
+package com.jetbrains.rider.plugins.atomic.language
+
+import com.intellij.codeInsight.daemon.DaemonCodeAnalyzer
+import com.intellij.openapi.application.ReadAction
+import com.intellij.openapi.fileEditor.FileEditorManager
+import com.intellij.openapi.project.Project
+import com.intellij.openapi.util.Key
+import com.intellij.psi.PsiManager
+import com.jetbrains.rider.plugins.atomic.psi.AtomicFile
+import com.jetbrains.rider.plugins.atomic.services.AtomicGenerationService
+
+/**
+ * Per-file cache of name-match counts of the generated methods, answered by the backend usage index.
+ * A stale entry is still shown while the refresh for the current document stamp and index version is running.
+ */
+object AtomicUsageCountCache {
+    
+    private class Entry(
+        val modificationStamp: Long,
+        val usageIndexVersion: Long,
+        val counts: Map<String, Int>
+    )
+    
+    private val USAGE_COUNTS_KEY = Key.create<Entry>("atomic.usageCounts")
+    private val REQUESTED_KEY = Key.create<Pair<Long, Long>>("atomic.usageCounts.requested")
+    
+    /**
+     * Counts for [methodNames], scheduling a refresh when the cached entry is outdated. Call under a read action.
+     */
+    fun getCounts(file: AtomicFile, methodNames: List<String>): Map<String, Int>? {
+        val service = AtomicGenerationService.getInstance(file.project)
+        val stamp = AtomicTypeValidationCache.modificationStamp(file) to service.usageIndexVersion
+        val cached = file.getUserData(USAGE_COUNTS_KEY)
+        
+        val isCurrent = cached != null && cached.modificationStamp == stamp.first &&
+            cached.usageIndexVersion == stamp.second && cached.counts.keys.containsAll(methodNames)
+        if (!isCurrent && service.isReady() && file.getUserData(REQUESTED_KEY) != stamp) {
+            file.putUserData(REQUESTED_KEY, stamp)
+            service.requestUsageCounts(methodNames) { counts ->
+                file.putUserData(USAGE_COUNTS_KEY, Entry(stamp.first, stamp.second, counts))
+                if (file.isValid) {
+                    DaemonCodeAnalyzer.getInstance(file.project).restart(file)
+                }
+            }
+        }
+        
+        return cached?.counts
+    }
+    
+    fun refreshOpenFiles(project: Project) {
+        if (project.isDisposed) return
+        
+        val psiManager = PsiManager.getInstance(project)
+        val daemon = DaemonCodeAnalyzer.getInstance(project)
+        FileEditorManager.getInstance(project).openFiles
+            .filter { it.extension == "atomic" }
+            .mapNotNull { ReadAction.compute<AtomicFile?, RuntimeException> { psiManager.findFile(it) as? AtomicFile } }
+            .forEach { daemon.restart(it) }
+    }
+}
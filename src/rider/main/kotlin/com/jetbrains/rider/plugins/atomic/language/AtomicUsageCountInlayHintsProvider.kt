@@ -0,0 +1,90 @@
+package com.jetbrains.rider.plugins.atomic.language
+
+import com.intellij.codeInsight.hints.declarative.EndOfLinePosition
+import com.intellij.codeInsight.hints.declarative.HintFormat
+import com.intellij.codeInsight.hints.declarative.InlayHintsCollector
+import com.intellij.codeInsight.hints.declarative.InlayHintsProvider
+import com.intellij.codeInsight.hints.declarative.InlayTreeSink
+import com.intellij.codeInsight.hints.declarative.SharedBypassCollector
+import com.intellij.openapi.editor.Editor
+import com.intellij.psi.PsiElement
+import com.intellij.psi.PsiFile
+import com.intellij.psi.util.PsiTreeUtil
+import com.jetbrains.rider.plugins.atomic.psi.AtomicFile
+import com.jetbrains.rider.plugins.atomic.psi.AtomicTagItem
+import com.jetbrains.rider.plugins.atomic.psi.AtomicTypes
+import com.jetbrains.rider.plugins.atomic.psi.AtomicValueItem
+
+/**
+ * Shows how often the names of the generated methods of each value and tag are called, e.g. "GetHealth: ~42 name matches".
+ * Counts come from the backend usage index through [AtomicUsageCountCache], without a solution-wide search.
+ * The index does not resolve calls, so a same-named method of another type is counted too; Find Usages gives exact references.
+ */
+class AtomicUsageCountInlayHintsProvider : InlayHintsProvider {
+    
+    override fun createCollector(file: PsiFile, editor: Editor): InlayHintsCollector? {
+        val atomicFile = file as? AtomicFile ?: return null
+        
+        val methodNames = PsiTreeUtil.findChildrenOfType(atomicFile, AtomicValueItem::class.java)
+            .mapNotNull { it.node.findChildByType(AtomicTypes.VALUE_NAME)?.text }
+            .flatMap { valueMethodNames(it) } +
+            PsiTreeUtil.findChildrenOfType(atomicFile, AtomicTagItem::class.java)
+                .mapNotNull { it.node.findChildByType(AtomicTypes.TAG_NAME)?.text }
+                .flatMap { tagMethodNames(it) }
+        if (methodNames.isEmpty()) return null
+        
+        val counts = AtomicUsageCountCache.getCounts(atomicFile, methodNames) ?: return null
+        return Collector(counts)
+    }
+    
+    private class Collector(private val counts: Map<String, Int>) : SharedBypassCollector {
+        
+        override fun collectFromElement(element: PsiElement, sink: InlayTreeSink) {
+            val (nameNode, methodNames) = when (element) {
+                is AtomicValueItem -> element.node.findChildByType(AtomicTypes.VALUE_NAME)
+                    ?.let { it to valueMethodNames(it.text) }
+                is AtomicTagItem -> element.node.findChildByType(AtomicTypes.TAG_NAME)
+                    ?.let { it to tagMethodNames(it.text) }
+                else -> null
+            } ?: return
+            
+            val used = methodNames.filter { (counts[it] ?: 0) > 0 }
+            val text = if (used.isEmpty()) {
+                if (methodNames.none { it in counts }) return
+                "no name matches"
+            } else {
+                used.joinToString(", ") { "$it: ${matchesText(counts.getValue(it))}" }
+            }
+            
+            val document = element.containingFile.viewProvider.document ?: return
+            val line = document.getLineNumber(nameNode.textRange.endOffset)
+            sink.addPresentation(EndOfLinePosition(line), hintFormat = HintFormat.default) {
+                text(text)
+            }
+        }
+        
+        private fun matchesText(count: Int): String = if (count == 1) "~1 name match" else "~$count name matches"
+    }
+    
+    private companion object {
+        fun valueMethodNames(valueName: String): List<String> {
+            return listOf(
+                "Get$valueName",
+                "Set$valueName",
+                "Add$valueName",
+                "Has$valueName",
+                "Del$valueName",
+                "TryGet$valueName",
+                "Ref$valueName"
+            )
+        }
+        
+        fun tagMethodNames(tagName: String): List<String> {
+            return listOf(
+                "Has${tagName}Tag",
+                "Add${tagName}Tag",
+                "Del${tagName}Tag"
+            )
+        }
+    }
+}
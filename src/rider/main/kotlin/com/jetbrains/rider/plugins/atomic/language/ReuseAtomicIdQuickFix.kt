@@ -0,0 +1,30 @@
+package com.jetbrains.rider.plugins.atomic.language
+
+import com.intellij.codeInsight.daemon.DaemonCodeAnalyzer
+import com.intellij.codeInsight.intention.IntentionAction
+import com.intellij.openapi.editor.Editor
+import com.intellij.openapi.project.Project
+import com.intellij.psi.PsiFile
+import com.jetbrains.rider.plugins.atomic.psi.AtomicFile
+import com.jetbrains.rider.plugins.atomic.services.AtomicIdRegistry
+
+class ReuseAtomicIdQuickFix(private val retiredName: String, private val newName: String) : IntentionAction {
+    
+    override fun getText(): String = "Reuse the ID of '$retiredName' for '$newName'"
+    
+    override fun getFamilyName(): String = "Reuse retired ID"
+    
+    override fun isAvailable(project: Project, editor: Editor?, file: PsiFile?): Boolean {
+        return file is AtomicFile
+    }
+    
+    override fun invoke(project: Project, editor: Editor?, file: PsiFile?) {
+        if (file !is AtomicFile) return
+        
+        if (AtomicIdRegistry.getInstance(project).rename(retiredName, newName, file.virtualFile)) {
+            DaemonCodeAnalyzer.getInstance(project).restart(file)
+        }
+    }
+    
+    override fun startInWriteAction(): Boolean = false
+}
@@ -0,0 +1,31 @@
+package com.jetbrains.rider.plugins.atomic.listeners
+
+import com.intellij.openapi.project.Project
+import com.intellij.openapi.vfs.newvfs.BulkFileListener
+import com.intellij.openapi.vfs.newvfs.events.VFileEvent
+import com.intellij.openapi.vfs.newvfs.events.VFileMoveEvent
+import com.intellij.openapi.vfs.newvfs.events.VFilePropertyChangeEvent
+import com.jetbrains.rider.plugins.atomic.services.AtomicIdRegistry
+
+/**
+ * Tells the project's [AtomicIdRegistry] when its lock file is created, changed, moved or deleted.
+ */
+class AtomicIdLockFileListener(private val project: Project) : BulkFileListener {
+    
+    override fun after(events: List<VFileEvent>) {
+        if (project.isDisposed) return
+        
+        val registry = AtomicIdRegistry.getInstance(project)
+        if (events.any { affectsLockFile(registry, it) }) {
+            registry.lockFileChanged()
+        }
+    }
+    
+    private fun affectsLockFile(registry: AtomicIdRegistry, event: VFileEvent): Boolean {
+        return when (event) {
+            is VFileMoveEvent -> registry.isLockFile(event.oldPath) || registry.isLockFile(event.path)
+            is VFilePropertyChangeEvent -> registry.isLockFile(event.oldPath) || registry.isLockFile(event.path)
+            else -> registry.isLockFile(event.path)
+        }
+    }
+}
@@ -19,18 +19,26 @@ import kotlin.jvm.JvmStatic
  * #### Generated from [AtomicGenerationModel.kt:10]
  */
 class AtomicGenerationModel private constructor(
-    private val _generateApi: RdCall<AtomicFileData, String>,
+    private val _generateApi: RdCall<AtomicFileData, GenerationResult>,
+    private val _generateApis: RdCall<Array<AtomicFileData>, Array<GenerationResult>>,
     private val _getTypeCompletions: RdCall<TypeCompletionRequest, TypeCompletionResponse>,
     private val _validateType: RdCall<TypeValidationRequest, TypeValidationResponse>,
     private val _getAvailableProjects: RdCall<Unit, Array<String>>,
     private val _getNamespaceCompletions: RdCall<NamespaceCompletionRequest, NamespaceCompletionResponse>,
     private val _validateNamespace: RdCall<NamespaceValidationRequest, NamespaceValidationResponse>,
+    private val _validateTypes: RdCall<TypeValidationBatchRequest, TypeValidationBatchResponse>,
     private val _findMethodUsages: RdCall<FindMethodUsagesRequest, FindMethodUsagesResponse>,
     private val _findTagUsages: RdCall<FindTagUsagesRequest, FindTagUsagesResponse>,
+    private val _searchUsages: RdCall<UsageSearchRequest, Int>,
+    private val _getUsageCounts: RdCall<Array<String>, Array<UsageCount>>,
     private val _renameValue: RdCall<RenameValueRequest, RenameResponse>,
     private val _renameTag: RdCall<RenameTagRequest, RenameResponse>,
     private val _addAtomicFileToProject: RdCall<String, Boolean>,
-    private val _generationStatus: RdSignal<String>
+    private val _generationStatus: RdSignal<String>,
+    private val _usagesFound: RdSignal<UsageSearchBatch>,
+    private val _typeIndexChanged: RdSignal<Long>,
+    private val _usageIndexChanged: RdSignal<Long>,
+    private val _backendReady: RdProperty<Boolean>
 ) : RdExtBase() {
     //companion
     
@@ -40,7 +48,9 @@ class AtomicGenerationModel private constructor(
             val classLoader = javaClass.classLoader
             serializers.register(LazyCompanionMarshaller(RdId(-5798417293315207619), classLoader, "com.jetbrains.rider.plugins.atomic.model.AtomicValueData"))
             serializers.register(LazyCompanionMarshaller(RdId(7413358007655593589), classLoader, "com.jetbrains.rider.plugins.atomic.model.HeaderProperty"))
+            serializers.register(LazyCompanionMarshaller(RdId(-1731492560116354781), classLoader, "com.jetbrains.rider.plugins.atomic.model.AtomicIdData"))
             serializers.register(LazyCompanionMarshaller(RdId(-3757383714910189180), classLoader, "com.jetbrains.rider.plugins.atomic.model.AtomicFileData"))
+            serializers.register(LazyCompanionMarshaller(RdId(7728738883336006024), classLoader, "com.jetbrains.rider.plugins.atomic.model.GenerationResult"))
             serializers.register(LazyCompanionMarshaller(RdId(18626679321377), classLoader, "com.jetbrains.rider.plugins.atomic.model.TypeKind"))
             serializers.register(LazyCompanionMarshaller(RdId(8977287870100910172), classLoader, "com.jetbrains.rider.plugins.atomic.model.TypeCompletionItem"))
             serializers.register(LazyCompanionMarshaller(RdId(1487357542705122470), classLoader, "com.jetbrains.rider.plugins.atomic.model.TypeCompletionRequest"))
@@ -51,11 +61,16 @@ class AtomicGenerationModel private constructor(
             serializers.register(LazyCompanionMarshaller(RdId(-1360773836821642011), classLoader, "com.jetbrains.rider.plugins.atomic.model.NamespaceCompletionResponse"))
             serializers.register(LazyCompanionMarshaller(RdId(6295583247541222958), classLoader, "com.jetbrains.rider.plugins.atomic.model.NamespaceValidationRequest"))
             serializers.register(LazyCompanionMarshaller(RdId(-7751104136974222206), classLoader, "com.jetbrains.rider.plugins.atomic.model.NamespaceValidationResponse"))
+            serializers.register(LazyCompanionMarshaller(RdId(9043265838941879131), classLoader, "com.jetbrains.rider.plugins.atomic.model.TypeValidationBatchRequest"))
+            serializers.register(LazyCompanionMarshaller(RdId(3640079901607912693), classLoader, "com.jetbrains.rider.plugins.atomic.model.TypeValidationBatchResponse"))
             serializers.register(LazyCompanionMarshaller(RdId(-7495289087906179582), classLoader, "com.jetbrains.rider.plugins.atomic.model.MethodUsageLocation"))
             serializers.register(LazyCompanionMarshaller(RdId(-970532926612069424), classLoader, "com.jetbrains.rider.plugins.atomic.model.FindMethodUsagesRequest"))
             serializers.register(LazyCompanionMarshaller(RdId(6806967422497884960), classLoader, "com.jetbrains.rider.plugins.atomic.model.FindMethodUsagesResponse"))
             serializers.register(LazyCompanionMarshaller(RdId(6338498526375587407), classLoader, "com.jetbrains.rider.plugins.atomic.model.FindTagUsagesRequest"))
             serializers.register(LazyCompanionMarshaller(RdId(-6420730493108924287), classLoader, "com.jetbrains.rider.plugins.atomic.model.FindTagUsagesResponse"))
+            serializers.register(LazyCompanionMarshaller(RdId(-5578370099261762279), classLoader, "com.jetbrains.rider.plugins.atomic.model.UsageSearchRequest"))
+            serializers.register(LazyCompanionMarshaller(RdId(-8931648662214896572), classLoader, "com.jetbrains.rider.plugins.atomic.model.UsageSearchBatch"))
+            serializers.register(LazyCompanionMarshaller(RdId(17921150898888801), classLoader, "com.jetbrains.rider.plugins.atomic.model.UsageCount"))
             serializers.register(LazyCompanionMarshaller(RdId(1630434537249653679), classLoader, "com.jetbrains.rider.plugins.atomic.model.RenameValueRequest"))
             serializers.register(LazyCompanionMarshaller(RdId(-2954442384796203610), classLoader, "com.jetbrains.rider.plugins.atomic.model.RenameTagRequest"))
             serializers.register(LazyCompanionMarshaller(RdId(-6337544262039093102), classLoader, "com.jetbrains.rider.plugins.atomic.model.RenameResponse"))
@@ -64,74 +79,110 @@ class AtomicGenerationModel private constructor(
         
         
         
+        private val __AtomicFileDataArraySerializer = AtomicFileData.array()
+        private val __GenerationResultArraySerializer = GenerationResult.array()
         private val __StringArraySerializer = FrameworkMarshallers.String.array()
+        private val __UsageCountArraySerializer = UsageCount.array()
         
-        const val serializationHash = 8091421013007210735L
+        const val serializationHash = 4220647369139357291L
         
     }
     override val serializersOwner: ISerializersOwner get() = AtomicGenerationModel
     override val serializationHash: Long get() = AtomicGenerationModel.serializationHash
     
     //fields
-    val generateApi: IRdCall<AtomicFileData, String> get() = _generateApi
+    val generateApi: IRdCall<AtomicFileData, GenerationResult> get() = _generateApi
+    val generateApis: IRdCall<Array<AtomicFileData>, Array<GenerationResult>> get() = _generateApis
     val getTypeCompletions: IRdCall<TypeCompletionRequest, TypeCompletionResponse> get() = _getTypeCompletions
     val validateType: IRdCall<TypeValidationRequest, TypeValidationResponse> get() = _validateType
     val getAvailableProjects: IRdCall<Unit, Array<String>> get() = _getAvailableProjects
     val getNamespaceCompletions: IRdCall<NamespaceCompletionRequest, NamespaceCompletionResponse> get() = _getNamespaceCompletions
     val validateNamespace: IRdCall<NamespaceValidationRequest, NamespaceValidationResponse> get() = _validateNamespace
+    val validateTypes: IRdCall<TypeValidationBatchRequest, TypeValidationBatchResponse> get() = _validateTypes
     val findMethodUsages: IRdCall<FindMethodUsagesRequest, FindMethodUsagesResponse> get() = _findMethodUsages
     val findTagUsages: IRdCall<FindTagUsagesRequest, FindTagUsagesResponse> get() = _findTagUsages
+    val searchUsages: IRdCall<UsageSearchRequest, Int> get() = _searchUsages
+    val getUsageCounts: IRdCall<Array<String>, Array<UsageCount>> get() = _getUsageCounts
     val renameValue: IRdCall<RenameValueRequest, RenameResponse> get() = _renameValue
     val renameTag: IRdCall<RenameTagRequest, RenameResponse> get() = _renameTag
     val addAtomicFileToProject: IRdCall<String, Boolean> get() = _addAtomicFileToProject
     val generationStatus: IAsyncSource<String> get() = _generationStatus
+    val usagesFound: IAsyncSource<UsageSearchBatch> get() = _usagesFound
+    val typeIndexChanged: IAsyncSource<Long> get() = _typeIndexChanged
+    val usageIndexChanged: IAsyncSource<Long> get() = _usageIndexChanged
+    val backendReady: IProperty<Boolean> get() = _backendReady
     //methods
     //initializer
     init {
+        _backendReady.optimizeNested = true
         _generateApi.async = true
+        _generateApis.async = true
         _getTypeCompletions.async = true
         _validateType.async = true
         _getAvailableProjects.async = true
         _getNamespaceCompletions.async = true
         _validateNamespace.async = true
+        _validateTypes.async = true
         _findMethodUsages.async = true
         _findTagUsages.async = true
+        _searchUsages.async = true
+        _getUsageCounts.async = true
         _renameValue.async = true
         _renameTag.async = true
         _addAtomicFileToProject.async = true
         _generationStatus.async = true
+        _usagesFound.async = true
+        _typeIndexChanged.async = true
+        _usageIndexChanged.async = true
+        _backendReady.async = true
     }
     
     init {
         bindableChildren.add("generateApi" to _generateApi)
+        bindableChildren.add("generateApis" to _generateApis)
         bindableChildren.add("getTypeCompletions" to _getTypeCompletions)
         bindableChildren.add("validateType" to _validateType)
         bindableChildren.add("getAvailableProjects" to _getAvailableProjects)
         bindableChildren.add("getNamespaceCompletions" to _getNamespaceCompletions)
         bindableChildren.add("validateNamespace" to _validateNamespace)
+        bindableChildren.add("validateTypes" to _validateTypes)
         bindableChildren.add("findMethodUsages" to _findMethodUsages)
         bindableChildren.add("findTagUsages" to _findTagUsages)
+        bindableChildren.add("searchUsages" to _searchUsages)
+        bindableChildren.add("getUsageCounts" to _getUsageCounts)
         bindableChildren.add("renameValue" to _renameValue)
         bindableChildren.add("renameTag" to _renameTag)
         bindableChildren.add("addAtomicFileToProject" to _addAtomicFileToProject)
         bindableChildren.add("generationStatus" to _generationStatus)
+        bindableChildren.add("usagesFound" to _usagesFound)
+        bindableChildren.add("typeIndexChanged" to _typeIndexChanged)
+        bindableChildren.add("usageIndexChanged" to _usageIndexChanged)
+        bindableChildren.add("backendReady" to _backendReady)
     }
     
     //secondary constructor
     internal constructor(
     ) : this(
-        RdCall<AtomicFileData, String>(AtomicFileData, FrameworkMarshallers.String),
+        RdCall<AtomicFileData, GenerationResult>(AtomicFileData, GenerationResult),
+        RdCall<Array<AtomicFileData>, Array<GenerationResult>>(__AtomicFileDataArraySerializer, __GenerationResultArraySerializer),
         RdCall<TypeCompletionRequest, TypeCompletionResponse>(TypeCompletionRequest, TypeCompletionResponse),
         RdCall<TypeValidationRequest, TypeValidationResponse>(TypeValidationRequest, TypeValidationResponse),
         RdCall<Unit, Array<String>>(FrameworkMarshallers.Void, __StringArraySerializer),
         RdCall<NamespaceCompletionRequest, NamespaceCompletionResponse>(NamespaceCompletionRequest, NamespaceCompletionResponse),
         RdCall<NamespaceValidationRequest, NamespaceValidationResponse>(NamespaceValidationRequest, NamespaceValidationResponse),
+        RdCall<TypeValidationBatchRequest, TypeValidationBatchResponse>(TypeValidationBatchRequest, TypeValidationBatchResponse),
         RdCall<FindMethodUsagesRequest, FindMethodUsagesResponse>(FindMethodUsagesRequest, FindMethodUsagesResponse),
         RdCall<FindTagUsagesRequest, FindTagUsagesResponse>(FindTagUsagesRequest, FindTagUsagesResponse),
+        RdCall<UsageSearchRequest, Int>(UsageSearchRequest, FrameworkMarshallers.Int),
+        RdCall<Array<String>, Array<UsageCount>>(__StringArraySerializer, __UsageCountArraySerializer),
         RdCall<RenameValueRequest, RenameResponse>(RenameValueRequest, RenameResponse),
         RdCall<RenameTagRequest, RenameResponse>(RenameTagRequest, RenameResponse),
         RdCall<String, Boolean>(FrameworkMarshallers.String, FrameworkMarshallers.Bool),
-        RdSignal<String>(FrameworkMarshallers.String)
+        RdSignal<String>(FrameworkMarshallers.String),
+        RdSignal<UsageSearchBatch>(UsageSearchBatch),
+        RdSignal<Long>(FrameworkMarshallers.Long),
+        RdSignal<Long>(FrameworkMarshallers.Long),
+        RdProperty<Boolean>(false, FrameworkMarshallers.Bool)
     )
     
     //equals trait
@@ -141,17 +192,25 @@ class AtomicGenerationModel private constructor(
         printer.println("AtomicGenerationModel (")
         printer.indent {
             print("generateApi = "); _generateApi.print(printer); println()
+            print("generateApis = "); _generateApis.print(printer); println()
             print("getTypeCompletions = "); _getTypeCompletions.print(printer); println()
             print("validateType = "); _validateType.print(printer); println()
             print("getAvailableProjects = "); _getAvailableProjects.print(printer); println()
             print("getNamespaceCompletions = "); _getNamespaceCompletions.print(printer); println()
             print("validateNamespace = "); _validateNamespace.print(printer); println()
+            print("validateTypes = "); _validateTypes.print(printer); println()
             print("findMethodUsages = "); _findMethodUsages.print(printer); println()
             print("findTagUsages = "); _findTagUsages.print(printer); println()
+            print("searchUsages = "); _searchUsages.print(printer); println()
+            print("getUsageCounts = "); _getUsageCounts.print(printer); println()
             print("renameValue = "); _renameValue.print(printer); println()
             print("renameTag = "); _renameTag.print(printer); println()
             print("addAtomicFileToProject = "); _addAtomicFileToProject.print(printer); println()
             print("generationStatus = "); _generationStatus.print(printer); println()
+            print("usagesFound = "); _usagesFound.print(printer); println()
+            print("typeIndexChanged = "); _typeIndexChanged.print(printer); println()
+            print("usageIndexChanged = "); _usageIndexChanged.print(printer); println()
+            print("backendReady = "); _backendReady.print(printer); println()
         }
         printer.print(")")
     }
@@ -159,17 +218,25 @@ class AtomicGenerationModel private constructor(
     override fun deepClone(): AtomicGenerationModel   {
         return AtomicGenerationModel(
             _generateApi.deepClonePolymorphic(),
+            _generateApis.deepClonePolymorphic(),
             _getTypeCompletions.deepClonePolymorphic(),
             _validateType.deepClonePolymorphic(),
             _getAvailableProjects.deepClonePolymorphic(),
             _getNamespaceCompletions.deepClonePolymorphic(),
             _validateNamespace.deepClonePolymorphic(),
+            _validateTypes.deepClonePolymorphic(),
             _findMethodUsages.deepClonePolymorphic(),
             _findTagUsages.deepClonePolymorphic(),
+            _searchUsages.deepClonePolymorphic(),
+            _getUsageCounts.deepClonePolymorphic(),
             _renameValue.deepClonePolymorphic(),
             _renameTag.deepClonePolymorphic(),
             _addAtomicFileToProject.deepClonePolymorphic(),
-            _generationStatus.deepClonePolymorphic()
+            _generationStatus.deepClonePolymorphic(),
+            _usagesFound.deepClonePolymorphic(),
+            _typeIndexChanged.deepClonePolymorphic(),
+            _usageIndexChanged.deepClonePolymorphic(),
+            _backendReady.deepClonePolymorphic()
         )
     }
     //contexts
@@ -181,14 +248,15 @@ val com.jetbrains.rd.ide.model.Solution.atomicGenerationModel get() = getOrCreat
 
 
 /**
- * #### Generated from [AtomicGenerationModel.kt:31]
+ * #### Generated from [AtomicGenerationModel.kt:37]
  */
 data class AtomicFileData (
     val headerProperties: Array<HeaderProperty>,
     val imports: Array<String>,
     val tags: Array<String>,
     val values: Array<AtomicValueData>,
-    val filePath: String
+    val filePath: String,
+    val ids: Array<AtomicIdData>
 ) : IPrintable {
     //companion
     
@@ -203,7 +271,8 @@ data class AtomicFileData (
             val tags = buffer.readArray {buffer.readString()}
             val values = buffer.readArray {AtomicValueData.read(ctx, buffer)}
             val filePath = buffer.readString()
-            return AtomicFileData(headerProperties, imports, tags, values, filePath)
+            val ids = buffer.readArray {AtomicIdData.read(ctx, buffer)}
+            return AtomicFileData(headerProperties, imports, tags, values, filePath, ids)
         }
         
         override fun write(ctx: SerializationCtx, buffer: AbstractBuffer, value: AtomicFileData)  {
@@ -212,6 +281,7 @@ data class AtomicFileData (
             buffer.writeArray(value.tags) { buffer.writeString(it) }
             buffer.writeArray(value.values) { AtomicValueData.write(ctx, buffer, it) }
             buffer.writeString(value.filePath)
+            buffer.writeArray(value.ids) { AtomicIdData.write(ctx, buffer, it) }
         }
         
         
@@ -232,6 +302,7 @@ data class AtomicFileData (
         if (!(tags contentDeepEquals other.tags)) return false
         if (!(values contentDeepEquals other.values)) return false
         if (filePath != other.filePath) return false
+        if (!(ids contentDeepEquals other.ids)) return false
         
         return true
     }
@@ -243,6 +314,7 @@ data class AtomicFileData (
         __r = __r*31 + tags.contentDeepHashCode()
         __r = __r*31 + values.contentDeepHashCode()
         __r = __r*31 + filePath.hashCode()
+        __r = __r*31 + ids.contentDeepHashCode()
         return __r
     }
     //pretty print
@@ -254,6 +326,72 @@ data class AtomicFileData (
             print("tags = "); tags.print(printer); println()
             print("values = "); values.print(printer); println()
             print("filePath = "); filePath.print(printer); println()
+            print("ids = "); ids.print(printer); println()
+        }
+        printer.print(")")
+    }
+    //deepClone
+    //contexts
+    //threading
+}
+
+
+/**
+ * #### Generated from [AtomicGenerationModel.kt:31]
+ */
+data class AtomicIdData (
+    val name: String,
+    val id: Int
+) : IPrintable {
+    //companion
+    
+    companion object : IMarshaller<AtomicIdData> {
+        override val _type: KClass<AtomicIdData> = AtomicIdData::class
+        override val id: RdId get() = RdId(-1731492560116354781)
+        
+        @Suppress("UNCHECKED_CAST")
+        override fun read(ctx: SerializationCtx, buffer: AbstractBuffer): AtomicIdData  {
+            val name = buffer.readString()
+            val id = buffer.readInt()
+            return AtomicIdData(name, id)
+        }
+        
+        override fun write(ctx: SerializationCtx, buffer: AbstractBuffer, value: AtomicIdData)  {
+            buffer.writeString(value.name)
+            buffer.writeInt(value.id)
+        }
+        
+        
+    }
+    //fields
+    //methods
+    //initializer
+    //secondary constructor
+    //equals trait
+    override fun equals(other: Any?): Boolean  {
+        if (this === other) return true
+        if (other == null || other::class != this::class) return false
+        
+        other as AtomicIdData
+        
+        if (name != other.name) return false
+        if (id != other.id) return false
+        
+        return true
+    }
+    //hash code trait
+    override fun hashCode(): Int  {
+        var __r = 0
+        __r = __r*31 + name.hashCode()
+        __r = __r*31 + id.hashCode()
+        return __r
+    }
+    //pretty print
+    override fun print(printer: PrettyPrinter)  {
+        printer.println("AtomicIdData (")
+        printer.indent {
+            print("name = "); name.print(printer); println()
+            print("id = "); id.print(printer); println()
         }
         printer.print(")")
     }
@@ -329,7 +467,7 @@ data class AtomicValueData (
 
 
 /**
- * #### Generated from [AtomicGenerationModel.kt:114]
+ * #### Generated from [AtomicGenerationModel.kt:146]
  */
 data class FindMethodUsagesRequest (
     val valueName: String,
@@ -406,7 +544,7 @@ data class FindMethodUsagesRequest (
 
 
 /**
- * #### Generated from [AtomicGenerationModel.kt:121]
+ * #### Generated from [AtomicGenerationModel.kt:153]
  */
 data class FindMethodUsagesResponse (
     val usages: Array<MethodUsageLocation>
@@ -465,7 +603,7 @@ data class FindMethodUsagesResponse (
 
 
 /**
- * #### Generated from [AtomicGenerationModel.kt:125]
+ * #### Generated from [AtomicGenerationModel.kt:157]
  */
 data class FindTagUsagesRequest (
     val tagName: String,
@@ -542,7 +680,7 @@ data class FindTagUsagesRequest (
 
 
 /**
- * #### Generated from [AtomicGenerationModel.kt:132]
+ * #### Generated from [AtomicGenerationModel.kt:164]
  */
 data class FindTagUsagesResponse (
     val usages: Array<MethodUsageLocation>
@@ -600,6 +738,83 @@ data class FindTagUsagesResponse (
 }
 
 
+/**
+ * #### Generated from [AtomicGenerationModel.kt:48]
+ */
+data class GenerationResult (
+    val filePath: String,
+    val generatedCode: String?,
+    val errorMessage: String?,
+    val outputUpdated: Boolean
+) : IPrintable {
+    //companion
+    
+    companion object : IMarshaller<GenerationResult> {
+        override val _type: KClass<GenerationResult> = GenerationResult::class
+        override val id: RdId get() = RdId(7728738883336006024)
+        
+        @Suppress("UNCHECKED_CAST")
+        override fun read(ctx: SerializationCtx, buffer: AbstractBuffer): GenerationResult  {
+            val filePath = buffer.readString()
+            val generatedCode = buffer.readNullable { buffer.readString() }
+            val errorMessage = buffer.readNullable { buffer.readString() }
+            val outputUpdated = buffer.readBool()
+            return GenerationResult(filePath, generatedCode, errorMessage, outputUpdated)
+        }
+        
+        override fun write(ctx: SerializationCtx, buffer: AbstractBuffer, value: GenerationResult)  {
+            buffer.writeString(value.filePath)
+            buffer.writeNullable(value.generatedCode) { buffer.writeString(it) }
+            buffer.writeNullable(value.errorMessage) { buffer.writeString(it) }
+            buffer.writeBool(value.outputUpdated)
+        }
+        
+        
+    }
+    //fields
+    //methods
+    //initializer
+    //secondary constructor
+    //equals trait
+    override fun equals(other: Any?): Boolean  {
+        if (this === other) return true
+        if (other == null || other::class != this::class) return false
+        
+        other as GenerationResult
+        
+        if (filePath != other.filePath) return false
+        if (generatedCode != other.generatedCode) return false
+        if (errorMessage != other.errorMessage) return false
+        if (outputUpdated != other.outputUpdated) return false
+        
+        return true
+    }
+    //hash code trait
+    override fun hashCode(): Int  {
+        var __r = 0
+        __r = __r*31 + filePath.hashCode()
+        __r = __r*31 + if (generatedCode != null) generatedCode.hashCode() else 0
+        __r = __r*31 + if (errorMessage != null) errorMessage.hashCode() else 0
+        __r = __r*31 + outputUpdated.hashCode()
+        return __r
+    }
+    //pretty print
+    override fun print(printer: PrettyPrinter)  {
+        printer.println("GenerationResult (")
+        printer.indent {
+            print("filePath = "); filePath.print(printer); println()
+            print("generatedCode = "); generatedCode.print(printer); println()
+            print("errorMessage = "); errorMessage.print(printer); println()
+            print("outputUpdated = "); outputUpdated.print(printer); println()
+        }
+        printer.print(")")
+    }
+    //deepClone
+    //contexts
+    //threading
+}
+
+
 /**
  * #### Generated from [AtomicGenerationModel.kt:25]
  */
@@ -666,7 +881,7 @@ data class HeaderProperty (
 
 
 /**
- * #### Generated from [AtomicGenerationModel.kt:106]
+ * #### Generated from [AtomicGenerationModel.kt:138]
  */
 data class MethodUsageLocation (
     val filePath: String,
@@ -749,7 +964,7 @@ data class MethodUsageLocation (
 
 
 /**
- * #### Generated from [AtomicGenerationModel.kt:85]
+ * #### Generated from [AtomicGenerationModel.kt:104]
  */
 data class NamespaceCompletionRequest (
     val prefix: String,
@@ -814,7 +1029,7 @@ data class NamespaceCompletionRequest (
 
 
 /**
- * #### Generated from [AtomicGenerationModel.kt:90]
+ * #### Generated from [AtomicGenerationModel.kt:109]
  */
 data class NamespaceCompletionResponse (
     val namespaces: Array<String>
@@ -873,7 +1088,7 @@ data class NamespaceCompletionResponse (
 
 
 /**
- * #### Generated from [AtomicGenerationModel.kt:95]
+ * #### Generated from [AtomicGenerationModel.kt:114]
  */
 data class NamespaceValidationRequest (
     val namespace: String,
@@ -938,7 +1153,7 @@ data class NamespaceValidationRequest (
 
 
 /**
- * #### Generated from [AtomicGenerationModel.kt:100]
+ * #### Generated from [AtomicGenerationModel.kt:119]
  */
 data class NamespaceValidationResponse (
     val isValid: Boolean,
@@ -1003,7 +1218,7 @@ data class NamespaceValidationResponse (
 
 
 /**
- * #### Generated from [AtomicGenerationModel.kt:150]
+ * #### Generated from [AtomicGenerationModel.kt:204]
  */
 data class RenameResponse (
     val success: Boolean,
@@ -1080,7 +1295,7 @@ data class RenameResponse (
 
 
 /**
- * #### Generated from [AtomicGenerationModel.kt:143]
+ * #### Generated from [AtomicGenerationModel.kt:197]
  */
 data class RenameTagRequest (
     val atomicFilePath: String,
@@ -1157,7 +1372,7 @@ data class RenameTagRequest (
 
 
 /**
- * #### Generated from [AtomicGenerationModel.kt:136]
+ * #### Generated from [AtomicGenerationModel.kt:190]
  */
 data class RenameValueRequest (
     val atomicFilePath: String,
@@ -1234,7 +1449,7 @@ data class RenameValueRequest (
 
 
 /**
- * #### Generated from [AtomicGenerationModel.kt:48]
+ * #### Generated from [AtomicGenerationModel.kt:65]
  */
 data class TypeCompletionItem (
     val typeName: String,
@@ -1323,7 +1538,7 @@ data class TypeCompletionItem (
 
 
 /**
- * #### Generated from [AtomicGenerationModel.kt:57]
+ * #### Generated from [AtomicGenerationModel.kt:74]
  */
 data class TypeCompletionRequest (
     val prefix: String,
@@ -1400,10 +1615,11 @@ data class TypeCompletionRequest (
 
 
 /**
- * #### Generated from [AtomicGenerationModel.kt:64]
+ * #### Generated from [AtomicGenerationModel.kt:81]
  */
 data class TypeCompletionResponse (
-    val items: Array<TypeCompletionItem>
+    val items: Array<TypeCompletionItem>,
+    val isComplete: Boolean
 ) : IPrintable {
     //companion
     
@@ -1414,11 +1630,13 @@ data class TypeCompletionResponse (
         @Suppress("UNCHECKED_CAST")
         override fun read(ctx: SerializationCtx, buffer: AbstractBuffer): TypeCompletionResponse  {
             val items = buffer.readArray {TypeCompletionItem.read(ctx, buffer)}
-            return TypeCompletionResponse(items)
+            val isComplete = buffer.readBool()
+            return TypeCompletionResponse(items, isComplete)
         }
         
         override fun write(ctx: SerializationCtx, buffer: AbstractBuffer, value: TypeCompletionResponse)  {
             buffer.writeArray(value.items) { TypeCompletionItem.write(ctx, buffer, it) }
+            buffer.writeBool(value.isComplete)
         }
         
         
@@ -1435,6 +1653,7 @@ data class TypeCompletionResponse (
         other as TypeCompletionResponse
         
         if (!(items contentDeepEquals other.items)) return false
+        if (isComplete != other.isComplete) return false
         
         return true
     }
@@ -1442,6 +1661,7 @@ data class TypeCompletionResponse (
     override fun hashCode(): Int  {
         var __r = 0
         __r = __r*31 + items.contentDeepHashCode()
+        __r = __r*31 + isComplete.hashCode()
         return __r
     }
     //pretty print
@@ -1449,6 +1669,7 @@ data class TypeCompletionResponse (
         printer.println("TypeCompletionResponse (")
         printer.indent {
             print("items = "); items.print(printer); println()
+            print("isComplete = "); isComplete.print(printer); println()
         }
         printer.print(")")
     }
@@ -1459,7 +1680,7 @@ data class TypeCompletionResponse (
 
 
 /**
- * #### Generated from [AtomicGenerationModel.kt:40]
+ * #### Generated from [AtomicGenerationModel.kt:57]
  */
 enum class TypeKind {
     Class, 
@@ -1487,7 +1708,149 @@ enum class TypeKind {
 
 
 /**
- * #### Generated from [AtomicGenerationModel.kt:69]
+ * #### Generated from [AtomicGenerationModel.kt:125]
+ */
+data class TypeValidationBatchRequest (
+    val typeNames: Array<String>,
+    val namespaces: Array<String>,
+    val imports: Array<String>,
+    val projectPath: String
+) : IPrintable {
+    //companion
+    
+    companion object : IMarshaller<TypeValidationBatchRequest> {
+        override val _type: KClass<TypeValidationBatchRequest> = TypeValidationBatchRequest::class
+        override val id: RdId get() = RdId(9043265838941879131)
+        
+        @Suppress("UNCHECKED_CAST")
+        override fun read(ctx: SerializationCtx, buffer: AbstractBuffer): TypeValidationBatchRequest  {
+            val typeNames = buffer.readArray {buffer.readString()}
+            val namespaces = buffer.readArray {buffer.readString()}
+            val imports = buffer.readArray {buffer.readString()}
+            val projectPath = buffer.readString()
+            return TypeValidationBatchRequest(typeNames, namespaces, imports, projectPath)
+        }
+        
+        override fun write(ctx: SerializationCtx, buffer: AbstractBuffer, value: TypeValidationBatchRequest)  {
+            buffer.writeArray(value.typeNames) { buffer.writeString(it) }
+            buffer.writeArray(value.namespaces) { buffer.writeString(it) }
+            buffer.writeArray(value.imports) { buffer.writeString(it) }
+            buffer.writeString(value.projectPath)
+        }
+        
+        
+    }
+    //fields
+    //methods
+    //initializer
+    //secondary constructor
+    //equals trait
+    override fun equals(other: Any?): Boolean  {
+        if (this === other) return true
+        if (other == null || other::class != this::class) return false
+        
+        other as TypeValidationBatchRequest
+        
+        if (!(typeNames contentDeepEquals other.typeNames)) return false
+        if (!(namespaces contentDeepEquals other.namespaces)) return false
+        if (!(imports contentDeepEquals other.imports)) return false
+        if (projectPath != other.projectPath) return false
+        
+        return true
+    }
+    //hash code trait
+    override fun hashCode(): Int  {
+        var __r = 0
+        __r = __r*31 + typeNames.contentDeepHashCode()
+        __r = __r*31 + namespaces.contentDeepHashCode()
+        __r = __r*31 + imports.contentDeepHashCode()
+        __r = __r*31 + projectPath.hashCode()
+        return __r
+    }
+    //pretty print
+    override fun print(printer: PrettyPrinter)  {
+        printer.println("TypeValidationBatchRequest (")
+        printer.indent {
+            print("typeNames = "); typeNames.print(printer); println()
+            print("namespaces = "); namespaces.print(printer); println()
+            print("imports = "); imports.print(printer); println()
+            print("projectPath = "); projectPath.print(printer); println()
+        }
+        printer.print(")")
+    }
+    //deepClone
+    //contexts
+    //threading
+}
+
+
+/**
+ * #### Generated from [AtomicGenerationModel.kt:132]
+ */
+data class TypeValidationBatchResponse (
+    val types: Array<TypeValidationResponse>,
+    val namespaces: Array<NamespaceValidationResponse>
+) : IPrintable {
+    //companion
+    
+    companion object : IMarshaller<TypeValidationBatchResponse> {
+        override val _type: KClass<TypeValidationBatchResponse> = TypeValidationBatchResponse::class
+        override val id: RdId get() = RdId(3640079901607912693)
+        
+        @Suppress("UNCHECKED_CAST")
+        override fun read(ctx: SerializationCtx, buffer: AbstractBuffer): TypeValidationBatchResponse  {
+            val types = buffer.readArray {TypeValidationResponse.read(ctx, buffer)}
+            val namespaces = buffer.readArray {NamespaceValidationResponse.read(ctx, buffer)}
+            return TypeValidationBatchResponse(types, namespaces)
+        }
+        
+        override fun write(ctx: SerializationCtx, buffer: AbstractBuffer, value: TypeValidationBatchResponse)  {
+            buffer.writeArray(value.types) { TypeValidationResponse.write(ctx, buffer, it) }
+            buffer.writeArray(value.namespaces) { NamespaceValidationResponse.write(ctx, buffer, it) }
+        }
+        
+        
+    }
+    //fields
+    //methods
+    //initializer
+    //secondary constructor
+    //equals trait
+    override fun equals(other: Any?): Boolean  {
+        if (this === other) return true
+        if (other == null || other::class != this::class) return false
+        
+        other as TypeValidationBatchResponse
+        
+        if (!(types contentDeepEquals other.types)) return false
+        if (!(namespaces contentDeepEquals other.namespaces)) return false
+        
+        return true
+    }
+    //hash code trait
+    override fun hashCode(): Int  {
+        var __r = 0
+        __r = __r*31 + types.contentDeepHashCode()
+        __r = __r*31 + namespaces.contentDeepHashCode()
+        return __r
+    }
+    //pretty print
+    override fun print(printer: PrettyPrinter)  {
+        printer.println("TypeValidationBatchResponse (")
+        printer.indent {
+            print("types = "); types.print(printer); println()
+            print("namespaces = "); namespaces.print(printer); println()
+        }
+        printer.print(")")
+    }
+    //deepClone
+    //contexts
+    //threading
+}
+
+
+/**
+ * #### Generated from [AtomicGenerationModel.kt:88]
  */
 data class TypeValidationRequest (
     val typeName: String,
@@ -1558,7 +1921,7 @@ data class TypeValidationRequest (
 
 
 /**
- * #### Generated from [AtomicGenerationModel.kt:75]
+ * #### Generated from [AtomicGenerationModel.kt:94]
  */
 data class TypeValidationResponse (
     val isValid: Boolean,
@@ -1644,3 +2007,222 @@ data class TypeValidationResponse (
     //contexts
     //threading
 }
+
+
+/**
+ * #### Generated from [AtomicGenerationModel.kt:185]
+ */
+data class UsageCount (
+    val methodName: String,
+    val count: Int
+) : IPrintable {
+    //companion
+    
+    companion object : IMarshaller<UsageCount> {
+        override val _type: KClass<UsageCount> = UsageCount::class
+        override val id: RdId get() = RdId(17921150898888801)
+        
+        @Suppress("UNCHECKED_CAST")
+        override fun read(ctx: SerializationCtx, buffer: AbstractBuffer): UsageCount  {
+            val methodName = buffer.readString()
+            val count = buffer.readInt()
+            return UsageCount(methodName, count)
+        }
+        
+        override fun write(ctx: SerializationCtx, buffer: AbstractBuffer, value: UsageCount)  {
+            buffer.writeString(value.methodName)
+            buffer.writeInt(value.count)
+        }
+        
+        
+    }
+    //fields
+    //methods
+    //initializer
+    //secondary constructor
+    //equals trait
+    override fun equals(other: Any?): Boolean  {
+        if (this === other) return true
+        if (other == null || other::class != this::class) return false
+        
+        other as UsageCount
+        
+        if (methodName != other.methodName) return false
+        if (count != other.count) return false
+        
+        return true
+    }
+    //hash code trait
+    override fun hashCode(): Int  {
+        var __r = 0
+        __r = __r*31 + methodName.hashCode()
+        __r = __r*31 + count.hashCode()
+        return __r
+    }
+    //pretty print
+    override fun print(printer: PrettyPrinter)  {
+        printer.println("UsageCount (")
+        printer.indent {
+            print("methodName = "); methodName.print(printer); println()
+            print("count = "); count.print(printer); println()
+        }
+        printer.print(")")
+    }
+    //deepClone
+    //contexts
+    //threading
+}
+
+
+/**
+ * #### Generated from [AtomicGenerationModel.kt:179]
+ */
+data class UsageSearchBatch (
+    val searchId: Int,
+    val usages: Array<MethodUsageLocation>
+) : IPrintable {
+    //companion
+    
+    companion object : IMarshaller<UsageSearchBatch> {
+        override val _type: KClass<UsageSearchBatch> = UsageSearchBatch::class
+        override val id: RdId get() = RdId(-8931648662214896572)
+        
+        @Suppress("UNCHECKED_CAST")
+        override fun read(ctx: SerializationCtx, buffer: AbstractBuffer): UsageSearchBatch  {
+            val searchId = buffer.readInt()
+            val usages = buffer.readArray {MethodUsageLocation.read(ctx, buffer)}
+            return UsageSearchBatch(searchId, usages)
+        }
+        
+        override fun write(ctx: SerializationCtx, buffer: AbstractBuffer, value: UsageSearchBatch)  {
+            buffer.writeInt(value.searchId)
+            buffer.writeArray(value.usages) { MethodUsageLocation.write(ctx, buffer, it) }
+        }
+        
+        
+    }
+    //fields
+    //methods
+    //initializer
+    //secondary constructor
+    //equals trait
+    override fun equals(other: Any?): Boolean  {
+        if (this === other) return true
+        if (other == null || other::class != this::class) return false
+        
+        other as UsageSearchBatch
+        
+        if (searchId != other.searchId) return false
+        if (!(usages contentDeepEquals other.usages)) return false
+        
+        return true
+    }
+    //hash code trait
+    override fun hashCode(): Int  {
+        var __r = 0
+        __r = __r*31 + searchId.hashCode()
+        __r = __r*31 + usages.contentDeepHashCode()
+        return __r
+    }
+    //pretty print
+    override fun print(printer: PrettyPrinter)  {
+        printer.println("UsageSearchBatch (")
+        printer.indent {
+            print("searchId = "); searchId.print(printer); println()
+            print("usages = "); usages.print(printer); println()
+        }
+        printer.print(")")
+    }
+    //deepClone
+    //contexts
+    //threading
+}
+
+
+/**
+ * #### Generated from [AtomicGenerationModel.kt:169]
+ */
+data class UsageSearchRequest (
+    val searchId: Int,
+    val entityName: String,
+    val isTag: Boolean,
+    val methodNames: Array<String>,
+    val projectPath: String,
+    val generatedFilePath: String
+) : IPrintable {
+    //companion
+    
+    companion object : IMarshaller<UsageSearchRequest> {
+        override val _type: KClass<UsageSearchRequest> = UsageSearchRequest::class
+        override val id: RdId get() = RdId(-5578370099261762279)
+        
+        @Suppress("UNCHECKED_CAST")
+        override fun read(ctx: SerializationCtx, buffer: AbstractBuffer): UsageSearchRequest  {
+            val searchId = buffer.readInt()
+            val entityName = buffer.readString()
+            val isTag = buffer.readBool()
+            val methodNames = buffer.readArray {buffer.readString()}
+            val projectPath = buffer.readString()
+            val generatedFilePath = buffer.readString()
+            return UsageSearchRequest(searchId, entityName, isTag, methodNames, projectPath, generatedFilePath)
+        }
+        
+        override fun write(ctx: SerializationCtx, buffer: AbstractBuffer, value: UsageSearchRequest)  {
+            buffer.writeInt(value.searchId)
+            buffer.writeString(value.entityName)
+            buffer.writeBool(value.isTag)
+            buffer.writeArray(value.methodNames) { buffer.writeString(it) }
+            buffer.writeString(value.projectPath)
+            buffer.writeString(value.generatedFilePath)
+        }
+        
+        
+    }
+    //fields
+    //methods
+    //initializer
+    //secondary constructor
+    //equals trait
+    override fun equals(other: Any?): Boolean  {
+        if (this === other) return true
+        if (other == null || other::class != this::class) return false
+        
+        other as UsageSearchRequest
+        
+        if (searchId != other.searchId) return false
+        if (entityName != other.entityName) return false
+        if (isTag != other.isTag) return false
+        if (!(methodNames contentDeepEquals other.methodNames)) return false
+        if (projectPath != other.projectPath) return false
+        if (generatedFilePath != other.generatedFilePath) return false
+        
+        return true
+    }
+    //hash code trait
+    override fun hashCode(): Int  {
+        var __r = 0
+        __r = __r*31 + searchId.hashCode()
+        __r = __r*31 + entityName.hashCode()
+        __r = __r*31 + isTag.hashCode()
+        __r = __r*31 + methodNames.contentDeepHashCode()
+        __r = __r*31 + projectPath.hashCode()
+        __r = __r*31 + generatedFilePath.hashCode()
+        return __r
+    }
+    //pretty print
+    override fun print(printer: PrettyPrinter)  {
+        printer.println("UsageSearchRequest (")
+        printer.indent {
+            print("searchId = "); searchId.print(printer); println()
+            print("entityName = "); entityName.print(printer); println()
+            print("isTag = "); isTag.print(printer); println()
+            print("methodNames = "); methodNames.print(printer); println()
+            print("projectPath = "); projectPath.print(printer); println()
+            print("generatedFilePath = "); generatedFilePath.print(printer); println()
+        }
+        printer.print(")")
+    }
+    //deepClone
+    //contexts
+    //threading
+}
@@ -6,4 +6,10 @@ import com.jetbrains.rider.plugins.atomic.language.AtomicLanguage
 object AtomicElementTypes {
     @JvmField
     val VALUE_NAME_IDENTIFIER = IElementType("VALUE_NAME_IDENTIFIER", AtomicLanguage)
-}
\ No newline at end of file
+    
+    /**
+     * Element type factory for the imports, tags and values sections referenced from Atomic.bnf.
+     */
+    @JvmStatic
+    fun createSectionType(debugName: String): IElementType = AtomicSectionElementType(debugName)
+}
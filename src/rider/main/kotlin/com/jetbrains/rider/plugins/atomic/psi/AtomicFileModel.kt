@@ -0,0 +1,129 @@
+package com.jetbrains.rider.plugins.atomic.psi
+
+import com.intellij.psi.util.CachedValueProvider
+import com.intellij.psi.util.CachedValuesManager
+import com.jetbrains.rider.plugins.atomic.psi.impl.AtomicPsiImplUtil
+
+/**
+ * Immutable summary of an .atomic file: header properties, imports, tags and values.
+ * Obtain it through [of], which computes it once per PSI modification.
+ */
+data class AtomicFileModel(
+    val headerProperties: Map<String, String>,
+    val declaredProperties: Set<String>,
+    val imports: List<String>,
+    val tags: List<String>,
+    val values: List<Value>
+) {
+    data class Value(val name: String, val type: String)
+    
+    val className: String get() = headerProperties["className"] ?: DEFAULT_CLASS_NAME
+    
+    val directory: String? get() = headerProperties["directory"]
+    
+    val namespace: String? get() = headerProperties["namespace"]
+    
+    val entityType: String? get() = headerProperties["entityType"]
+    
+    val hasTagsOrValues: Boolean get() = tags.isNotEmpty() || values.isNotEmpty()
+    
+    /**
+     * Required properties that are absent, followed by declared properties without a value.
+     */
+    fun missingRequiredFields(): List<String> {
+        val missing = mutableListOf<String>()
+        VALUED_PROPERTIES.forEach { key ->
+            if (declaredProperties.contains(key) && !headerProperties.containsKey(key)) {
+                missing.add(key)
+            }
+        }
+        REQUIRED_PROPERTIES.forEach { key ->
+            if (!declaredProperties.contains(key)) {
+                missing.add(key)
+            }
+        }
+        return missing
+    }
+    
+    companion object {
+        const val DEFAULT_CLASS_NAME = "AtomicAPIExtensions"
+        
+        val REQUIRED_PROPERTIES = listOf("entityType", "namespace", "className", "directory")
+        
+        private val VALUED_PROPERTIES = listOf("entityType", "namespace", "className", "directory", "solution")
+        
+        fun of(atomicFile: AtomicFile): AtomicFileModel {
+            return CachedValuesManager.getCachedValue(atomicFile) {
+                CachedValueProvider.Result.create(build(atomicFile), atomicFile)
+            }
+        }
+        
+        fun build(atomicFile: AtomicFile): AtomicFileModel {
+            val headerProperties = linkedMapOf<String, String>()
+            val declaredProperties = linkedSetOf<String>()
+            val imports = mutableListOf<String>()
+            val tags = mutableListOf<String>()
+            val values = mutableListOf<Value>()
+            
+            fun put(key: String, value: String?) {
+                declaredProperties.add(key)
+                if (value != null && !headerProperties.containsKey(key)) {
+                    headerProperties[key] = value
+                }
+            }
+            
+            
+            atomicFile.children.filterIsInstance<AtomicHeaderSection>().forEach { headerSection ->
+                headerSection.entityTypePropList.firstOrNull()?.let { put("entityType", AtomicPsiImplUtil.getValue(it)) }
+                headerSection.aggressiveInliningPropList.firstOrNull()?.let { put("aggressiveInlining", AtomicPsiImplUtil.getBooleanValue(it).toString()) }
+                headerSection.unsafePropList.firstOrNull()?.let { put("unsafe", AtomicPsiImplUtil.getBooleanValue(it).toString()) }
+                headerSection.constIdsPropList.firstOrNull()?.let { put("constIds", AtomicPsiImplUtil.getBooleanValue(it).toString()) }
+                headerSection.namespacePropList.firstOrNull()?.let { put("namespace", AtomicPsiImplUtil.getValue(it)) }
+                headerSection.classNamePropList.firstOrNull()?.let { put("className", AtomicPsiImplUtil.getValue(it)) }
+                headerSection.directoryPropList.firstOrNull()?.let { put("directory", AtomicPsiImplUtil.getValue(it)) }
+                headerSection.solutionPropList.firstOrNull()?.let { put("solution", AtomicPsiImplUtil.getValue(it)) }
+            }
+            
+            
+            atomicFile.children.forEach { child ->
+                when (child) {
+                    is AtomicNamespaceProp -> put("namespace", AtomicPsiImplUtil.getValue(child))
+                    is AtomicAggressiveInliningProp -> put("aggressiveInlining", AtomicPsiImplUtil.getBooleanValue(child).toString())
+                    is AtomicUnsafeProp -> put("unsafe", AtomicPsiImplUtil.getBooleanValue(child).toString())
+                    is AtomicConstIdsProp -> put("constIds", AtomicPsiImplUtil.getBooleanValue(child).toString())
+                    is AtomicClassNameProp -> put("className", AtomicPsiImplUtil.getValue(child))
+                    is AtomicDirectoryProp -> put("directory", AtomicPsiImplUtil.getValue(child))
+                    is AtomicSolutionProp -> put("solution", AtomicPsiImplUtil.getValue(child))
+                    is AtomicEntityTypeProp -> put("entityType", AtomicPsiImplUtil.getValue(child))
+                }
+            }
+            
+            
+            atomicFile.children.filterIsInstance<AtomicImportsSection>().forEach { importsSection ->
+                importsSection.importItemList.forEach { import ->
+                    import.node.findChildByType(AtomicTypes.IMPORT_PATH)?.text?.let { imports.add(it) }
+                }
+            }
+            
+            
+            atomicFile.children.filterIsInstance<AtomicTagsSection>().forEach { tagsSection ->
+                tagsSection.tagItemList.forEach { tag ->
+                    tag.node.findChildByType(AtomicTypes.TAG_NAME)?.text?.let { tags.add(it) }
+                }
+            }
+            
+            
+            atomicFile.children.filterIsInstance<AtomicValuesSection>().forEach { valuesSection ->
+                valuesSection.valueItemList.forEach { value ->
+                    val name = value.node.findChildByType(AtomicTypes.VALUE_NAME)?.text
+                    val type = AtomicPsiImplUtil.getTypeReference(value)
+                    if (name != null && type != null) {
+                        values.add(Value(name, type))
+                    }
+                }
+            }
+            
+            return AtomicFileModel(headerProperties, declaredProperties, imports, tags, values)
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.jetbrains.rider.plugins.atomic.psi
+
+import com.intellij.lang.ASTNode
+import com.intellij.lang.Language
+import com.intellij.openapi.project.Project
+import com.intellij.psi.tree.IElementType
+import com.intellij.psi.tree.IReparseableElementType
+import com.intellij.psi.tree.TokenSet
+import com.jetbrains.rider.plugins.atomic.language.AtomicLanguage
+import com.jetbrains.rider.plugins.atomic.language.AtomicLexerAdapter
+
+/**
+ * Lazily parsed imports/tags/values section. An edit inside one section relexes and reparses only that
+ * section, provided the new text is still a single section of the same kind and leaves the lexer in
+ * the same state for the text that follows it.
+ */
+class AtomicSectionElementType(debugName: String) : IReparseableElementType(debugName, AtomicLanguage) {
+    
+    companion object {
+        private val SECTION_BOUNDARIES by lazy {
+            TokenSet.create(
+                AtomicTypes.IMPORTS_KEYWORD,
+                AtomicTypes.TAGS_KEYWORD,
+                AtomicTypes.VALUES_KEYWORD,
+                AtomicTypes.ENTITY_TYPE_KEYWORD,
+                AtomicTypes.AGGRESSIVE_INLINING_KEYWORD,
+                AtomicTypes.UNSAFE_KEYWORD,
+                AtomicTypes.CONST_IDS_KEYWORD,
+                AtomicTypes.NAMESPACE_KEYWORD,
+                AtomicTypes.CLASS_NAME_KEYWORD,
+                AtomicTypes.DIRECTORY_KEYWORD,
+                AtomicTypes.SOLUTION_KEYWORD
+            )
+        }
+    }
+    
+    private val keyword: IElementType by lazy {
+        when (this) {
+            AtomicTypes.IMPORTS_SECTION -> AtomicTypes.IMPORTS_KEYWORD
+            AtomicTypes.TAGS_SECTION -> AtomicTypes.TAGS_KEYWORD
+            else -> AtomicTypes.VALUES_KEYWORD
+        }
+    }
+    
+    override fun isReparseable(currentNode: ASTNode, newText: CharSequence, fileLanguage: Language, project: Project): Boolean {
+        val newEndState = lexSection(newText) ?: return false
+        val oldEndState = lexSection(currentNode.chars) ?: return false
+        return newEndState == oldEndState
+    }
+    
+    /**
+     * Lexer state after [text], or null if [text] is not exactly one section introduced by [keyword].
+     */
+    private fun lexSection(text: CharSequence): Int? {
+        val lexer = AtomicLexerAdapter()
+        lexer.start(text)
+        if (lexer.tokenType != keyword) return null
+        
+        lexer.advance()
+        while (true) {
+            val tokenType = lexer.tokenType ?: return lexer.state
+            if (SECTION_BOUNDARIES.contains(tokenType)) return null
+            lexer.advance()
+        }
+    }
+}
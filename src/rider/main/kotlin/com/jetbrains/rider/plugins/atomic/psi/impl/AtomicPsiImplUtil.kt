@@ -30,6 +30,15 @@ object AtomicPsiImplUtil {
         return value != null
     }
     
+    @JvmStatic
+    fun getKey(element: AtomicConstIdsProp): String = "constIds"
+    
+    @JvmStatic
+    fun getBooleanValue(element: AtomicConstIdsProp): Boolean {
+        val value = element.node.findChildByType(AtomicTypes.TRUE)
+        return value != null
+    }
+    
     @JvmStatic
     fun getKey(element: AtomicNamespaceProp): String = "namespace"
     
@@ -21,6 +21,7 @@ import com.jetbrains.rider.plugins.atomic.psi.AtomicTagItem
 import com.jetbrains.rider.plugins.atomic.psi.AtomicValueItem
 import com.jetbrains.rider.plugins.atomic.psi.AtomicTypes
 import com.jetbrains.rider.plugins.atomic.services.AtomicGenerationService
+import com.jetbrains.rider.plugins.atomic.services.AtomicIdRegistry
 import kotlinx.coroutines.*
 
 class AtomicRenameProcessor : RenamePsiElementProcessor() {
@@ -81,6 +82,8 @@ class AtomicRenameProcessor : RenamePsiElementProcessor() {
             logger.info("AtomicRenameProcessor: Sanitized name from '$newName' to '$sanitizedNewName'")
         }
         
+        AtomicIdRegistry.getInstance(project).rename(oldName, sanitizedNewName, atomicFile.virtualFile)
+        
         logger.info("AtomicRenameProcessor: Calling super.renameElement to handle PSI update")
         super.renameElement(element, sanitizedNewName, usages, listener)
         logger.info("AtomicRenameProcessor: super.renameElement completed")
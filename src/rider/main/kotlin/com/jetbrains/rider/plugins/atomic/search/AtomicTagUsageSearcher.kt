@@ -2,6 +2,7 @@ package com.jetbrains.rider.plugins.atomic.search
 
 import com.intellij.openapi.application.QueryExecutorBase
 import com.intellij.openapi.application.ReadAction
+import com.intellij.openapi.progress.ProgressManager
 import com.intellij.psi.PsiElement
 import com.intellij.psi.PsiReference
 import com.intellij.psi.search.searches.ReferencesSearch
@@ -9,94 +10,79 @@ import com.intellij.util.Processor
 import com.jetbrains.rider.plugins.atomic.psi.AtomicTagItem
 import com.jetbrains.rider.plugins.atomic.psi.AtomicTypes
 import com.jetbrains.rider.plugins.atomic.services.AtomicGenerationService
-import kotlinx.coroutines.runBlocking
+import com.intellij.openapi.progress.runBlockingCancellable
+import com.intellij.openapi.diagnostic.Logger
 import com.intellij.psi.PsiManager
 import com.intellij.openapi.vfs.LocalFileSystem
 
-class AtomicTagUsageSearcher : QueryExecutorBase<PsiReference, ReferencesSearch.SearchParameters>(true) {
+class AtomicTagUsageSearcher : QueryExecutorBase<PsiReference, ReferencesSearch.SearchParameters>(false) {
+    
+    companion object {
+        private val LOG = Logger.getInstance(AtomicTagUsageSearcher::class.java)
+    }
     
     override fun processQuery(parameters: ReferencesSearch.SearchParameters, consumer: Processor<in PsiReference>) {
         val element = parameters.elementToSearch
         
-        println("[AtomicTagUsageSearcher] processQuery called:")
-        println("  Element class: ${element.javaClass.name}")
-        println("  Element text: '${element.text}'")
-        println("  Node type: ${element.node?.elementType}")
-        
-        val tagName = when {
-            element is AtomicTagItem -> {
-                val tagNameNode = element.node.findChildByType(AtomicTypes.TAG_NAME)
-                println("  -> Element is AtomicTagItem, name: ${tagNameNode?.text}")
-                tagNameNode?.text
-            }
-            
-            element.node?.elementType == AtomicTypes.TAG_NAME && element.parent is AtomicTagItem -> {
-                println("  -> Element is TAG_NAME token")
-                element.text
-            }
-            
-            element.parent?.node?.elementType == AtomicTypes.TAG_NAME && element.parent?.parent is AtomicTagItem -> {
-                println("  -> Element is leaf inside TAG_NAME")
-                element.parent.text
-            }
-            
-            else -> {
-                println("  -> Element type not recognized")
-                null
+        val tagName = ReadAction.compute<String?, RuntimeException> {
+            when {
+                element is AtomicTagItem -> {
+                    val tagNameNode = element.node.findChildByType(AtomicTypes.TAG_NAME)
+                    tagNameNode?.text
+                }
+                
+                element.node?.elementType == AtomicTypes.TAG_NAME && element.parent is AtomicTagItem -> {
+                    element.text
+                }
+                
+                element.parent?.node?.elementType == AtomicTypes.TAG_NAME && element.parent?.parent is AtomicTagItem -> {
+                    element.parent.text
+                }
+                
+                else -> null
             }
         }
         
         if (tagName != null && tagName.isNotEmpty()) {
-            println("  -> Found tag name: '$tagName'")
             val project = element.project
             
-            val atomicFile = element.containingFile as? com.jetbrains.rider.plugins.atomic.psi.AtomicFile
-            if (atomicFile == null) {
-                println("  -> Element is not in an AtomicFile")
+            val atomicFile = ReadAction.compute<com.jetbrains.rider.plugins.atomic.psi.AtomicFile?, RuntimeException> {
+                element.containingFile as? com.jetbrains.rider.plugins.atomic.psi.AtomicFile
+            }
+            if (atomicFile == null) return
+            
+            val service = AtomicGenerationService.getInstance(project)
+            
+            val generatedFilePath = service.calculateGeneratedFilePath(atomicFile)
+            if (generatedFilePath == null) {
+                LOG.debug("No generated file for tag '$tagName'")
                 return
             }
             
-            ReadAction.run<RuntimeException> {
-                val service = AtomicGenerationService.getInstance(project)
-                
-                val generatedFilePath = service.calculateGeneratedFilePath(atomicFile)
-                if (generatedFilePath == null) {
-                    println("  -> Could not calculate generated file path")
-                    return@run
-                }
-                
-                val methodNames = getGeneratedTagMethodNames(tagName)
-                println("  -> Looking for methods: ${methodNames.joinToString()}")
-                
-                val usages = runBlocking {
-                    service.findGeneratedTagUsages(tagName, methodNames, project.basePath ?: "", generatedFilePath)
-                }
-                
-                println("  -> Found ${usages.size} usages")
-                usages.forEach { usage ->
-                    println("    Usage: ${usage.methodName} at ${usage.filePath}:${usage.line}")
-                }
-                
-                val psiManager = PsiManager.getInstance(project)
-                
-                for (usage in usages) {
-                    val virtualFile = LocalFileSystem.getInstance().findFileByPath(usage.filePath)
-                    if (virtualFile != null) {
-                        val psiFile = psiManager.findFile(virtualFile)
-                        if (psiFile != null) {
-                            val reference = SyntheticAtomicTagReference(element, psiFile, usage)
-                            val processed = consumer.process(reference)
-                            println("  -> Processed reference: $processed")
+            val methodNames = getGeneratedTagMethodNames(tagName)
+            
+            val psiManager = PsiManager.getInstance(project)
+            var found = 0
+            
+            runBlockingCancellable {
+                service.searchGeneratedUsages(tagName, isTag = true, methodNames, project.basePath ?: "", generatedFilePath) { usage ->
+                    ProgressManager.checkCanceled()
+                    found++
+                    
+                    ReadAction.compute<Boolean, RuntimeException> {
+                        val virtualFile = LocalFileSystem.getInstance().findFileByPath(usage.filePath)
+                        val psiFile = virtualFile?.let { psiManager.findFile(it) }
+                        if (psiFile == null) {
+                            LOG.debug("No PSI file for ${usage.filePath}")
+                            true
                         } else {
-                            println("  -> Could not find PSI file for: ${usage.filePath}")
+                            consumer.process(SyntheticAtomicTagReference(element, psiFile, usage))
                         }
-                    } else {
-                        println("  -> Could not find virtual file for: ${usage.filePath}")
                     }
                 }
             }
-        } else {
-            println("  -> No tag name found")
+            
+            LOG.debug("Found $found usages of tag '$tagName'")
         }
     }
     
@@ -2,6 +2,7 @@ package com.jetbrains.rider.plugins.atomic.search
 
 import com.intellij.openapi.application.QueryExecutorBase
 import com.intellij.openapi.application.ReadAction
+import com.intellij.openapi.progress.ProgressManager
 import com.intellij.psi.PsiElement
 import com.intellij.psi.PsiReference
 import com.intellij.psi.search.UsageSearchContext
@@ -11,98 +12,80 @@ import com.jetbrains.rider.plugins.atomic.psi.AtomicFile
 import com.jetbrains.rider.plugins.atomic.psi.AtomicValueItem
 import com.jetbrains.rider.plugins.atomic.psi.AtomicTypes
 import com.jetbrains.rider.plugins.atomic.services.AtomicGenerationService
-import kotlinx.coroutines.runBlocking
+import com.intellij.openapi.progress.runBlockingCancellable
+import com.intellij.openapi.diagnostic.Logger
 import com.intellij.psi.PsiManager
 import com.intellij.openapi.vfs.LocalFileSystem
 import com.jetbrains.rider.plugins.atomic.references.AtomicValueReference
 
-class AtomicValueUsageSearcher : QueryExecutorBase<PsiReference, ReferencesSearch.SearchParameters>(true) {
+class AtomicValueUsageSearcher : QueryExecutorBase<PsiReference, ReferencesSearch.SearchParameters>(false) {
+    
+    companion object {
+        private val LOG = Logger.getInstance(AtomicValueUsageSearcher::class.java)
+    }
     
     override fun processQuery(parameters: ReferencesSearch.SearchParameters, consumer: Processor<in PsiReference>) {
         val element = parameters.elementToSearch
         
-        println("[AtomicValueUsageSearcher] processQuery called:")
-        println("  Element class: ${element.javaClass.name}")
-        println("  Element text: '${element.text}'")
-        println("  Node type: ${element.node?.elementType}")
-        
-        val valueName = when {
-            element is AtomicValueItem -> {
-                val valueNameNode = element.node.findChildByType(AtomicTypes.VALUE_NAME)
-                println("  -> Element is AtomicValueItem, name: ${valueNameNode?.text}")
-                valueNameNode?.text
-            }
-            
-            element.node?.elementType == AtomicTypes.VALUE_NAME && element.parent is AtomicValueItem -> {
-                println("  -> Element is VALUE_NAME token")
-                element.text
-            }
-            
-            element.parent?.node?.elementType == AtomicTypes.VALUE_NAME && element.parent?.parent is AtomicValueItem -> {
-                println("  -> Element is leaf inside VALUE_NAME")
-                element.parent.text
-            }
-            
-            else -> {
-                println("  -> Element type not recognized")
-                null
+        val valueName = ReadAction.compute<String?, RuntimeException> {
+            when {
+                element is AtomicValueItem -> {
+                    val valueNameNode = element.node.findChildByType(AtomicTypes.VALUE_NAME)
+                    valueNameNode?.text
+                }
+                
+                element.node?.elementType == AtomicTypes.VALUE_NAME && element.parent is AtomicValueItem -> {
+                    element.text
+                }
+                
+                element.parent?.node?.elementType == AtomicTypes.VALUE_NAME && element.parent?.parent is AtomicValueItem -> {
+                    element.parent.text
+                }
+                
+                else -> null
             }
         }
         
         if (valueName != null && valueName.isNotEmpty()) {
-            println("  -> Found value name: '$valueName'")
             val project = element.project
             
-            val atomicFile = element.containingFile as? AtomicFile
-            if (atomicFile == null) {
-                println("  -> Element is not in an AtomicFile")
+            val atomicFile = ReadAction.compute<AtomicFile?, RuntimeException> {
+                element.containingFile as? AtomicFile
+            }
+            if (atomicFile == null) return
+            
+            val service = AtomicGenerationService.getInstance(project)
+            
+            val generatedFilePath = service.calculateGeneratedFilePath(atomicFile)
+            if (generatedFilePath == null) {
+                LOG.debug("No generated file for value '$valueName'")
                 return
             }
             
-            ReadAction.run<RuntimeException> {
-                val service = AtomicGenerationService.getInstance(project)
-                
-                
-                val generatedFilePath = service.calculateGeneratedFilePath(atomicFile)
-                if (generatedFilePath == null) {
-                    println("  -> Could not calculate generated file path")
-                    return@run
-                }
-                
-                val methodNames = getGeneratedMethodNames(valueName)
-                println("  -> Looking for methods: ${methodNames.joinToString()}")
-                
-                
-                val usages = runBlocking {
-                    service.findGeneratedMethodUsages(valueName, methodNames, project.basePath ?: "", generatedFilePath)
-                }
-                
-                println("  -> Found ${usages.size} usages")
-                usages.forEach { usage ->
-                    println("    Usage: ${usage.methodName} at ${usage.filePath}:${usage.line}")
-                }
-                
-                val psiManager = PsiManager.getInstance(project)
-                
-                for (usage in usages) {
-                    val virtualFile = LocalFileSystem.getInstance().findFileByPath(usage.filePath)
-                    if (virtualFile != null) {
-                        val psiFile = psiManager.findFile(virtualFile)
-                        if (psiFile != null) {
-                            
-                            val reference = SyntheticAtomicValueReference(element, psiFile, usage)
-                            val processed = consumer.process(reference)
-                            println("  -> Processed reference: $processed")
+            val methodNames = getGeneratedMethodNames(valueName)
+            
+            val psiManager = PsiManager.getInstance(project)
+            var found = 0
+            
+            runBlockingCancellable {
+                service.searchGeneratedUsages(valueName, isTag = false, methodNames, project.basePath ?: "", generatedFilePath) { usage ->
+                    ProgressManager.checkCanceled()
+                    found++
+                    
+                    ReadAction.compute<Boolean, RuntimeException> {
+                        val virtualFile = LocalFileSystem.getInstance().findFileByPath(usage.filePath)
+                        val psiFile = virtualFile?.let { psiManager.findFile(it) }
+                        if (psiFile == null) {
+                            LOG.debug("No PSI file for ${usage.filePath}")
+                            true
                         } else {
-                            println("  -> Could not find PSI file for: ${usage.filePath}")
+                            consumer.process(SyntheticAtomicValueReference(element, psiFile, usage))
                         }
-                    } else {
-                        println("  -> Could not find virtual file for: ${usage.filePath}")
                     }
                 }
             }
-        } else {
-            println("  -> No value name found")
+            
+            LOG.debug("Found $found usages of value '$valueName'")
         }
     }
     
@@ -11,16 +11,18 @@ import com.intellij.openapi.fileEditor.FileDocumentManager
 import com.intellij.openapi.project.Project
 import com.intellij.openapi.vfs.VirtualFile
 import com.intellij.openapi.vfs.VirtualFileManager
+import com.intellij.openapi.vfs.LocalFileSystem
 import com.intellij.psi.PsiManager
-import com.intellij.psi.PsiElement
 import com.intellij.openapi.command.CommandProcessor
 import com.intellij.openapi.command.undo.UndoManager
 import com.intellij.openapi.fileEditor.FileEditorManager
 import com.jetbrains.rider.plugins.atomic.psi.*
-import com.jetbrains.rider.plugins.atomic.psi.impl.AtomicPsiImplUtil
 import com.jetbrains.rider.plugins.atomic.settings.AtomicPluginSettings
 import kotlinx.coroutines.*
+import kotlinx.coroutines.sync.Mutex
+import kotlinx.coroutines.sync.withLock
 import java.io.File
+import java.util.concurrent.ConcurrentHashMap
 import com.intellij.openapi.diagnostic.Logger
 
 @Service(Service.Level.PROJECT)
@@ -30,7 +32,7 @@ class AtomicAutoGenerator(private val project: Project) {
     private val fileTracker = GeneratedFileTracker.getInstance(project)
     private val fileValidator = AtomicFileValidator.getInstance(project)
     private val scope = CoroutineScope(Dispatchers.IO)
-    private val processingFiles = mutableSetOf<String>()
+    private val outputLocks = ConcurrentHashMap<String, Mutex>()
     
     companion object {
         fun getInstance(project: Project): AtomicAutoGenerator {
@@ -54,15 +56,13 @@ class AtomicAutoGenerator(private val project: Project) {
     }
     
     /**
-     * Auto-generation - only updates existing files
+     * Auto-generation - only updates existing files, scheduled through [AtomicRegenerationQueue]
      */
     fun regenerateIfValid(atomicFile: AtomicFile) {
-        val fileName = atomicFile.name
-        val filePath = atomicFile.virtualFile?.path ?: "unknown"
-        LOG.info("AtomicAutoGenerator: regenerateIfValid called for $fileName at $filePath")
+        val virtualFile = atomicFile.virtualFile ?: return
+        LOG.info("AtomicAutoGenerator: regenerateIfValid called for ${atomicFile.name} at ${virtualFile.path}")
         
-        // Call the internal generation method with forceCreate = false
-        performGeneration(atomicFile, forceCreate = false)
+        AtomicRegenerationQueue.getInstance(project).schedule(virtualFile, skipChangeCheck = true)
     }
     
     private fun performGeneration(atomicFile: AtomicFile, forceCreate: Boolean) {
@@ -70,17 +70,6 @@ class AtomicAutoGenerator(private val project: Project) {
         val filePath = atomicFile.virtualFile?.path ?: "unknown"
         LOG.info("AtomicAutoGenerator: performGeneration called for $fileName at $filePath, forceCreate=$forceCreate")
         
-        val settings = AtomicPluginSettings.getInstance(project)
-        if (!forceCreate && !settings.autoGenerateEnabled) {
-            LOG.info("AtomicAutoGenerator: Auto-generation is disabled in settings")
-            return
-        }
-        
-        if (processingFiles.contains(filePath)) {
-            LOG.info("AtomicAutoGenerator: Already processing $fileName, skipping")
-            return
-        }
-        
         val commandProcessor = CommandProcessor.getInstance()
         if (commandProcessor.currentCommand != null) {
             LOG.info("AtomicAutoGenerator: Command in progress, scheduling for later")
@@ -91,90 +80,121 @@ class AtomicAutoGenerator(private val project: Project) {
         }
         
         scope.launch {
-            processingFiles.add(filePath)
-            try {
-                delay(100)
-                
-                val validationAndConfig = withContext(Dispatchers.Main) {
-                    ReadAction.compute<Pair<ValidationResult, AtomicFileConfig?>, Exception> {
-                        val validation = validateAtomicFile(atomicFile)
-                        val config = if (validation.isValid) parseAtomicFileConfig(atomicFile) else null
-                        validation to config
-                    }
+            delay(100)
+            regenerate(atomicFile, forceCreate)
+        }
+    }
+    
+    /**
+     * Validates and generates [atomicFile]. Runs for the same output path never overlap.
+     */
+    suspend fun regenerate(atomicFile: AtomicFile, forceCreate: Boolean) {
+        val fileName = atomicFile.name
+        
+        val settings = AtomicPluginSettings.getInstance(project)
+        if (!forceCreate && !settings.autoGenerateEnabled) {
+            LOG.info("AtomicAutoGenerator: Auto-generation is disabled in settings")
+            return
+        }
+        
+        try {
+            val validationAndConfig = withContext(Dispatchers.Main) {
+                ReadAction.compute<Pair<ValidationResult, AtomicFileConfig?>, Exception> {
+                    val validation = validateAtomicFile(atomicFile)
+                    val config = if (validation.isValid) parseAtomicFileConfig(atomicFile) else null
+                    validation to config
                 }
-                
-                val validation = validationAndConfig.first
-                val config = validationAndConfig.second
-                
-                if (!validation.isValid || config == null) {
-                    LOG.info("AtomicAutoGenerator: File is not valid or config is null. Validation: ${validation.isValid}, Missing fields: ${validation.missingFields}")
-                    return@launch
+            }
+            
+            val validation = validationAndConfig.first
+            val config = validationAndConfig.second
+            
+            if (!validation.isValid || config == null) {
+                LOG.info("AtomicAutoGenerator: File is not valid or config is null. Validation: ${validation.isValid}, Missing fields: ${validation.missingFields}")
+                return
+            }
+            
+            val hasErrors = fileValidator.hasErrorsResolvingTypes(atomicFile)
+            
+            if (hasErrors) {
+                LOG.info("AtomicAutoGenerator: File has validation errors, skipping generation")
+                return
+            }
+            
+            if (!generationService.isReady()) {
+                LOG.warn("AtomicAutoGenerator: Generation service not ready, skipping")
+                return
+            }
+            
+            val atomicVirtualFile = withContext(Dispatchers.Main) {
+                ReadAction.compute<VirtualFile?, Exception> {
+                    atomicFile.virtualFile
                 }
-                
-                val hasErrors = withContext(Dispatchers.Main) {
-                    ReadAction.compute<Boolean, Exception> {
-                        fileValidator.hasErrors(atomicFile)
+            } ?: return
+            
+            val hasChanged = fileTracker.hasOutputChanged(
+                atomicVirtualFile,
+                config.directory,
+                config.className
+            )
+            
+            val outputPath = calculateOutputPath(atomicVirtualFile, config)
+            if (outputPath == null) {
+                val atomicFileName = withContext(Dispatchers.Main) {
+                    ReadAction.compute<String, Exception> {
+                        atomicFile.name
                     }
                 }
-                
-                if (hasErrors) {
-                    LOG.info("AtomicAutoGenerator: File has validation errors, skipping generation")
-                    return@launch
-                }
-                
-                if (!generationService.isReady()) {
-                    LOG.warn("AtomicAutoGenerator: Generation service not ready, skipping")
-                    return@launch
-                }
-                
-                val atomicVirtualFile = withContext(Dispatchers.Main) {
-                    ReadAction.compute<VirtualFile?, Exception> {
-                        atomicFile.virtualFile
-                    }
-                } ?: return@launch
-                
-                val hasChanged = fileTracker.hasOutputChanged(
-                    atomicVirtualFile,
-                    config.directory,
-                    config.className
+                showNotification(
+                    "Failed to calculate output path for $atomicFileName",
+                    NotificationType.ERROR
                 )
-                
-                val outputPath = calculateOutputPath(atomicVirtualFile, config)
-                if (outputPath == null) {
-                    val atomicFileName = withContext(Dispatchers.Main) {
-                        ReadAction.compute<String, Exception> {
-                            atomicFile.name
-                        }
-                    }
-                    showNotification(
-                        "Failed to calculate output path for $atomicFileName",
-                        NotificationType.ERROR
-                    )
-                    return@launch
-                }
-                
-                // For auto-generation, only update existing files, don't create new ones
-                if (!forceCreate && !outputPath.exists()) {
-                    LOG.info("AtomicAutoGenerator: Generated file does not exist at ${outputPath.absolutePath}, skipping auto-generation")
-                    LOG.info("AtomicAutoGenerator: Use Ctrl+Shift+G to generate the file for the first time")
-                    return@launch
-                }
-                
+                return
+            }
+            
+            // For auto-generation, only update existing files, don't create new ones
+            if (!forceCreate && !outputPath.exists()) {
+                LOG.info("AtomicAutoGenerator: Generated file does not exist at ${outputPath.absolutePath}, skipping auto-generation")
+                LOG.info("AtomicAutoGenerator: Use Ctrl+Shift+G to generate the file for the first time")
+                return
+            }
+            
+            val outputLock = outputLocks.computeIfAbsent(outputPath.absolutePath) { Mutex() }
+            outputLock.withLock {
                 LOG.info("AtomicAutoGenerator: Generating code for ${atomicFile.name}")
-                val generatedCode = generationService.generateApi(atomicFile)
+                val result = generationService.generateApi(atomicFile)
+                val generatedCode = result.generatedCode
                 if (generatedCode == null) {
                     LOG.error("AtomicAutoGenerator: Failed to generate code")
-                    return@launch
+                    return
                 }
                 LOG.info("AtomicAutoGenerator: Code generated successfully, length: ${generatedCode.length}")
                 
+                if (isOutputUnchanged(outputPath, generatedCode)) {
+                    LOG.info("AtomicAutoGenerator: ${outputPath.absolutePath} is up to date, skipping write")
+                    LocalFileSystem.getInstance().findFileByIoFile(outputPath)?.let { generatedFile ->
+                        fileTracker.trackGeneratedFile(
+                            atomicVirtualFile,
+                            generatedFile,
+                            config.directory,
+                            config.className
+                        )
+                    }
+                    return
+                }
+                
                 val atomicFileName = withContext(Dispatchers.Main) {
                     ReadAction.compute<String, Exception> {
                         atomicFile.name
                     }
                 }
                 
-                val generatedFile = writeGeneratedFile(outputPath, generatedCode)
+                // The backend already put the code into the output's document, writing the file as well would race its save
+                val generatedFile = if (result.outputUpdated) {
+                    findGeneratedFile(outputPath)
+                } else {
+                    writeGeneratedFile(outputPath, generatedCode)
+                }
                 if (generatedFile != null) {
                     fileTracker.trackGeneratedFile(
                         atomicVirtualFile,
@@ -190,13 +210,13 @@ class AtomicAutoGenerator(private val project: Project) {
                         )
                     }
                 }
-                
-            } catch (e: Exception) {
-                LOG.error("AtomicAutoGenerator: Failed to auto-generate from $fileName", e)
-            } finally {
-                processingFiles.remove(filePath)
-                LOG.debug("AtomicAutoGenerator: Finished processing $fileName")
             }
+        } catch (e: CancellationException) {
+            throw e
+        } catch (e: Exception) {
+            LOG.error("AtomicAutoGenerator: Failed to auto-generate from $fileName", e)
+        } finally {
+            LOG.debug("AtomicAutoGenerator: Finished processing $fileName")
         }
     }
     
@@ -204,153 +224,45 @@ class AtomicAutoGenerator(private val project: Project) {
      * Validate that the atomic file has all required fields
      */
     private fun validateAtomicFile(atomicFile: AtomicFile): ValidationResult {
-        val missingFields = mutableListOf<String>()
-        val existingFields = mutableSetOf<String>()
-        
-        atomicFile.children.filterIsInstance<AtomicHeaderSection>().forEach { headerSection ->
-            headerSection.children.forEach { child ->
-                when (child) {
-                    is AtomicEntityTypeProp -> {
-                        existingFields.add("entityType")
-                        if (!hasValue(child)) missingFields.add("entityType")
-                    }
-                    is AtomicAggressiveInliningProp -> {
-                        existingFields.add("aggressiveInlining")
-                    }
-                    is AtomicUnsafeProp -> {
-                        existingFields.add("unsafe")
-                    }
-                }
-            }
-        }
-        
-        fun checkElement(element: PsiElement) {
-            element.children.forEach { child ->
-                when (child) {
-                    is AtomicNamespaceProp -> {
-                        existingFields.add("namespace")
-                        if (!hasValue(child)) missingFields.add("namespace")
-                    }
-                    is AtomicClassNameProp -> {
-                        existingFields.add("className")
-                        if (!hasValue(child)) missingFields.add("className")
-                    }
-                    is AtomicDirectoryProp -> {
-                        existingFields.add("directory")
-                        if (!hasValue(child)) missingFields.add("directory")
-                    }
-                    is AtomicSolutionProp -> {
-                        existingFields.add("solution")
-                        if (!hasValue(child)) missingFields.add("solution")
-                    }
-                    is AtomicAggressiveInliningProp -> {
-                        existingFields.add("aggressiveInlining")
-                    }
-                    is AtomicUnsafeProp -> {
-                        existingFields.add("unsafe")
-                    }
-                }
-                checkElement(child)
-            }
-        }
-        checkElement(atomicFile)
+        val model = AtomicFileModel.of(atomicFile)
+        val missingFields = model.missingRequiredFields().toMutableList()
         
-        val requiredFields = listOf("entityType", "namespace", "className", "directory")
-        requiredFields.forEach { field ->
-            if (!existingFields.contains(field)) {
-                missingFields.add(field)
-            }
-        }
-        
-        var hasTagsOrValues = false
-        
-        atomicFile.children.filterIsInstance<AtomicTagsSection>().forEach { tagsSection ->
-            if (tagsSection.tagItemList.isNotEmpty()) {
-                hasTagsOrValues = true
-            }
-        }
-        
-        if (!hasTagsOrValues) {
-            atomicFile.children.filterIsInstance<AtomicValuesSection>().forEach { valuesSection ->
-                if (valuesSection.valueItemList.isNotEmpty()) {
-                    hasTagsOrValues = true
-                }
-            }
-        }
-        
-        if (!hasTagsOrValues) {
+        if (!model.hasTagsOrValues) {
             missingFields.add("tags or values")
         }
         
         return ValidationResult(
-            isValid = missingFields.isEmpty() && hasTagsOrValues,
+            isValid = missingFields.isEmpty(),
             missingFields = missingFields
         )
     }
     
-    private fun hasValue(element: PsiElement): Boolean {
-        val text = element.text
-        val colonIndex = text.indexOf(':')
-        if (colonIndex == -1) return false
-        
-        val value = text.substring(colonIndex + 1).trim()
-        return value.isNotEmpty()
-    }
-    
     /**
      * Parse the atomic file to extract configuration
      */
-    private fun parseAtomicFileConfig(atomicFile: AtomicFile): AtomicFileConfig? {
-        return try {
-            val config = AtomicFileConfig()
-            
-            atomicFile.children.filterIsInstance<AtomicHeaderSection>().forEach { headerSection ->
-                headerSection.children.forEach { child ->
-                    when (child) {
-                        is AtomicEntityTypeProp -> config.entityType = AtomicPsiImplUtil.getValue(child) ?: ""
-                        is AtomicAggressiveInliningProp -> config.aggressiveInlining = AtomicPsiImplUtil.getBooleanValue(child)
-                        is AtomicUnsafeProp -> config.unsafe = AtomicPsiImplUtil.getBooleanValue(child)
-                    }
-                }
-            }
-            
-            fun parseElement(element: PsiElement) {
-                element.children.forEach { child ->
-                    when (child) {
-                        is AtomicNamespaceProp -> config.namespace = AtomicPsiImplUtil.getValue(child) ?: ""
-                        is AtomicClassNameProp -> config.className = AtomicPsiImplUtil.getValue(child) ?: ""
-                        is AtomicDirectoryProp -> config.directory = AtomicPsiImplUtil.getValue(child) ?: ""
-                        is AtomicSolutionProp -> config.solution = AtomicPsiImplUtil.getValue(child) ?: ""
-                        is AtomicAggressiveInliningProp -> config.aggressiveInlining = AtomicPsiImplUtil.getBooleanValue(child)
-                        is AtomicUnsafeProp -> config.unsafe = AtomicPsiImplUtil.getBooleanValue(child)
-                    }
-                    parseElement(child)
-                }
-            }
-            parseElement(atomicFile)
-            
-            config
-        } catch (e: Exception) {
-            null
-        }
+    private fun parseAtomicFileConfig(atomicFile: AtomicFile): AtomicFileConfig {
+        return configOf(AtomicFileModel.of(atomicFile))
     }
     
-    private fun getValue(element: PsiElement): String {
-        val text = element.text
-        val colonIndex = text.indexOf(':')
-        if (colonIndex == -1) return ""
+    internal fun configOf(model: AtomicFileModel): AtomicFileConfig {
+        val properties = model.headerProperties
         
-        return text.substring(colonIndex + 1).trim().removeSurrounding("\"")
-    }
-    
-    private fun getBooleanValue(element: PsiElement): Boolean {
-        return getValue(element).equals("true", ignoreCase = true)
+        return AtomicFileConfig(
+            entityType = properties["entityType"] ?: "",
+            namespace = properties["namespace"] ?: "",
+            className = properties["className"] ?: "",
+            directory = properties["directory"] ?: "",
+            solution = properties["solution"] ?: "",
+            aggressiveInlining = properties["aggressiveInlining"] == "true",
+            unsafe = properties["unsafe"] == "true",
+            constIds = properties["constIds"] == "true"
+        )
     }
     
     /**
      * Calculate the output file path
      */
-    private fun calculateOutputPath(atomicVirtualFile: VirtualFile, config: AtomicFileConfig): File? {
+    internal fun calculateOutputPath(atomicVirtualFile: VirtualFile, config: AtomicFileConfig): File? {
         val projectBasePath = project.basePath ?: return null
         val atomicFilePath = atomicVirtualFile.path
         
@@ -367,6 +279,27 @@ class AtomicAutoGenerator(private val project: Project) {
         return File(outputDir, "${config.className}.cs")
     }
     
+    /**
+     * Compare the generated code with the file on disk so identical output causes no write,
+     * VFS refresh or Unity reimport
+     */
+    internal suspend fun isOutputUnchanged(outputFile: File, content: String): Boolean {
+        return withContext(Dispatchers.IO) {
+            try {
+                val newBytes = content.toByteArray(Charsets.UTF_8)
+                outputFile.isFile && outputFile.length() == newBytes.size.toLong() && outputFile.readBytes().contentEquals(newBytes)
+            } catch (e: Exception) {
+                false
+            }
+        }
+    }
+    
+    private suspend fun findGeneratedFile(outputFile: File): VirtualFile? {
+        return withContext(Dispatchers.IO) {
+            VirtualFileManager.getInstance().refreshAndFindFileByNioPath(outputFile.toPath())
+        }
+    }
+    
     /**
      * Write the generated code to file in a way that doesn't interfere with undo
      */
@@ -376,7 +309,7 @@ class AtomicAutoGenerator(private val project: Project) {
                 
                 outputFile.parentFile?.mkdirs()
                 outputFile.writeText(content)
-
+                
                 val virtualFile = VirtualFileManager.getInstance().refreshAndFindFileByNioPath(outputFile.toPath())
                 virtualFile?.refresh(false, false)
                 
@@ -416,6 +349,7 @@ class AtomicAutoGenerator(private val project: Project) {
         var directory: String = "",
         var solution: String = "",
         var aggressiveInlining: Boolean = false,
-        var unsafe: Boolean = false
+        var unsafe: Boolean = false,
+        var constIds: Boolean = false
     )
 }
\ No newline at end of file
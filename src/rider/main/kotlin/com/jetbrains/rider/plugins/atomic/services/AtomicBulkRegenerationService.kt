@@ -0,0 +1,181 @@
+package com.jetbrains.rider.plugins.atomic.services
+
+import com.intellij.openapi.application.ReadAction
+import com.intellij.openapi.components.Service
+import com.intellij.openapi.diagnostic.Logger
+import com.intellij.openapi.progress.ProgressIndicator
+import com.intellij.openapi.project.DumbService
+import com.intellij.openapi.project.Project
+import com.intellij.openapi.util.Computable
+import com.intellij.openapi.vfs.LocalFileSystem
+import com.intellij.openapi.vfs.VirtualFile
+import com.intellij.psi.PsiManager
+import com.jetbrains.rider.plugins.atomic.index.AtomicFileIndex
+import com.jetbrains.rider.plugins.atomic.model.AtomicFileData
+import com.jetbrains.rider.plugins.atomic.psi.AtomicFile
+import com.jetbrains.rider.plugins.atomic.psi.AtomicFileModel
+import kotlinx.coroutines.*
+import kotlinx.coroutines.sync.Semaphore
+import kotlinx.coroutines.sync.withPermit
+import java.io.File
+import java.util.concurrent.ConcurrentLinkedQueue
+import java.util.concurrent.atomic.AtomicInteger
+
+/**
+ * Regenerates every .atomic file of the project: files are parsed in parallel read actions,
+ * sent to the backend in batches through `generateApis`, and all outputs are picked up by one VFS refresh.
+ */
+@Service(Service.Level.PROJECT)
+class AtomicBulkRegenerationService(private val project: Project) {
+    
+    companion object {
+        fun getInstance(project: Project): AtomicBulkRegenerationService {
+            return project.getService(AtomicBulkRegenerationService::class.java)
+        }
+        
+        private const val BATCH_SIZE = 50
+        private const val MAX_CONCURRENT_BATCHES = 4
+        private val LOG = Logger.getInstance(AtomicBulkRegenerationService::class.java)
+    }
+    
+    data class Summary(
+        val total: Int,
+        val written: Int,
+        val unchanged: Int,
+        val skipped: List<String>,
+        val failed: List<String>
+    )
+    
+    private class PreparedFile(
+        val virtualFile: VirtualFile,
+        val config: AtomicAutoGenerator.AtomicFileConfig,
+        val model: AtomicFileModel
+    )
+    
+    private class WrittenFile(
+        val prepared: PreparedFile,
+        val outputFile: File
+    )
+    
+    suspend fun regenerateAll(indicator: ProgressIndicator? = null): Summary {
+        val atomicFiles = DumbService.getInstance(project).runReadActionInSmartMode(Computable {
+            AtomicFileIndex.getAllAtomicFiles(project).toList()
+        })
+        
+        indicator?.text = "Parsing ${atomicFiles.size} .atomic files"
+        val skipped = ConcurrentLinkedQueue<String>()
+        val prepared = coroutineScope {
+            atomicFiles.map { file ->
+                async(Dispatchers.Default) {
+                    prepare(file).also { if (it == null) skipped.add(file.path) }
+                }
+            }.awaitAll().filterNotNull()
+        }
+        
+        val ids = AtomicIdRegistry.getInstance(project).idsFor(prepared.flatMap { AtomicGenerationService.declaredNames(it.model) })
+        
+        val autoGenerator = AtomicAutoGenerator.getInstance(project)
+        val generationService = AtomicGenerationService.getInstance(project)
+        val failed = ConcurrentLinkedQueue<String>()
+        val written = ConcurrentLinkedQueue<WrittenFile>()
+        val unchanged = AtomicInteger()
+        val processed = AtomicInteger()
+        val batchPermits = Semaphore(MAX_CONCURRENT_BATCHES)
+        
+        indicator?.text = "Generating ${prepared.size} .atomic files"
+        coroutineScope {
+            prepared.chunked(BATCH_SIZE).map { batch ->
+                launch(Dispatchers.IO) {
+                    val results = batchPermits.withPermit {
+                        indicator?.checkCanceled()
+                        generationService.generateApis(batch.map { it.toFileData(ids) })
+                    }
+                    
+                    for ((file, result) in batch.zip(results)) {
+                        val generatedCode = result.generatedCode
+                        if (generatedCode == null) {
+                            LOG.warn("AtomicBulkRegenerationService: Failed to generate ${file.virtualFile.path}: ${result.errorMessage}")
+                            failed.add(file.virtualFile.path)
+                            continue
+                        }
+                        
+                        val outputFile = autoGenerator.calculateOutputPath(file.virtualFile, file.config)
+                        if (outputFile == null) {
+                            failed.add(file.virtualFile.path)
+                            continue
+                        }
+                        
+                        // Outputs the backend applied to their documents are saved by the IDE, not written here
+                        if (autoGenerator.isOutputUnchanged(outputFile, generatedCode)) {
+                            unchanged.incrementAndGet()
+                        } else if (!result.outputUpdated) {
+                            try {
+                                outputFile.parentFile?.mkdirs()
+                                outputFile.writeText(generatedCode)
+                            } catch (e: Exception) {
+                                LOG.warn("AtomicBulkRegenerationService: Failed to write ${outputFile.absolutePath}", e)
+                                failed.add(file.virtualFile.path)
+                                continue
+                            }
+                        }
+                        written.add(WrittenFile(file, outputFile))
+                    }
+                    
+                    indicator?.fraction = processed.addAndGet(batch.size).toDouble() / prepared.size
+                }
+            }
+        }
+        
+        indicator?.text = "Refreshing generated files"
+        val outputs = written.toList()
+        val localFileSystem = LocalFileSystem.getInstance()
+        localFileSystem.refreshIoFiles(outputs.map { it.outputFile }, false, false, null)
+        
+        val fileTracker = GeneratedFileTracker.getInstance(project)
+        for (output in outputs) {
+            val generatedFile = localFileSystem.findFileByIoFile(output.outputFile) ?: continue
+            fileTracker.trackGeneratedFile(
+                output.prepared.virtualFile,
+                generatedFile,
+                output.prepared.config.directory,
+                output.prepared.config.className
+            )
+        }
+        
+        return Summary(
+            total = atomicFiles.size,
+            written = outputs.size - unchanged.get(),
+            unchanged = unchanged.get(),
+            skipped = skipped.toList(),
+            failed = failed.toList()
+        )
+    }
+    
+    private fun prepare(file: VirtualFile): PreparedFile? {
+        val atomicFile = ReadAction.nonBlocking<AtomicFile?> {
+            PsiManager.getInstance(project).findFile(file) as? AtomicFile
+        }.executeSynchronously() ?: return null
+        
+        if (AtomicFileValidator.getInstance(project).hasErrors(atomicFile)) {
+            return null
+        }
+        
+        return ReadAction.nonBlocking<PreparedFile?> {
+            val model = AtomicFileModel.of(atomicFile)
+            if (model.missingRequiredFields().isNotEmpty() || !model.hasTagsOrValues) {
+                null
+            } else {
+                PreparedFile(
+                    file,
+                    AtomicAutoGenerator.getInstance(project).configOf(model),
+                    model
+                )
+            }
+        }.inSmartMode(project).executeSynchronously()
+    }
+    
+    private fun PreparedFile.toFileData(ids: Map<String, Int>): AtomicFileData {
+        val names = AtomicGenerationService.declaredNames(model).toSet()
+        return AtomicGenerationService.toFileData(virtualFile.path, model, ids.filterKeys { it in names })
+    }
+}
@@ -23,6 +23,7 @@ class AtomicFileChangeAnalyzer(private val project: Project) {
             "entityType", 
             "aggressiveInlining",
             "unsafe",
+            "constIds",
             "namespace",
             "imports",
             "tags",
@@ -1,15 +1,12 @@
 package com.jetbrains.rider.plugins.atomic.services
 
-// Removed DaemonCodeAnalyzer import - not needed
-import com.intellij.lang.annotation.HighlightSeverity
 import com.intellij.openapi.application.ReadAction
 import com.intellij.openapi.components.Service
 import com.intellij.openapi.project.Project
-import com.intellij.psi.PsiFile
+import com.jetbrains.rider.plugins.atomic.language.AtomicTypeValidationBatch
+import com.jetbrains.rider.plugins.atomic.language.AtomicTypeValidationCache
 import com.jetbrains.rider.plugins.atomic.psi.*
-import com.jetbrains.rider.plugins.atomic.psi.impl.AtomicPsiImplUtil
 import com.intellij.openapi.diagnostic.Logger
-import kotlinx.coroutines.runBlocking
 
 @Service(Service.Level.PROJECT)
 class AtomicFileValidator(private val project: Project) {
@@ -22,212 +19,84 @@ class AtomicFileValidator(private val project: Project) {
         private val LOG = Logger.getInstance(AtomicFileValidator::class.java)
     }
     
+    /**
+     * Type errors are read from [AtomicTypeValidationCache]; a cache miss is treated as no type errors
+     * instead of waiting for the backend.
+     */
     fun hasErrors(atomicFile: AtomicFile): Boolean {
-        return ReadAction.compute<Boolean, Exception> {
-            val missingFields = checkRequiredFields(atomicFile)
-            if (missingFields.isNotEmpty()) {
-                LOG.info("AtomicFileValidator: Missing required fields: ${missingFields.joinToString(", ")}")
-                return@compute true
-            }
-            
-            if (hasTypeValidationErrors(atomicFile)) {
-                LOG.info("AtomicFileValidator: Type validation errors found")
-                return@compute true
-            }
-            
-            if (hasDuplicates(atomicFile)) {
-                LOG.info("AtomicFileValidator: Duplicate items found")
-                return@compute true
-            }
-            
-            
-            false
-        }
+        if (hasSyntaxErrors(atomicFile)) return true
+        
+        val (request, modificationStamp) = collectTypeValidationRequest(atomicFile)
+        val batch = if (request.typeNames.isEmpty()) null else AtomicTypeValidationCache.getCached(atomicFile, modificationStamp)
+        return reportTypeErrors(batch)
     }
     
     /**
-     * Get validation errors for the atomic file
+     * Like [hasErrors], but resolves a cache miss through the backend. Suspends instead of blocking
+     * and stops waiting when the calling coroutine is cancelled. Must not be called under a read action.
      */
-    fun getValidationErrors(atomicFile: AtomicFile): List<String> {
-        return ReadAction.compute<List<String>, Exception> {
-            val errors = mutableListOf<String>()
-            
-            val missingFields = checkRequiredFields(atomicFile)
-            if (missingFields.isNotEmpty()) {
-                errors.add("Missing required fields: ${missingFields.joinToString(", ")}")
-            }
-            
-            if (hasTypeValidationErrors(atomicFile)) {
-                errors.add("Type validation errors found")
-            }
-            
-            if (hasDuplicates(atomicFile)) {
-                errors.add("Duplicate items found in file")
-            }
-            
-            
-            errors
-        }
+    suspend fun hasErrorsResolvingTypes(atomicFile: AtomicFile): Boolean {
+        if (hasSyntaxErrors(atomicFile)) return true
+        
+        val (request, modificationStamp) = collectTypeValidationRequest(atomicFile)
+        val batch = if (request.typeNames.isEmpty()) null else AtomicTypeValidationCache.resolve(atomicFile, request, modificationStamp)
+        return reportTypeErrors(batch)
     }
     
-    private fun checkRequiredFields(atomicFile: AtomicFile): List<String> {
-        val missingFields = mutableListOf<String>()
-        val existingFields = mutableSetOf<String>()
-        
-        atomicFile.children.filterIsInstance<com.jetbrains.rider.plugins.atomic.psi.AtomicHeaderSection>().forEach { headerSection ->
-            headerSection.children.forEach { child ->
-                when (child) {
-                    is com.jetbrains.rider.plugins.atomic.psi.AtomicEntityTypeProp -> {
-                        existingFields.add("entityType")
-                        if (!hasValue(child)) missingFields.add("entityType")
-                    }
-                }
-            }
-        }
-        
-        fun checkElement(element: com.intellij.psi.PsiElement) {
-            element.children.forEach { child ->
-                when (child) {
-                    is com.jetbrains.rider.plugins.atomic.psi.AtomicNamespaceProp -> {
-                        existingFields.add("namespace")
-                        if (!hasValue(child)) missingFields.add("namespace")
-                    }
-                    is com.jetbrains.rider.plugins.atomic.psi.AtomicClassNameProp -> {
-                        existingFields.add("className")
-                        if (!hasValue(child)) missingFields.add("className")
-                    }
-                    is com.jetbrains.rider.plugins.atomic.psi.AtomicDirectoryProp -> {
-                        existingFields.add("directory")
-                        if (!hasValue(child)) missingFields.add("directory")
-                    }
-                    is com.jetbrains.rider.plugins.atomic.psi.AtomicSolutionProp -> {
-                        existingFields.add("solution")
-                        if (!hasValue(child)) missingFields.add("solution")
-                    }
-                }
-                checkElement(child)
-            }
-        }
-        checkElement(atomicFile)
+    /**
+     * Get validation errors for the atomic file
+     */
+    fun getValidationErrors(atomicFile: AtomicFile): List<String> {
+        val errors = ReadAction.compute<List<String>, Exception> { getSyntaxErrors(atomicFile) }.toMutableList()
         
-        val requiredFields = listOf("entityType", "namespace", "className", "directory")
-        requiredFields.forEach { field ->
-            if (!existingFields.contains(field)) {
-                missingFields.add(field)
-            }
+        val (request, modificationStamp) = collectTypeValidationRequest(atomicFile)
+        if (request.typeNames.isNotEmpty() && AtomicTypeValidationCache.getCached(atomicFile, modificationStamp)?.hasTypeErrors() == true) {
+            errors.add("Type validation errors found")
         }
         
-        return missingFields
+        return errors
     }
     
-    private fun hasValue(element: com.intellij.psi.PsiElement): Boolean {
-        val text = element.text
-        val colonIndex = text.indexOf(':')
-        if (colonIndex == -1) return false
+    private fun hasSyntaxErrors(atomicFile: AtomicFile): Boolean {
+        val syntaxErrors = ReadAction.compute<List<String>, Exception> { getSyntaxErrors(atomicFile) }
+        if (syntaxErrors.isEmpty()) return false
         
-        val value = text.substring(colonIndex + 1).trim()
-        return value.isNotEmpty()
+        LOG.info("AtomicFileValidator: ${syntaxErrors.joinToString("; ")}")
+        return true
     }
     
-    private fun hasNamespaceErrors(atomicFile: AtomicFile): Boolean {
-        return false
+    private fun reportTypeErrors(batch: AtomicTypeValidationBatch?): Boolean {
+        if (batch?.hasTypeErrors() != true) return false
+        
+        LOG.info("AtomicFileValidator: Type validation errors found")
+        return true
     }
     
-    private fun hasTypeValidationErrors(atomicFile: AtomicFile): Boolean {
-        val generationService = AtomicGenerationService.getInstance(project)
-        if (!generationService.isReady()) {
-            return false
-        }
+    private fun getSyntaxErrors(atomicFile: AtomicFile): List<String> {
+        val errors = mutableListOf<String>()
+        val model = AtomicFileModel.of(atomicFile)
         
-        val imports = atomicFile.children.filterIsInstance<AtomicImportsSection>().firstOrNull()?.let { importsSection ->
-            importsSection.importItemList.mapNotNull { importItem ->
-                importItem.node.findChildByType(AtomicTypes.IMPORT_PATH)?.text
-            }
-        } ?: emptyList()
-        
-        val valuesSection = atomicFile.children.filterIsInstance<AtomicValuesSection>().firstOrNull() ?: return false
+        val missingFields = model.missingRequiredFields()
+        if (missingFields.isNotEmpty()) {
+            errors.add("Missing required fields: ${missingFields.joinToString(", ")}")
+        }
         
-        for (valueItem in valuesSection.valueItemList) {
-            val typeReference = AtomicPsiImplUtil.getTypeReference(valueItem)
-            if (typeReference != null && typeReference.isNotBlank()) {
-                val primitiveTypes = setOf(
-                    "bool", "byte", "sbyte", "char", "decimal", "double", "float",
-                    "int", "uint", "long", "ulong", "short", "ushort", "string",
-                    "object", "void", "dynamic"
-                )
-                
-                val mainTypeName = extractMainTypeName(typeReference)
-                if (primitiveTypes.contains(mainTypeName)) {
-                    continue
-                }
-                
-                val validationResult = runBlocking {
-                    try {
-                        generationService.validateType(mainTypeName, imports, project.basePath ?: "")
-                    } catch (e: Exception) {
-                        null
-                    }
-                }
-                
-                if (validationResult != null) {
-                    if (!validationResult.isValid && !validationResult.isAmbiguous) {
-                        return true 
-                    }
-                    if (validationResult.isAmbiguous) {
-                        return true
-                    }
-                }
-            }
+        if (hasDuplicates(model)) {
+            errors.add("Duplicate items found in file")
         }
         
-        return false
+        return errors
     }
     
-    private fun extractMainTypeName(typeText: String): String {
-        val genericStart = typeText.indexOf('<')
-        val arrayStart = typeText.indexOf('[')
-        
-        val endIndex = when {
-            genericStart == -1 && arrayStart == -1 -> typeText.length
-            genericStart == -1 -> arrayStart
-            arrayStart == -1 -> genericStart
-            else -> minOf(genericStart, arrayStart)
+    private fun collectTypeValidationRequest(atomicFile: AtomicFile): Pair<AtomicTypeValidationBatch.Request, Long> {
+        return ReadAction.compute<Pair<AtomicTypeValidationBatch.Request, Long>, Exception> {
+            AtomicTypeValidationBatch.collect(atomicFile) to AtomicTypeValidationCache.modificationStamp(atomicFile)
         }
-        
-        return typeText.substring(0, endIndex).trim()
     }
     
-    private fun hasDuplicates(atomicFile: AtomicFile): Boolean {
-        val importsSection = atomicFile.children.filterIsInstance<AtomicImportsSection>().firstOrNull()
-        if (importsSection != null) {
-            val imports = importsSection.importItemList.mapNotNull { 
-                it.node.findChildByType(AtomicTypes.IMPORT_PATH)?.text 
-            }
-            if (imports.size != imports.toSet().size) {
-                return true
-            }
-        }
-        
-        val tagsSection = atomicFile.children.filterIsInstance<AtomicTagsSection>().firstOrNull()
-        if (tagsSection != null) {
-            val tags = tagsSection.tagItemList.mapNotNull { 
-                it.node.findChildByType(AtomicTypes.TAG_NAME)?.text 
-            }
-            if (tags.size != tags.toSet().size) {
-                return true
-            }
-        }
-        
-        val valuesSection = atomicFile.children.filterIsInstance<AtomicValuesSection>().firstOrNull()
-        if (valuesSection != null) {
-            val values = valuesSection.valueItemList.mapNotNull {
-                it.node.findChildByType(AtomicTypes.VALUE_NAME)?.text
-            }
-            if (values.size != values.toSet().size) {
-                return true
-            }
-        }
-        
-        return false
+    private fun hasDuplicates(model: AtomicFileModel): Boolean {
+        return model.imports.size != model.imports.toSet().size ||
+            model.tags.size != model.tags.toSet().size ||
+            model.values.size != model.values.map { it.name }.toSet().size
     }
 }
\ No newline at end of file
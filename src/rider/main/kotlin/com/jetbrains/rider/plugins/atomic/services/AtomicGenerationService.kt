@@ -8,7 +8,7 @@ import com.jetbrains.rdclient.util.idea.LifetimedProjectComponent
 import com.jetbrains.rider.projectView.solution
 import com.jetbrains.rider.plugins.atomic.model.*
 import com.jetbrains.rider.plugins.atomic.psi.*
-import com.jetbrains.rider.plugins.atomic.psi.impl.AtomicPsiImplUtil
+import com.jetbrains.rider.plugins.atomic.language.AtomicUsageCountCache
 import com.intellij.openapi.application.ReadAction
 import com.intellij.openapi.progress.ProcessCanceledException
 import com.jetbrains.rider.protocol.protocol
@@ -16,6 +16,7 @@ import com.intellij.codeInsight.daemon.DaemonCodeAnalyzer
 import com.jetbrains.rd.util.reactive.adviseEternal
 import com.jetbrains.rd.util.threading.coroutines.launch
 import kotlinx.coroutines.*
+import kotlinx.coroutines.channels.Channel
 import com.jetbrains.rd.util.reactive.valueOrDefault
 
 @Service(Service.Level.PROJECT)
@@ -26,12 +27,101 @@ class AtomicGenerationService(project: Project) : LifetimedProjectComponent(proj
         fun getInstance(project: Project): AtomicGenerationService {
             return project.getService(AtomicGenerationService::class.java)
         }
+        
+        fun toFileData(filePath: String, model: AtomicFileModel, ids: Map<String, Int> = emptyMap()): AtomicFileData {
+            return AtomicFileData(
+                headerProperties = model.headerProperties.map { HeaderProperty(it.key, it.value) }.toTypedArray(),
+                imports = model.imports.toTypedArray(),
+                tags = model.tags.toTypedArray(),
+                values = model.values.map { AtomicValueData(it.name, it.type) }.toTypedArray(),
+                filePath = filePath,
+                ids = ids.map { AtomicIdData(it.key, it.value) }.toTypedArray()
+            )
+        }
+        
+        fun declaredNames(model: AtomicFileModel): List<String> {
+            return model.tags + model.values.map { it.name }
+        }
+        
+        fun resolveGeneratedFilePath(atomicPath: String, directory: String?, className: String): String {
+            logger.info("[calculateGeneratedFilePath] atomicPath: $atomicPath")
+            logger.info("[calculateGeneratedFilePath] directory: '$directory'")
+            logger.info("[calculateGeneratedFilePath] className: $className")
+            
+            val outputFileName = "$className.cs"
+            
+            
+            return when {
+                !directory.isNullOrEmpty() -> {
+                    val cleanDir = directory.replace("./", "").replace(".\\", "").trim('/', '\\')
+                    
+                    logger.info("[calculateGeneratedFilePath] cleanDir: '$cleanDir'")
+                    
+                    
+                    if (java.io.File(directory).isAbsolute) {
+                        logger.info("[calculateGeneratedFilePath] Using absolute path")
+                        java.nio.file.Paths.get(directory, outputFileName).toString()
+                    } else if (cleanDir.isEmpty() || cleanDir == ".") {
+                        
+                        logger.info("[calculateGeneratedFilePath] Directory is current dir, using atomic file dir")
+                        val atomicFileDir = java.io.File(atomicPath).parent
+                        java.nio.file.Paths.get(atomicFileDir, outputFileName).toString()
+                    } else if (cleanDir.startsWith("Assets", ignoreCase = true)) {
+                        
+                        logger.info("[calculateGeneratedFilePath] Directory starts with Assets, finding Unity root")
+                        val atomicFileDir = java.io.File(atomicPath).parent
+                        
+                        
+                        if (atomicFileDir.endsWith(cleanDir.replace('\\', java.io.File.separatorChar).replace('/', java.io.File.separatorChar))) {
+                            logger.info("[calculateGeneratedFilePath] Atomic file is already in the target directory")
+                            return java.nio.file.Paths.get(atomicFileDir, outputFileName).toString()
+                        }
+                        
+                        
+                        var currentDir = java.io.File(atomicFileDir)
+                        while (currentDir != null) {
+                            val assetsDir = java.io.File(currentDir, "Assets")
+                            if (assetsDir.exists() && assetsDir.isDirectory) {
+                                
+                                logger.info("[calculateGeneratedFilePath] Found Unity root at: ${currentDir.absolutePath}")
+                                return java.nio.file.Paths.get(currentDir.absolutePath, cleanDir, outputFileName).toString()
+                            }
+                            currentDir = currentDir.parentFile
+                        }
+                        
+                        
+                        logger.warn("[calculateGeneratedFilePath] Unity root not found, using relative path")
+                        java.nio.file.Paths.get(atomicFileDir, cleanDir, outputFileName).toString()
+                    } else {
+                        
+                        logger.info("[calculateGeneratedFilePath] Using relative path")
+                        val atomicFileDir = java.io.File(atomicPath).parent
+                        java.nio.file.Paths.get(atomicFileDir, cleanDir, outputFileName).toString()
+                    }
+                }
+                else -> {
+                    
+                    val atomicFileDir = java.io.File(atomicPath).parent
+                    java.nio.file.Paths.get(atomicFileDir, outputFileName).toString()
+                }
+            }
+        }
     }
     
     private val model = project.solution.atomicGenerationModel
+    @Volatile
     private var isBackendReady = false
     private val readinessCallbacks = mutableListOf<() -> Unit>()
-    private val pendingFiles = mutableSetOf<PsiFile>()
+    private val pendingFiles = java.util.concurrent.ConcurrentHashMap.newKeySet<PsiFile>()
+    private val typeCompletionCache = TypeCompletionCache()
+    private val nextUsageSearchId = java.util.concurrent.atomic.AtomicInteger()
+    private val usageSearches = java.util.concurrent.ConcurrentHashMap<Int, Channel<Array<MethodUsageLocation>>>()
+    @Volatile
+    var typeIndexVersion = 0L
+        private set
+    @Volatile
+    var usageIndexVersion = 0L
+        private set
     
     init {
         project.protocol.scheduler.invokeOrQueue {
@@ -39,74 +129,80 @@ class AtomicGenerationService(project: Project) : LifetimedProjectComponent(proj
                 logger.info("Generation status: $status")
             }
             
-            project.solution.isLoaded.advise(componentLifetime) { isLoaded ->
-                if (isLoaded) {
-                    GlobalScope.launch {
-                        delay(1000)
-                        checkBackendReadiness()
-                    }
+            model.typeIndexChanged.advise(componentLifetime) { version ->
+                logger.debug("Type index changed ($version), clearing completion cache")
+                typeIndexVersion = version
+                typeCompletionCache.clear()
+            }
+            
+            model.usageIndexChanged.advise(componentLifetime) { version ->
+                usageIndexVersion = version
+                AtomicUsageCountCache.refreshOpenFiles(project)
+            }
+            
+            // Advised once, so a search never waits for the protocol thread; batches are routed by search ID
+            model.usagesFound.advise(componentLifetime) { batch ->
+                usageSearches[batch.searchId]?.trySend(batch.usages)
+            }
+            
+            model.backendReady.advise(componentLifetime) { isReady ->
+                if (isReady && !isBackendReady) {
+                    onBackendReady()
                 }
             }
         }
     }
     
-    private suspend fun checkBackendReadiness() {
-        try {
-            val testResponse = validateType("string", emptyList(), project.basePath ?: "")
-            if (testResponse != null) {
-                isBackendReady = true
-                logger.info("Backend is ready")
-                
-                withContext(Dispatchers.Main) {
-                    readinessCallbacks.forEach { it.invoke() }
-                    readinessCallbacks.clear()
-                    
-                    
-                    pendingFiles.forEach { file ->
-                        if (file.isValid) {
-                            DaemonCodeAnalyzer.getInstance(project).restart(file)
-                        }
-                    }
-                    pendingFiles.clear()
-                }
-            }
-        } catch (e: Exception) {
-            logger.warn("Backend not ready yet: ${e.message}")
-            
-            GlobalScope.launch {
-                delay(2000)
-                checkBackendReadiness()
+    private fun onBackendReady() {
+        val callbacks = synchronized(readinessCallbacks) {
+            isBackendReady = true
+            readinessCallbacks.toList().also { readinessCallbacks.clear() }
+        }
+        logger.info("Backend is ready")
+        
+        callbacks.forEach { it.invoke() }
+        
+        
+        pendingFiles.forEach { file ->
+            if (file.isValid) {
+                DaemonCodeAnalyzer.getInstance(project).restart(file)
             }
         }
+        pendingFiles.clear()
     }
     
     fun isReady(): Boolean = isBackendReady
     
     fun whenReady(callback: () -> Unit) {
-        if (isBackendReady) {
-            callback.invoke()
-        } else {
-            readinessCallbacks.add(callback)
+        synchronized(readinessCallbacks) {
+            if (!isBackendReady) {
+                readinessCallbacks.add(callback)
+                return
+            }
         }
+        callback.invoke()
     }
     
     fun registerFileForReAnnotation(file: PsiFile) {
-        if (!isBackendReady && file !in pendingFiles) {
+        if (!isBackendReady) {
             pendingFiles.add(file)
         }
     }
 
-    suspend fun generateApi(atomicFile: AtomicFile): String? {
+    /**
+     * The backend applies the code to the output itself when [GenerationResult.outputUpdated] is set.
+     */
+    suspend fun generateApi(atomicFile: AtomicFile): GenerationResult {
         return try {
             val fileData = parseAtomicFile(atomicFile)
             
             logger.info("Sending generation request for: ${fileData.filePath}")
             logger.info("Parsed file data - Headers: ${fileData.headerProperties.size}, Values: ${fileData.values.size}")
             
-            val generatedCode = model.generateApi.startSuspending(componentLifetime, fileData)
+            val result = model.generateApi.startSuspending(componentLifetime, fileData)
             
             logger.info("Generation completed successfully")
-            generatedCode
+            result
         } catch (e: Exception) {
             logger.error("Failed to generate API: ${e.message}", e)
             logger.error("Stack trace:", e)
@@ -114,7 +210,22 @@ class AtomicGenerationService(project: Project) : LifetimedProjectComponent(proj
         }
     }
     
+    suspend fun generateApis(files: List<AtomicFileData>): List<GenerationResult> {
+        return try {
+            logger.info("Sending bulk generation request for ${files.size} files")
+            model.generateApis.startSuspending(componentLifetime, files.toTypedArray()).toList()
+        } catch (e: kotlinx.coroutines.CancellationException) {
+            throw e
+        } catch (e: Exception) {
+            logger.error("Failed to generate APIs: ${e.message}", e)
+            files.map { GenerationResult(it.filePath, null, e.message, false) }
+        }
+    }
+    
     suspend fun getTypeCompletions(prefix: String, imports: List<String>, projectPath: String, namespaceFilter: String? = null): List<TypeCompletionItem> {
+        val cacheKey = typeCompletionCache.key(projectPath, imports, namespaceFilter, prefix)
+        typeCompletionCache.get(cacheKey)?.let { return it }
+        
         return try {
             val request = TypeCompletionRequest(
                 prefix = prefix,
@@ -124,7 +235,9 @@ class AtomicGenerationService(project: Project) : LifetimedProjectComponent(proj
             )
             
             val response = model.getTypeCompletions.startSuspending(componentLifetime, request)
-            response.items.toList()
+            val items = response.items.toList()
+            typeCompletionCache.put(cacheKey, items, response.isComplete)
+            items
         } catch (e: kotlinx.coroutines.TimeoutCancellationException) {
             emptyList()
         } catch (e: kotlinx.coroutines.CancellationException) {
@@ -157,6 +270,8 @@ class AtomicGenerationService(project: Project) : LifetimedProjectComponent(proj
     suspend fun getAvailableProjects(): List<String> {
         return try {
             model.getAvailableProjects.startSuspending(componentLifetime, Unit).toList()
+        } catch (e: kotlinx.coroutines.CancellationException) {
+            throw e
         } catch (e: Exception) {
             logger.error("Failed to get available projects", e)
             emptyList()
@@ -199,84 +314,52 @@ class AtomicGenerationService(project: Project) : LifetimedProjectComponent(proj
             null
         }
     }
+
+    suspend fun validateTypes(typeNames: List<String>, namespaces: List<String>, imports: List<String>, projectPath: String): TypeValidationBatchResponse? {
+        return try {
+            val request = TypeValidationBatchRequest(
+                typeNames = typeNames.toTypedArray(),
+                namespaces = namespaces.toTypedArray(),
+                imports = imports.toTypedArray(),
+                projectPath = projectPath
+            )
+
+            model.validateTypes.startSuspending(componentLifetime, request)
+        } catch (e: kotlinx.coroutines.TimeoutCancellationException) {
+            null
+        } catch (e: kotlinx.coroutines.CancellationException) {
+            throw e
+        } catch (e: Exception) {
+            logger.error("Failed to validate types", e)
+            null
+        }
+    }
+
+    /**
+     * Usage counts of generated methods from the backend usage index, or null if the backend did not answer.
+     */
+    suspend fun getUsageCounts(methodNames: List<String>): Map<String, Int>? {
+        return try {
+            model.getUsageCounts.startSuspending(componentLifetime, methodNames.toTypedArray())
+                .associate { it.methodName to it.count }
+        } catch (e: kotlinx.coroutines.CancellationException) {
+            throw e
+        } catch (e: Exception) {
+            logger.error("Failed to get usage counts", e)
+            null
+        }
+    }
     
+    fun requestUsageCounts(methodNames: List<String>, onCounts: (Map<String, Int>) -> Unit) {
+        componentLifetime.launch(Dispatchers.Default) {
+            getUsageCounts(methodNames)?.let(onCounts)
+        }
+    }
+
     fun calculateGeneratedFilePath(atomicFile: AtomicFile): String? {
         return try {
-            val fileData = parseAtomicFile(atomicFile)
-            val atomicPath = atomicFile.virtualFile.path
-            
-            
-            var className = "AtomicAPIExtensions"
-            var directory: String? = null
-            
-            fileData.headerProperties.forEach { prop ->
-                when (prop.key) {
-                    "className" -> className = prop.value
-                    "directory" -> directory = prop.value
-                }
-            }
-            
-            logger.info("[calculateGeneratedFilePath] atomicPath: $atomicPath")
-            logger.info("[calculateGeneratedFilePath] directory: '$directory'")
-            logger.info("[calculateGeneratedFilePath] className: $className")
-            
-            val outputFileName = "$className.cs"
-            
-            
-            when {
-                !directory.isNullOrEmpty() -> {
-                    val cleanDir = directory!!.replace("./", "").replace(".\\", "").trim('/', '\\')
-                    
-                    logger.info("[calculateGeneratedFilePath] cleanDir: '$cleanDir'")
-                    
-                    
-                    if (java.io.File(directory).isAbsolute) {
-                        logger.info("[calculateGeneratedFilePath] Using absolute path")
-                        java.nio.file.Paths.get(directory, outputFileName).toString()
-                    } else if (cleanDir.isEmpty() || cleanDir == ".") {
-                        
-                        logger.info("[calculateGeneratedFilePath] Directory is current dir, using atomic file dir")
-                        val atomicFileDir = java.io.File(atomicPath).parent
-                        java.nio.file.Paths.get(atomicFileDir, outputFileName).toString()
-                    } else if (cleanDir.startsWith("Assets", ignoreCase = true)) {
-                        
-                        logger.info("[calculateGeneratedFilePath] Directory starts with Assets, finding Unity root")
-                        val atomicFileDir = java.io.File(atomicPath).parent
-                        
-                        
-                        if (atomicFileDir.endsWith(cleanDir.replace('\\', java.io.File.separatorChar).replace('/', java.io.File.separatorChar))) {
-                            logger.info("[calculateGeneratedFilePath] Atomic file is already in the target directory")
-                            return java.nio.file.Paths.get(atomicFileDir, outputFileName).toString()
-                        }
-                        
-                        
-                        var currentDir = java.io.File(atomicFileDir)
-                        while (currentDir != null) {
-                            val assetsDir = java.io.File(currentDir, "Assets")
-                            if (assetsDir.exists() && assetsDir.isDirectory) {
-                                
-                                logger.info("[calculateGeneratedFilePath] Found Unity root at: ${currentDir.absolutePath}")
-                                return java.nio.file.Paths.get(currentDir.absolutePath, cleanDir, outputFileName).toString()
-                            }
-                            currentDir = currentDir.parentFile
-                        }
-                        
-                        
-                        logger.warn("[calculateGeneratedFilePath] Unity root not found, using relative path")
-                        java.nio.file.Paths.get(atomicFileDir, cleanDir, outputFileName).toString()
-                    } else {
-                        
-                        logger.info("[calculateGeneratedFilePath] Using relative path")
-                        val atomicFileDir = java.io.File(atomicPath).parent
-                        java.nio.file.Paths.get(atomicFileDir, cleanDir, outputFileName).toString()
-                    }
-                }
-                else -> {
-                    
-                    val atomicFileDir = java.io.File(atomicPath).parent
-                    java.nio.file.Paths.get(atomicFileDir, outputFileName).toString()
-                }
-            }
+            val model = ReadAction.compute<AtomicFileModel, Exception> { AtomicFileModel.of(atomicFile) }
+            resolveGeneratedFilePath(atomicFile.virtualFile.path, model.directory, model.className)
         } catch (e: ProcessCanceledException) {
             
             throw e
@@ -320,6 +403,66 @@ class AtomicGenerationService(project: Project) : LifetimedProjectComponent(proj
         }
     }
     
+    /**
+     * Streams usages of the generated methods of a value or tag to [processor] as the backend finds them.
+     * Returning false from [processor] cancels the backend search. Safe to call under a read action:
+     * batches arrive on the wire thread and nothing here waits for the EDT.
+     */
+    suspend fun searchGeneratedUsages(
+        entityName: String,
+        isTag: Boolean,
+        methodNames: List<String>,
+        projectPath: String,
+        generatedFilePath: String,
+        processor: (MethodUsageLocation) -> Boolean
+    ) {
+        val request = UsageSearchRequest(
+            searchId = nextUsageSearchId.incrementAndGet(),
+            entityName = entityName,
+            isTag = isTag,
+            methodNames = methodNames.toTypedArray(),
+            projectPath = projectPath,
+            generatedFilePath = generatedFilePath
+        )
+        if (!isBackendReady) {
+            logger.warn("Backend is not ready, skipping usage search of $entityName")
+            return
+        }
+        
+        val batches = Channel<Array<MethodUsageLocation>>(Channel.UNLIMITED)
+        val searchLifetime = componentLifetime.createNested()
+        
+        try {
+            // The first batch can arrive right after the call starts, so the channel is registered before it
+            usageSearches[request.searchId] = batches
+            
+            coroutineScope {
+                val search = async { model.searchUsages.startSuspending(searchLifetime, request) }
+                search.invokeOnCompletion { batches.close() }
+                
+                for (batch in batches) {
+                    for (usage in batch) {
+                        if (!processor(usage)) {
+                            logger.info("Usage search #${request.searchId} stopped by the consumer")
+                            search.cancel()
+                            return@coroutineScope
+                        }
+                    }
+                }
+                logger.info("Usage search #${request.searchId} found ${search.await()} usages of $entityName")
+            }
+        } catch (e: ProcessCanceledException) {
+            throw e
+        } catch (e: CancellationException) {
+            throw e
+        } catch (e: Exception) {
+            logger.error("Failed to search usages of $entityName", e)
+        } finally {
+            usageSearches.remove(request.searchId)
+            searchLifetime.terminate()
+        }
+    }
+    
 
     suspend fun renameValue(atomicFilePath: String, oldName: String, newName: String, projectPath: String): RenameResponse {
         return try {
@@ -436,146 +579,14 @@ class AtomicGenerationService(project: Project) : LifetimedProjectComponent(proj
     private fun parseAtomicFile(atomicFile: AtomicFile): AtomicFileData {
         val filePath = atomicFile.virtualFile.path
         
-        return ReadAction.compute<AtomicFileData, Exception> {
-            logger.info("Parsing atomic file, text preview: ${atomicFile.text.take(200)}...")
-            val headerProperties = mutableListOf<HeaderProperty>()
-            val imports = mutableListOf<String>()
-            val tags = mutableListOf<String>()
-            val values = mutableListOf<AtomicValueData>()
-        
-        
-        atomicFile.children.filterIsInstance<AtomicHeaderSection>().forEach { headerSection ->
-            logger.info("Header section found, children count: ${headerSection.children.size}")
-            headerSection.children.forEach { child ->
-                logger.info("Header child: ${child.javaClass.simpleName} - ${child.text}")
-            }
-            
-            
-            headerSection.entityTypePropList.firstOrNull()?.let { prop ->
-                val value = AtomicPsiImplUtil.getValue(prop)
-                if (value != null) headerProperties.add(HeaderProperty("entityType", value))
-            }
-            headerSection.aggressiveInliningPropList.firstOrNull()?.let { prop ->
-                val value = AtomicPsiImplUtil.getBooleanValue(prop)
-                headerProperties.add(HeaderProperty("aggressiveInlining", value.toString()))
-            }
-            headerSection.unsafePropList.firstOrNull()?.let { prop ->
-                val value = AtomicPsiImplUtil.getBooleanValue(prop)
-                headerProperties.add(HeaderProperty("unsafe", value.toString()))
-            }
-            headerSection.namespacePropList.firstOrNull()?.let { prop ->
-                val value = AtomicPsiImplUtil.getValue(prop)
-                if (value != null) headerProperties.add(HeaderProperty("namespace", value))
-            }
-            headerSection.classNamePropList.firstOrNull()?.let { prop ->
-                val value = AtomicPsiImplUtil.getValue(prop)
-                if (value != null) headerProperties.add(HeaderProperty("className", value))
-            }
-            logger.info("directoryPropList size: ${headerSection.directoryPropList.size}")
-            headerSection.directoryPropList.firstOrNull()?.let { prop ->
-                logger.info("DirectoryProp found, node text: '${prop.node.text}'")
-                val value = AtomicPsiImplUtil.getValue(prop)
-                logger.info("Directory value: '$value'")
-                if (value != null) headerProperties.add(HeaderProperty("directory", value))
-            }
-            headerSection.solutionPropList.firstOrNull()?.let { prop ->
-                val value = AtomicPsiImplUtil.getValue(prop)
-                if (value != null) headerProperties.add(HeaderProperty("solution", value))
-            }
+        val model = ReadAction.compute<AtomicFileModel, Exception> {
+            AtomicFileModel.of(atomicFile)
         }
+        logger.info("Parsed header properties: ${model.headerProperties.map { "${it.key}='${it.value}'" }.joinToString(", ")}")
+        logger.info("Parsed imports: ${model.imports.joinToString(", ")}, tags: ${model.tags.size}, values: ${model.values.size}")
         
-        
-        atomicFile.children.forEach { child ->
-            when (child) {
-                is AtomicNamespaceProp -> {
-                    if (!headerProperties.any { it.key == "namespace" }) {
-                        val value = AtomicPsiImplUtil.getValue(child)
-                        if (value != null) headerProperties.add(HeaderProperty("namespace", value))
-                    }
-                }
-                is AtomicAggressiveInliningProp -> {
-                    if (!headerProperties.any { it.key == "aggressiveInlining" }) {
-                        val value = AtomicPsiImplUtil.getBooleanValue(child)
-                        headerProperties.add(HeaderProperty("aggressiveInlining", value.toString()))
-                    }
-                }
-                is AtomicUnsafeProp -> {
-                    if (!headerProperties.any { it.key == "unsafe" }) {
-                        val value = AtomicPsiImplUtil.getBooleanValue(child)
-                        headerProperties.add(HeaderProperty("unsafe", value.toString()))
-                    }
-                }
-                is AtomicClassNameProp -> {
-                    if (!headerProperties.any { it.key == "className" }) {
-                        val value = AtomicPsiImplUtil.getValue(child)
-                        if (value != null) headerProperties.add(HeaderProperty("className", value))
-                    }
-                }
-                is AtomicDirectoryProp -> {
-                    if (!headerProperties.any { it.key == "directory" }) {
-                        val value = AtomicPsiImplUtil.getValue(child)
-                        if (value != null) headerProperties.add(HeaderProperty("directory", value))
-                    }
-                }
-                is AtomicSolutionProp -> {
-                    if (!headerProperties.any { it.key == "solution" }) {
-                        val value = AtomicPsiImplUtil.getValue(child)
-                        if (value != null) headerProperties.add(HeaderProperty("solution", value))
-                    }
-                }
-                is AtomicEntityTypeProp -> {
-                    if (!headerProperties.any { it.key == "entityType" }) {
-                        val value = AtomicPsiImplUtil.getValue(child)
-                        if (value != null) headerProperties.add(HeaderProperty("entityType", value))
-                    }
-                }
-            }
-        }
-        
-        
-        atomicFile.children.filterIsInstance<AtomicImportsSection>().forEach { importsSection ->
-            importsSection.importItemList.forEach { import ->
-                val importPath = import.node.findChildByType(AtomicTypes.IMPORT_PATH)?.text
-                if (importPath != null) {
-                    imports.add(importPath)
-                }
-            }
-        }
-        
-        
-        atomicFile.children.filterIsInstance<AtomicTagsSection>().forEach { tagsSection ->
-            tagsSection.tagItemList.forEach { tag ->
-                val tagName = tag.node.findChildByType(AtomicTypes.TAG_NAME)?.text
-                if (tagName != null) {
-                    tags.add(tagName)
-                }
-            }
-        }
-        
-        
-        atomicFile.children.filterIsInstance<AtomicValuesSection>().forEach { valuesSection ->
-            valuesSection.valueItemList.forEach { value ->
-                val name = value.node.findChildByType(AtomicTypes.VALUE_NAME)?.text
-                val type = AtomicPsiImplUtil.getTypeReference(value)
-                if (name != null && type != null) {
-                    logger.info("Parsed value: name='$name', type='$type'")
-                    values.add(AtomicValueData(name, type))
-                }
-            }
-        }
-        
-            logger.info("Parsed header properties: ${headerProperties.map { "${it.key}='${it.value}'" }.joinToString(", ")}")
-            logger.info("Parsed imports: ${imports.joinToString(", ")}")
-            logger.info("Parsed tags: ${tags.joinToString(", ")}")
-            logger.info("Parsed values: ${values.map { "${it.name}: ${it.type}" }.joinToString(", ")}")
-            AtomicFileData(
-                headerProperties = headerProperties.toTypedArray(),
-                imports = imports.toTypedArray(),
-                tags = tags.toTypedArray(),
-                values = values.toTypedArray(),
-                filePath = filePath
-            )
-        }
+        val ids = AtomicIdRegistry.getInstance(project).idsFor(declaredNames(model))
+        return toFileData(filePath, model, ids)
     }
     
     suspend fun addAtomicFileToProject(atomicFilePath: String): Boolean {
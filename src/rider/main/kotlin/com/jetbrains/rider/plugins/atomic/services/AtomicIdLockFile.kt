@@ -0,0 +1,94 @@
+package com.jetbrains.rider.plugins.atomic.services
+
+import java.io.File
+
+/**
+ * Dense tag and value IDs persisted in `atomic-ids.lock` next to the solution.
+ * A name keeps its ID once allocated, and IDs of removed names are never handed out again.
+ */
+class AtomicIdLockFile private constructor(private val ids: Map<String, Int>) {
+    
+    companion object {
+        const val FILE_NAME = "atomic-ids.lock"
+        
+        private val HEADER = listOf(
+            "# Dense tag and value IDs allocated by the Atomic plugin. Commit this file.",
+            "# IDs are never reused: a removed name keeps its ID reserved."
+        )
+        
+        val EMPTY = AtomicIdLockFile(emptyMap())
+        
+        fun read(file: File): AtomicIdLockFile {
+            val ids = LinkedHashMap<String, Int>()
+            val usedIds = HashSet<Int>()
+            
+            file.readLines().forEachIndexed { index, rawLine ->
+                val line = rawLine.trim()
+                if (line.isEmpty() || line.startsWith("#")) return@forEachIndexed
+                
+                val name = line.substringBefore('=', "").trim()
+                val id = line.substringAfter('=', "").trim().toIntOrNull()
+                if (name.isEmpty() || id == null || id < 0) {
+                    throw IllegalStateException("${file.name}:${index + 1}: expected 'Name=Id', got '$rawLine'")
+                }
+                if (ids.put(name, id) != null) {
+                    throw IllegalStateException("${file.name}:${index + 1}: duplicate name '$name'")
+                }
+                if (!usedIds.add(id)) {
+                    throw IllegalStateException("${file.name}:${index + 1}: ID $id is allocated twice")
+                }
+            }
+            
+            return AtomicIdLockFile(ids)
+        }
+        
+        /**
+         * The ID used without a lock file, port of the backend's `HashCodeGenerator`.
+         * Int overflow matches the C# `unchecked` arithmetic.
+         */
+        fun hashId(name: String): Int {
+            var hash = 17
+            for (c in name) {
+                hash = hash * 31 + c.code
+            }
+            return hash
+        }
+    }
+    
+    val names: Set<String> get() = ids.keys
+    
+    operator fun get(name: String): Int? = ids[name]
+    
+    /**
+     * Gives the next free IDs to the [names] that have none, in iteration order.
+     */
+    fun allocate(names: Iterable<String>): AtomicIdLockFile {
+        val missing = names.filter { it !in ids }.distinct()
+        if (missing.isEmpty()) return this
+        
+        val allocated = LinkedHashMap(ids)
+        var nextId = (ids.values.maxOrNull() ?: -1) + 1
+        for (name in missing) {
+            allocated[name] = nextId++
+        }
+        return AtomicIdLockFile(allocated)
+    }
+    
+    /**
+     * Moves the ID of [oldName] to [newName] so a renamed tag or value keeps its slot.
+     */
+    fun rename(oldName: String, newName: String): AtomicIdLockFile {
+        if (oldName !in ids || newName in ids) return this
+        
+        val renamed = LinkedHashMap<String, Int>()
+        for ((name, existingId) in ids) {
+            renamed[if (name == oldName) newName else name] = existingId
+        }
+        return AtomicIdLockFile(renamed)
+    }
+    
+    fun write(file: File) {
+        val lines = HEADER + ids.entries.sortedBy { it.value }.map { "${it.key}=${it.value}" }
+        file.writeText(lines.joinToString("\n", postfix = "\n"))
+    }
+}
@@ -0,0 +1,218 @@
+package com.jetbrains.rider.plugins.atomic.services
+
+import com.intellij.openapi.application.ReadAction
+import com.intellij.openapi.components.Service
+import com.intellij.openapi.diagnostic.Logger
+import com.intellij.openapi.project.DumbService
+import com.intellij.openapi.project.Project
+import com.intellij.openapi.util.Computable
+import com.intellij.openapi.util.Key
+import com.intellij.openapi.util.ModificationTracker
+import com.intellij.openapi.util.SimpleModificationTracker
+import com.intellij.openapi.util.io.FileUtil
+import com.intellij.openapi.vfs.LocalFileSystem
+import com.intellij.openapi.vfs.VirtualFile
+import com.intellij.psi.search.GlobalSearchScope
+import com.intellij.psi.util.CachedValue
+import com.intellij.psi.util.CachedValueProvider
+import com.intellij.psi.util.CachedValuesManager
+import com.intellij.util.indexing.FileBasedIndex
+import com.jetbrains.rider.plugins.atomic.index.AtomicNameIndex
+import java.io.File
+
+/**
+ * Solution-wide registry of tag and value names. Declarations come from [AtomicNameIndex],
+ * dense IDs from the solution's [AtomicIdLockFile]; without a lock file generation keeps hash IDs.
+ * The lock file is read once and again only after a VFS event reports a change to it.
+ */
+@Service(Service.Level.PROJECT)
+class AtomicIdRegistry(private val project: Project) {
+    
+    companion object {
+        fun getInstance(project: Project): AtomicIdRegistry {
+            return project.getService(AtomicIdRegistry::class.java)
+        }
+        
+        private val LOG = Logger.getInstance(AtomicIdRegistry::class.java)
+        private val DECLARATIONS_KEY = Key.create<CachedValue<Declarations>>("atomic.id.registry.declarations")
+        private val RETIRED_NAMES_KEY = Key.create<CachedValue<List<String>>>("atomic.id.registry.retiredNames")
+    }
+    
+    private class Declarations(
+        val names: Set<String>,
+        val hashCollisions: Map<Int, List<String>>
+    )
+    
+    // Null until the lock file is read; a missing file is cached as a null lock file, a malformed one as its error
+    private class LockFileState(val lockFile: AtomicIdLockFile?, val error: IllegalStateException? = null) {
+        fun get(): AtomicIdLockFile? = error?.let { throw it } ?: lockFile
+    }
+    
+    @Volatile
+    private var lockFileState: LockFileState? = null
+    private val lockFileTracker = SimpleModificationTracker()
+    private val declarationsTracker = ModificationTracker {
+        FileBasedIndex.getInstance().getIndexModificationStamp(AtomicNameIndex.NAME, project)
+    }
+    
+    fun lockFilePath(): File? = project.basePath?.let { File(it, AtomicIdLockFile.FILE_NAME) }
+    
+    val isEnabled: Boolean
+        get() = current() != null
+    
+    /**
+     * The allocated IDs, or null when the solution has no lock file.
+     * Throws [IllegalStateException] while the lock file is malformed.
+     */
+    fun current(): AtomicIdLockFile? {
+        lockFileState?.let { return it.get() }
+        
+        synchronized(this) {
+            lockFileState?.let { return it.get() }
+            val file = lockFilePath()?.takeIf { it.isFile }
+            val state = try {
+                LockFileState(file?.let { AtomicIdLockFile.read(it) })
+            } catch (e: IllegalStateException) {
+                LockFileState(null, e)
+            }
+            lockFileState = state
+            return state.get()
+        }
+    }
+    
+    /**
+     * Whether [path] is the solution's lock file, in the system-independent form used by VFS events.
+     */
+    fun isLockFile(path: String): Boolean {
+        val lockFilePath = lockFilePath() ?: return false
+        return FileUtil.pathsEqual(FileUtil.toSystemIndependentName(lockFilePath.path), path)
+    }
+    
+    /**
+     * Drops the cached lock file after it was created, changed or deleted outside of [save].
+     */
+    fun lockFileChanged() {
+        synchronized(this) {
+            lockFileState = null
+        }
+        lockFileTracker.incModificationCount()
+    }
+    
+    /**
+     * IDs for [names], allocating and persisting the missing ones. Empty when the solution has no lock file.
+     */
+    @Synchronized
+    fun idsFor(names: Collection<String>): Map<String, Int> {
+        val lockFile = current() ?: return emptyMap()
+        val allocated = lockFile.allocate(names)
+        if (allocated !== lockFile) {
+            save(allocated)
+        }
+        return names.associateWith { allocated[it]!! }
+    }
+    
+    /**
+     * Creates the lock file, or extends an existing one, with IDs for every declared name.
+     * Must not be called from a read action: the index is read before the registry is locked.
+     */
+    fun allocateAll(): AtomicIdLockFile {
+        val declaredNames = DumbService.getInstance(project).runReadActionInSmartMode(Computable {
+            declarations().names.sorted()
+        })
+        
+        synchronized(this) {
+            val current = current()
+            val lockFile = current ?: AtomicIdLockFile.EMPTY
+            val allocated = lockFile.allocate(declaredNames)
+            if (allocated !== lockFile || current == null) {
+                save(allocated)
+            }
+            return allocated
+        }
+    }
+    
+    /**
+     * Moves the ID of a tag or value renamed in [renamedIn] to its new name,
+     * unless another .atomic file still declares the old one.
+     */
+    fun rename(oldName: String, newName: String, renamedIn: VirtualFile): Boolean {
+        if (!isEnabled || DumbService.isDumb(project)) return false
+        
+        val stillDeclared = ReadAction.compute<Boolean, RuntimeException> {
+            declaringFiles(oldName).any { it != renamedIn }
+        }
+        if (stillDeclared) return false
+        
+        synchronized(this) {
+            val lockFile = current() ?: return false
+            val renamed = lockFile.rename(oldName, newName)
+            if (renamed === lockFile) return false
+            
+            save(renamed)
+            LOG.info("AtomicIdRegistry: Moved ID ${renamed[newName]} from '$oldName' to '$newName'")
+            return true
+        }
+    }
+    
+    /**
+     * .atomic files declaring [name] as a tag or value. Requires a read action and smart mode.
+     */
+    fun declaringFiles(name: String): Set<VirtualFile> {
+        val index = FileBasedIndex.getInstance()
+        val scope = GlobalSearchScope.projectScope(project)
+        return index.getContainingFiles(AtomicNameIndex.NAME, AtomicNameIndex.tagKey(name), scope) +
+            index.getContainingFiles(AtomicNameIndex.NAME, AtomicNameIndex.valueKey(name), scope)
+    }
+    
+    /**
+     * Names with an allocated ID that no .atomic file declares anymore. Requires a read action and smart mode.
+     */
+    fun retiredNames(): List<String> {
+        return CachedValuesManager.getManager(project).getCachedValue(project, RETIRED_NAMES_KEY, {
+            val declaredNames = declarations().names
+            val retiredNames = current()?.names?.filter { it !in declaredNames } ?: emptyList()
+            CachedValueProvider.Result.create(retiredNames, declarationsTracker, lockFileTracker)
+        }, false)
+    }
+    
+    /**
+     * Other declared names whose hash ID equals the hash ID of [name]. Requires a read action and smart mode.
+     */
+    fun hashCollisions(name: String): List<String> {
+        val sameHash = declarations().hashCollisions[AtomicIdLockFile.hashId(name)] ?: return emptyList()
+        return sameHash.filter { it != name }
+    }
+    
+    private fun declarations(): Declarations {
+        return CachedValuesManager.getManager(project).getCachedValue(project, DECLARATIONS_KEY, {
+            CachedValueProvider.Result.create(collectDeclarations(), declarationsTracker)
+        }, false)
+    }
+    
+    private fun collectDeclarations(): Declarations {
+        val index = FileBasedIndex.getInstance()
+        val scope = GlobalSearchScope.projectScope(project)
+        val keys = ArrayList<String>()
+        index.processAllKeys(AtomicNameIndex.NAME, { key ->
+            if (AtomicNameIndex.declaredName(key) != null) keys.add(key)
+            true
+        }, project)
+        
+        val names = keys
+            .filter { index.getContainingFiles(AtomicNameIndex.NAME, it, scope).isNotEmpty() }
+            .mapNotNullTo(HashSet()) { AtomicNameIndex.declaredName(it) }
+        val hashCollisions = names
+            .groupBy { AtomicIdLockFile.hashId(it) }
+            .filterValues { it.size > 1 }
+        
+        return Declarations(names, hashCollisions)
+    }
+    
+    private fun save(lockFile: AtomicIdLockFile) {
+        val file = lockFilePath() ?: return
+        lockFile.write(file)
+        lockFileState = LockFileState(lockFile)
+        lockFileTracker.incModificationCount()
+        LocalFileSystem.getInstance().refreshIoFiles(listOf(file), true, false, null)
+    }
+}
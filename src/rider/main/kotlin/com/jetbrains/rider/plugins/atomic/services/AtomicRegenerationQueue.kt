@@ -0,0 +1,188 @@
+package com.jetbrains.rider.plugins.atomic.services
+
+import com.intellij.openapi.Disposable
+import com.intellij.openapi.application.ReadAction
+import com.intellij.openapi.components.Service
+import com.intellij.openapi.diagnostic.Logger
+import com.intellij.openapi.editor.EditorFactory
+import com.intellij.openapi.editor.event.DocumentEvent
+import com.intellij.openapi.editor.event.DocumentListener
+import com.intellij.openapi.fileEditor.FileDocumentManager
+import com.intellij.openapi.project.Project
+import com.intellij.openapi.project.ProjectLocator
+import com.intellij.openapi.vfs.VirtualFile
+import com.intellij.psi.PsiDocumentManager
+import com.intellij.psi.PsiManager
+import com.jetbrains.rider.plugins.atomic.psi.AtomicFile
+import com.jetbrains.rider.plugins.atomic.settings.AtomicPluginSettings
+import kotlinx.coroutines.*
+
+/**
+ * Single entry point for automatic regeneration of .atomic files.
+ *
+ * Document edits and VFS events for the same file are coalesced into one debounced run.
+ * A file is never generated twice concurrently: changes that arrive while it is generating
+ * mark it dirty and trigger exactly one follow-up run once the current one finishes.
+ */
+@Service(Service.Level.PROJECT)
+class AtomicRegenerationQueue(private val project: Project) : Disposable {
+    
+    companion object {
+        private val LOG = Logger.getInstance(AtomicRegenerationQueue::class.java)
+        
+        fun getInstance(project: Project): AtomicRegenerationQueue {
+            return project.getService(AtomicRegenerationQueue::class.java)
+        }
+    }
+    
+    private class FileState {
+        var debounceJob: Job? = null
+        var running = false
+        var rerun = false
+        var skipChangeCheck = false
+    }
+    
+    private val scope = CoroutineScope(Dispatchers.IO + SupervisorJob())
+    private val states = HashMap<String, FileState>()
+    @Volatile
+    private var listening = false
+    
+    /**
+     * Starts listening for unsaved document edits; saved changes arrive through [AtomicFileChangeListener].
+     */
+    fun startListening() {
+        if (listening) return
+        listening = true
+        
+        EditorFactory.getInstance().eventMulticaster.addDocumentListener(object : DocumentListener {
+            override fun documentChanged(event: DocumentEvent) {
+                val file = FileDocumentManager.getInstance().getFile(event.document) ?: return
+                if (!isAtomicFile(file)) return
+                if (ProjectLocator.getInstance().guessProjectForFile(file) != project) return
+                
+                schedule(file)
+            }
+        }, this)
+    }
+    
+    /**
+     * Schedules a debounced regeneration of [file]. [skipChangeCheck] bypasses the
+     * [AtomicFileChangeAnalyzer] content comparison, e.g. after a move or rename.
+     */
+    fun schedule(file: VirtualFile, skipChangeCheck: Boolean = false) {
+        if (project.isDisposed || !isAtomicFile(file)) return
+        
+        val path = file.path
+        val debounceDelay = AtomicPluginSettings.getInstance(project).debounceDelayMs
+        
+        synchronized(states) {
+            val state = states.getOrPut(path) { FileState() }
+            state.skipChangeCheck = state.skipChangeCheck || skipChangeCheck
+            state.debounceJob?.cancel()
+            state.debounceJob = scope.launch {
+                delay(debounceDelay)
+                dispatch(file, path)
+            }
+        }
+    }
+    
+    fun cancel(path: String) {
+        synchronized(states) {
+            val state = states[path] ?: return
+            state.debounceJob?.cancel()
+            state.debounceJob = null
+            state.rerun = false
+            if (!state.running) states.remove(path)
+        }
+    }
+    
+    private fun dispatch(file: VirtualFile, path: String) {
+        synchronized(states) {
+            val state = states[path] ?: return
+            state.debounceJob = null
+            
+            if (state.running) {
+                LOG.info("AtomicRegenerationQueue: $path changed during generation, will rerun")
+                state.rerun = true
+                return
+            }
+            state.running = true
+        }
+        
+        scope.launch { runGeneration(file, path) }
+    }
+    
+    private suspend fun runGeneration(file: VirtualFile, path: String) {
+        while (true) {
+            val skipChangeCheck = synchronized(states) {
+                val state = states[path]
+                val skip = state?.skipChangeCheck ?: false
+                state?.skipChangeCheck = false
+                skip
+            }
+            
+            try {
+                regenerate(file, skipChangeCheck)
+            } catch (e: CancellationException) {
+                throw e
+            } catch (e: Exception) {
+                LOG.warn("AtomicRegenerationQueue: Failed to regenerate $path", e)
+            }
+            
+            val again = synchronized(states) {
+                val state = states[path] ?: return
+                if (state.rerun) {
+                    state.rerun = false
+                    true
+                } else {
+                    state.running = false
+                    if (state.debounceJob == null) states.remove(path)
+                    false
+                }
+            }
+            if (!again) return
+        }
+    }
+    
+    private suspend fun regenerate(file: VirtualFile, skipChangeCheck: Boolean) {
+        if (project.isDisposed || !file.isValid) return
+        
+        withContext(Dispatchers.Main) {
+            FileDocumentManager.getInstance().getCachedDocument(file)?.let { document ->
+                PsiDocumentManager.getInstance(project).commitDocument(document)
+            }
+        }
+        
+        val atomicFile = ReadAction.compute<AtomicFile?, Exception> {
+            if (!file.isValid) return@compute null
+            val psiFile = PsiManager.getInstance(project).findFile(file) as? AtomicFile ?: return@compute null
+            
+            if (!skipChangeCheck) {
+                val analyzer = AtomicFileChangeAnalyzer.getInstance(project)
+                val currentContent = psiFile.text
+                val previousContent = analyzer.getPreviousContent(file.path)
+                analyzer.updateContent(file.path, currentContent)
+                
+                if (!analyzer.shouldRegenerate(psiFile, previousContent, currentContent)) {
+                    LOG.debug("AtomicRegenerationQueue: No regeneration needed for ${file.path}")
+                    return@compute null
+                }
+            }
+            psiFile
+        } ?: return
+        
+        LOG.info("AtomicRegenerationQueue: Regenerating ${file.path}")
+        AtomicAutoGenerator.getInstance(project).regenerate(atomicFile, forceCreate = false)
+    }
+    
+    private fun isAtomicFile(file: VirtualFile): Boolean {
+        return file.extension == "atomic" && !file.isDirectory
+    }
+    
+    override fun dispose() {
+        scope.cancel()
+        synchronized(states) {
+            states.clear()
+        }
+    }
+}
@@ -1,15 +1,22 @@
 package com.jetbrains.rider.plugins.atomic.services
 
 import com.intellij.openapi.application.ApplicationManager
+import com.intellij.openapi.application.ReadAction
 import com.intellij.openapi.application.runInEdt
 import com.intellij.openapi.application.runWriteAction
 import com.intellij.openapi.components.Service
 import com.intellij.openapi.components.State
 import com.intellij.openapi.components.Storage
 import com.intellij.openapi.components.PersistentStateComponent
+import com.intellij.openapi.project.DumbService
+import com.intellij.openapi.project.IndexNotReadyException
 import com.intellij.openapi.project.Project
+import com.intellij.openapi.util.Computable
+import com.intellij.openapi.util.io.FileUtil
+import com.intellij.openapi.vfs.LocalFileSystem
 import com.intellij.openapi.vfs.VirtualFile
 import com.intellij.openapi.vfs.VirtualFileManager
+import com.jetbrains.rider.plugins.atomic.index.AtomicFileIndex
 import com.jetbrains.rider.plugins.atomic.settings.AtomicPluginSettings
 import kotlinx.coroutines.*
 import java.io.File
@@ -77,19 +84,53 @@ class GeneratedFileTracker(private val project: Project) : PersistentStateCompon
     fun getGeneratedFileInfo(atomicFile: VirtualFile): GeneratedFileInfo? {
         return myState.trackedFiles[atomicFile.path]
     }
-
+    
+    /**
+     * Output path of [atomicFile] resolved from its indexed header; the tracked path answers while indexes are not ready.
+     */
+    fun getGeneratedFilePath(atomicFile: VirtualFile): String? {
+        try {
+            if (!DumbService.isDumb(project)) {
+                ReadAction.compute<String?, RuntimeException> {
+                    AtomicFileIndex.getGeneratedFilePath(project, atomicFile)
+                }?.let { return it }
+            }
+        } catch (e: IndexNotReadyException) {
+        }
+        
+        return myState.trackedFiles[atomicFile.path]?.generatedFilePath
+    }
+    
+    /**
+     * .atomic files whose output is [generatedFile], looked up in the name index; the tracked map answers in dumb mode.
+     */
+    fun findAtomicFiles(generatedFile: VirtualFile): List<VirtualFile> {
+        try {
+            if (!DumbService.isDumb(project)) {
+                return ReadAction.compute<List<VirtualFile>, RuntimeException> {
+                    AtomicFileIndex.findAtomicFilesGenerating(project, generatedFile.path)
+                }
+            }
+        } catch (e: IndexNotReadyException) {
+        }
+        
+        return myState.trackedFiles.values
+            .filter { FileUtil.pathsEqual(FileUtil.toSystemIndependentName(it.generatedFilePath), generatedFile.path) }
+            .mapNotNull { LocalFileSystem.getInstance().findFileByPath(it.atomicFilePath) }
+    }
+    
     fun hasOutputChanged(atomicFile: VirtualFile, newDirectory: String, newClassName: String): Boolean {
         val info = myState.trackedFiles[atomicFile.path] ?: return true
         return info.directory != newDirectory || info.className != newClassName
     }
-
+    
     fun removeTracking(atomicFile: VirtualFile) {
         val info = myState.trackedFiles.remove(atomicFile.path)
         if (info != null) {
             deleteOldGeneratedFile(info.generatedFilePath)
         }
     }
-
+    
     private fun deleteOldGeneratedFile(filePath: String) {
         GlobalScope.launch(Dispatchers.IO) {
             try {
@@ -120,7 +161,7 @@ class GeneratedFileTracker(private val project: Project) : PersistentStateCompon
             }
         }
     }
-
+    
     fun cleanupOrphanedFiles() {
         val toRemove = mutableListOf<String>()
         
@@ -136,5 +177,16 @@ class GeneratedFileTracker(private val project: Project) : PersistentStateCompon
         }
         
         toRemove.forEach { myState.trackedFiles.remove(it) }
+        
+        
+        // Entries whose output was deleted, or whose .atomic file now generates a different file, are stale.
+        // The old output itself is kept: deleting files after an output path change is left to the user.
+        DumbService.getInstance(project).runReadActionInSmartMode(Computable {
+            val missingOutput = AtomicFileIndex.findFilesWithMissingOutput(project).mapTo(HashSet()) { it.path }
+            myState.trackedFiles.entries.removeIf { (atomicPath, info) ->
+                atomicPath in missingOutput || AtomicFileIndex.findAtomicFilesGenerating(project, info.generatedFilePath)
+                    .none { FileUtil.pathsEqual(it.path, atomicPath) }
+            }
+        })
     }
 }
\ No newline at end of file
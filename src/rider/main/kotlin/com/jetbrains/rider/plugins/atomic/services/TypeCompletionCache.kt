@@ -0,0 +1,123 @@
+package com.jetbrains.rider.plugins.atomic.services
+
+import com.jetbrains.rider.plugins.atomic.model.TypeCompletionItem
+
+/**
+ * LRU cache of backend type completions. A request whose prefix extends a cached complete result
+ * is answered by filtering that result locally, the way the backend would match it.
+ */
+class TypeCompletionCache(private val maxEntries: Int = 64) {
+    
+    data class Key(
+        val projectPath: String,
+        val imports: List<String>,
+        val namespaceFilter: String?,
+        val prefix: String
+    )
+    
+    private class Entry(val items: List<TypeCompletionItem>, val isComplete: Boolean)
+    
+    private val entries = object : LinkedHashMap<Key, Entry>(maxEntries, 0.75f, true) {
+        override fun removeEldestEntry(eldest: MutableMap.MutableEntry<Key, Entry>?): Boolean = size > maxEntries
+    }
+    
+    fun key(projectPath: String, imports: List<String>, namespaceFilter: String?, prefix: String): Key {
+        return Key(projectPath, imports.sorted(), namespaceFilter, prefix.lowercase())
+    }
+    
+    @Synchronized
+    fun get(key: Key): List<TypeCompletionItem>? {
+        entries[key]?.let { return it.items }
+        
+        
+        for (length in key.prefix.length - 1 downTo 0) {
+            val shorter = entries[key.copy(prefix = key.prefix.substring(0, length))] ?: continue
+            if (!shorter.isComplete) continue
+            
+            val narrowed = narrow(shorter.items, key.prefix)
+            entries[key] = Entry(narrowed, true)
+            return narrowed
+        }
+        
+        return null
+    }
+    
+    @Synchronized
+    fun put(key: Key, items: List<TypeCompletionItem>, isComplete: Boolean) {
+        entries[key] = Entry(items, isComplete)
+    }
+    
+    @Synchronized
+    fun clear() {
+        entries.clear()
+    }
+    
+    private fun narrow(items: List<TypeCompletionItem>, prefix: String): List<TypeCompletionItem> {
+        val types = mutableListOf<Pair<Int, TypeCompletionItem>>()
+        val namespaces = mutableListOf<TypeCompletionItem>()
+        
+        for (item in items) {
+            val isNamespace = item.namespace.isEmpty() && item.typeName == item.fullTypeName
+            if (isNamespace) {
+                if (item.typeName.startsWith(prefix, ignoreCase = true)) {
+                    namespaces.add(item)
+                }
+            } else {
+                val rank = matchRank(item.typeName, prefix)
+                if (rank != NO_MATCH) {
+                    types.add(rank to item)
+                }
+            }
+        }
+        
+        
+        return types.sortedBy { it.first }.map { it.second } + namespaces
+    }
+    
+    companion object {
+        private const val NO_MATCH = 4
+        
+        // Same order as the backend matcher: exact, prefix, CamelHumps, substring
+        fun matchRank(name: String, pattern: String): Int {
+            return when {
+                pattern.isEmpty() -> 1
+                name.equals(pattern, ignoreCase = true) -> 0
+                name.startsWith(pattern, ignoreCase = true) -> 1
+                matchesCamelHumps(name, pattern) -> 2
+                name.contains(pattern, ignoreCase = true) -> 3
+                else -> NO_MATCH
+            }
+        }
+        
+        private fun matchesCamelHumps(name: String, pattern: String): Boolean {
+            if (pattern.isEmpty() || name.isEmpty() || !name[0].equals(pattern[0], ignoreCase = true)) {
+                return false
+            }
+            return matchHumps(name, 1, pattern, 1)
+        }
+        
+        private fun matchHumps(name: String, nameIndex: Int, pattern: String, patternIndex: Int): Boolean {
+            if (patternIndex == pattern.length) return true
+            
+            val c = pattern[patternIndex]
+            if (nameIndex < name.length && name[nameIndex].equals(c, ignoreCase = true) &&
+                matchHumps(name, nameIndex + 1, pattern, patternIndex + 1)) {
+                return true
+            }
+            
+            for (i in nameIndex + 1 until name.length) {
+                if (isHumpStart(name, i) && name[i].equals(c, ignoreCase = true) &&
+                    matchHumps(name, i + 1, pattern, patternIndex + 1)) {
+                    return true
+                }
+            }
+            return false
+        }
+        
+        private fun isHumpStart(name: String, index: Int): Boolean {
+            val c = name[index]
+            val previous = name[index - 1]
+            return c.isUpperCase() || (previous == '_' && c != '_') || (c.isDigit() && !previous.isDigit())
+        }
+    }
+}
@@ -5,10 +5,9 @@ import com.intellij.openapi.diagnostic.Logger
 import com.intellij.openapi.project.Project
 import com.intellij.openapi.startup.StartupActivity
 import com.intellij.openapi.vfs.VirtualFileManager
-import com.jetbrains.rider.plugins.atomic.listeners.SimpleAtomicFileListener
 import com.jetbrains.rider.plugins.atomic.services.AtomicGenerationService
+import com.jetbrains.rider.plugins.atomic.services.AtomicRegenerationQueue
 import com.jetbrains.rider.plugins.atomic.services.GeneratedFileTracker
-import com.intellij.openapi.util.Disposer
 
 class AtomicPluginStartup : StartupActivity.DumbAware {
     
@@ -38,19 +37,10 @@ class AtomicPluginStartup : StartupActivity.DumbAware {
         }
         
         // Log that we're ready
-        LOG.info("AtomicPlugin: Startup complete. File change listener should be active.")
+        LOG.info("AtomicPlugin: Startup complete.")
         
-        // Start simple document-based listener as a fallback
-        try {
-            val simpleListener = SimpleAtomicFileListener(project)
-            Disposer.register(project, simpleListener)
-            simpleListener.startListening()
-            LOG.info("AtomicPlugin: Started simple document-based file listener")
-        } catch (e: Exception) {
-            LOG.error("AtomicPlugin: Failed to start simple listener", e)
-        }
-        
-        // Note: File change listener is also registered as an applicationListener in plugin.xml
-        LOG.info("AtomicPlugin: Multiple file change detection mechanisms are active")
+        // Unsaved edits and VFS changes both feed the single regeneration queue
+        AtomicRegenerationQueue.getInstance(project).startListening()
+        LOG.info("AtomicPlugin: Regeneration queue is listening for .atomic changes")
     }
 }
\ No newline at end of file